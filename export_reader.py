@@ -0,0 +1,118 @@
+#!/usr/bin/env python3
+"""
+Read an HPX1 columnar export (GET /api/hotels/export) or a gzipped archive
+month (data/archive/hotel_prices-2025-11.hpx.gz) into Python rows.
+The layout is documented in ColumnarPriceWriter.java.
+
+Usage:
+    python export_reader.py hotel_prices.hpx            # print a summary
+    rows = list(read_hpx("hotel_prices.hpx"))           # (id, hotel, city, check_in, check_out, price, rating, address, scraped, guests, currency)
+"""
+
+import gzip
+import sys
+from datetime import date, timedelta
+
+EPOCH = date(1970, 1, 1)
+# Version 1 files have no guests column; their rows are two adults.
+# Versions 1 and 2 have no currency column; their currency is None.
+COLUMN_COUNTS = {1: 9, 2: 10, 3: 11}
+DEFAULT_GUESTS = 2
+
+
+def _uvarint(buf, pos):
+    value = shift = 0
+    while True:
+        b = buf[pos]
+        pos += 1
+        value |= (b & 0x7F) << shift
+        if not b & 0x80:
+            return value, pos
+        shift += 7
+
+
+def _zigzag(raw):
+    return (raw >> 1) ^ -(raw & 1)
+
+
+def _column(buf):
+    pos = 0
+    while pos < len(buf):
+        value, pos = _uvarint(buf, pos)
+        yield value
+
+
+def _currency(dictionary, entry):
+    return dictionary[entry - 1] if entry else None
+
+
+def read_hpx(path):
+    with (gzip.open if path.endswith(".gz") else open)(path, "rb") as f:
+        data = f.read()
+    if data[:4] != b"HPX1" or data[4] not in COLUMN_COUNTS:
+        raise ValueError("Not an HPX1 export")
+    column_count = COLUMN_COUNTS[data[4]]
+    pos = 5
+    dictionary = []
+    total = 0
+    while True:
+        marker = data[pos]
+        pos += 1
+        if marker == ord("E"):
+            declared, pos = _uvarint(data, pos)
+            if declared != total or data[pos:pos + 4] != b"HPX1":
+                raise ValueError(f"Truncated export: expected {declared} rows, read {total}")
+            return
+        rows, pos = _uvarint(data, pos)
+        entries, pos = _uvarint(data, pos)
+        for _ in range(entries):
+            length, pos = _uvarint(data, pos)
+            dictionary.append(data[pos:pos + length].decode("utf-8"))
+            pos += length
+        lengths = []
+        for _ in range(column_count):
+            length, pos = _uvarint(data, pos)
+            lengths.append(length)
+        columns = []
+        for length in lengths:
+            columns.append(_column(data[pos:pos + length]))
+            pos += length
+        ids, hotels, cities, check_ins, nights, prices, scraped, ratings, addresses = columns[:9]
+        guests = columns[9] if column_count > 9 else None
+        currencies = columns[10] if column_count > 10 else None
+        row_id = check_in = price = scraped_day = 0
+        for _ in range(rows):
+            row_id += _zigzag(next(ids))
+            check_in += _zigzag(next(check_ins))
+            stay = _zigzag(next(nights))
+            price += _zigzag(next(prices))
+            scraped_day += _zigzag(next(scraped))
+            rating = next(ratings)
+            address = next(addresses)
+            yield (
+                row_id,
+                dictionary[next(hotels)],
+                dictionary[next(cities)],
+                EPOCH + timedelta(days=check_in),
+                EPOCH + timedelta(days=check_in + stay),
+                price / 100,
+                dictionary[rating - 1] if rating else None,
+                dictionary[address - 1] if address else None,
+                EPOCH + timedelta(days=scraped_day),
+                next(guests) if guests else DEFAULT_GUESTS,
+                _currency(dictionary, next(currencies)) if currencies else None,
+            )
+        total += rows
+
+
+if __name__ == "__main__":
+    path = sys.argv[1] if len(sys.argv) > 1 else "hotel_prices.hpx"
+    count = 0
+    lowest = None
+    for row in read_hpx(path):
+        count += 1
+        if lowest is None or row[5] < lowest[5]:
+            lowest = row
+    print(f"✅ Read {count} rows from {path}")
+    if lowest:
+        print(f"   Lowest: {lowest[1]} in {lowest[2]} on {lowest[3]} - {lowest[5]:.2f} {lowest[10] or ''}")
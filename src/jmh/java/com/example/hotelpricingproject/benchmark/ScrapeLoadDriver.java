@@ -0,0 +1,250 @@
+package com.example.hotelpricingproject.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.random.RandomGenerator;
+
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.Timer;
+
+import com.example.hotelpricingproject.execution.BrowserSessionPool;
+import com.example.hotelpricingproject.execution.ScrapeUnitExecutor;
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.metrics.ScrapeMetrics;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.metrics.ScrapePhase;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.replay.PageCorpus;
+import com.example.hotelpricingproject.replay.ReplayHttpServer;
+import com.example.hotelpricingproject.sampling.SamplingStrategies;
+import com.example.hotelpricingproject.sampling.SamplingStrategy;
+import com.example.hotelpricingproject.service.HotelScraperService;
+import com.example.hotelpricingproject.throttle.HostRateLimiters;
+import com.example.hotelpricingproject.throttle.RetryPolicy;
+import com.example.hotelpricingproject.throttle.ThrottleClock;
+import com.example.hotelpricingproject.throttle.ThrottleSettings;
+
+/**
+ * Offline load test: runs {@link HotelScraperService#scrapeHotelPrices} with a pool of
+ * {@code --sessions} HtmlUnit sessions against a {@link ReplayHttpServer} and reports pages/sec, rows/sec and
+ * per-page latency percentiles, followed by the time spent in each scrape phase. Persistence goes to an in-memory counter so the numbers cover
+ * navigation, page interaction and extraction.
+ *
+ * <pre>
+ * ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.main=com.example.hotelpricingproject.benchmark.ScrapeLoadDriver \
+ *     -Djmh.args="--sessions 16 --days 1000 --latency-ms 150 --jitter-ms 50 --failure-rate 0.01"
+ * </pre>
+ *
+ * {@code --site-limit-rps 4} makes the replay server answer 429 above 4 requests/sec, and
+ * {@code --throttle-rate 1} turns on the scraper's adaptive limiter starting at 1 page/sec, so
+ * the two can be compared with {@code --retries 3}. {@code --threads virtual} runs the work units on
+ * virtual threads instead of a platform pool (Java 21). {@code --sampling adaptive:14:5} (or any other
+ * {@link SamplingStrategies} spec) loads only the sampled dates, and {@code --nights 1,3,7 --guests 1,2,4}
+ * scrapes every stay of that search matrix per date. Without {@code --corpus} a corpus is synthesized from the bundled fixture page, one page per day.
+ */
+public final class ScrapeLoadDriver {
+
+    private static final String HOTEL = "Hotel Adlon Kempinski";
+    private static final String CITY = "Berlin";
+    private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+    private ScrapeLoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int sessions = Integer.parseInt(options.getOrDefault("sessions", "16"));
+        int days = Integer.parseInt(options.getOrDefault("days", "1000"));
+        long latencyMillis = Long.parseLong(options.getOrDefault("latency-ms", "0"));
+        long jitterMillis = Long.parseLong(options.getOrDefault("jitter-ms", "0"));
+        double failureRate = Double.parseDouble(options.getOrDefault("failure-rate", "0"));
+        double siteLimit = Double.parseDouble(options.getOrDefault("site-limit-rps", "0"));
+        double throttleRate = Double.parseDouble(options.getOrDefault("throttle-rate", "0"));
+        int retries = Integer.parseInt(options.getOrDefault("retries", "1"));
+        String threads = options.getOrDefault("threads", "platform");
+        SamplingStrategy sampling = SamplingStrategies.parse(options.get("sampling"), START);
+        SearchMatrix matrix = SearchMatrix.of(intList(options.get("nights")), intList(options.get("guests")));
+        java.util.logging.Logger.getLogger("org.htmlunit").setLevel(Level.OFF);
+
+        PageCorpus corpus = options.containsKey("corpus")
+                ? new PageCorpus(Path.of(options.get("corpus")))
+                : synthesizeCorpus(days, matrix);
+
+        AtomicLong rows = new AtomicLong();
+        List<Long> pageNanos = Collections.synchronizedList(new ArrayList<>());
+        try (ReplayHttpServer server = new ReplayHttpServer(corpus, 0, latencyMillis, jitterMillis,
+                failureRate, sessions)) {
+            server.setRateLimit(siteLimit);
+            server.start();
+            HotelScraperService scraper = new HotelScraperService();
+            ReflectionTestUtils.setField(scraper, "hotelPriceRepository", countingRepository(rows));
+            ReflectionTestUtils.setField(scraper, "eventPublisher", (ApplicationEventPublisher) event -> { });
+            ScrapeMetrics metrics = ScrapeMetrics.unregistered();
+            ReflectionTestUtils.setField(scraper, "scrapeMetrics", metrics);
+            HostRateLimiters limiters = throttleRate > 0
+                    ? new HostRateLimiters(new ThrottleSettings(throttleRate, 0.05, 50, 2, 0.05, 0.7,
+                            Duration.ofSeconds(8), Duration.ofSeconds(2)), ThrottleClock.SYSTEM)
+                    : HostRateLimiters.unthrottled();
+            ReflectionTestUtils.setField(scraper, "rateLimiters", limiters);
+            ReflectionTestUtils.setField(scraper, "retryPolicy", new RetryPolicy(retries, Duration.ofSeconds(1),
+                    Duration.ofSeconds(10), ThrottleClock.SYSTEM, RandomGenerator.getDefault()));
+            scraper.setBaseUrl(server.getBaseUrl());
+            scraper.setWebDriverSupplier(() -> new TimedDriver(pageNanos));
+
+            ScrapeUnitExecutor executor = "virtual".equals(threads)
+                    ? ScrapeUnitExecutor.virtualThreads()
+                    : ScrapeUnitExecutor.platformThreads(sessions);
+            BrowserSessionPool browsers = new BrowserSessionPool(sessions);
+            ReflectionTestUtils.setField(scraper, "scrapeUnitExecutor", executor);
+            ReflectionTestUtils.setField(scraper, "browserPool", browsers);
+
+            long started = System.nanoTime();
+            scraper.scrapeHotelPrices(HOTEL, List.of(CITY), START, START.plusDays(days - 1L), sampling, matrix);
+            double seconds = (System.nanoTime() - started) / 1e9;
+            executor.shutdown();
+
+            System.out.printf("threads=%s sampling=%s %s%n", executor, sampling, matrix);
+            report(sessions, days, seconds, rows.get(), pageNanos, server);
+            if (throttleRate > 0) {
+                System.out.printf("throttle rate now %.2f pages/sec%n",
+                        limiters.forUrl(server.getBaseUrl()).getRate());
+            }
+            reportPhases(metrics);
+        }
+    }
+
+    private static void report(int sessions, int days, double seconds, long rows, List<Long> pageNanos,
+                               ReplayHttpServer server) {
+        List<Long> sorted = new ArrayList<>(pageNanos);
+        Collections.sort(sorted);
+        System.out.printf("sessions=%d days=%d wall=%.1fs%n", sessions, days, seconds);
+        System.out.printf("pages=%d (served=%d missing=%d injected-failures=%d rate-limited=%d) rows=%d%n",
+                sorted.size(), server.getServed(), server.getMissing(), server.getInjectedFailures(),
+                server.getRateLimited(), rows);
+        System.out.printf("pages/sec=%.2f rows/sec=%.2f%n", sorted.size() / seconds, rows / seconds);
+        System.out.printf("page latency ms: p50=%.1f p99=%.1f max=%.1f%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0));
+    }
+
+    private static void reportPhases(ScrapeMetrics metrics) {
+        System.out.println("phase            count   total s   mean ms");
+        for (ScrapePhase phase : ScrapePhase.values()) {
+            Timer timer = metrics.phaseTimer(phase);
+            System.out.printf("%-14s %7d %9.1f %9.1f%n", phase.tag(), timer.count(),
+                    timer.totalTime(TimeUnit.SECONDS), timer.mean(TimeUnit.MILLISECONDS));
+        }
+        for (ScrapeOutcome outcome : ScrapeOutcome.values()) {
+            System.out.printf("%-14s %7.0f%n", outcome.tag(), metrics.outcomeCounter(outcome).count());
+        }
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+
+    private static PageCorpus synthesizeCorpus(int days, SearchMatrix matrix) throws IOException {
+        String template;
+        try (InputStream in = ScrapeLoadDriver.class.getResourceAsStream("/fixtures/search-results-25.html")) {
+            template = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Path directory = Files.createTempDirectory("replay-corpus");
+        directory.toFile().deleteOnExit();
+        PageCorpus corpus = new PageCorpus(directory);
+        for (int day = 0; day < days; day++) {
+            for (SearchMatrix.Stay stay : matrix.stays()) {
+                String price = "US$" + (700 + (day * 37) % 600) * stay.nights();
+                corpus.save(HOTEL + " " + CITY, START.plusDays(day), stay.nights(), stay.guests(),
+                        template.replace("US$977", price));
+            }
+        }
+        return corpus;
+    }
+
+    private static HotelPriceRepository countingRepository(AtomicLong rows) {
+        return (HotelPriceRepository) Proxy.newProxyInstance(HotelPriceRepository.class.getClassLoader(),
+                new Class<?>[]{HotelPriceRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "saveAll" -> {
+                        for (Object ignored : (Iterable<?>) args[0]) {
+                            rows.incrementAndGet();
+                        }
+                        yield args[0];
+                    }
+                    case "toString" -> "CountingHotelPriceRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<Integer> intList(String value) {
+        return value == null ? null : Arrays.stream(value.split(",")).map(String::trim).map(Integer::valueOf).toList();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * Times each page from navigation until the next navigation or the end of the session,
+     * which covers everything the scraper does with that page.
+     */
+    private static final class TimedDriver extends HtmlUnitDriver {
+
+        private final List<Long> pageNanos;
+        private long pageStarted;
+
+        TimedDriver(List<Long> pageNanos) {
+            super(true);
+            this.pageNanos = pageNanos;
+        }
+
+        @Override
+        public void get(String url) {
+            finishPage();
+            // The constructor opens about:blank, which is not a scraped page
+            pageStarted = url.startsWith("http") ? System.nanoTime() : 0;
+            super.get(url);
+        }
+
+        @Override
+        public void quit() {
+            finishPage();
+            super.quit();
+        }
+
+        private void finishPage() {
+            if (pageStarted != 0) {
+                pageNanos.add(System.nanoTime() - pageStarted);
+                pageStarted = 0;
+            }
+        }
+    }
+}
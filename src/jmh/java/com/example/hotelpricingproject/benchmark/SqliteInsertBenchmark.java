@@ -0,0 +1,136 @@
+package com.example.hotelpricingproject.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Row-at-a-time autocommit inserts (what the scraper does today) against batched inserts in one
+ * transaction, plus the lowest-price lookup, on a scratch SQLite file with the production schema.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SqliteInsertBenchmark {
+
+    private static final String INSERT_SQL = "INSERT INTO hotel_prices "
+            + "(hotel_name, city, check_in_date, check_out_date, price, rating, address, scraped_date) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String LOWEST_SQL = "SELECT id, price FROM hotel_prices "
+            + "WHERE hotel_name = ? AND city = ? ORDER BY price ASC LIMIT 10";
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    /** Rows written per benchmark invocation, i.e. one scrape run's worth. */
+    @Param({"100"})
+    public int batchSize;
+
+    /** Rows already in the table when the lookup runs. */
+    @Param({"100000"})
+    public int existingRows;
+
+    private Path dbFile;
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        dbFile = Files.createTempFile("hotel-bench", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE hotel_prices ("
+                    + "id INTEGER PRIMARY KEY AUTOINCREMENT, hotel_name TEXT NOT NULL, city TEXT NOT NULL, "
+                    + "check_in_date TEXT NOT NULL, check_out_date TEXT NOT NULL, price REAL NOT NULL, "
+                    + "rating TEXT, address TEXT, scraped_date TEXT NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+        insert(existingRows);
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Benchmark
+    public void singleInsertsAutocommit() throws SQLException {
+        insert(batchSize);
+    }
+
+    @Benchmark
+    public void batchedInsertsInTransaction() throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            insert(batchSize);
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @Benchmark
+    public long lowestPriceLookup() throws SQLException {
+        long checksum = 0;
+        try (PreparedStatement statement = connection.prepareStatement(LOWEST_SQL)) {
+            statement.setString(1, "Hotel 3");
+            statement.setString(2, "City 1");
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    checksum += rs.getLong(1);
+                }
+            }
+        }
+        return checksum;
+    }
+
+    private void insert(int count) throws SQLException {
+        boolean batched = !connection.getAutoCommit();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < count; i++) {
+                LocalDate checkIn = START.plusDays(i % 365);
+                statement.setString(1, "Hotel " + (i % 10));
+                statement.setString(2, "City " + (i % 5));
+                statement.setString(3, checkIn.toString());
+                statement.setString(4, checkIn.plusDays(1).toString());
+                statement.setDouble(5, 80 + (i * 7919L % 40000) / 100.0);
+                statement.setString(6, "8.4");
+                statement.setString(7, "Somewhere 1");
+                statement.setString(8, START.toString());
+                if (batched) {
+                    statement.addBatch();
+                } else {
+                    statement.executeUpdate();
+                }
+            }
+            if (batched) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
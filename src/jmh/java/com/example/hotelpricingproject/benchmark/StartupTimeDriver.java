@@ -0,0 +1,201 @@
+package com.example.hotelpricingproject.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Time-to-first-request for the packaged application: starts the jar as a child process, polls a
+ * lowest-prices query until it answers 200 and stops the process, {@code --runs} times per mode.
+ * <ul>
+ *   <li>{@code default} - the plain jar with the default profile ({@code ddl-auto=update})</li>
+ *   <li>{@code readonly} - the plain jar with the {@code readonly} profile</li>
+ *   <li>{@code fast} - the {@code -Pfast-startup} build: readonly with AOT and the CDS archive</li>
+ * </ul>
+ *
+ * <pre>
+ * ./mvnw -Pfast-startup package -DskipTests
+ * ./mvnw -Pbenchmarks test-compile exec:exec -Djmh.main=com.example.hotelpricingproject.benchmark.StartupTimeDriver \
+ *     -Djmh.args="--runs 5 --modes default,readonly,fast"
+ * </pre>
+ *
+ * Medians are written to {@code --out} (default {@code target/startup-result.json}) in JMH's JSON
+ * shape, so {@link BenchmarkReport} can compare them against a saved baseline.
+ */
+public final class StartupTimeDriver {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([\\d.]+) seconds");
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    private StartupTimeDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String finalName = options.getOrDefault("final-name", "HotelPricingProject-0.0.1-SNAPSHOT");
+        Path jar = Path.of(options.getOrDefault("jar", "target/" + finalName + ".jar"));
+        Path fastDir = Path.of(options.getOrDefault("fast-dir", "target/fast-startup"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18099"));
+        List<String> modes = List.of(options.getOrDefault("modes", "default,readonly,fast").split(","));
+        Path out = Path.of(options.getOrDefault("out", "target/startup-result.json"));
+
+        Path database = Files.createTempFile("startup-bench", ".db");
+        database.toFile().deleteOnExit();
+        // Untimed start that creates the schema the readonly modes validate, and warms the page cache
+        run(command(jar, List.of("-Dspring.context.exit=onRefresh"), database, port), port, false);
+
+        ArrayNode results = new ObjectMapper().createArrayNode();
+        System.out.println("mode        runs   first-request ms (median / min)   'Started in' s (median)");
+        for (String mode : modes) {
+            List<String> command = switch (mode) {
+                case "default" -> command(jar, List.of(), database, port);
+                case "readonly" -> command(jar, List.of("-Dspring.profiles.active=readonly"), database, port);
+                case "fast" -> command(fastDir.resolve(finalName + ".jar"), List.of(
+                        "-XX:SharedArchiveFile=" + fastDir.resolve("application.jsa"),
+                        "-Dspring.aot.enabled=true",
+                        "-Dspring.profiles.active=readonly"), database, port);
+                default -> throw new IllegalArgumentException("Unknown mode " + mode);
+            };
+            List<Long> firstRequest = new ArrayList<>();
+            List<Double> started = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                Run run = run(command, port, true);
+                firstRequest.add(run.firstRequestMillis());
+                started.add(run.startedSeconds());
+            }
+            Collections.sort(firstRequest);
+            Collections.sort(started);
+            long median = firstRequest.get(firstRequest.size() / 2);
+            System.out.printf("%-10s %5d   %12d / %-12d   %17.2f%n", mode, runs, median, firstRequest.get(0),
+                    started.get(started.size() / 2));
+            ObjectNode result = results.addObject();
+            result.put("benchmark", StartupTimeDriver.class.getName() + ".timeToFirstRequest");
+            result.put("mode", "ss");
+            result.putObject("params").put("mode", mode);
+            result.putObject("primaryMetric").put("score", median).put("scoreUnit", "ms");
+        }
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(out.toFile(), results);
+        System.out.println("Results written to " + out);
+    }
+
+    private static List<String> command(Path jar, List<String> jvmOptions, Path database, int port) {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar + " not found; build it first (see class comment)");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=jdbc:sqlite:" + database);
+        command.add("--hotel.diagnostics.enabled=false");
+        return command;
+    }
+
+    /**
+     * Starts the process and, when {@code timed}, polls until the first query answers. Otherwise it
+     * just waits for the process to exit on its own.
+     */
+    private static Run run(List<String> command, int port, boolean timed) throws IOException, InterruptedException {
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        AtomicLong startedMillis = new AtomicLong(-1);
+        Thread reader = new Thread(() -> readLog(process, startedMillis), "startup-log");
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            if (!timed) {
+                if (!process.waitFor(START_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Warm-up start did not exit");
+                }
+                return new Run(0, 0);
+            }
+            long firstRequest = awaitFirstRequest(port, process, launched);
+            return new Run(firstRequest, startedMillis.get() / 1000.0);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            reader.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private static long awaitFirstRequest(int port, Process process, long launched) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port
+                + "/api/hotels/lowest-prices?hotelName=Ritz-Carlton&city=Paris")).build();
+        long deadline = launched + START_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with status " + process.exitValue());
+            }
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launched);
+                }
+            } catch (ConnectException e) {
+                // Not listening yet
+            } catch (IOException e) {
+                // Connection reset while the server comes up
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException("No answer within " + START_TIMEOUT);
+    }
+
+    private static void readLog(Process process, AtomicLong startedMillis) {
+        try (BufferedReader log = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = log.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    startedMillis.set(Math.round(Double.parseDouble(matcher.group(1)) * 1000));
+                }
+            }
+        } catch (IOException e) {
+            // Process went away
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private record Run(long firstRequestMillis, double startedSeconds) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.hotelpricingproject.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import com.example.hotelpricingproject.execution.BrowserSessionPool;
+import com.example.hotelpricingproject.execution.DatabaseGate;
+import com.example.hotelpricingproject.execution.ScrapeUnitExecutor;
+
+/**
+ * One scrape run's worth of units on a platform pool against a virtual thread per unit. Each unit
+ * waits for a session permit, blocks for {@code wireMillis} as if on the browser's wire protocol,
+ * then takes the database gate for a short write, which is the shape of
+ * {@code HotelScraperService.runUnit}. Reports runs/sec plus peak live threads and heap in use.
+ * The {@code virtual} mode needs Java 21 (build with {@code -Pjava21}); on 17 it fails in setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ThreadModelBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    /** Work units in one run, e.g. 5 cities by 200 dates. */
+    @Param({"1000"})
+    public int units;
+
+    /** Browser sessions allowed at once. */
+    @Param({"64"})
+    public int sessions;
+
+    /** Threads in the platform pool, sized the way a thread-per-unit pool usually is. */
+    @Param({"200"})
+    public int platformThreads;
+
+    @Param({"5"})
+    public long wireMillis;
+
+    /** Stand-in session; the pool only hands it around. */
+    private static final WebDriver IDLE_BROWSER = (WebDriver) Proxy.newProxyInstance(
+            WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class}, (proxy, method, args) -> null);
+
+    private ScrapeUnitExecutor executor;
+    private BrowserSessionPool pool;
+    private DatabaseGate gate;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long peakThreads;
+        public long heapMb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("virtual".equals(mode) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("virtual mode needs Java 21, running on " + Runtime.version());
+        }
+        executor = "virtual".equals(mode)
+                ? ScrapeUnitExecutor.virtualThreads()
+                : ScrapeUnitExecutor.platformThreads(platformThreads);
+        pool = new BrowserSessionPool(sessions);
+        gate = new DatabaseGate(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdown();
+        pool.closeIdle();
+    }
+
+    @Benchmark
+    public void scrapeRun(Footprint footprint) {
+        List<CompletableFuture<Void>> run = new ArrayList<>(units);
+        for (int i = 0; i < units; i++) {
+            run.add(executor.submit(this::unit));
+        }
+        CompletableFuture.allOf(run.toArray(CompletableFuture[]::new)).join();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        footprint.peakThreads = Math.max(footprint.peakThreads, threads.getPeakThreadCount());
+        footprint.heapMb = Math.max(footprint.heapMb, memory.getHeapMemoryUsage().getUsed() >> 20);
+    }
+
+    private void unit() {
+        WebDriver session = pool.borrow(() -> IDLE_BROWSER);
+        try {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(wireMillis));
+        } finally {
+            pool.release(session, true);
+        }
+        gate.call(() -> {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.hotelpricingproject.matching;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Name matching for one page of result cards: the card titles of the 25-card fixture page against
+ * the hotel being scraped, with the old lower-case substring test and with {@link HotelNameMatcher}.
+ * Only the matching is timed; reading the titles out of the DOM is covered by CardExtractionBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HotelNameMatchingBenchmark {
+
+    private static final Pattern TITLE = Pattern.compile("data-testid=\"title\">([^<]*)<");
+
+    @Param({"Hotel Adlon Kempinski", "Ritz Carlton", "Missing Hotel"})
+    public String hotelName;
+
+    private List<String> titles;
+    private HotelNameMatcher matcher;
+
+    @Setup
+    public void setUp() throws IOException {
+        String page;
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/search-results-25.html")) {
+            page = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        titles = new ArrayList<>();
+        Matcher title = TITLE.matcher(page);
+        while (title.find()) {
+            titles.add(title.group(1));
+        }
+        matcher = new HotelNameMatcher(List.of(hotelName));
+    }
+
+    /**
+     * The previous first-match loop; misses "Ritz Carlton" against "The Ritz-Carlton Berlin".
+     */
+    @Benchmark
+    public int substringContains() {
+        for (int card = 0; card < titles.size(); card++) {
+            if (titles.get(card).toLowerCase().contains(hotelName.toLowerCase())) {
+                return card;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public List<HotelNameMatcher.Match> trigramResolve() {
+        return matcher.resolve(titles);
+    }
+
+    @Benchmark
+    public HotelNameMatcher buildMatcher() {
+        return new HotelNameMatcher(List.of(hotelName));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.hotelpricingproject.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import com.example.hotelpricingproject.HotelPricingProjectApplication;
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.dto.LowestPriceResult;
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * The lowest-price lookups and report generation of {@link HotelAnalysisService}, called through
+ * the application context on a scratch SQLite file filled with synthetic price histories. The
+ * numbers include the repository queries, the archive check and entity mapping, as a request
+ * would see them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class AnalysisBenchmark {
+
+    private static final int HOTELS = 10;
+    private static final int CITIES = 5;
+    private static final int INSERT_BATCH = 10_000;
+    private static final LocalDate EPOCH = LocalDate.of(2025, 1, 1);
+    private static final LocalDate RANGE_START = EPOCH.plusDays(90);
+    private static final LocalDate RANGE_END = EPOCH.plusDays(180);
+    private static final List<String> CITIES_IN_REPORT = List.of("City 0", "City 1", "City 2", "City 3", "City 4");
+
+    @Param({"10000", "1000000", "10000000"})
+    public int rows;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private HotelAnalysisService analysisService;
+    private List<LowestPriceQuery> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("analysis-benchmark");
+        context = new SpringApplicationBuilder(HotelPricingProjectApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:sqlite:" + directory.resolve("prices.db"),
+                        "--hotel.archive.directory=" + directory.resolve("archive"),
+                        "--hotel.scraper.enabled=false",
+                        "--logging.level.root=WARN");
+        insertRows(context.getBean(JdbcTemplate.class), context.getBean(TransactionTemplate.class));
+        analysisService = context.getBean(HotelAnalysisService.class);
+        if (findLowestPricesInRange().isEmpty()) {
+            throw new IllegalStateException("The benchmark rows are not visible to the service queries");
+        }
+
+        batch = new ArrayList<>();
+        for (String city : CITIES_IN_REPORT) {
+            batch.add(new LowestPriceQuery("Hotel 3", city, RANGE_START, RANGE_END, 10));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public List<HotelPrice> findLowestPrices() {
+        return analysisService.findLowestPrices("Hotel 3", "City 1");
+    }
+
+    @Benchmark
+    public List<HotelPrice> findLowestPricesInRange() {
+        return analysisService.findLowestPrices("Hotel 3", "City 1", RANGE_START, RANGE_END);
+    }
+
+    @Benchmark
+    public List<LowestPriceResult> findLowestPricesBatch() {
+        return analysisService.findLowestPrices(batch);
+    }
+
+    @Benchmark
+    public String generateAnalysisReport() {
+        return analysisService.generateAnalysisReport("Hotel 3", CITIES_IN_REPORT);
+    }
+
+    private void insertRows(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        // Ids are given since nothing else inserts, and dates are epoch millis the way Hibernate's
+        // SQLite binding stores LocalDate. One transaction per batch rather than a commit per row, which
+        // is what keeps the 10M-row size practical
+        SplittableRandom random = new SplittableRandom(42);
+        long scraped = Date.valueOf(EPOCH).getTime();
+        List<Object[]> pending = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            LocalDate checkIn = EPOCH.plusDays(random.nextInt(730));
+            pending.add(new Object[]{i + 1L, "Hotel " + random.nextInt(HOTELS), "City " + random.nextInt(CITIES),
+                    Date.valueOf(checkIn).getTime(), Date.valueOf(checkIn.plusDays(1)).getTime(),
+                    BigDecimal.valueOf(5_000 + random.nextInt(95_000), 2), "8.4", scraped});
+            if (pending.size() == INSERT_BATCH || i == rows - 1) {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                        "INSERT INTO hotel_prices (id, hotel_name, city, check_in_date, check_out_date, nights, guests, "
+                                + "price, rating, scraped_date) VALUES (?, ?, ?, ?, ?, 1, 2, ?, ?, ?)", pending));
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.hotelpricingproject.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Card extraction against saved search-result pages, without any network or browser start-up.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CardExtractionBenchmark {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 11, 14);
+
+    /** Fixture page and the hotel to look for on it. */
+    @Param({"search-results-25.html|Hotel Adlon Kempinski", "search-results-25.html|Missing Hotel"})
+    public String fixture;
+
+    private HtmlUnitDriver driver;
+    private HotelScraperService scraper;
+    private String hotelName;
+
+    @Setup
+    public void setUp() {
+        String[] parts = fixture.split("\\|");
+        hotelName = parts[1];
+        driver = new HtmlUnitDriver(false);
+        driver.get(getClass().getResource("/fixtures/" + parts[0]).toExternalForm());
+        scraper = new HotelScraperService();
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public HotelPrice extractHotelData() {
+        return scraper.extractHotelData(driver, hotelName, "Berlin", CHECK_IN, CHECK_IN.plusDays(1));
+    }
+}
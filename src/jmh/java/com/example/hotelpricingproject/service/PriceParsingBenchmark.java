@@ -0,0 +1,44 @@
+package com.example.hotelpricingproject.service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.hotelpricingproject.currency.PriceTokenizer;
+
+/**
+ * Price-text parsing: the regex strip-and-parse the scraper used to do against the single-pass
+ * {@link PriceTokenizer}. Run with {@code -prof gc} to compare allocation per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceParsingBenchmark {
+
+    @Param({"US$1,234", "EUR 89", "Price 2,345.50 total", "CHF 12'480", "€ 1.234,50"})
+    public String text;
+
+    @Benchmark
+    public BigDecimal regex() {
+        String priceText = text.replaceAll("[^\\d.,]", "").replace(",", "");
+        return priceText.isEmpty() ? null : new BigDecimal(priceText);
+    }
+
+    @Benchmark
+    public long tokenizer() {
+        return PriceTokenizer.parseCents(text);
+    }
+}
@@ -2,12 +2,18 @@ package com.example.hotelpricingproject;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @SpringBootApplication
 public class HotelPricingProjectApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(HotelPricingProjectApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(HotelPricingProjectApplication.class, args);
+        // Batch mode has no web server: exit once the job has run instead of idling on pool threads
+        if (!(context instanceof WebServerApplicationContext)) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 
 }
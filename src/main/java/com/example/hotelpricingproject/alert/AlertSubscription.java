@@ -0,0 +1,118 @@
+package com.example.hotelpricingproject.alert;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.feed.OverflowPolicy;
+
+/**
+ * One alert stream: a bounded buffer and an emitter. {@link #offer} never blocks; buffered
+ * alerts are written to the client by a shared drain executor, so a slow client only ever
+ * falls behind on its own alerts.
+ */
+class AlertSubscription {
+
+    private static final Logger log = LoggerFactory.getLogger(AlertSubscription.class);
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final SseEmitter emitter;
+    private final Executor drainExecutor;
+    private final Consumer<AlertSubscription> onClose;
+
+    private final ArrayDeque<PriceAlert> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private long dropped;
+
+    AlertSubscription(int capacity, OverflowPolicy overflowPolicy, SseEmitter emitter, Executor drainExecutor,
+                      Consumer<AlertSubscription> onClose) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.emitter = emitter;
+        this.drainExecutor = drainExecutor;
+        this.onClose = onClose;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 64));
+    }
+
+    /**
+     * Buffers the alert and schedules a drain.
+     */
+    void offer(PriceAlert alert) {
+        if (closed.get()) {
+            return;
+        }
+        synchronized (buffer) {
+            if (buffer.size() >= capacity) {
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    buffer.clear();
+                    log.warn("Disconnecting an alert subscriber {} alerts behind", capacity);
+                    close();
+                    return;
+                }
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(alert);
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            drainExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!closed.get()) {
+                PriceAlert next;
+                long lagged;
+                synchronized (buffer) {
+                    next = buffer.pollFirst();
+                    lagged = dropped;
+                    dropped = 0;
+                }
+                if (lagged > 0) {
+                    log.warn("Dropped the {} oldest alerts for a slow alert subscriber", lagged);
+                    emitter.send(SseEmitter.event().name("lagged").data(lagged));
+                }
+                if (next == null) {
+                    break;
+                }
+                emitter.send(SseEmitter.event().name("price-drop").data(next));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+        // An offer may have slipped in between the last poll and clearing the flag
+        boolean pending;
+        synchronized (buffer) {
+            pending = !buffer.isEmpty();
+        }
+        if (pending && !closed.get()) {
+            scheduleDrain();
+        }
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            onClose.accept(this);
+            emitter.complete();
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.hotelpricingproject.alert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoggingAlertSink implements PriceAlertSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingAlertSink.class);
+
+    @Override
+    public void publish(PriceAlert alert) {
+        log.info("Price drop detected: {}", alert);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hotelpricingproject.alert;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A scraped price that dropped sharply below its (hotel, city) baseline.
+ */
+public class PriceAlert {
+
+    private final String hotelName;
+    private final String city;
+    private final LocalDate checkInDate;
+    private final BigDecimal price;
+    private final double baselineMean;
+    private final double dropPercent;
+    private final double zScore;
+    private final Instant detectedAt;
+
+    public PriceAlert(String hotelName, String city, LocalDate checkInDate, BigDecimal price,
+                      double baselineMean, double dropPercent, double zScore, Instant detectedAt) {
+        this.hotelName = hotelName;
+        this.city = city;
+        this.checkInDate = checkInDate;
+        this.price = price;
+        this.baselineMean = baselineMean;
+        this.dropPercent = dropPercent;
+        this.zScore = zScore;
+        this.detectedAt = detectedAt;
+    }
+
+    public String getHotelName() {
+        return hotelName;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public double getBaselineMean() {
+        return baselineMean;
+    }
+
+    public double getDropPercent() {
+        return dropPercent;
+    }
+
+    public double getZScore() {
+        return zScore;
+    }
+
+    public Instant getDetectedAt() {
+        return detectedAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PriceAlert{%s in %s, check-in %s: $%s is %.1f%% below baseline $%.2f (z=%.2f)}",
+                hotelName, city, checkInDate, price, dropPercent, baselineMean, zScore);
+    }
+}
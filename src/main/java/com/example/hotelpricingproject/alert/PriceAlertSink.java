@@ -0,0 +1,10 @@
+package com.example.hotelpricingproject.alert;
+
+/**
+ * Receives price-drop alerts. Every Spring bean implementing this interface is
+ * notified by {@link PriceDropDetector}; implementations must not block the caller.
+ */
+public interface PriceAlertSink {
+
+    void publish(PriceAlert alert);
+}
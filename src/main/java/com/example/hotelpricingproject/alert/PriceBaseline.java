@@ -0,0 +1,45 @@
+package com.example.hotelpricingproject.alert;
+
+/**
+ * Exponentially weighted mean and variance of a price series.
+ * Each update is O(1) and keeps no history.
+ */
+public class PriceBaseline {
+
+    private final double alpha;
+    private long samples;
+    private double mean;
+    private double variance;
+
+    public PriceBaseline(double alpha) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1]: " + alpha);
+        }
+        this.alpha = alpha;
+    }
+
+    public void update(double value) {
+        if (samples == 0) {
+            mean = value;
+            variance = 0;
+        } else {
+            double diff = value - mean;
+            double increment = alpha * diff;
+            mean += increment;
+            variance = (1 - alpha) * (variance + diff * increment);
+        }
+        samples++;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStdDev() {
+        return Math.sqrt(variance);
+    }
+}
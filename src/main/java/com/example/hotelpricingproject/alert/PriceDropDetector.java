@@ -0,0 +1,107 @@
+package com.example.hotelpricingproject.alert;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+import com.example.hotelpricingproject.service.HotelCityKey;
+
+/**
+ * Streaming price-drop detector on the scraper persist path. Keeps an EWMA
+ * baseline per (hotel, city, nights, guests) and flags prices that fall both a
+ * minimum percentage and a minimum number of standard deviations below it.
+ * Stays are kept apart because a week's total is no baseline for one night.
+ */
+@Component
+public class PriceDropDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceDropDetector.class);
+    private static final double STD_DEV_FLOOR = 0.01;
+
+    private final Map<BaselineKey, PriceBaseline> baselines = new ConcurrentHashMap<>();
+    private final List<PriceAlertSink> sinks;
+    private final double alpha;
+    private final int minSamples;
+    private final double minDropPercent;
+    private final double minZScore;
+
+    public PriceDropDetector(List<PriceAlertSink> sinks,
+                             @Value("${hotel.alerts.ewma-alpha:0.1}") double alpha,
+                             @Value("${hotel.alerts.min-samples:7}") int minSamples,
+                             @Value("${hotel.alerts.min-drop-percent:20}") double minDropPercent,
+                             @Value("${hotel.alerts.min-z-score:2.0}") double minZScore) {
+        this.sinks = sinks;
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+        this.minDropPercent = minDropPercent;
+        this.minZScore = minZScore;
+    }
+
+    @EventListener
+    public void onPriceSaved(HotelPriceSavedEvent event) {
+        PriceAlert alert = evaluate(event.getPrice());
+        if (alert == null) {
+            return;
+        }
+        for (PriceAlertSink sink : sinks) {
+            try {
+                sink.publish(alert);
+            } catch (RuntimeException e) {
+                log.warn("Alert sink {} failed: {}", sink.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Scores the price against its baseline, then folds it into the baseline.
+     * Returns an alert when the price is a sharp drop, otherwise null.
+     */
+    PriceAlert evaluate(HotelPrice price) {
+        if (price.getPrice() == null) {
+            return null;
+        }
+        double value = price.getPrice().doubleValue();
+        PriceBaseline baseline = baselines.computeIfAbsent(BaselineKey.of(price), k -> new PriceBaseline(alpha));
+
+        PriceAlert alert = null;
+        synchronized (baseline) {
+            if (baseline.getSamples() >= minSamples) {
+                double mean = baseline.getMean();
+                // Floor the deviation so a perfectly flat history still yields a finite z-score
+                double stdDev = Math.max(baseline.getStdDev(), mean * STD_DEV_FLOOR);
+                double dropPercent = mean > 0 ? (mean - value) / mean * 100 : 0;
+                double zScore = stdDev > 0 ? (mean - value) / stdDev : 0;
+                if (dropPercent >= minDropPercent && zScore >= minZScore) {
+                    alert = new PriceAlert(price.getHotelName(), price.getCity(), price.getCheckInDate(),
+                            price.getPrice(), mean, dropPercent, zScore, Instant.now());
+                }
+            }
+            baseline.update(value);
+        }
+        return alert;
+    }
+
+    PriceBaseline getBaseline(String hotelName, String city) {
+        return getBaseline(hotelName, city, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
+    }
+
+    PriceBaseline getBaseline(String hotelName, String city, int nights, int guests) {
+        return baselines.get(new BaselineKey(new HotelCityKey(hotelName, city), nights, guests));
+    }
+
+    private record BaselineKey(HotelCityKey hotelCity, int nights, int guests) {
+
+        static BaselineKey of(HotelPrice price) {
+            return new BaselineKey(HotelCityKey.of(price), price.getNights(), price.getGuests());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.hotelpricingproject.alert;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.feed.OverflowPolicy;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans alerts out to Server-Sent Events subscribers. Each subscriber has its own bounded
+ * buffer, drained on a small shared pool, so a slow client never stalls the scraper or the
+ * other subscribers, and a stalled one costs at most {@code hotel.alerts.buffer-size} alerts.
+ */
+@Component
+public class SseAlertSink implements PriceAlertSink {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final List<AlertSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor drainExecutor;
+
+    @Autowired
+    public SseAlertSink(@Value("${hotel.alerts.buffer-size:64}") int bufferSize,
+                        @Value("${hotel.alerts.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                        @Value("${hotel.alerts.drain-threads:2}") int drainThreads) {
+        this(bufferSize, overflowPolicy, newDrainExecutor(drainThreads));
+    }
+
+    SseAlertSink(int bufferSize, OverflowPolicy overflowPolicy, Executor drainExecutor) {
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.drainExecutor = drainExecutor;
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        subscribe(emitter);
+        return emitter;
+    }
+
+    AlertSubscription subscribe(SseEmitter emitter) {
+        AlertSubscription subscription = new AlertSubscription(bufferSize, overflowPolicy, emitter, drainExecutor,
+                subscriptions::remove);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    @Override
+    public void publish(PriceAlert alert) {
+        for (AlertSubscription subscription : subscriptions) {
+            subscription.offer(alert);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private static ExecutorService newDrainExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "price-alert-sse-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.forEach(AlertSubscription::close);
+        if (drainExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
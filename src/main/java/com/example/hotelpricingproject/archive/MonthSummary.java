@@ -0,0 +1,79 @@
+package com.example.hotelpricingproject.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.example.hotelpricingproject.export.PriceRow;
+
+/**
+ * The stays one archived month holds and the lowest price of each, so a query can skip the months
+ * that have nothing for its stay, and a lowest-price query the months that cannot beat what it
+ * already has, without decompressing them. Kept next to the month as
+ * {@code hotel_prices-2025-11.summary}.
+ */
+public final class MonthSummary {
+
+    /**
+     * {@link #minCents} of a stay the month does not hold.
+     */
+    public static final long NONE = Long.MAX_VALUE;
+
+    private static final int MAGIC = 0x48505331; // "HPS1"
+
+    private final Map<Stay, Long> minCents = new HashMap<>();
+
+    public void add(PriceRow row) {
+        int nights = (int) (row.checkOutDate().toEpochDay() - row.checkInDate().toEpochDay());
+        minCents.merge(new Stay(row.hotelName(), row.city(), nights, row.guests()), row.priceCents(), Math::min);
+    }
+
+    public boolean contains(String hotelName, String city, int nights, int guests) {
+        return minCents.containsKey(new Stay(hotelName, city, nights, guests));
+    }
+
+    /**
+     * The lowest price of the stay in the month, {@link #NONE} when it has none.
+     */
+    public long minCents(String hotelName, String city, int nights, int guests) {
+        return minCents.getOrDefault(new Stay(hotelName, city, nights, guests), NONE);
+    }
+
+    public void writeTo(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(minCents.size());
+            for (Map.Entry<Stay, Long> entry : minCents.entrySet()) {
+                Stay stay = entry.getKey();
+                out.writeUTF(stay.hotelName());
+                out.writeUTF(stay.city());
+                out.writeInt(stay.nights());
+                out.writeInt(stay.guests());
+                out.writeLong(entry.getValue());
+            }
+        }
+    }
+
+    public static MonthSummary readFrom(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a month summary: " + file);
+            }
+            MonthSummary summary = new MonthSummary();
+            int stays = in.readInt();
+            for (int i = 0; i < stays; i++) {
+                summary.minCents.put(new Stay(in.readUTF(), in.readUTF(), in.readInt(), in.readInt()), in.readLong());
+            }
+            return summary;
+        }
+    }
+
+    private record Stay(String hotelName, String city, int nights, int guests) {
+    }
+}
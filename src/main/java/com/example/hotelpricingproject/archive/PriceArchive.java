@@ -0,0 +1,256 @@
+package com.example.hotelpricingproject.archive;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.hotelpricingproject.export.ColumnarPriceReader;
+import com.example.hotelpricingproject.export.ColumnarPriceWriter;
+import com.example.hotelpricingproject.export.PriceRow;
+
+/**
+ * Cold store for prices whose check-in month is over: one gzipped HPX file (format version 3, see
+ * {@link ColumnarPriceWriter}) and one {@link MonthSummary} of its stays per month,
+ * {@code hotel_prices-2025-11.hpx.gz} and {@code hotel_prices-2025-11.summary}, under
+ * {@code hotel.archive.directory}. The months on disk and their summaries are held in memory, so
+ * a query can tell which partitions its date range touches, and which of those can contribute,
+ * without opening any file. Another process sharing the database may archive into the same
+ * directory, so every lookup checks the directory's modification time and lists it again once
+ * that moved. Months are replaced whole through a temporary file and an atomic rename; readers
+ * never see a half-written partition.
+ */
+@Component
+public class PriceArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceArchive.class);
+
+    private static final Pattern FILE_NAME = Pattern.compile("hotel_prices-(\\d{4}-\\d{2})\\.hpx\\.gz");
+    // Listings this soon after the directory last changed are repeated, in case a file system with
+    // coarse timestamps lets a later change keep the same modification time
+    private static final long SETTLE_MILLIS = 2_000;
+
+    private final Path directory;
+    private final NavigableSet<YearMonth> months = new ConcurrentSkipListSet<>();
+    private final Map<YearMonth, MonthSummary> summaries = new ConcurrentHashMap<>();
+    // Modification time of each summary file as loaded, so one rewritten elsewhere is loaded again
+    private final Map<YearMonth, Long> summaryModified = new ConcurrentHashMap<>();
+    private volatile long listedModified = Long.MIN_VALUE;
+    private volatile long listedAt;
+
+    public PriceArchive(@Value("${hotel.archive.directory:data/archive}") String directory) throws IOException {
+        this.directory = Path.of(directory);
+        rescan();
+        if (!months.isEmpty()) {
+            log.info("Price archive {} holds {} months", this.directory, months.size());
+        }
+    }
+
+    /**
+     * Lists the directory again if it changed since the last listing.
+     */
+    private void refresh() {
+        try {
+            if (!Files.isDirectory(directory)) {
+                return;
+            }
+            long modified = Files.getLastModifiedTime(directory).toMillis();
+            if (modified != listedModified || listedAt - modified < SETTLE_MILLIS) {
+                rescan();
+            }
+        } catch (IOException e) {
+            log.warn("Could not list price archive {}: {}", directory, e.getMessage());
+        }
+    }
+
+    /**
+     * Picks up the months, and month summaries, written since the last listing, by this process
+     * or another one sharing the directory.
+     */
+    private synchronized void rescan() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        long modified = Files.getLastModifiedTime(directory).toMillis();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "hotel_prices-*.hpx.gz")) {
+            for (Path file : files) {
+                Matcher name = FILE_NAME.matcher(file.getFileName().toString());
+                if (name.matches()) {
+                    try {
+                        YearMonth month = YearMonth.parse(name.group(1));
+                        loadSummary(month);
+                        months.add(month);
+                    } catch (DateTimeParseException e) {
+                        log.warn("Ignoring archive file {}", file);
+                    }
+                }
+            }
+        }
+        listedModified = modified;
+        listedAt = startedAt;
+    }
+
+    public Path pathFor(YearMonth month) {
+        return directory.resolve("hotel_prices-" + month + ".hpx.gz");
+    }
+
+    private Path summaryPathFor(YearMonth month) {
+        return directory.resolve("hotel_prices-" + month + ".summary");
+    }
+
+    public boolean contains(YearMonth month) {
+        refresh();
+        return months.contains(month);
+    }
+
+    /**
+     * The stays of one archived month. A month archived before summaries were kept is read once to
+     * build its summary, which is then saved next to it.
+     */
+    public MonthSummary summary(YearMonth month) throws IOException {
+        MonthSummary summary = summaries.get(month);
+        if (summary != null || !months.contains(month)) {
+            return summary != null ? summary : new MonthSummary();
+        }
+        MonthSummary built = new MonthSummary();
+        read(month, built::add);
+        try {
+            Path temp = Files.createTempFile(directory, "hotel_prices-" + month + "-", ".tmp");
+            try {
+                built.writeTo(temp);
+                Files.move(temp, summaryPathFor(month), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+                summaryModified.put(month, Files.getLastModifiedTime(summaryPathFor(month)).toMillis());
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("Could not save the summary of archived month {}: {}", month, e.getMessage());
+        }
+        summary = summaries.putIfAbsent(month, built);
+        return summary != null ? summary : built;
+    }
+
+    private void loadSummary(YearMonth month) throws IOException {
+        Path file = summaryPathFor(month);
+        if (!Files.exists(file)) {
+            return;
+        }
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        if (Long.valueOf(modified).equals(summaryModified.get(month))
+                && System.currentTimeMillis() - modified >= SETTLE_MILLIS) {
+            return;
+        }
+        try {
+            summaries.put(month, MonthSummary.readFrom(file));
+            summaryModified.put(month, modified);
+        } catch (IOException e) {
+            log.warn("Rebuilding the summary of archived month {}: {}", month, e.getMessage());
+            summaries.remove(month);
+        }
+    }
+
+    /**
+     * Archived months overlapping {@code startDate} through {@code endDate}, oldest first;
+     * a null bound leaves that side open.
+     */
+    public List<YearMonth> monthsBetween(LocalDate startDate, LocalDate endDate) {
+        refresh();
+        if (months.isEmpty()) {
+            return List.of();
+        }
+        YearMonth from = startDate == null ? months.first() : YearMonth.from(startDate);
+        YearMonth to = endDate == null ? months.last() : YearMonth.from(endDate);
+        if (from.isAfter(to)) {
+            return List.of();
+        }
+        return List.copyOf(months.subSet(from, true, to, true));
+    }
+
+    /**
+     * Passes every row of one month to the consumer; a month that was never archived has none.
+     */
+    public long read(YearMonth month, Consumer<PriceRow> consumer) throws IOException {
+        if (!months.contains(month)) {
+            return 0;
+        }
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(pathFor(month)), 65_536));
+             ColumnarPriceReader reader = new ColumnarPriceReader(in)) {
+            return reader.read(consumer);
+        }
+    }
+
+    /**
+     * Replaces one month with the rows the writer callback produces. The rows go to a temporary
+     * file that is read back and row-counted before it is renamed over the old partition, so a
+     * crash or a bad write leaves the previous file in place. The month's summary is built from
+     * the read-back and renamed into place first; a new partition only ever adds rows to the old
+     * one, so a summary ahead of its partition at most makes a query read a month needlessly.
+     *
+     * @return the number of rows in the new partition
+     */
+    public long replace(YearMonth month, MonthWriter rows) throws IOException {
+        Files.createDirectories(directory);
+        Path target = pathFor(month);
+        Path temp = Files.createTempFile(directory, "hotel_prices-" + month + "-", ".tmp");
+        Path summaryTemp = Files.createTempFile(directory, "hotel_prices-" + month + "-", ".tmp");
+        try {
+            long written;
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 65_536));
+                 ColumnarPriceWriter writer = new ColumnarPriceWriter(out)) {
+                rows.write(writer);
+                writer.close();
+                written = writer.getRowCount();
+            }
+            long verified;
+            MonthSummary summary = new MonthSummary();
+            try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(temp), 65_536));
+                 ColumnarPriceReader reader = new ColumnarPriceReader(in)) {
+                verified = reader.read(summary::add);
+            }
+            if (verified != written) {
+                throw new IOException("Archive of " + month + " read back " + verified + " of " + written + " rows");
+            }
+            summary.writeTo(summaryTemp);
+            Files.move(summaryTemp, summaryPathFor(month), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            summaries.put(month, summary);
+            summaryModified.put(month, Files.getLastModifiedTime(summaryPathFor(month)).toMillis());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            months.add(month);
+            return written;
+        } finally {
+            Files.deleteIfExists(temp);
+            Files.deleteIfExists(summaryTemp);
+        }
+    }
+
+    @FunctionalInterface
+    public interface MonthWriter {
+        void write(ColumnarPriceWriter writer) throws IOException;
+    }
+}
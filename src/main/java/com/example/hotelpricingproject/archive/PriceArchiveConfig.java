@@ -0,0 +1,31 @@
+package com.example.hotelpricingproject.archive;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hotelpricingproject.cache.PriceDataVersions;
+import com.example.hotelpricingproject.execution.DatabaseGate;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.storage.PriceStoreMirror;
+
+/**
+ * Scheduled archival of past months, off unless {@code hotel.archive.enabled=true}. The archive
+ * itself is always read, so months archived earlier stay queryable with archival switched off.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "hotel.archive.enabled", havingValue = "true")
+public class PriceArchiveConfig {
+
+    @Bean
+    public PriceArchiver priceArchiver(HotelPriceRepository repository, PriceArchive archive,
+                                       TransactionTemplate transactionTemplate, DatabaseGate databaseGate,
+                                       PriceDataVersions versions, ObjectProvider<PriceStoreMirror> storeMirror) {
+        return new PriceArchiver(repository, archive, transactionTemplate, databaseGate, versions,
+                storeMirror.getIfAvailable());
+    }
+}
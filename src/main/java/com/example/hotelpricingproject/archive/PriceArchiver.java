@@ -0,0 +1,139 @@
+package com.example.hotelpricingproject.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hotelpricingproject.cache.PriceDataVersions;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.execution.DatabaseGate;
+import com.example.hotelpricingproject.export.PriceRow;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.service.HotelCityKey;
+import com.example.hotelpricingproject.storage.PriceStoreMirror;
+
+/**
+ * Moves prices whose check-in month is over out of {@code hotel_prices} and into the
+ * {@link PriceArchive}, one month at a time. A month's rows are paged out by id, merged with
+ * whatever that month already holds in the archive, written and verified there, and only then
+ * deleted from SQLite through the {@link DatabaseGate}. Rows are deleted by id, so a price saved
+ * into the month while it was being archived stays hot until the next run. Should a run die
+ * between the rename and the delete, the rows exist in both stores under the same ids; the next
+ * run and every query keep only one copy. With the mapped price store on, it is synced before
+ * the delete, so no row leaves SQLite before the store has it.
+ */
+public class PriceArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceArchiver.class);
+
+    // Rows loaded per page, and ids per DELETE (well under SQLite's bound-parameter limit)
+    private static final int PAGE_SIZE = 5_000;
+    private static final int DELETE_CHUNK = 500;
+
+    private final HotelPriceRepository repository;
+    private final PriceArchive archive;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseGate databaseGate;
+    private final PriceDataVersions versions;
+    // Null unless hotel.storage.mmap.enabled=true
+    private final PriceStoreMirror storeMirror;
+
+    public PriceArchiver(HotelPriceRepository repository, PriceArchive archive, TransactionTemplate transactionTemplate,
+                         DatabaseGate databaseGate, PriceDataVersions versions, PriceStoreMirror storeMirror) {
+        this.repository = repository;
+        this.archive = archive;
+        this.transactionTemplate = transactionTemplate;
+        this.databaseGate = databaseGate;
+        this.versions = versions;
+        this.storeMirror = storeMirror;
+    }
+
+    @Scheduled(cron = "${hotel.archive.cron:0 15 3 * * *}")
+    public void archiveExpired() {
+        try {
+            archiveBefore(YearMonth.now());
+        } catch (IOException | RuntimeException e) {
+            log.error("Price archival failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Archives every month before {@code firstHotMonth} that still has rows in SQLite.
+     *
+     * @return the months archived, oldest first
+     */
+    public List<YearMonth> archiveBefore(YearMonth firstHotMonth) throws IOException {
+        List<YearMonth> archived = new ArrayList<>();
+        LocalDate earliest;
+        while ((earliest = repository.findEarliestCheckInDateBefore(firstHotMonth.atDay(1))) != null) {
+            YearMonth month = YearMonth.from(earliest);
+            if (archived.contains(month)) {
+                throw new IllegalStateException("Rows for " + month + " are still in SQLite after archiving it");
+            }
+            archiveMonth(month);
+            archived.add(month);
+        }
+        return archived;
+    }
+
+    private void archiveMonth(YearMonth month) throws IOException {
+        long started = System.nanoTime();
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        Set<Long> ids = new HashSet<>();
+        Set<HotelCityKey> keys = new HashSet<>();
+
+        long rows = archive.replace(month, writer -> {
+            long afterId = Long.MIN_VALUE;
+            List<HotelPrice> page;
+            do {
+                page = repository.findCheckInRangeAfterId(from, to, afterId, PageRequest.of(0, PAGE_SIZE));
+                for (HotelPrice price : page) {
+                    writer.write(PriceRow.of(price));
+                    ids.add(price.getId());
+                    keys.add(HotelCityKey.of(price));
+                    afterId = price.getId();
+                }
+            } while (page.size() == PAGE_SIZE);
+            try {
+                archive.read(month, row -> {
+                    if (!ids.contains(row.id())) {
+                        try {
+                            writer.write(row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+
+        if (storeMirror != null) {
+            storeMirror.sync();
+        }
+        List<Long> toDelete = new ArrayList<>(ids);
+        databaseGate.call(() -> transactionTemplate.execute(status -> {
+            for (int i = 0; i < toDelete.size(); i += DELETE_CHUNK) {
+                repository.deleteAllByIdInBatch(toDelete.subList(i, Math.min(i + DELETE_CHUNK, toDelete.size())));
+            }
+            // A bulk delete skips the entity listener, so the versions are bumped here, with the delete
+            keys.forEach(versions::bump);
+            return null;
+        }));
+        log.info("Archived {} prices checking in during {} ({} in the partition) in {} ms", ids.size(), month, rows,
+                (System.nanoTime() - started) / 1_000_000);
+    }
+}
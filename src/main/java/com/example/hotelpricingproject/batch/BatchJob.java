@@ -0,0 +1,77 @@
+package com.example.hotelpricingproject.batch;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.sampling.FixedStrideSampling;
+import com.example.hotelpricingproject.sampling.SamplingStrategies;
+import com.example.hotelpricingproject.sampling.SamplingStrategy;
+
+/**
+ * A batch scrape read from a JSON job file: every hotel in every city, for every
+ * {@code strideDays}-th check-in date from {@code startDate} through {@code endDate}.
+ * <pre>
+ * {"hotels": ["Ritz-Carlton"], "cities": ["Miami", "Dubai"],
+ *  "startDate": "2025-11-26", "endDate": "2026-05-01", "strideDays": 3}
+ * </pre>
+ * {@code strideDays} defaults to 1. An optional {@code "sampling"} spec such as {@code "tiered"} or
+ * {@code "adaptive:7:10"} (see {@link SamplingStrategies}) replaces the fixed stride. Giving
+ * {@code "nights": [1, 3, 7]} and/or {@code "guests": [1, 2, 4]} makes it a search-matrix job that
+ * scrapes every stay length and occupancy for each date (see {@link SearchMatrix}); by default each
+ * date is one night for two adults.
+ */
+public record BatchJob(List<String> hotels, List<String> cities, LocalDate startDate, LocalDate endDate,
+                       Integer strideDays, String sampling, List<Integer> nights, List<Integer> guests) {
+
+    public BatchJob {
+        if (hotels == null || hotels.isEmpty() || cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("A batch job needs at least one hotel and one city");
+        }
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("A batch job needs startDate on or before endDate");
+        }
+        if (strideDays == null) {
+            strideDays = 1;
+        }
+        if (strideDays < 1) {
+            throw new IllegalArgumentException("strideDays must be at least 1");
+        }
+        if (sampling != null) {
+            // Fail on a bad spec when the job is read rather than when the first hotel starts
+            SamplingStrategies.parse(sampling, LocalDate.now());
+        }
+        SearchMatrix matrix = SearchMatrix.of(nights, guests);
+        hotels = List.copyOf(hotels);
+        cities = List.copyOf(cities);
+        nights = matrix.nights();
+        guests = matrix.guests();
+    }
+
+    public BatchJob(List<String> hotels, List<String> cities, LocalDate startDate, LocalDate endDate,
+                    Integer strideDays) {
+        this(hotels, cities, startDate, endDate, strideDays, null, null, null);
+    }
+
+    public SearchMatrix matrix() {
+        return new SearchMatrix(nights, guests);
+    }
+
+    /**
+     * The sampling spec when one is given, otherwise every {@code strideDays}-th date.
+     */
+    public SamplingStrategy samplingStrategy(LocalDate today) {
+        return sampling == null ? new FixedStrideSampling(strideDays) : SamplingStrategies.parse(sampling, today);
+    }
+
+    /**
+     * Initial check-in dates per (hotel, city). Adaptive sampling adds more as it refines.
+     */
+    public int datesPerCity() {
+        return samplingStrategy(LocalDate.now()).initialDates(startDate, endDate).size();
+    }
+
+    public int totalUnits() {
+        return hotels.size() * cities.size() * matrix().size() * datesPerCity();
+    }
+}
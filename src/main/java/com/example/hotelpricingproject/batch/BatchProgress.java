@@ -0,0 +1,102 @@
+package com.example.hotelpricingproject.batch;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.execution.RunningPriceStats;
+import com.example.hotelpricingproject.execution.ScrapeListener;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * Counts settled units of a batch job and logs a progress line at most every {@code interval},
+ * with throughput and an ETA. Keeps {@link RunningPriceStats} per (hotel, city, stay) for the
+ * closing summary, so no prices are held in memory. The planned total is only the initial dates:
+ * when adaptive sampling refines past it, the total grows with the settled count.
+ */
+class BatchProgress implements ScrapeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchProgress.class);
+
+    private final int plannedUnits;
+    private final long intervalNanos;
+    private final long startedNanos = System.nanoTime();
+    private final AtomicLong lastReportNanos = new AtomicLong(startedNanos);
+    private final AtomicInteger settled = new AtomicInteger();
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger missed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Map<String, RunningPriceStats> cities = new ConcurrentHashMap<>();
+
+    BatchProgress(int totalUnits, Duration interval) {
+        this.plannedUnits = totalUnits;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    @Override
+    public void onUnit(PageKey key, ScrapeOutcome outcome, HotelPrice price) {
+        switch (outcome) {
+            case FOUND -> {
+                found.incrementAndGet();
+                cities.computeIfAbsent(label(key), k -> new RunningPriceStats()).add(price);
+            }
+            case NOT_FOUND, PARSE_FAILURE -> missed.incrementAndGet();
+            default -> failed.incrementAndGet();
+        }
+        int done = settled.incrementAndGet();
+        long now = System.nanoTime();
+        long last = lastReportNanos.get();
+        if (done == plannedUnits || (now - last >= intervalNanos && lastReportNanos.compareAndSet(last, now))) {
+            logProgress(done, now);
+        }
+    }
+
+    /**
+     * "hotel | city", followed by the stay when it is not the default one night for two.
+     */
+    private static String label(PageKey key) {
+        String label = key.hotelName() + " | " + key.city();
+        if (key.nights() == HotelPrice.DEFAULT_NIGHTS && key.guests() == HotelPrice.DEFAULT_GUESTS) {
+            return label;
+        }
+        return label + " | " + key.nights() + "n " + key.guests() + "g";
+    }
+
+    int getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Logs records, minimum and average price per (hotel, city, stay).
+     */
+    void logSummary() {
+        log.info("{} of {} dates priced, {} without a price, {} failed, in {}s", found.get(), totalUnits(),
+                missed.get(), failed.get(), Duration.ofNanos(System.nanoTime() - startedNanos).toSeconds());
+        cities.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> log.info(String.format("%-40s | Records: %4d | Min: $%8s | Avg: $%8s",
+                        entry.getKey(), entry.getValue().getCount(), entry.getValue().getMin(),
+                        entry.getValue().getMean())));
+    }
+
+    private int totalUnits() {
+        return Math.max(plannedUnits, settled.get());
+    }
+
+    private void logProgress(int done, long now) {
+        int totalUnits = totalUnits();
+        double seconds = (now - startedNanos) / 1e9;
+        double rate = done / Math.max(seconds, 1e-3);
+        long etaSeconds = rate > 0 ? Math.round((totalUnits - done) / rate) : 0;
+        log.info("Progress {}/{} ({}%) - found {}, no price {}, failed {} - {} dates/min, ETA {}",
+                done, totalUnits, done * 100 / totalUnits, found.get(), missed.get(), failed.get(),
+                String.format("%.1f", rate * 60), Duration.ofSeconds(etaSeconds));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.hotelpricingproject.batch;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.hotelpricingproject.sampling.SamplingStrategy;
+import com.example.hotelpricingproject.service.HotelScraperService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Batch mode: runs the job in {@code hotel.batch.job-file} through the same scrape path as the REST
+ * API, saving prices in batches as they arrive and logging progress as it goes. Meant for the
+ * {@code batch} profile, which starts the application without a web server:
+ * <pre>
+ * java -jar HotelPricingProject.jar --spring.profiles.active=batch --hotel.batch.job-file=jobs/ritz-carlton.json
+ * </pre>
+ * The process exits with status 3 when some dates failed for good.
+ */
+@Component
+@ConditionalOnProperty(name = "hotel.batch.job-file")
+public class BatchScrapeRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchScrapeRunner.class);
+
+    private final HotelScraperService scraperService;
+    private final ObjectMapper objectMapper;
+    private final Path jobFile;
+    private final Duration progressInterval;
+
+    private int exitCode;
+
+    public BatchScrapeRunner(HotelScraperService scraperService, ObjectMapper objectMapper,
+                             @Value("${hotel.batch.job-file}") String jobFile,
+                             @Value("${hotel.batch.progress-interval-ms:10000}") long progressIntervalMillis) {
+        this.scraperService = scraperService;
+        this.objectMapper = objectMapper;
+        this.jobFile = Path.of(jobFile);
+        this.progressInterval = Duration.ofMillis(progressIntervalMillis);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        BatchJob job = objectMapper.readValue(jobFile.toFile(), BatchJob.class);
+        SamplingStrategy sampling = job.samplingStrategy(LocalDate.now());
+        log.info("Batch job {}: {} in {} from {} to {} sampled {}, {}, {} pages planned", jobFile,
+                job.hotels(), job.cities(), job.startDate(), job.endDate(), sampling, job.matrix(), job.totalUnits());
+
+        BatchProgress progress = new BatchProgress(job.totalUnits(), progressInterval);
+        for (String hotel : job.hotels()) {
+            scraperService.scrape(hotel, job.cities(), job.startDate(), job.endDate(), sampling, job.matrix(), progress);
+        }
+        progress.logSummary();
+        exitCode = progress.getFailed() > 0 ? 3 : 0;
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.hotelpricingproject.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Gzips analysis responses that carry a strong ETag. Tomcat refuses to compress
+ * those (a strong validator must change with the content coding), so this filter
+ * compresses itself and tags the gzip variant as {@code "<etag>-gzip"}, stripping
+ * the suffix again from If-None-Match so the controller sees its own ETag.
+ */
+public class GzipEtagFilter extends OncePerRequestFilter {
+
+    private static final String GZIP_SUFFIX = "-gzip\"";
+
+    private final int minResponseSize;
+    private final int compressionLevel;
+
+    public GzipEtagFilter(int minResponseSize, int compressionLevel) {
+        this.minResponseSize = minResponseSize;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!"GET".equals(request.getMethod()) || !acceptsGzip(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        chain.doFilter(new GzipAwareRequest(request), buffered);
+
+        String etag = buffered.getHeader(HttpHeaders.ETAG);
+        boolean strongEtag = etag != null && etag.startsWith("\"");
+        if (strongEtag && buffered.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+            buffered.setHeader(HttpHeaders.ETAG, gzipTag(etag));
+            buffered.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        } else if (strongEtag && buffered.getStatus() == HttpServletResponse.SC_OK
+                && buffered.getContentSize() >= minResponseSize) {
+            byte[] compressed = gzip(buffered.getContentAsByteArray());
+            buffered.resetBuffer();
+            buffered.setHeader(HttpHeaders.ETAG, gzipTag(etag));
+            buffered.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            buffered.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            buffered.getOutputStream().write(compressed);
+        }
+        buffered.copyBodyToResponse();
+    }
+
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(compressionLevel);
+            }
+        }) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    private static String gzipTag(String etag) {
+        return etag.endsWith(GZIP_SUFFIX) ? etag : etag.substring(0, etag.length() - 1) + GZIP_SUFFIX;
+    }
+
+    static String stripGzipTags(String ifNoneMatch) {
+        return ifNoneMatch.replace(GZIP_SUFFIX, "\"");
+    }
+
+    static int validLevel(int level) {
+        return level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION ? Deflater.DEFAULT_COMPRESSION : level;
+    }
+
+    /**
+     * Presents If-None-Match without the gzip suffix to the controller.
+     */
+    private static class GzipAwareRequest extends HttpServletRequestWrapper {
+
+        GzipAwareRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return value != null && HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) ? stripGzipTags(value) : value;
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            if (!HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name)) {
+                return super.getHeaders(name);
+            }
+            return Collections.enumeration(Collections.list(super.getHeaders(name)).stream()
+                    .map(GzipEtagFilter::stripGzipTags)
+                    .toList());
+        }
+    }
+}
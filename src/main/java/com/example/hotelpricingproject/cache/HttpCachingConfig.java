@@ -0,0 +1,32 @@
+package com.example.hotelpricingproject.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HttpCachingConfig {
+
+    /**
+     * Gzip for the ETag-versioned analysis endpoints; everything else uses Tomcat's compression.
+     * The patterns are listed rather than {@code /api/hotels/*} because the filter buffers the
+     * whole response, which the price feed and the export stream must not be.
+     */
+    @Bean
+    public FilterRegistrationBean<GzipEtagFilter> gzipEtagFilter(
+            @Value("${hotel.http.gzip.min-response-size:1024}") int minResponseSize,
+            @Value("${hotel.http.gzip.level:5}") int level) {
+        FilterRegistrationBean<GzipEtagFilter> registration =
+                new FilterRegistrationBean<>(new GzipEtagFilter(minResponseSize, GzipEtagFilter.validLevel(level)));
+        registration.addUrlPatterns(
+                "/api/hotels/lowest-prices",
+                "/api/hotels/lowest-prices-by-range",
+                "/api/hotels/prices",
+                "/api/hotels/daily-prices",
+                "/api/hotels/forecast",
+                "/api/hotels/comparison",
+                "/api/hotels/analysis-report");
+        return registration;
+    }
+}
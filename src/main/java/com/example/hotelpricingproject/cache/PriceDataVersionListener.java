@@ -0,0 +1,65 @@
+package com.example.hotelpricingproject.cache;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.service.HotelCityKey;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener that bumps {@link PriceDataVersions} on every write to
+ * {@link HotelPrice}. The callbacks run while the write is flushed, still inside
+ * its transaction, so the bump goes out on the same connection and commits or
+ * rolls back with the data. Each pair is bumped once per transaction.
+ */
+public class PriceDataVersionListener {
+
+    private final PriceDataVersions versions;
+
+    public PriceDataVersionListener(PriceDataVersions versions) {
+        this.versions = versions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onWrite(HotelPrice price) {
+        HotelCityKey key = HotelCityKey.of(price);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.bump(key);
+            versions.committed(key);
+            return;
+        }
+        if (bumpedInTransaction().add(key)) {
+            versions.bump(key);
+        }
+    }
+
+    private Set<HotelCityKey> bumpedInTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Bumped bumped) {
+                return bumped.keys;
+            }
+        }
+        Bumped bumped = new Bumped();
+        TransactionSynchronizationManager.registerSynchronization(bumped);
+        return bumped.keys;
+    }
+
+    private class Bumped implements TransactionSynchronization {
+
+        private final Set<HotelCityKey> keys = new HashSet<>();
+
+        @Override
+        public void afterCommit() {
+            keys.forEach(versions::committed);
+        }
+    }
+}
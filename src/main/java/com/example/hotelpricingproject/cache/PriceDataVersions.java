@@ -0,0 +1,133 @@
+package com.example.hotelpricingproject.cache;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.hotelpricingproject.service.HotelCityKey;
+
+/**
+ * Tracks a data version per (hotel, city) in the {@code price_data_versions} table (created by
+ * {@code schema.sql}), bumped in
+ * the transaction of every write to that pair. Because the versions live next to the data, every
+ * node sees the writes of every other one: a readonly API node and the worker nodes writing
+ * through a shared queue agree on them. Analysis endpoints derive ETag/Last-Modified from one
+ * lookup here, so repeat polls are answered with 304 without running their queries.
+ */
+@Component
+public class PriceDataVersions {
+
+    private static final Version NEVER_WRITTEN = new Version(0, Instant.EPOCH);
+
+    private final JdbcTemplate jdbcTemplate;
+    // Bumps this process committed per pair, so a caller can tell its own writes from others'
+    private final Map<HotelCityKey, AtomicLong> localBumps = new ConcurrentHashMap<>();
+
+    public PriceDataVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Created by schema.sql; a readonly node only checks it is there
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM price_data_versions WHERE 1 = 0", Long.class);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Table price_data_versions is missing; start a node with "
+                    + "spring.sql.init.mode=always against this database once to create it", e);
+        }
+    }
+
+    /**
+     * Bumps the pair's version. Runs on the caller's connection, so inside a transaction the bump
+     * commits or rolls back with the write it stands for.
+     */
+    public void bump(HotelCityKey key) {
+        long now = Instant.now().truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+        String update = "UPDATE price_data_versions SET version = version + 1, modified_at = ? "
+                + "WHERE hotel_name = ? AND city = ?";
+        if (jdbcTemplate.update(update, now, key.hotelName(), key.city()) == 0) {
+            try {
+                jdbcTemplate.update("INSERT INTO price_data_versions (hotel_name, city, version, modified_at) "
+                        + "VALUES (?, ?, 1, ?)", key.hotelName(), key.city(), now);
+            } catch (DataIntegrityViolationException e) {
+                // Another writer created the row first
+                jdbcTemplate.update(update, now, key.hotelName(), key.city());
+            }
+        }
+    }
+
+    /**
+     * Records that a bump made by this process has committed.
+     */
+    void committed(HotelCityKey key) {
+        localBumps.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * How many bumps of the pair this process has committed since it started.
+     */
+    public long localBumps(HotelCityKey key) {
+        AtomicLong bumps = localBumps.get(key);
+        return bumps == null ? 0 : bumps.get();
+    }
+
+    public Version get(HotelCityKey key) {
+        return versions(List.of(key)).get(0);
+    }
+
+    /**
+     * The current versions of the given pairs, in order, read in one query.
+     */
+    public List<Version> versions(List<HotelCityKey> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder("SELECT hotel_name, city, version, modified_at FROM price_data_versions WHERE ");
+        List<Object> args = new ArrayList<>(keys.size() * 2);
+        for (int i = 0; i < keys.size(); i++) {
+            sql.append(i == 0 ? "" : " OR ").append("(hotel_name = ? AND city = ?)");
+            args.add(keys.get(i).hotelName());
+            args.add(keys.get(i).city());
+        }
+        Map<HotelCityKey, Version> found = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            found.put(new HotelCityKey(rs.getString("hotel_name"), rs.getString("city")),
+                    new Version(rs.getLong("version"), Instant.ofEpochMilli(rs.getLong("modified_at"))));
+        }, args.toArray());
+        List<Version> versions = new ArrayList<>(keys.size());
+        for (HotelCityKey key : keys) {
+            versions.add(found.getOrDefault(key, NEVER_WRITTEN));
+        }
+        return versions;
+    }
+
+    /**
+     * Strong ETag and latest modification time covering every given pair, in order.
+     */
+    public Validators validators(List<HotelCityKey> keys) {
+        StringBuilder tag = new StringBuilder("\"v");
+        Instant latest = Instant.EPOCH;
+        for (Version version : versions(keys)) {
+            // The modification time tells a recreated table's restarted counts from the old ones
+            tag.append('-').append(version.sequence()).append('.')
+                    .append(Long.toString(version.modifiedAt().getEpochSecond(), 36));
+            if (version.modifiedAt().isAfter(latest)) {
+                latest = version.modifiedAt();
+            }
+        }
+        return new Validators(tag.append('"').toString(), latest.toEpochMilli());
+    }
+
+    public record Version(long sequence, Instant modifiedAt) {
+    }
+
+    public record Validators(String etag, long lastModified) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.hotelpricingproject.comparison;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.hotelpricingproject.currency.FxRates;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.repository.JdbcColumns;
+import com.example.hotelpricingproject.repository.PartitionedPriceRepository;
+
+/**
+ * Compares one hotel's prices across cities, date by date, in a single currency. The matching
+ * rows (hot and archived) are laid out as primitive columns (target cell, cents, currency index),
+ * oldest scrape first; one pass over those columns converts each price with a per-currency factor
+ * and writes it to its cell, so the latest scrape of every (city, date) wins. A second pass over
+ * the grid ranks the cities on each date.
+ */
+@Service
+public class PriceComparisonEngine {
+
+    static final int MAX_CITIES = 50;
+    static final int MAX_DAYS = 366;
+
+    private static final Comparator<HotelPrice> OLDEST_FIRST = Comparator
+            .comparing(HotelPrice::getScrapedDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(HotelPrice::getId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final PartitionedPriceRepository priceRepository;
+    private final FxRates fxRates;
+
+    public PriceComparisonEngine(PartitionedPriceRepository priceRepository, FxRates fxRates) {
+        this.priceRepository = priceRepository;
+        this.fxRates = fxRates;
+    }
+
+    /**
+     * The (city × date) matrix for a stay of {@code nights} nights and {@code guests} adults from
+     * {@code startDate} through {@code endDate}, in {@code currency} ({@code hotel.fx.base} when null).
+     */
+    public PriceComparisonMatrix compare(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate,
+                                         int nights, int guests, String currency) {
+        String target = currency == null || currency.isBlank() ? fxRates.getBase() : currency;
+        validate(cities, startDate, endDate, target);
+        int days = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        List<HotelPrice> rows = new ArrayList<>();
+        List<Integer> rowCities = new ArrayList<>();
+        for (int c = 0; c < cities.size(); c++) {
+            for (HotelPrice price : priceRepository.findByStayAndCheckInDateBetween(hotelName, cities.get(c), nights,
+                    guests, startDate, endDate)) {
+                rows.add(price);
+                rowCities.add(c);
+            }
+        }
+        Integer[] order = new Integer[rows.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> OLDEST_FIRST.compare(rows.get(a), rows.get(b)));
+
+        int[] cell = new int[rows.size()];
+        long[] cents = new long[rows.size()];
+        int[] currencyIndex = new int[rows.size()];
+        long startDay = startDate.toEpochDay();
+        for (int i = 0; i < order.length; i++) {
+            HotelPrice price = rows.get(order[i]);
+            cell[i] = rowCities.get(order[i]) * days + (int) (price.getCheckInDate().toEpochDay() - startDay);
+            cents[i] = JdbcColumns.toCents(price.getPrice());
+            currencyIndex[i] = fxRates.index(price.getCurrency());
+        }
+
+        double[] factors = fxRates.factorsTo(target);
+        double[] prices = new double[cities.size() * days];
+        Arrays.fill(prices, Double.NaN);
+        long skipped = 0;
+        for (int i = 0; i < cell.length; i++) {
+            int from = currencyIndex[i];
+            if (from < 0) {
+                skipped++;
+                continue;
+            }
+            prices[cell[i]] = cents[i] * factors[from] / 100.0;
+        }
+
+        int[] ranks = new int[prices.length];
+        double[] premiums = new double[prices.length];
+        Arrays.fill(premiums, Double.NaN);
+        rank(prices, cities.size(), days, ranks, premiums);
+        return new PriceComparisonMatrix(target, cities, startDate, days, prices, ranks, premiums, skipped);
+    }
+
+    /**
+     * Ranks the cities on each date by price, ties sharing the better rank, and fills in how far
+     * above that date's cheapest price each one is.
+     */
+    static void rank(double[] prices, int cityCount, int days, int[] ranks, double[] premiums) {
+        for (int day = 0; day < days; day++) {
+            double cheapest = Double.POSITIVE_INFINITY;
+            for (int c = 0; c < cityCount; c++) {
+                double price = prices[c * days + day];
+                if (price < cheapest) {
+                    cheapest = price;
+                }
+            }
+            if (cheapest == Double.POSITIVE_INFINITY) {
+                continue;
+            }
+            for (int c = 0; c < cityCount; c++) {
+                double price = prices[c * days + day];
+                if (Double.isNaN(price)) {
+                    continue;
+                }
+                int rank = 1;
+                for (int other = 0; other < cityCount; other++) {
+                    if (prices[other * days + day] < price) {
+                        rank++;
+                    }
+                }
+                ranks[c * days + day] = rank;
+                premiums[c * days + day] = cheapest > 0 ? (price - cheapest) / cheapest * 100 : 0;
+            }
+        }
+    }
+
+    private void validate(List<String> cities, LocalDate startDate, LocalDate endDate, String target) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("At least one city is required");
+        }
+        if (cities.size() > MAX_CITIES) {
+            throw new IllegalArgumentException("At most " + MAX_CITIES + " cities per comparison");
+        }
+        if (cities.stream().distinct().count() != cities.size()) {
+            throw new IllegalArgumentException("Cities must not repeat");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            throw new IllegalArgumentException("At most " + MAX_DAYS + " days per comparison");
+        }
+        if (fxRates.index(target) < 0) {
+            throw new IllegalArgumentException("No FX rate for " + target);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.hotelpricingproject.comparison;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A dense (city × check-in date) grid of prices in one currency, with each city's rank on each
+ * date (1 is cheapest, ties share a rank) and its premium over that date's cheapest city in
+ * percent. Cells without a price are null in JSON and empty in CSV.
+ */
+public class PriceComparisonMatrix {
+
+    private final String currency;
+    private final List<String> cities;
+    private final LocalDate startDate;
+    private final int days;
+    private final double[] prices;
+    private final int[] ranks;
+    private final double[] premiums;
+    private final long skippedRows;
+
+    /**
+     * The arrays are row-major by city, {@code days} cells per city; NaN prices and rank 0 mark
+     * empty cells.
+     */
+    PriceComparisonMatrix(String currency, List<String> cities, LocalDate startDate, int days, double[] prices,
+                          int[] ranks, double[] premiums, long skippedRows) {
+        this.currency = currency;
+        this.cities = List.copyOf(cities);
+        this.startDate = startDate;
+        this.days = days;
+        this.prices = prices;
+        this.ranks = ranks;
+        this.premiums = premiums;
+        this.skippedRows = skippedRows;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public List<String> getCities() {
+        return cities;
+    }
+
+    public List<LocalDate> getDates() {
+        List<LocalDate> dates = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            dates.add(startDate.plusDays(day));
+        }
+        return dates;
+    }
+
+    /**
+     * Prices by city, then date.
+     */
+    public BigDecimal[][] getPrices() {
+        BigDecimal[][] grid = new BigDecimal[cities.size()][days];
+        for (int c = 0; c < grid.length; c++) {
+            for (int day = 0; day < days; day++) {
+                double price = prices[c * days + day];
+                grid[c][day] = Double.isNaN(price) ? null : money(price);
+            }
+        }
+        return grid;
+    }
+
+    public Integer[][] getRanks() {
+        Integer[][] grid = new Integer[cities.size()][days];
+        for (int c = 0; c < grid.length; c++) {
+            for (int day = 0; day < days; day++) {
+                int rank = ranks[c * days + day];
+                grid[c][day] = rank == 0 ? null : rank;
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Percent above the cheapest city on the same date, 0 for the cheapest.
+     */
+    public BigDecimal[][] getPremiums() {
+        BigDecimal[][] grid = new BigDecimal[cities.size()][days];
+        for (int c = 0; c < grid.length; c++) {
+            for (int day = 0; day < days; day++) {
+                double premium = premiums[c * days + day];
+                grid[c][day] = Double.isNaN(premium) ? null : BigDecimal.valueOf(premium).setScale(1, RoundingMode.HALF_UP);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Rows left out because the table has no rate for their currency.
+     */
+    public long getSkippedRows() {
+        return skippedRows;
+    }
+
+    /**
+     * One line per (city, date) cell, empty cells included, so a heatmap can pivot it directly.
+     */
+    public void writeCsv(Writer out) {
+        try {
+            out.write("city,check_in_date,price,currency,rank,premium_percent\n");
+            for (int c = 0; c < cities.size(); c++) {
+                String city = csvField(cities.get(c));
+                for (int day = 0; day < days; day++) {
+                    int cell = c * days + day;
+                    out.write(city);
+                    out.write(',');
+                    out.write(startDate.plusDays(day).toString());
+                    out.write(',');
+                    if (!Double.isNaN(prices[cell])) {
+                        out.write(money(prices[cell]).toPlainString());
+                        out.write(',');
+                        out.write(currency);
+                        out.write(',');
+                        out.write(Integer.toString(ranks[cell]));
+                        out.write(',');
+                        out.write(BigDecimal.valueOf(premiums[cell]).setScale(1, RoundingMode.HALF_UP).toPlainString());
+                    } else {
+                        out.write(",,,");
+                    }
+                    out.write('\n');
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
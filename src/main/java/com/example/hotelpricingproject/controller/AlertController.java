@@ -0,0 +1,28 @@
+package com.example.hotelpricingproject.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.alert.SseAlertSink;
+
+@RestController
+@RequestMapping("/api/hotels/alerts")
+public class AlertController {
+
+    private final SseAlertSink alertSink;
+
+    public AlertController(SseAlertSink alertSink) {
+        this.alertSink = alertSink;
+    }
+
+    /**
+     * Streams price-drop alerts as Server-Sent Events while scrapes are running.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAlerts() {
+        return alertSink.subscribe();
+    }
+}
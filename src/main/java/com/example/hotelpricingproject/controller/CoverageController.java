@@ -0,0 +1,117 @@
+package com.example.hotelpricingproject.controller;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.hotelpricingproject.coverage.CoverageIndex;
+import com.example.hotelpricingproject.queue.ScrapeWorkQueue;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+@RestController
+@RequestMapping("/api/hotels/coverage")
+public class CoverageController {
+
+    static final int MAX_DAYS = 3660;
+
+    private final CoverageIndex coverageIndex;
+    private final ScrapeWorkQueue workQueue;
+    private final boolean scrapingEnabled;
+
+    public CoverageController(CoverageIndex coverageIndex, @Lazy ScrapeWorkQueue workQueue,
+                              @Value("${hotel.scraper.enabled:true}") boolean scrapingEnabled) {
+        this.coverageIndex = coverageIndex;
+        this.workQueue = workQueue;
+        this.scrapingEnabled = scrapingEnabled;
+    }
+
+    /**
+     * How many check-in dates in a range have a price for one stay, and the runs that do.
+     * {@code scrapedSince} counts only prices scraped on or after that day.
+     */
+    @GetMapping
+    public ResponseEntity<?> getCoverage(
+            @RequestParam String hotelName,
+            @RequestParam String city,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate scrapedSince) {
+        String invalid = validate(startDate, endDate);
+        if (invalid != null) {
+            return ResponseEntity.badRequest().body(invalid);
+        }
+        return ResponseEntity.ok(coverageIndex.coverage(hotelName, city, nights, guests, startDate, endDate,
+                scrapedSince));
+    }
+
+    /**
+     * The runs of check-in dates in a range without a price for one stay.
+     */
+    @GetMapping("/gaps")
+    public ResponseEntity<?> getGaps(
+            @RequestParam String hotelName,
+            @RequestParam String city,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate scrapedSince) {
+        String invalid = validate(startDate, endDate);
+        if (invalid != null) {
+            return ResponseEntity.badRequest().body(invalid);
+        }
+        return ResponseEntity.ok(coverageIndex.gaps(hotelName, city, nights, guests, startDate, endDate,
+                scrapedSince));
+    }
+
+    /**
+     * Queues a scrape of every missing date in a range for the worker nodes, skipping gaps shorter
+     * than {@code minGapDays}.
+     */
+    @PostMapping("/rescrape")
+    public ResponseEntity<String> rescrapeGaps(
+            @RequestParam String hotelName,
+            @RequestParam String city,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate scrapedSince,
+            @RequestParam(defaultValue = "1") int minGapDays) {
+        if (!scrapingEnabled) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Scraping is disabled on this node");
+        }
+        String invalid = validate(startDate, endDate);
+        if (invalid != null) {
+            return ResponseEntity.badRequest().body(invalid);
+        }
+        List<PageKey> units = coverageIndex.gapUnits(hotelName, city, nights, guests, startDate, endDate,
+                scrapedSince, minGapDays);
+        int queued = units.isEmpty() ? 0 : workQueue.enqueue(units);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body("Queued " + queued + " of " + units.size() + " missing dates.");
+    }
+
+    private static String validate(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            return "startDate must not be after endDate";
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_DAYS) {
+            return "At most " + MAX_DAYS + " days per request";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hotelpricingproject.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.hotelpricingproject.export.PriceExportService;
+
+@RestController
+@RequestMapping("/api/hotels")
+public class ExportController {
+
+    private final PriceExportService exportService;
+
+    public ExportController(PriceExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Downloads the full price history as an HPX1 columnar file (see ColumnarPriceWriter).
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPrices() {
+        StreamingResponseBody body = exportService::exportTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"hotel_prices.hpx\"")
+                .body(body);
+    }
+}
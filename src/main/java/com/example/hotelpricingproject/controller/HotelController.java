@@ -1,18 +1,41 @@
 package com.example.hotelpricingproject.controller;
 
+import java.io.StringWriter;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.hotelpricingproject.cache.PriceDataVersions;
+import com.example.hotelpricingproject.comparison.PriceComparisonEngine;
+import com.example.hotelpricingproject.comparison.PriceComparisonMatrix;
+import com.example.hotelpricingproject.dto.DailyPrice;
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.dto.LowestPriceResult;
+import com.example.hotelpricingproject.dto.PriceForecast;
 import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.execution.ScrapeSummary;
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.forecast.PriceForecaster;
+import com.example.hotelpricingproject.queue.ScrapeWorkQueue;
+import com.example.hotelpricingproject.sampling.FixedStrideSampling;
+import com.example.hotelpricingproject.sampling.SamplingStrategies;
+import com.example.hotelpricingproject.sampling.SamplingStrategy;
 import com.example.hotelpricingproject.service.HotelAnalysisService;
+import com.example.hotelpricingproject.service.HotelCityKey;
 import com.example.hotelpricingproject.service.HotelScraperService;
 
 @RestController
@@ -21,95 +44,281 @@ public class HotelController {
 
     private final HotelScraperService scraperService;
     private final HotelAnalysisService analysisService;
+    private final PriceDataVersions dataVersions;
+    private final PriceForecaster forecaster;
+    private final PriceComparisonEngine comparisonEngine;
+    private final ScrapeWorkQueue workQueue;
+    private final boolean scrapingEnabled;
 
-    public HotelController(HotelScraperService scraperService, HotelAnalysisService analysisService) {
+    /**
+     * The scraper and work queue are injected as lazy proxies; read-only nodes
+     * ({@code hotel.scraper.enabled=false}) never touch them and answer 503 on the scrape endpoints.
+     */
+    public HotelController(@Lazy HotelScraperService scraperService, HotelAnalysisService analysisService,
+                           PriceDataVersions dataVersions, PriceForecaster forecaster,
+                           PriceComparisonEngine comparisonEngine,
+                           @Lazy ScrapeWorkQueue workQueue,
+                           @Value("${hotel.scraper.enabled:true}") boolean scrapingEnabled) {
         this.scraperService = scraperService;
         this.analysisService = analysisService;
+        this.dataVersions = dataVersions;
+        this.forecaster = forecaster;
+        this.comparisonEngine = comparisonEngine;
+        this.workQueue = workQueue;
+        this.scrapingEnabled = scrapingEnabled;
     }
 
     /**
-     * Scrapes hotel prices for a given hotel, city, and date range.
+     * Scrapes hotel prices for a given hotel, city, and date range. {@code sampling} picks which dates
+     * are loaded, e.g. {@code fixed:3}, {@code tiered} or {@code adaptive:7:10}; every date by default.
+     * {@code nights} and {@code guests} (repeatable) search every combination of stay length and
+     * adults per date instead of one night for two.
      */
     @PostMapping("/scrape")
     public ResponseEntity<String> scrapeHotels(
             @RequestParam String hotelName,
             @RequestParam String city,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String sampling,
+            @RequestParam(required = false) List<Integer> nights,
+            @RequestParam(required = false) List<Integer> guests) {
+        if (!scrapingEnabled) {
+            return scrapingDisabled();
+        }
+        SamplingStrategy strategy;
+        SearchMatrix matrix;
         try {
-            List<HotelPrice> prices = scraperService.scrapeHotelPrices(hotelName, city, startDate, endDate);
-            return ResponseEntity.ok("Successfully scraped " + prices.size() + " price records.");
+            if (startDate.isAfter(endDate)) {
+                throw new IllegalArgumentException("startDate must not be after endDate");
+            }
+            strategy = SamplingStrategies.parse(sampling, LocalDate.now());
+            matrix = SearchMatrix.of(nights, guests);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        try {
+            ScrapeSummary summary = scraperService.scrapeHotelPrices(hotelName, List.of(city), startDate, endDate,
+                    strategy, matrix);
+            return ResponseEntity.ok("Successfully scraped " + summary.getFound() + " price records.");
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Error during scraping: " + e.getMessage());
         }
     }
 
     /**
-     * Bulk scrape Ritz-Carlton across 5 cities (Nov 15, 2025 - May 1, 2026)
+     * Bulk scrape Ritz-Carlton across 5 cities (Nov 15, 2025 - May 1, 2026). With
+     * {@code distributed=true} the (city, date) units go to the shared work queue for the worker
+     * nodes instead, and the call returns as soon as they are queued.
      */
     @PostMapping("/scrape-multi-city")
-    public ResponseEntity<String> scrapeMultiCity() {
+    public ResponseEntity<String> scrapeMultiCity(@RequestParam(defaultValue = "false") boolean distributed) {
+        if (!scrapingEnabled) {
+            return scrapingDisabled();
+        }
         try {
             String hotelName = "Ritz-Carlton";
             List<String> cities = List.of("Las Vegas", "New York City", "Miami", "Paris", "Los Angeles");
             LocalDate startDate = LocalDate.of(2025, 11, 15);
             LocalDate endDate = LocalDate.of(2026, 5, 1);
-            
-            int totalScraped = 0;
-            for (String city : cities) {
-                List<HotelPrice> prices = scraperService.scrapeHotelPrices(hotelName, city, startDate, endDate);
-                totalScraped += prices.size();
+
+            if (distributed) {
+                int queued = workQueue.enqueue(hotelName, cities, startDate, endDate, new FixedStrideSampling(1),
+                        SearchMatrix.DEFAULT);
+                return ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .body("Queued " + queued + " units across 5 cities for the worker nodes.");
             }
-            
-            return ResponseEntity.ok("✅ Successfully scraped " + totalScraped + " price records across 5 cities!");
+
+            // One run so every city's dates share the browser pool and executor
+            ScrapeSummary summary = scraperService.scrapeHotelPrices(hotelName, cities, startDate, endDate);
+
+            return ResponseEntity.ok("✅ Successfully scraped " + summary.getFound() + " price records across 5 cities!");
         } catch (Exception e) {
             return ResponseEntity.status(500).body("❌ Error during scraping: " + e.getMessage());
         }
     }
 
     /**
-     * Gets the 10 lowest prices for a hotel in a specific city.
+     * Gets the 10 lowest prices for a hotel in a specific city for one stay length and number of
+     * adults, one night for two by default.
      */
     @GetMapping("/lowest-prices")
     public ResponseEntity<List<HotelPrice>> getLowestPrices(
             @RequestParam String hotelName,
-            @RequestParam String city) {
-        List<HotelPrice> prices = analysisService.findLowestPrices(hotelName, city);
-        return ResponseEntity.ok(prices);
+            @RequestParam String city,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            WebRequest request) {
+        List<HotelCityKey> keys = List.of(new HotelCityKey(hotelName, city));
+        if (notModified(request, keys)) {
+            return null;
+        }
+        List<HotelPrice> prices = analysisService.findLowestPrices(hotelName, city, nights, guests);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(prices);
     }
 
     /**
-     * Gets the 10 lowest prices for a hotel in a city within a date range.
+     * Gets the 10 lowest prices for one stay of a hotel in a city within a date range.
      */
     @GetMapping("/lowest-prices-by-range")
     public ResponseEntity<List<HotelPrice>> getLowestPricesByRange(
             @RequestParam String hotelName,
             @RequestParam String city,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        List<HotelPrice> prices = analysisService.findLowestPrices(hotelName, city, startDate, endDate);
-        return ResponseEntity.ok(prices);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            WebRequest request) {
+        List<HotelCityKey> keys = List.of(new HotelCityKey(hotelName, city));
+        if (notModified(request, keys)) {
+            return null;
+        }
+        List<HotelPrice> prices = analysisService.findLowestPrices(hotelName, city, startDate, endDate, nights, guests);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(prices);
+    }
+
+    /**
+     * Gets the lowest prices for many (hotel, city, optional range, stay, limit) tiles in one round-trip.
+     */
+    @PostMapping("/lowest-prices/batch")
+    public ResponseEntity<?> getLowestPricesBatch(@RequestBody List<LowestPriceQuery> queries) {
+        try {
+            List<LowestPriceResult> results = analysisService.findLowestPrices(queries);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
-     * Gets all prices for a hotel in a city.
+     * Gets all prices for one stay of a hotel in a city.
      */
     @GetMapping("/prices")
     public ResponseEntity<List<HotelPrice>> getPrices(
             @RequestParam String hotelName,
-            @RequestParam String city) {
-        List<HotelPrice> prices = analysisService.getPricesForHotelInCity(hotelName, city);
-        return ResponseEntity.ok(prices);
+            @RequestParam String city,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            WebRequest request) {
+        List<HotelCityKey> keys = List.of(new HotelCityKey(hotelName, city));
+        if (notModified(request, keys)) {
+            return null;
+        }
+        List<HotelPrice> prices = analysisService.getPricesForHotelInCity(hotelName, city, nights, guests);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(prices);
+    }
+
+    /**
+     * Gets one price per check-in date in a range for one stay length and number of adults,
+     * interpolating the dates that were not scraped.
+     */
+    @GetMapping("/daily-prices")
+    public ResponseEntity<List<DailyPrice>> getDailyPrices(
+            @RequestParam String hotelName,
+            @RequestParam String city,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            WebRequest request) {
+        List<HotelCityKey> keys = List.of(new HotelCityKey(hotelName, city));
+        if (notModified(request, keys)) {
+            return null;
+        }
+        List<DailyPrice> prices = analysisService.getDailyPrices(hotelName, city, startDate, endDate, nights, guests);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(prices);
+    }
+
+    /**
+     * Forecasts one price per check-in date in a range, scraped or not, with the band the price is
+     * expected to fall in at {@code confidence}. Empty until the series has enough prices.
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<?> getForecast(
+            @RequestParam String hotelName,
+            @RequestParam String city,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            @RequestParam(defaultValue = "0.9") double confidence,
+            WebRequest request) {
+        List<HotelCityKey> keys = List.of(new HotelCityKey(hotelName, city));
+        if (notModified(request, keys)) {
+            return null;
+        }
+        try {
+            List<PriceForecast> forecasts = forecaster.forecast(hotelName, city, startDate, endDate, nights, guests,
+                    confidence);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(forecasts);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Compares a hotel's prices across cities, one column per check-in date, converted to
+     * {@code currency} (the FX base by default) and ranked per date. {@code format=csv} returns one
+     * line per (city, date) cell instead of the dense JSON grid.
+     */
+    @GetMapping("/comparison")
+    public ResponseEntity<?> getComparison(
+            @RequestParam String hotelName,
+            @RequestParam List<String> cities,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            @RequestParam(required = false) String currency,
+            @RequestParam(defaultValue = "json") String format,
+            WebRequest request) {
+        List<HotelCityKey> keys = cities.stream().map(city -> new HotelCityKey(hotelName, city)).toList();
+        if (notModified(request, keys)) {
+            return null;
+        }
+        try {
+            PriceComparisonMatrix matrix = comparisonEngine.compare(hotelName, cities, startDate, endDate, nights,
+                    guests, currency);
+            if ("csv".equalsIgnoreCase(format)) {
+                StringWriter csv = new StringWriter();
+                matrix.writeCsv(csv);
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache())
+                        .contentType(new MediaType("text", "csv")).body(csv.toString());
+            }
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(matrix);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     /**
-     * Generates an analysis report for a hotel across multiple cities.
+     * Generates an analysis report for one stay of a hotel across multiple cities.
      */
     @GetMapping("/analysis-report")
     public ResponseEntity<String> getAnalysisReport(
             @RequestParam String hotelName,
-            @RequestParam List<String> cities) {
-        String report = analysisService.generateAnalysisReport(hotelName, cities);
-        return ResponseEntity.ok(report);
+            @RequestParam List<String> cities,
+            @RequestParam(defaultValue = "1") int nights,
+            @RequestParam(defaultValue = "2") int guests,
+            WebRequest request) {
+        List<HotelCityKey> keys = cities.stream().map(city -> new HotelCityKey(hotelName, city)).toList();
+        if (notModified(request, keys)) {
+            return null;
+        }
+        String report = analysisService.generateAnalysisReport(hotelName, cities, nights, guests);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(report);
+    }
+
+    /**
+     * Answers the conditional GET from one lookup of the data versions; when the
+     * client's copy is current the response is a 304 and the endpoint's query never runs.
+     */
+    private boolean notModified(WebRequest request, List<HotelCityKey> keys) {
+        PriceDataVersions.Validators validators = dataVersions.validators(keys);
+        return request.checkNotModified(validators.etag(), validators.lastModified());
+    }
+
+    private static ResponseEntity<String> scrapingDisabled() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Scraping is disabled on this node");
     }
 }
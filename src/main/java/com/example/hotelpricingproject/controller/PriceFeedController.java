@@ -0,0 +1,36 @@
+package com.example.hotelpricingproject.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.feed.PriceFeedService;
+
+@RestController
+@RequestMapping("/api/hotels")
+public class PriceFeedController {
+
+    private final PriceFeedService priceFeedService;
+
+    public PriceFeedController(PriceFeedService priceFeedService) {
+        this.priceFeedService = priceFeedService;
+    }
+
+    /**
+     * Streams each price as it is persisted, optionally filtered by hotel and city.
+     * Reconnecting clients resume from the Last-Event-ID header (or lastEventId parameter).
+     */
+    @GetMapping(value = "/prices/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPrices(
+            @RequestParam(required = false) String hotelName,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) Long lastEventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventIdHeader) {
+        Long resumeFrom = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+        return priceFeedService.subscribe(hotelName, city, resumeFrom);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.hotelpricingproject.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.queue.ScrapeWorkQueue;
+import com.example.hotelpricingproject.sampling.SamplingStrategies;
+import com.example.hotelpricingproject.sampling.SamplingStrategy;
+
+@RestController
+@RequestMapping("/api/hotels/queue")
+public class WorkQueueController {
+
+    private final ScrapeWorkQueue workQueue;
+    private final boolean scrapingEnabled;
+
+    public WorkQueueController(@Lazy ScrapeWorkQueue workQueue,
+                               @Value("${hotel.scraper.enabled:true}") boolean scrapingEnabled) {
+        this.workQueue = workQueue;
+        this.scrapingEnabled = scrapingEnabled;
+    }
+
+    /**
+     * Queues the units {@code /scrape} would run with the same parameters, for the worker nodes to
+     * pull. {@code city} may be repeated.
+     */
+    @PostMapping
+    public ResponseEntity<String> enqueue(
+            @RequestParam String hotelName,
+            @RequestParam List<String> city,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String sampling,
+            @RequestParam(required = false) List<Integer> nights,
+            @RequestParam(required = false) List<Integer> guests) {
+        if (!scrapingEnabled) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Scraping is disabled on this node");
+        }
+        SamplingStrategy strategy;
+        SearchMatrix matrix;
+        try {
+            strategy = SamplingStrategies.parse(sampling, LocalDate.now());
+            matrix = SearchMatrix.of(nights, guests);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        int queued = workQueue.enqueue(hotelName, city, startDate, endDate, strategy, matrix);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body("Queued " + queued + " units.");
+    }
+
+    /**
+     * Units queued, leased, done and failed.
+     */
+    @GetMapping
+    public ResponseEntity<ScrapeWorkQueue.QueueStats> stats() {
+        if (!scrapingEnabled) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(workQueue.stats());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.hotelpricingproject.coverage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.example.hotelpricingproject.queue.ScrapeWorkQueue;
+
+/**
+ * Scheduled re-scrapes of coverage gaps, off unless {@code hotel.coverage.rescrape.enabled=true}.
+ * The coverage index itself is always kept.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "hotel.coverage.rescrape.enabled", havingValue = "true")
+public class CoverageConfig {
+
+    @Bean
+    public GapRescheduler gapRescheduler(CoverageIndex coverageIndex, ScrapeWorkQueue workQueue,
+                                         @Value("${hotel.coverage.rescrape.horizon-days:90}") int horizonDays,
+                                         @Value("${hotel.coverage.rescrape.max-age-days:7}") int maxAgeDays,
+                                         @Value("${hotel.coverage.rescrape.min-gap-days:7}") int minGapDays) {
+        return new GapRescheduler(coverageIndex, workQueue, horizonDays, maxAgeDays, minGapDays);
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.hotelpricingproject.coverage;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.hotelpricingproject.archive.PriceArchive;
+import com.example.hotelpricingproject.cache.PriceDataVersions;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+import com.example.hotelpricingproject.export.PriceRow;
+import com.example.hotelpricingproject.repository.JdbcColumns;
+import com.example.hotelpricingproject.service.HotelCityKey;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * In-memory index of which check-in dates have a price: per (hotel, city, nights, guests) and
+ * per scrape day, a {@link DayBitmap} of the check-in days that scrape saved. A series is loaded
+ * the first time it is asked about, from its rows in {@code hotel_prices} (through the stay index)
+ * and the archived months whose summary holds it, and then kept current from every price this
+ * process saves, so repeat coverage and gap questions never touch the price data. It is loaded
+ * again once the (hotel, city) data version has moved by more than this process's own writes,
+ * so an API node sees what the scraping nodes save. Adding a day twice is harmless, so prices
+ * saved while a series loads need no special care.
+ */
+@Component
+public class CoverageIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CoverageIndex.class);
+
+    private static final int FETCH_SIZE = 5_000;
+
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceArchive archive;
+    private final PriceDataVersions versions;
+
+    public CoverageIndex(JdbcTemplate jdbcTemplate, PriceArchive archive, PriceDataVersions versions) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archive = archive;
+        this.versions = versions;
+    }
+
+    /**
+     * Adds a saved price to its series, if that series is loaded yet; otherwise the load will
+     * read it from the database.
+     */
+    @EventListener
+    public void onPriceSaved(HotelPriceSavedEvent event) {
+        HotelPrice price = event.getPrice();
+        Series target = series.get(new SeriesKey(price.getHotelName(), price.getCity(), price.getNights(),
+                price.getGuests()));
+        if (target != null) {
+            target.add(price.getCheckInDate(), price.getScrapedDate());
+        }
+    }
+
+    /**
+     * The series' scrapes, loaded on first use and again after foreign writes. Prices saved while
+     * the load runs wait for it and are then added too.
+     */
+    private Series loaded(SeriesKey key) {
+        Series target = series.computeIfAbsent(key, k -> new Series());
+        synchronized (target) {
+            HotelCityKey pair = new HotelCityKey(key.hotelName(), key.city());
+            // Local bumps first: a write landing in between then looks foreign and costs one extra load
+            long localBumps = versions.localBumps(pair);
+            long version = versions.get(pair).sequence();
+            if (!target.loaded || version - target.version != localBumps - target.localBumps) {
+                target.byScrapeDay.clear();
+                load(key, target);
+                target.loaded = true;
+                target.version = version;
+                target.localBumps = localBumps;
+            }
+        }
+        return target;
+    }
+
+    private void load(SeriesKey key, Series target) {
+        long started = System.nanoTime();
+        long[] rows = new long[1];
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        streaming.query("SELECT check_in_date, scraped_date FROM hotel_prices "
+                        + "WHERE hotel_name = ? AND city = ? AND nights = ? AND guests = ?",
+                rs -> {
+                    target.add(JdbcColumns.localDate(rs, "check_in_date"), JdbcColumns.localDate(rs, "scraped_date"));
+                    rows[0]++;
+                }, key.hotelName(), key.city(), key.nights(), key.guests());
+        for (YearMonth month : archive.monthsBetween(null, null)) {
+            try {
+                if (archive.summary(month).contains(key.hotelName(), key.city(), key.nights(), key.guests())) {
+                    archive.read(month, row -> {
+                        if (key.matches(row)) {
+                            target.add(row.checkInDate(), row.scrapedDate());
+                            rows[0]++;
+                        }
+                    });
+                }
+            } catch (IOException e) {
+                log.warn("Could not index archived month {}: {}", month, e.getMessage());
+            }
+        }
+        log.debug("Indexed coverage of {} in {} ({} nights, {} guests) from {} prices in {} ms", key.hotelName(),
+                key.city(), key.nights(), key.guests(), rows[0], (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Check-in days of the series with a price scraped on or after {@code scrapedSince}
+     * (any time when null).
+     */
+    public DayBitmap covered(String hotelName, String city, int nights, int guests, LocalDate scrapedSince) {
+        return loaded(new SeriesKey(hotelName, city, nights, guests)).covered(scrapedSince);
+    }
+
+    /**
+     * How much of {@code startDate} through {@code endDate} has prices, and the runs that do.
+     */
+    public Coverage coverage(String hotelName, String city, int nights, int guests, LocalDate startDate,
+                             LocalDate endDate, LocalDate scrapedSince) {
+        DayBitmap days = covered(hotelName, city, nights, guests, scrapedSince);
+        int from = (int) startDate.toEpochDay();
+        int to = (int) endDate.toEpochDay();
+        return new Coverage(days.cardinality(from, to), to - from + 1, ranges(days.runs(from, to, true)));
+    }
+
+    /**
+     * The runs of check-in dates from {@code startDate} through {@code endDate} without a price.
+     */
+    public List<DateRange> gaps(String hotelName, String city, int nights, int guests, LocalDate startDate,
+                                LocalDate endDate, LocalDate scrapedSince) {
+        DayBitmap days = covered(hotelName, city, nights, guests, scrapedSince);
+        return ranges(days.runs((int) startDate.toEpochDay(), (int) endDate.toEpochDay(), false));
+    }
+
+    /**
+     * One scrape unit per missing date, ready for the work queue. Gaps shorter than
+     * {@code minGapDays} are left alone, so a series sampled every n-th day is not filled in.
+     */
+    public List<PageKey> gapUnits(String hotelName, String city, int nights, int guests, LocalDate startDate,
+                                  LocalDate endDate, LocalDate scrapedSince, int minGapDays) {
+        List<PageKey> units = new ArrayList<>();
+        for (DateRange gap : gaps(hotelName, city, nights, guests, startDate, endDate, scrapedSince)) {
+            if (gap.days() < minGapDays) {
+                continue;
+            }
+            for (LocalDate day = gap.start(); !day.isAfter(gap.end()); day = day.plusDays(1)) {
+                units.add(new PageKey(hotelName, city, day, nights, guests));
+            }
+        }
+        return units;
+    }
+
+    /**
+     * Every (hotel, city, nights, guests) series with a price in {@code hotel_prices}; series left
+     * only in the archive are no longer scraped.
+     */
+    public List<SeriesKey> series() {
+        return jdbcTemplate.query("SELECT DISTINCT hotel_name, city, nights, guests FROM hotel_prices",
+                (rs, row) -> new SeriesKey(rs.getString("hotel_name"), rs.getString("city"), rs.getInt("nights"),
+                        rs.getInt("guests")));
+    }
+
+    private static List<DateRange> ranges(List<int[]> runs) {
+        List<DateRange> ranges = new ArrayList<>(runs.size());
+        for (int[] run : runs) {
+            ranges.add(new DateRange(LocalDate.ofEpochDay(run[0]), LocalDate.ofEpochDay(run[1])));
+        }
+        return ranges;
+    }
+
+    /**
+     * An inclusive run of check-in dates.
+     */
+    public record DateRange(LocalDate start, LocalDate end) {
+
+        public long days() {
+            return end.toEpochDay() - start.toEpochDay() + 1;
+        }
+    }
+
+    public record Coverage(int coveredDays, int totalDays, List<DateRange> covered) {
+    }
+
+    public record SeriesKey(String hotelName, String city, int nights, int guests) {
+
+        boolean matches(PriceRow row) {
+            return row.hotelName().equals(hotelName) && row.city().equals(city) && row.guests() == guests
+                    && row.checkOutDate().toEpochDay() - row.checkInDate().toEpochDay() == nights;
+        }
+    }
+
+    private static final class Series {
+
+        private final NavigableMap<Integer, DayBitmap> byScrapeDay = new TreeMap<>();
+        private boolean loaded;
+        // The pair's data version and this process's bumps of it as of the last load
+        private long version;
+        private long localBumps;
+
+        synchronized void add(LocalDate checkIn, LocalDate scraped) {
+            if (checkIn == null) {
+                return;
+            }
+            int scrapeDay = scraped == null ? 0 : (int) scraped.toEpochDay();
+            byScrapeDay.computeIfAbsent(scrapeDay, k -> new DayBitmap()).add((int) checkIn.toEpochDay());
+        }
+
+        synchronized DayBitmap covered(LocalDate scrapedSince) {
+            DayBitmap union = new DayBitmap();
+            NavigableMap<Integer, DayBitmap> scrapes = scrapedSince == null ? byScrapeDay
+                    : byScrapeDay.tailMap((int) scrapedSince.toEpochDay(), true);
+            for (DayBitmap days : scrapes.values()) {
+                union.or(days);
+            }
+            return union;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.example.hotelpricingproject.coverage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compressed set of epoch days, laid out like a roaring bitmap scaled to calendar dates: days
+ * are split into 1024-day chunks by their high bits, and each chunk holds its low bits either as
+ * a sorted {@code short} array (up to 64 days) or as a 16-word bitmap, whichever is smaller. A
+ * sparse sample costs two bytes a day, a densely scraped stretch of up to 1024 days 128 bytes,
+ * and range queries work a word (64 days) at a time.
+ * <p>
+ * Not thread-safe.
+ */
+public class DayBitmap {
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_DAYS = 1 << CHUNK_BITS;
+    private static final int LOW_MASK = CHUNK_DAYS - 1;
+    private static final int WORDS = CHUNK_DAYS / Long.SIZE;
+    // An array this long takes the same 128 bytes as a bitmap
+    private static final int ARRAY_MAX = WORDS * Long.BYTES / Short.BYTES;
+
+    private int chunks;
+    private int[] keys = new int[2];
+    // Per chunk exactly one of these is set
+    private short[][] arrays = new short[2][];
+    private long[][] bitmaps = new long[2][];
+    private int[] sizes = new int[2];
+
+    /**
+     * @return true if the day was not in the set yet
+     */
+    public boolean add(int day) {
+        int key = day >> CHUNK_BITS;
+        short low = (short) (day & LOW_MASK);
+        int chunk = Arrays.binarySearch(keys, 0, chunks, key);
+        if (chunk < 0) {
+            chunk = insertChunk(-chunk - 1, key);
+        }
+        long[] bitmap = bitmaps[chunk];
+        if (bitmap != null) {
+            long bit = 1L << low;
+            if ((bitmap[low >>> 6] & bit) != 0) {
+                return false;
+            }
+            bitmap[low >>> 6] |= bit;
+            sizes[chunk]++;
+            return true;
+        }
+        short[] array = arrays[chunk];
+        int size = sizes[chunk];
+        int at = Arrays.binarySearch(array, 0, size, low);
+        if (at >= 0) {
+            return false;
+        }
+        if (size == ARRAY_MAX) {
+            long[] words = words(chunk);
+            words[low >>> 6] |= 1L << low;
+            bitmaps[chunk] = words;
+            arrays[chunk] = null;
+            sizes[chunk]++;
+            return true;
+        }
+        at = -at - 1;
+        if (size == array.length) {
+            array = Arrays.copyOf(array, Math.min(ARRAY_MAX, size * 2));
+            arrays[chunk] = array;
+        }
+        System.arraycopy(array, at, array, at + 1, size - at);
+        array[at] = low;
+        sizes[chunk]++;
+        return true;
+    }
+
+    public boolean contains(int day) {
+        int chunk = Arrays.binarySearch(keys, 0, chunks, day >> CHUNK_BITS);
+        if (chunk < 0) {
+            return false;
+        }
+        int low = day & LOW_MASK;
+        long[] bitmap = bitmaps[chunk];
+        if (bitmap != null) {
+            return (bitmap[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch(arrays[chunk], 0, sizes[chunk], (short) low) >= 0;
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < chunks; i++) {
+            total += sizes[i];
+        }
+        return total;
+    }
+
+    /**
+     * Adds every day of {@code other} to this set.
+     */
+    public void or(DayBitmap other) {
+        for (int i = 0; i < other.chunks; i++) {
+            int chunk = Arrays.binarySearch(keys, 0, chunks, other.keys[i]);
+            if (chunk < 0) {
+                chunk = insertChunk(-chunk - 1, other.keys[i]);
+            }
+            long[] words = words(chunk);
+            long[] theirs = other.words(i);
+            int size = 0;
+            for (int w = 0; w < WORDS; w++) {
+                words[w] |= theirs[w];
+                size += Long.bitCount(words[w]);
+            }
+            store(chunk, words, size);
+        }
+    }
+
+    /**
+     * Days in the set from {@code from} through {@code to}.
+     */
+    public int cardinality(int from, int to) {
+        int total = 0;
+        for (int chunkKey = from >> CHUNK_BITS; chunkKey <= to >> CHUNK_BITS; chunkKey++) {
+            int chunk = Arrays.binarySearch(keys, 0, chunks, chunkKey);
+            if (chunk < 0) {
+                continue;
+            }
+            long[] words = words(chunk);
+            int base = chunkKey << CHUNK_BITS;
+            int lo = Math.max(from, base) - base;
+            int hi = Math.min(to, base + LOW_MASK) - base;
+            for (int w = lo >>> 6; w <= hi >>> 6; w++) {
+                total += Long.bitCount(words[w] & mask(w, lo, hi));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Maximal runs of days from {@code from} through {@code to} that are in the set
+     * ({@code present}) or missing from it, as inclusive {@code {first, last}} pairs in order.
+     */
+    public List<int[]> runs(int from, int to, boolean present) {
+        List<int[]> runs = new ArrayList<>();
+        int runStart = Integer.MIN_VALUE;
+        int day = from;
+        while (day <= to) {
+            int chunkKey = day >> CHUNK_BITS;
+            int base = chunkKey << CHUNK_BITS;
+            int chunkEnd = Math.min(to, base + LOW_MASK);
+            int chunk = Arrays.binarySearch(keys, 0, chunks, chunkKey);
+            long[] words = chunk < 0 ? null : words(chunk);
+            while (day <= chunkEnd) {
+                int low = day - base;
+                long word = words == null ? 0 : words[low >>> 6];
+                if (!present) {
+                    word = ~word;
+                }
+                int wordEnd = Math.min(chunkEnd, base + (low | 63));
+                // Skip whole words that cannot end or start a run
+                long rest = word >>> (low & 63);
+                int span = wordEnd - day + 1;
+                long spanMask = span == 64 ? -1L : (1L << span) - 1;
+                if ((rest & spanMask) == spanMask) {
+                    if (runStart == Integer.MIN_VALUE) {
+                        runStart = day;
+                    }
+                    day = wordEnd + 1;
+                    continue;
+                }
+                if ((rest & spanMask) == 0) {
+                    if (runStart != Integer.MIN_VALUE) {
+                        runs.add(new int[]{runStart, day - 1});
+                        runStart = Integer.MIN_VALUE;
+                    }
+                    day = wordEnd + 1;
+                    continue;
+                }
+                if ((word & (1L << low)) != 0) {
+                    if (runStart == Integer.MIN_VALUE) {
+                        runStart = day;
+                    }
+                } else if (runStart != Integer.MIN_VALUE) {
+                    runs.add(new int[]{runStart, day - 1});
+                    runStart = Integer.MIN_VALUE;
+                }
+                day++;
+            }
+        }
+        if (runStart != Integer.MIN_VALUE) {
+            runs.add(new int[]{runStart, to});
+        }
+        return runs;
+    }
+
+    /**
+     * Bytes held by the containers, not counting object headers.
+     */
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (int i = 0; i < chunks; i++) {
+            bytes += Integer.BYTES + (bitmaps[i] != null ? WORDS * Long.BYTES : arrays[i].length * Short.BYTES);
+        }
+        return bytes;
+    }
+
+    public DayBitmap copy() {
+        DayBitmap copy = new DayBitmap();
+        copy.or(this);
+        return copy;
+    }
+
+    private int insertChunk(int at, int key) {
+        if (chunks == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            arrays = Arrays.copyOf(arrays, capacity);
+            bitmaps = Arrays.copyOf(bitmaps, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+        }
+        System.arraycopy(keys, at, keys, at + 1, chunks - at);
+        System.arraycopy(arrays, at, arrays, at + 1, chunks - at);
+        System.arraycopy(bitmaps, at, bitmaps, at + 1, chunks - at);
+        System.arraycopy(sizes, at, sizes, at + 1, chunks - at);
+        keys[at] = key;
+        arrays[at] = new short[4];
+        bitmaps[at] = null;
+        sizes[at] = 0;
+        chunks++;
+        return at;
+    }
+
+    /**
+     * The chunk as a fresh 16-word bitmap.
+     */
+    private long[] words(int chunk) {
+        if (bitmaps[chunk] != null) {
+            return bitmaps[chunk].clone();
+        }
+        long[] words = new long[WORDS];
+        short[] array = arrays[chunk];
+        for (int i = 0; i < sizes[chunk]; i++) {
+            words[array[i] >>> 6] |= 1L << array[i];
+        }
+        return words;
+    }
+
+    private void store(int chunk, long[] words, int size) {
+        sizes[chunk] = size;
+        if (size > ARRAY_MAX) {
+            bitmaps[chunk] = words;
+            arrays[chunk] = null;
+            return;
+        }
+        short[] array = new short[Math.max(4, size)];
+        int i = 0;
+        for (int w = 0; w < WORDS; w++) {
+            long word = words[w];
+            while (word != 0) {
+                array[i++] = (short) (w * Long.SIZE + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        arrays[chunk] = array;
+        bitmaps[chunk] = null;
+    }
+
+    /**
+     * Bits of word {@code w} that fall within the chunk offsets {@code lo..hi}.
+     */
+    private static long mask(int w, int lo, int hi) {
+        int first = Math.max(lo, w * Long.SIZE) - w * Long.SIZE;
+        int last = Math.min(hi, w * Long.SIZE + 63) - w * Long.SIZE;
+        long upTo = last == 63 ? -1L : (1L << (last + 1)) - 1;
+        return upTo & (-1L << first);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.hotelpricingproject.coverage;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.hotelpricingproject.queue.ScrapeWorkQueue;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * Queues targeted re-scrapes for the gaps in every known series: check-in dates from today to
+ * {@code horizonDays} ahead that have no price scraped in the last {@code maxAgeDays} days. Only
+ * the missing dates go to the {@link ScrapeWorkQueue}, where the worker nodes pick them up; dates
+ * already queued or leased are left as they are.
+ */
+public class GapRescheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(GapRescheduler.class);
+
+    private final CoverageIndex coverageIndex;
+    private final ScrapeWorkQueue workQueue;
+    private final int horizonDays;
+    private final int maxAgeDays;
+    private final int minGapDays;
+
+    public GapRescheduler(CoverageIndex coverageIndex, ScrapeWorkQueue workQueue, int horizonDays, int maxAgeDays,
+                          int minGapDays) {
+        this.coverageIndex = coverageIndex;
+        this.workQueue = workQueue;
+        this.horizonDays = horizonDays;
+        this.maxAgeDays = maxAgeDays;
+        this.minGapDays = minGapDays;
+    }
+
+    @Scheduled(cron = "${hotel.coverage.rescrape.cron:0 45 3 * * *}")
+    public void rescrapeGaps() {
+        try {
+            int queued = rescrapeGaps(LocalDate.now());
+            log.info("Queued {} re-scrapes for coverage gaps", queued);
+        } catch (RuntimeException e) {
+            log.error("Queueing coverage gaps failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the number of units that became queued
+     */
+    public int rescrapeGaps(LocalDate today) {
+        int queued = 0;
+        for (CoverageIndex.SeriesKey series : coverageIndex.series()) {
+            List<PageKey> units = coverageIndex.gapUnits(series.hotelName(), series.city(), series.nights(),
+                    series.guests(), today, today.plusDays(horizonDays), today.minusDays(maxAgeDays), minGapDays);
+            if (!units.isEmpty()) {
+                queued += workQueue.enqueue(units);
+            }
+        }
+        return queued;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.hotelpricingproject.currency;
+
+import java.util.Currency;
+
+/**
+ * Reads the currency off a price label as Booking.com renders it: an ISO code next to the amount
+ * ("AED 1,234", "540 CHF") or a symbol ("US$", "€", "£"). Like {@link PriceTokenizer} it walks the
+ * characters without building any string, so it adds no garbage to the price path. A code only
+ * counts when it is a word of its own directly before or after the first number, so capitals
+ * elsewhere in the label ("ALL TAXES INCLUDED") are not read as one. Prefixed dollar signs are
+ * checked before the bare "$", which the site only shows for US dollars.
+ */
+public final class CurrencyDetector {
+
+    // Longest first, so "US$" is not read as "$" and "CN¥" not as "¥"
+    private static final String[] SYMBOLS = {
+        "US$", "CA$", "AU$", "NZ$", "HK$", "SG$", "MX$", "CN¥", "R$", "C$", "A$", "S$", "zł", "Kč",
+        "€", "£", "¥", "₹", "₩", "฿", "₺", "₪", "$"};
+    private static final String[] SYMBOL_CODES = {
+        "USD", "CAD", "AUD", "NZD", "HKD", "SGD", "MXN", "CNY", "BRL", "CAD", "AUD", "SGD", "PLN", "CZK",
+        "EUR", "GBP", "JPY", "INR", "KRW", "THB", "TRY", "ILS", "USD"};
+
+    // Every ISO 4217 code the JDK knows, indexed by its three letters, so a lookup allocates nothing
+    private static final String[] ISO_CODES = new String[26 * 26 * 26];
+
+    static {
+        for (Currency currency : Currency.getAvailableCurrencies()) {
+            String code = currency.getCurrencyCode();
+            int index = codeIndex(code, 0);
+            if (index >= 0) {
+                ISO_CODES[index] = code;
+            }
+        }
+    }
+
+    private CurrencyDetector() {
+    }
+
+    /**
+     * The ISO 4217 code of the currency in {@code text}, or null when it names none.
+     */
+    public static String detect(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        String code = codeNextToNumber(text);
+        if (code != null) {
+            return code;
+        }
+        for (int i = 0; i < SYMBOLS.length; i++) {
+            if (text.contains(SYMBOLS[i])) {
+                return SYMBOL_CODES[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The ISO code standing as its own word right before or right after the first number, spaces
+     * aside.
+     */
+    private static String codeNextToNumber(String text) {
+        int length = text.length();
+        int start = 0;
+        while (start < length && !isDigit(text.charAt(start))) {
+            start++;
+        }
+        if (start == length) {
+            return null;
+        }
+        int end = start;
+        while (end < length && (isDigit(text.charAt(end))
+                || (isSeparator(text.charAt(end)) && end + 1 < length && isDigit(text.charAt(end + 1))))) {
+            end++;
+        }
+
+        int before = start;
+        while (before > 0 && isSpace(text.charAt(before - 1))) {
+            before--;
+        }
+        if (before >= 3 && (before == 3 || !isLetter(text.charAt(before - 4)))) {
+            String code = isoCode(text, before - 3);
+            if (code != null) {
+                return code;
+            }
+        }
+
+        int after = end;
+        while (after < length && isSpace(text.charAt(after))) {
+            after++;
+        }
+        if (after + 3 <= length && (after + 3 == length || !isLetter(text.charAt(after + 3)))) {
+            return isoCode(text, after);
+        }
+        return null;
+    }
+
+    private static String isoCode(String text, int from) {
+        int index = codeIndex(text, from);
+        return index < 0 ? null : ISO_CODES[index];
+    }
+
+    private static int codeIndex(String text, int from) {
+        int index = 0;
+        for (int i = from; i < from + 3; i++) {
+            char c = text.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            index = index * 26 + (c - 'A');
+        }
+        return index;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == ',' || c == '.' || c == '\'' || c == '\u2019' || isSpace(c);
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\u00A0' || c == '\u202F';
+    }
+
+    private static boolean isLetter(char c) {
+        return Character.isLetter(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.hotelpricingproject.currency;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Local FX table: the value of one unit of each currency in {@code hotel.fx.base}, given as
+ * {@code hotel.fx.rates=EUR:1.08,GBP:1.27,...}. Rates are fixed until the property is changed,
+ * which is what a comparison across cities needs: a price difference should come from the
+ * hotel, not from the day the rate was looked up. Prices scraped before currencies were recorded
+ * are taken to be in {@code hotel.fx.default-currency}.
+ * <p>
+ * Each currency has a dense index, so conversions over many rows are array lookups.
+ */
+@Component
+public class FxRates {
+
+    private final String base;
+    private final String defaultCurrency;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private String[] codes = new String[0];
+    private double[] inBase = new double[0];
+
+    public FxRates(@Value("${hotel.fx.base:USD}") String base,
+                   @Value("${hotel.fx.rates:}") String rates,
+                   @Value("${hotel.fx.default-currency:USD}") String defaultCurrency) {
+        this.base = base;
+        this.defaultCurrency = defaultCurrency;
+        add(base, 1.0);
+        for (String entry : rates.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("FX rate must be CODE:value, got '" + entry.trim() + "'");
+            }
+            double rate = Double.parseDouble(parts[1].trim());
+            if (!(rate > 0)) {
+                throw new IllegalArgumentException("FX rate for " + parts[0].trim() + " must be positive");
+            }
+            add(parts[0].trim(), rate);
+        }
+        if (index(defaultCurrency) < 0) {
+            throw new IllegalArgumentException("No FX rate for the default currency " + defaultCurrency);
+        }
+    }
+
+    private void add(String code, double rate) {
+        Integer existing = indexes.get(code);
+        if (existing != null) {
+            inBase[existing] = rate;
+            return;
+        }
+        indexes.put(code, codes.length);
+        codes = Arrays.copyOf(codes, codes.length + 1);
+        inBase = Arrays.copyOf(inBase, inBase.length + 1);
+        codes[codes.length - 1] = code;
+        inBase[inBase.length - 1] = rate;
+    }
+
+    /**
+     * The currency's index, or -1 when the table has no rate for it. Null means the default
+     * currency.
+     */
+    public int index(String currency) {
+        Integer index = indexes.get(currency == null ? defaultCurrency : currency);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Multipliers from every currency, by index, into {@code target}.
+     */
+    public double[] factorsTo(String target) {
+        int to = require(target);
+        double[] factors = new double[inBase.length];
+        for (int i = 0; i < factors.length; i++) {
+            factors[i] = inBase[i] / inBase[to];
+        }
+        return factors;
+    }
+
+    public double convert(double amount, String from, String to) {
+        return amount * inBase[require(from)] / inBase[require(to)];
+    }
+
+    private int require(String currency) {
+        int index = index(currency);
+        if (index < 0) {
+            throw new IllegalArgumentException("No FX rate for " + currency);
+        }
+        return index;
+    }
+
+    public String getBase() {
+        return base;
+    }
+
+    public String getDefaultCurrency() {
+        return defaultCurrency;
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.hotelpricingproject.currency;
+
+/**
+ * Reads the amount off a price label in one pass over its characters, without building any
+ * intermediate string, and returns it as whole cents. Currency symbols, codes and words around
+ * the number are skipped; only the first number counts, so a range such as "US$120 - US$150"
+ * reads as its lower end.
+ *
+ * <p>Inside the number, commas, dots, apostrophes and (non-breaking or thin) spaces may group
+ * digits. The last comma or dot is the decimal separator when one or two digits follow it, or
+ * when the other of the two was used for grouping before it ("1.234,5", "1,234.567"); otherwise
+ * it groups thousands, so "1.234" and "1,234" both read as 1234. Spaces and apostrophes only
+ * group when exactly three digits follow them. More than two decimals are rounded half up.
+ */
+public final class PriceTokenizer {
+
+    /** Returned when the text holds no number or one too long to be a price. */
+    public static final long NONE = -1;
+
+    // 10^16 cents still fits a long with room to spare
+    private static final int MAX_DIGITS = 16;
+
+    private PriceTokenizer() {
+    }
+
+    /**
+     * The first price in {@code text} in cents, or {@link #NONE}.
+     */
+    public static long parseCents(CharSequence text) {
+        if (text == null) {
+            return NONE;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length && !isDigit(text.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return NONE;
+        }
+        long value = 0;
+        int digits = 0;
+        int digitsAfterSeparator = 0;
+        char lastSeparator = 0;
+        boolean otherMarkBefore = false;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                if (++digits > MAX_DIGITS) {
+                    return NONE;
+                }
+                value = value * 10 + (c - '0');
+                digitsAfterSeparator++;
+                i++;
+            } else if ((c == ',' || c == '.') && i + 1 < length && isDigit(text.charAt(i + 1))) {
+                if (lastSeparator != 0 && lastSeparator != c && isMark(lastSeparator)) {
+                    otherMarkBefore = true;
+                }
+                lastSeparator = c;
+                digitsAfterSeparator = 0;
+                i++;
+            } else if (isGroupingOnly(c) && groupOfThreeAt(text, i + 1)) {
+                lastSeparator = c;
+                digitsAfterSeparator = 0;
+                i++;
+            } else {
+                break;
+            }
+        }
+        if (!isMark(lastSeparator) || (digitsAfterSeparator > 2 && !otherMarkBefore)) {
+            return value * 100;
+        }
+        return switch (digitsAfterSeparator) {
+            case 1 -> value * 10;
+            case 2 -> value;
+            default -> roundHalfUp(value, digitsAfterSeparator - 2);
+        };
+    }
+
+    private static long roundHalfUp(long value, int dropDigits) {
+        long divisor = 1;
+        for (int d = 0; d < dropDigits; d++) {
+            divisor *= 10;
+        }
+        return (value + divisor / 2) / divisor;
+    }
+
+    private static boolean groupOfThreeAt(CharSequence text, int start) {
+        int end = start + 3;
+        if (end > text.length()) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return end == text.length() || !isDigit(text.charAt(end));
+    }
+
+    private static boolean isMark(char c) {
+        return c == ',' || c == '.';
+    }
+
+    private static boolean isGroupingOnly(char c) {
+        return c == '\'' || c == '\u2019' || c == ' ' || c == '\u00A0' || c == '\u202F';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.hotelpricingproject.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The price for one check-in date: scraped, or interpolated from the nearest scraped dates
+ * around it when that date was not sampled.
+ */
+public class DailyPrice {
+
+    private final LocalDate checkInDate;
+    private final BigDecimal price;
+    private final boolean interpolated;
+
+    public DailyPrice(LocalDate checkInDate, BigDecimal price, boolean interpolated) {
+        this.checkInDate = checkInDate;
+        this.price = price;
+        this.interpolated = interpolated;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public boolean isInterpolated() {
+        return interpolated;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.hotelpricingproject.dto;
+
+import java.time.LocalDate;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * One tile of a batch lowest-prices request. Dates are optional and inclusive;
+ * a missing bound leaves that side of the range open. The stay defaults to one
+ * night for two adults.
+ */
+public class LowestPriceQuery {
+
+    public static final int DEFAULT_LIMIT = 10;
+
+    private String hotelName;
+    private String city;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer limit;
+    private Integer nights;
+    private Integer guests;
+
+    public LowestPriceQuery() {
+    }
+
+    public LowestPriceQuery(String hotelName, String city, LocalDate startDate, LocalDate endDate, Integer limit) {
+        this.hotelName = hotelName;
+        this.city = city;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.limit = limit;
+    }
+
+    public String getHotelName() {
+        return hotelName;
+    }
+
+    public void setHotelName(String hotelName) {
+        this.hotelName = hotelName;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    public Integer getNights() {
+        return nights;
+    }
+
+    public void setNights(Integer nights) {
+        this.nights = nights;
+    }
+
+    public Integer getGuests() {
+        return guests;
+    }
+
+    public void setGuests(Integer guests) {
+        this.guests = guests;
+    }
+
+    public int effectiveNights() {
+        return nights != null ? nights : HotelPrice.DEFAULT_NIGHTS;
+    }
+
+    public int effectiveGuests() {
+        return guests != null ? guests : HotelPrice.DEFAULT_GUESTS;
+    }
+
+    public int effectiveLimit() {
+        return limit != null ? limit : DEFAULT_LIMIT;
+    }
+}
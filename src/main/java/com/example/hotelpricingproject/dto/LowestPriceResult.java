@@ -0,0 +1,27 @@
+package com.example.hotelpricingproject.dto;
+
+import java.util.List;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * The lowest prices for one {@link LowestPriceQuery}, cheapest first.
+ */
+public class LowestPriceResult {
+
+    private final LowestPriceQuery query;
+    private final List<HotelPrice> prices;
+
+    public LowestPriceResult(LowestPriceQuery query, List<HotelPrice> prices) {
+        this.query = query;
+        this.prices = prices;
+    }
+
+    public LowestPriceQuery getQuery() {
+        return query;
+    }
+
+    public List<HotelPrice> getPrices() {
+        return prices;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.hotelpricingproject.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * The forecast price for one check-in date, with the band it is expected to fall in at the
+ * requested confidence.
+ */
+public class PriceForecast {
+
+    private final LocalDate checkInDate;
+    private final BigDecimal price;
+    private final BigDecimal lower;
+    private final BigDecimal upper;
+
+    public PriceForecast(LocalDate checkInDate, BigDecimal price, BigDecimal lower, BigDecimal upper) {
+        this.checkInDate = checkInDate;
+        this.price = price;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public BigDecimal getLower() {
+        return lower;
+    }
+
+    public BigDecimal getUpper() {
+        return upper;
+    }
+}
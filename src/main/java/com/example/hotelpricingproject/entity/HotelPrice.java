@@ -2,18 +2,35 @@ package com.example.hotelpricingproject.entity;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import com.example.hotelpricingproject.cache.PriceDataVersionListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
+/**
+ * One scraped price: the total Booking.com showed for {@code nights} nights from
+ * {@code checkInDate} for {@code guests} adults in one room. Rows scraped before stays and
+ * occupancy were recorded are one night for two adults, the site's default search.
+ */
 @Entity
-@Table(name = "hotel_prices")
+@Table(name = "hotel_prices", indexes = @Index(name = "idx_hotel_prices_stay",
+        columnList = "hotel_name, city, nights, guests, check_in_date"))
+@EntityListeners(PriceDataVersionListener.class)
 public class HotelPrice {
 
+    public static final int DEFAULT_NIGHTS = 1;
+    public static final int DEFAULT_GUESTS = 2;
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private Long id;
@@ -30,9 +47,21 @@ public class HotelPrice {
     @Column(nullable = false)
     private LocalDate checkOutDate;
 
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private int nights = DEFAULT_NIGHTS;
+
+    @Column(nullable = false)
+    @ColumnDefault("2")
+    private int guests = DEFAULT_GUESTS;
+
     @Column(nullable = false)
     private BigDecimal price;
 
+    // ISO 4217; null for rows scraped before currencies were recorded
+    @Column(length = 3)
+    private String currency;
+
     @Column
     private String rating;
 
@@ -49,16 +78,32 @@ public class HotelPrice {
 
     public HotelPrice(String hotelName, String city, LocalDate checkInDate, LocalDate checkOutDate, 
                       BigDecimal price, String rating, String address) {
+        this(hotelName, city, checkInDate, checkOutDate, DEFAULT_GUESTS, price, rating, address);
+    }
+
+    /**
+     * The stay length is taken from the check-in and check-out dates.
+     */
+    public HotelPrice(String hotelName, String city, LocalDate checkInDate, LocalDate checkOutDate, int guests,
+                      BigDecimal price, String rating, String address) {
         this.hotelName = hotelName;
         this.city = city;
         this.checkInDate = checkInDate;
         this.checkOutDate = checkOutDate;
+        this.nights = nightsBetween(checkInDate, checkOutDate);
+        this.guests = guests;
         this.price = price;
         this.rating = rating;
         this.address = address;
         this.scrapedDate = LocalDate.now();
     }
 
+    // The stay length the dates describe; one night until both are known
+    private static int nightsBetween(LocalDate checkInDate, LocalDate checkOutDate) {
+        return checkInDate != null && checkOutDate != null && checkOutDate.isAfter(checkInDate)
+                ? (int) ChronoUnit.DAYS.between(checkInDate, checkOutDate) : DEFAULT_NIGHTS;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -90,6 +135,7 @@ public class HotelPrice {
 
     public void setCheckInDate(LocalDate checkInDate) {
         this.checkInDate = checkInDate;
+        this.nights = nightsBetween(checkInDate, checkOutDate);
     }
 
     public LocalDate getCheckOutDate() {
@@ -98,6 +144,23 @@ public class HotelPrice {
 
     public void setCheckOutDate(LocalDate checkOutDate) {
         this.checkOutDate = checkOutDate;
+        this.nights = nightsBetween(checkInDate, checkOutDate);
+    }
+
+    public int getNights() {
+        return nights;
+    }
+
+    public void setNights(int nights) {
+        this.nights = nights;
+    }
+
+    public int getGuests() {
+        return guests;
+    }
+
+    public void setGuests(int guests) {
+        this.guests = guests;
     }
 
     public BigDecimal getPrice() {
@@ -108,6 +171,14 @@ public class HotelPrice {
         this.price = price;
     }
 
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
     public String getRating() {
         return rating;
     }
@@ -128,6 +199,10 @@ public class HotelPrice {
         return scrapedDate;
     }
 
+    public void setScrapedDate(LocalDate scrapedDate) {
+        this.scrapedDate = scrapedDate;
+    }
+
     @Override
     public String toString() {
         return "HotelPrice{" +
@@ -136,7 +211,10 @@ public class HotelPrice {
                 ", city='" + city + '\'' +
                 ", checkInDate=" + checkInDate +
                 ", checkOutDate=" + checkOutDate +
+                ", nights=" + nights +
+                ", guests=" + guests +
                 ", price=" + price +
+                ", currency='" + currency + '\'' +
                 ", rating='" + rating + '\'' +
                 ", address='" + address + '\'' +
                 ", scrapedDate=" + scrapedDate +
@@ -0,0 +1,20 @@
+package com.example.hotelpricingproject.event;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Published after a scraped {@link HotelPrice} has been persisted.
+ * Listeners run on the scraping thread, so they must stay cheap.
+ */
+public class HotelPriceSavedEvent {
+
+    private final HotelPrice price;
+
+    public HotelPriceSavedEvent(HotelPrice price) {
+        this.price = price;
+    }
+
+    public HotelPrice getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.hotelpricingproject.execution;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The cookie jar browser sessions share, so the consent banner is answered once rather than on
+ * the first page of every session. The first session to accept the banner leaves its cookies
+ * here; later sessions get them added on the site's landing page, before their first search,
+ * and skip the banner wait from then on. With a file the jar outlives restarts.
+ */
+public class BrowserProfileStore {
+
+    private static final Logger log = LoggerFactory.getLogger(BrowserProfileStore.class);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Path file;
+    private final Set<WebDriver> prepared = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private volatile List<StoredCookie> cookies;
+
+    /**
+     * @param file where the jar is kept, or null/blank to keep it in memory only
+     */
+    public BrowserProfileStore(String file) {
+        this.file = file == null || file.isBlank() ? null : Path.of(file);
+        this.cookies = load();
+    }
+
+    /**
+     * Whether a session has been past the consent banner and left its cookies.
+     */
+    public boolean hasConsent() {
+        return cookies != null;
+    }
+
+    /**
+     * Makes sure {@code session} carries the stored cookies, adding them for the page it is on
+     * the first time it is seen.
+     *
+     * @return false when nothing is stored yet and the banner still has to be answered
+     */
+    public boolean restore(WebDriver session) {
+        if (prepared.contains(session)) {
+            return true;
+        }
+        List<StoredCookie> stored = cookies;
+        if (stored == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        for (StoredCookie cookie : stored) {
+            if (cookie.expiry() != null && cookie.expiry() <= now) {
+                continue;
+            }
+            try {
+                session.manage().addCookie(cookie.toCookie());
+            } catch (WebDriverException e) {
+                // Another domain than the page the session is on
+                log.debug("Skipping cookie {}: {}", cookie.name(), e.getMessage());
+            }
+        }
+        prepared.add(session);
+        return true;
+    }
+
+    /**
+     * Keeps the cookies of a session that has just answered the banner.
+     */
+    public synchronized void capture(WebDriver session) {
+        List<StoredCookie> captured = new ArrayList<>();
+        for (Cookie cookie : session.manage().getCookies()) {
+            captured.add(StoredCookie.of(cookie));
+        }
+        cookies = List.copyOf(captured);
+        prepared.add(session);
+        save(cookies);
+    }
+
+    private List<StoredCookie> load() {
+        if (file == null || !Files.exists(file)) {
+            return null;
+        }
+        try {
+            return List.copyOf(mapper.readValue(file.toFile(), new TypeReference<List<StoredCookie>>() { }));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable cookie jar {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void save(List<StoredCookie> jar) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            mapper.writeValue(temp.toFile(), jar);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not save cookie jar {}: {}", file, e.getMessage());
+        }
+    }
+
+    record StoredCookie(String name, String value, String domain, String path, Long expiry, boolean secure,
+                        boolean httpOnly, String sameSite) {
+
+        static StoredCookie of(Cookie cookie) {
+            return new StoredCookie(cookie.getName(), cookie.getValue(), cookie.getDomain(), cookie.getPath(),
+                    cookie.getExpiry() == null ? null : cookie.getExpiry().getTime(), cookie.isSecure(),
+                    cookie.isHttpOnly(), cookie.getSameSite());
+        }
+
+        Cookie toCookie() {
+            Cookie.Builder builder = new Cookie.Builder(name, value)
+                    .domain(domain)
+                    .path(path)
+                    .isSecure(secure)
+                    .isHttpOnly(httpOnly);
+            if (expiry != null) {
+                builder.expiresOn(new Date(expiry));
+            }
+            if (sameSite != null) {
+                builder.sameSite(sameSite);
+            }
+            return builder.build();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.hotelpricingproject.execution;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caps how many browser sessions are open at once and reuses idle ones between work units.
+ * A unit blocks in {@link #borrow} until a permit is free, which is cheap on a virtual thread.
+ */
+public class BrowserSessionPool {
+
+    private static final Logger log = LoggerFactory.getLogger(BrowserSessionPool.class);
+
+    private final int capacity;
+    private final Semaphore permits;
+    private final Deque<WebDriver> idle = new ArrayDeque<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    public BrowserSessionPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity, true);
+    }
+
+    /**
+     * Takes an idle session or opens one with {@code factory}, waiting while all are in use.
+     */
+    public WebDriver borrow(Supplier<WebDriver> factory) {
+        return borrow(factory, true);
+    }
+
+    /**
+     * Opens a new session with {@code factory} under a permit, leaving idle ones where they are.
+     */
+    protected WebDriver borrowNew(Supplier<WebDriver> factory) {
+        return borrow(factory, false);
+    }
+
+    private WebDriver borrow(Supplier<WebDriver> factory, boolean reuse) {
+        permits.acquireUninterruptibly();
+        try {
+            WebDriver session = null;
+            if (reuse) {
+                synchronized (idle) {
+                    session = idle.pollFirst();
+                }
+            }
+            if (session == null) {
+                session = factory.get();
+                open.incrementAndGet();
+            }
+            return session;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a session; a broken one is quit instead of going back to the pool.
+     */
+    public void release(WebDriver session, boolean healthy) {
+        try {
+            if (healthy) {
+                synchronized (idle) {
+                    idle.addFirst(session);
+                }
+            } else {
+                quit(session);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Quits every idle session, e.g. once a run is done. Sessions in use are left alone.
+     */
+    public void closeIdle() {
+        trimIdle(0);
+    }
+
+    /**
+     * Quits every idle session when the application stops.
+     */
+    public void shutdown() {
+        trimIdle(0);
+    }
+
+    /**
+     * Quits idle sessions until at most {@code keep} are left, the least recently used first.
+     */
+    protected void trimIdle(int keep) {
+        while (true) {
+            WebDriver session;
+            synchronized (idle) {
+                session = idle.size() > keep ? idle.pollLast() : null;
+            }
+            if (session == null) {
+                return;
+            }
+            quit(session);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getOpenSessions() {
+        return open.get();
+    }
+
+    public int getIdle() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    public int getInUse() {
+        return capacity - permits.availablePermits();
+    }
+
+    private void quit(WebDriver session) {
+        open.decrementAndGet();
+        try {
+            session.quit();
+        } catch (RuntimeException e) {
+            log.debug("Error quitting browser session: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hotelpricingproject.execution;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.hotelpricingproject.service.HotelScraperService;
+
+/**
+ * Opens the warm browser sessions as soon as the application is ready, before the first scrape
+ * asks for one. Only present on scraping nodes with {@code hotel.scrape.warm-sessions} above 0.
+ */
+@Component
+@ConditionalOnExpression("${hotel.scraper.enabled:true} and ${hotel.scrape.warm-sessions:0} > 0")
+public class BrowserWarmUp {
+
+    private final HotelScraperService scraperService;
+
+    public BrowserWarmUp(@Lazy HotelScraperService scraperService) {
+        this.scraperService = scraperService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scraperService.warmUp();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hotelpricingproject.execution;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Bounds concurrent writes. SQLite has a single writer, so with many scrape units in flight
+ * letting them queue here is cheaper than letting them pile up on the database lock.
+ */
+public class DatabaseGate {
+
+    private final Semaphore permits;
+
+    public DatabaseGate(int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be at least 1");
+        }
+        this.permits = new Semaphore(permits, true);
+    }
+
+    public <T> T call(Supplier<T> work) {
+        permits.acquireUninterruptibly();
+        try {
+            return work.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.hotelpricingproject.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+import com.example.hotelpricingproject.metrics.ScrapeMetrics;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.metrics.ScrapePhase;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * Buffers a run's scraped prices and saves them in one transaction per batch through the
+ * {@link DatabaseGate}, instead of committing row by row. A batch is written once it holds
+ * {@code batchSize} prices or its oldest price has waited {@code maxDelayNanos}, checked on the
+ * {@code timer} so a quiet run still saves, and live feeds see prices shortly after they are scraped.
+ * <p>
+ * A unit is reported {@link ScrapeOutcome#FOUND} to the listener, and its
+ * {@link HotelPriceSavedEvent} goes out, only once its batch has committed. When the batch fails
+ * every unit in it is reported {@link ScrapeOutcome#ERROR}, so a run's found count is the number
+ * of prices actually saved. Each scrape run owns one writer and {@linkplain #flush flushes} it at
+ * the end.
+ */
+public class PriceBatchWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceBatchWriter.class);
+
+    private final HotelPriceRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DatabaseGate databaseGate;
+    private final ScrapeMetrics scrapeMetrics;
+    private final ScheduledExecutorService timer;
+    private final ScrapeListener listener;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    // Held while a batch is saved, so a flush returns only after every earlier batch has settled
+    private final Object writing = new Object();
+
+    private List<Pending> pending;
+    private long oldestPendingNanos;
+    private ScheduledFuture<?> deadline;
+    private int written;
+
+    public PriceBatchWriter(HotelPriceRepository repository, ApplicationEventPublisher eventPublisher,
+                            DatabaseGate databaseGate, ScrapeMetrics scrapeMetrics, ScheduledExecutorService timer,
+                            int batchSize, long maxDelayNanos, ScrapeListener listener) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.databaseGate = databaseGate;
+        this.scrapeMetrics = scrapeMetrics;
+        this.timer = timer;
+        this.listener = listener;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelayNanos;
+        this.pending = new ArrayList<>(batchSize);
+    }
+
+    /**
+     * Queues a unit's price; the calling unit writes the batch when this one fills it or makes it due.
+     */
+    public void add(PageKey key, HotelPrice price) {
+        List<Pending> due = null;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (pending.isEmpty()) {
+                oldestPendingNanos = now;
+                deadline = timer.schedule(this::flushIfDue, maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+            pending.add(new Pending(key, price));
+            if (pending.size() >= batchSize || now - oldestPendingNanos >= maxDelayNanos) {
+                due = takePending();
+            }
+        }
+        if (due != null) {
+            write(due);
+        }
+    }
+
+    /**
+     * Writes whatever is still buffered and waits for any batch already being written.
+     */
+    public void flush() {
+        List<Pending> due;
+        synchronized (this) {
+            due = takePending();
+        }
+        write(due);
+    }
+
+    public synchronized int getWritten() {
+        return written;
+    }
+
+    private void flushIfDue() {
+        List<Pending> due = null;
+        synchronized (this) {
+            // A batch taken since this was scheduled starts its own deadline
+            if (!pending.isEmpty() && System.nanoTime() - oldestPendingNanos >= maxDelayNanos) {
+                due = takePending();
+            }
+        }
+        if (due != null) {
+            try {
+                write(due);
+            } catch (RuntimeException e) {
+                log.error("Timed flush of {} prices failed: {}", due.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<Pending> takePending() {
+        List<Pending> due = pending;
+        pending = new ArrayList<>(batchSize);
+        if (deadline != null) {
+            deadline.cancel(false);
+            deadline = null;
+        }
+        return due;
+    }
+
+    private void write(List<Pending> batch) {
+        synchronized (writing) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            List<HotelPrice> prices = batch.stream().map(Pending::price).toList();
+            try {
+                scrapeMetrics.time(ScrapePhase.PERSIST, () -> databaseGate.call(() -> repository.saveAll(prices)));
+            } catch (RuntimeException e) {
+                log.error("Failed to save a batch of {} prices: {}", batch.size(), e.getMessage());
+                for (Pending unit : batch) {
+                    listener.onUnit(unit.key(), ScrapeOutcome.ERROR, null);
+                }
+                return;
+            }
+            synchronized (this) {
+                written += batch.size();
+            }
+            for (Pending unit : batch) {
+                listener.onUnit(unit.key(), ScrapeOutcome.FOUND, unit.price());
+                eventPublisher.publishEvent(new HotelPriceSavedEvent(unit.price()));
+            }
+        }
+    }
+
+    private record Pending(PageKey key, HotelPrice price) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.hotelpricingproject.execution;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Count, minimum, mean and the few cheapest prices of a stream of prices, in constant space: the
+ * cheapest ones sit in a heap of at most {@code top} entries with the dearest on top, so each new
+ * price either replaces it or is dropped. Safe to feed from several scrape units at once.
+ */
+public class RunningPriceStats {
+
+    public static final int DEFAULT_TOP = 3;
+
+    // Cheapest first, ties to the earlier check-in
+    private static final Comparator<HotelPrice> CHEAPEST_FIRST = Comparator.comparing(HotelPrice::getPrice)
+            .thenComparing(HotelPrice::getCheckInDate);
+
+    private final int top;
+    private final PriorityQueue<HotelPrice> lowest;
+    private long count;
+    private BigDecimal min;
+    private BigDecimal sum = BigDecimal.ZERO;
+
+    public RunningPriceStats() {
+        this(DEFAULT_TOP);
+    }
+
+    public RunningPriceStats(int top) {
+        if (top < 1) {
+            throw new IllegalArgumentException("top must be at least 1");
+        }
+        this.top = top;
+        this.lowest = new PriorityQueue<>(top + 1, CHEAPEST_FIRST.reversed());
+    }
+
+    public synchronized void add(HotelPrice price) {
+        BigDecimal amount = price.getPrice();
+        count++;
+        min = min == null || amount.compareTo(min) < 0 ? amount : min;
+        sum = sum.add(amount);
+        if (lowest.size() < top) {
+            lowest.add(price);
+        } else if (CHEAPEST_FIRST.compare(price, lowest.peek()) < 0) {
+            lowest.poll();
+            lowest.add(price);
+        }
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * The lowest price, null before the first one.
+     */
+    public synchronized BigDecimal getMin() {
+        return min;
+    }
+
+    /**
+     * The mean price to the cent, null before the first one.
+     */
+    public synchronized BigDecimal getMean() {
+        return count == 0 ? null : sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The {@code top} cheapest prices so far, cheapest first.
+     */
+    public synchronized List<HotelPrice> getLowest() {
+        List<HotelPrice> sorted = new ArrayList<>(lowest);
+        sorted.sort(CHEAPEST_FIRST);
+        return sorted;
+    }
+}
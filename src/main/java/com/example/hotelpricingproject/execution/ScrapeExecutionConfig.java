@@ -0,0 +1,60 @@
+package com.example.hotelpricingproject.execution;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import com.example.hotelpricingproject.metrics.ScrapeMetrics;
+
+/**
+ * Runs each (city, date) scrape unit on its own thread. With {@code spring.threads.virtual.enabled=true}
+ * on Java 21 that is a virtual thread per unit and the pool/gate semaphores provide the back-pressure;
+ * otherwise a platform thread pool sized to the browser capacity is used. Nothing here is built until
+ * the first scrape.
+ */
+@Configuration
+@Lazy
+public class ScrapeExecutionConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ScrapeExecutionConfig.class);
+
+    @Bean(destroyMethod = "shutdown")
+    public ScrapeUnitExecutor scrapeUnitExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                                 @Value("${hotel.scrape.browser-sessions:4}") int browserSessions) {
+        ScrapeUnitExecutor executor;
+        if (virtualThreads && Runtime.version().feature() >= 21) {
+            executor = ScrapeUnitExecutor.virtualThreads();
+        } else {
+            if (virtualThreads) {
+                log.warn("spring.threads.virtual.enabled needs Java 21, running scrape units on platform threads");
+            }
+            executor = ScrapeUnitExecutor.platformThreads(browserSessions);
+        }
+        log.info("Scrape units run on {}", executor);
+        return executor;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BrowserSessionPool browserSessionPool(@Value("${hotel.scrape.browser-sessions:4}") int browserSessions,
+                                                 @Value("${hotel.scrape.warm-sessions:0}") int warmSessions,
+                                                 ScrapeMetrics scrapeMetrics) {
+        BrowserSessionPool pool = warmSessions > 0
+                ? new WarmBrowserSessionPool(browserSessions, warmSessions)
+                : new BrowserSessionPool(browserSessions);
+        scrapeMetrics.monitor(pool);
+        return pool;
+    }
+
+    @Bean
+    public BrowserProfileStore browserProfileStore(@Value("${hotel.scrape.cookie-jar:}") String cookieJar) {
+        return new BrowserProfileStore(cookieJar);
+    }
+
+    @Bean
+    public DatabaseGate databaseGate(@Value("${hotel.scrape.db-permits:1}") int dbPermits) {
+        return new DatabaseGate(dbPermits);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hotelpricingproject.execution;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * Told about each (hotel, city, date) unit once it is settled: a price was found, the page had
+ * none, or the unit ran out of retries. Called on the unit's own thread, so implementations must
+ * be thread-safe and cheap.
+ */
+@FunctionalInterface
+public interface ScrapeListener {
+
+    /**
+     * @param price the scraped price when {@code outcome} is {@link ScrapeOutcome#FOUND}, otherwise null
+     */
+    void onUnit(PageKey key, ScrapeOutcome outcome, HotelPrice price);
+
+    /**
+     * Tells this listener first, then {@code next}, e.g. a {@link ScrapeSummary} and the caller's own sink.
+     */
+    default ScrapeListener andThen(ScrapeListener next) {
+        return (key, outcome, price) -> {
+            onUnit(key, outcome, price);
+            next.onUnit(key, outcome, price);
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hotelpricingproject.execution;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * What a run found, kept as it goes instead of holding its prices: unit counts by how they
+ * ended, and {@link RunningPriceStats} for the whole run and per city. Its size depends on the
+ * number of cities, never on the length of the date range.
+ */
+public class ScrapeSummary implements ScrapeListener {
+
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger missed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final RunningPriceStats overall = new RunningPriceStats();
+    private final Map<String, RunningPriceStats> byCity = new ConcurrentHashMap<>();
+
+    @Override
+    public void onUnit(PageKey key, ScrapeOutcome outcome, HotelPrice price) {
+        switch (outcome) {
+            case FOUND -> {
+                found.incrementAndGet();
+                overall.add(price);
+                byCity.computeIfAbsent(key.city(), city -> new RunningPriceStats()).add(price);
+            }
+            case NOT_FOUND, PARSE_FAILURE -> missed.incrementAndGet();
+            default -> failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Dates with a price, which is the number of price records saved.
+     */
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * Dates whose page had no price for the hotel.
+     */
+    public int getMissed() {
+        return missed.get();
+    }
+
+    /**
+     * Dates that still timed out or failed after their retries.
+     */
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public RunningPriceStats getOverall() {
+        return overall;
+    }
+
+    /**
+     * Statistics per city that had at least one price, by city name.
+     */
+    public Map<String, RunningPriceStats> getByCity() {
+        return new TreeMap<>(byCity);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.hotelpricingproject.execution;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Where scrape work units run: a virtual thread per unit, a fixed platform pool, or the caller's
+ * thread. Kept as its own type rather than an {@link Executor} bean so it does not replace
+ * Spring Boot's application task executor.
+ */
+public final class ScrapeUnitExecutor {
+
+    private final Executor executor;
+    private final String description;
+
+    private ScrapeUnitExecutor(Executor executor, String description) {
+        this.executor = executor;
+        this.description = description;
+    }
+
+    /**
+     * One new virtual thread per unit. Requires Java 21.
+     */
+    public static ScrapeUnitExecutor virtualThreads() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("scrape-");
+        executor.setVirtualThreads(true);
+        return new ScrapeUnitExecutor(executor, "virtual threads");
+    }
+
+    public static ScrapeUnitExecutor platformThreads(int threads) {
+        return new ScrapeUnitExecutor(Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("scrape-")),
+                threads + " platform threads");
+    }
+
+    /**
+     * Runs units one after another on the calling thread.
+     */
+    public static ScrapeUnitExecutor callerThread() {
+        return new ScrapeUnitExecutor(Runnable::run, "caller thread");
+    }
+
+    public CompletableFuture<Void> submit(Runnable unit) {
+        return CompletableFuture.runAsync(unit, executor);
+    }
+
+    public void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
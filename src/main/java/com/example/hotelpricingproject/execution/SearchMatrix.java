@@ -0,0 +1,111 @@
+package com.example.hotelpricingproject.execution;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * The stay lengths and guest counts searched for every check-in date of a run. Each
+ * (nights, guests) pair is a {@link Stay}; a run scrapes every stay for every sampled date,
+ * sharing one browser pool so sessions, cookies and consent carry over between stays.
+ */
+public record SearchMatrix(List<Integer> nights, List<Integer> guests) {
+
+    /**
+     * One night for two adults, the site's default search.
+     */
+    public static final SearchMatrix DEFAULT = new SearchMatrix(List.of(HotelPrice.DEFAULT_NIGHTS),
+            List.of(HotelPrice.DEFAULT_GUESTS));
+
+    /**
+     * Booking.com allows up to 30 nights and 30 adults in one search.
+     */
+    static final int MAX_NIGHTS = 30;
+    static final int MAX_GUESTS = 30;
+
+    public record Stay(int nights, int guests) {
+    }
+
+    public SearchMatrix {
+        nights = distinctSorted(nights, MAX_NIGHTS, "nights");
+        guests = distinctSorted(guests, MAX_GUESTS, "guests");
+    }
+
+    /**
+     * A matrix with the default stay wherever a dimension is left out.
+     */
+    public static SearchMatrix of(List<Integer> nights, List<Integer> guests) {
+        return new SearchMatrix(nights == null || nights.isEmpty() ? DEFAULT.nights() : nights,
+                guests == null || guests.isEmpty() ? DEFAULT.guests() : guests);
+    }
+
+    public int size() {
+        return nights.size() * guests.size();
+    }
+
+    /**
+     * Every stay, most informative first: the one nearest the default search, then repeatedly
+     * the stay farthest from all those already picked (distance normalised per dimension). The
+     * corners of the matrix come early and the interior fills in last, so a run cut short still
+     * spans the whole range of stay lengths and occupancies.
+     */
+    public List<Stay> stays() {
+        List<Stay> remaining = new ArrayList<>();
+        for (int n : nights) {
+            for (int g : guests) {
+                remaining.add(new Stay(n, g));
+            }
+        }
+        List<Stay> ordered = new ArrayList<>(remaining.size());
+        Stay anchor = new Stay(HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
+        Stay first = remaining.stream().min(Comparator.comparingDouble(stay -> distance(stay, anchor))).orElseThrow();
+        remaining.remove(first);
+        ordered.add(first);
+        while (!remaining.isEmpty()) {
+            Stay next = null;
+            double farthest = -1;
+            for (Stay candidate : remaining) {
+                double nearest = Double.MAX_VALUE;
+                for (Stay picked : ordered) {
+                    nearest = Math.min(nearest, distance(candidate, picked));
+                }
+                // Strictly greater keeps the first candidate on ties, i.e. shorter stays and fewer guests
+                if (nearest > farthest) {
+                    farthest = nearest;
+                    next = candidate;
+                }
+            }
+            remaining.remove(next);
+            ordered.add(next);
+        }
+        return ordered;
+    }
+
+    private double distance(Stay a, Stay b) {
+        return Math.abs(a.nights() - b.nights()) / (double) span(nights)
+                + Math.abs(a.guests() - b.guests()) / (double) span(guests);
+    }
+
+    private static int span(List<Integer> values) {
+        return Math.max(1, values.get(values.size() - 1) - values.get(0));
+    }
+
+    private static List<Integer> distinctSorted(List<Integer> values, int max, String name) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException("At least one value is required for " + name);
+        }
+        for (Integer value : values) {
+            if (value == null || value < 1 || value > max) {
+                throw new IllegalArgumentException(name + " must be between 1 and " + max);
+            }
+        }
+        return values.stream().distinct().sorted().toList();
+    }
+
+    @Override
+    public String toString() {
+        return "nights=" + nights + " guests=" + guests;
+    }
+}
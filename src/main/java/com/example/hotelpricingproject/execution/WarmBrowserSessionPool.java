@@ -0,0 +1,80 @@
+package com.example.hotelpricingproject.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link BrowserSessionPool} that keeps {@code warmSessions} browsers open between runs and can
+ * open them ahead of time, so the first pages of a run skip the browser start, the consent banner
+ * and the cold cache. {@link #warmUp} opens the missing sessions on background threads with a
+ * factory that has already loaded the site; {@link #closeIdle} at the end of a run quits only the
+ * sessions beyond the warm ones.
+ */
+public class WarmBrowserSessionPool extends BrowserSessionPool {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmBrowserSessionPool.class);
+
+    private static final Executor WARMER = task -> {
+        Thread thread = new Thread(task, "browser-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    };
+
+    private final int warmSessions;
+    private final AtomicInteger warming = new AtomicInteger();
+
+    public WarmBrowserSessionPool(int capacity, int warmSessions) {
+        super(capacity);
+        if (warmSessions < 0 || warmSessions > capacity) {
+            throw new IllegalArgumentException("warmSessions must be between 0 and the capacity");
+        }
+        this.warmSessions = warmSessions;
+    }
+
+    /**
+     * Opens sessions with {@code factory} until {@code warmSessions} are open or opening, and returns
+     * them to the pool as idle. A session that fails to open is logged and left out.
+     */
+    public CompletableFuture<Void> warmUp(Supplier<WebDriver> factory) {
+        List<CompletableFuture<Void>> opening = new ArrayList<>();
+        while (true) {
+            int current = warming.get();
+            if (getOpenSessions() + current >= warmSessions) {
+                break;
+            }
+            if (!warming.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            opening.add(CompletableFuture.runAsync(() -> {
+                try {
+                    release(borrowNew(factory), true);
+                } catch (RuntimeException e) {
+                    log.warn("Could not warm up a browser session: {}", e.getMessage());
+                } finally {
+                    warming.decrementAndGet();
+                }
+            }, WARMER));
+        }
+        return CompletableFuture.allOf(opening.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Quits the idle sessions beyond the warm ones.
+     */
+    @Override
+    public void closeIdle() {
+        trimIdle(warmSessions);
+    }
+
+    public int getWarmSessions() {
+        return warmSessions;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.hotelpricingproject.export;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Decodes files written by {@link ColumnarPriceWriter}, one row group at a time.
+ */
+public class ColumnarPriceReader implements Closeable {
+
+    private final DataInputStream in;
+    private final List<String> dictionary = new ArrayList<>();
+    private final int columnCount;
+
+    public ColumnarPriceReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+        byte[] magic = new byte[ColumnarPriceWriter.MAGIC.length];
+        this.in.readFully(magic);
+        int version = this.in.readUnsignedByte();
+        if (!Arrays.equals(magic, ColumnarPriceWriter.MAGIC) || version < 1 || version > ColumnarPriceWriter.VERSION) {
+            throw new IOException("Not an HPX1 export");
+        }
+        // Version 1 predates the guests column, version 2 the currency column
+        this.columnCount = ColumnarPriceWriter.COLUMN_COUNT - (ColumnarPriceWriter.VERSION - version);
+    }
+
+    /**
+     * Passes every row to the consumer and returns how many were read.
+     */
+    public long read(Consumer<PriceRow> consumer) throws IOException {
+        long rows = 0;
+        while (true) {
+            int marker = in.readUnsignedByte();
+            if (marker == ColumnarPriceWriter.END_MARKER) {
+                long declared = readUnsigned(in);
+                byte[] magic = new byte[ColumnarPriceWriter.MAGIC.length];
+                in.readFully(magic);
+                if (declared != rows || !Arrays.equals(magic, ColumnarPriceWriter.MAGIC)) {
+                    throw new IOException("Truncated or corrupt HPX1 export: expected " + declared + " rows, read " + rows);
+                }
+                return rows;
+            }
+            if (marker != ColumnarPriceWriter.GROUP_MARKER) {
+                throw new IOException("Corrupt HPX1 export: unexpected marker " + marker);
+            }
+            rows += readGroup(consumer);
+        }
+    }
+
+    private int readGroup(Consumer<PriceRow> consumer) throws IOException {
+        int rowCount = (int) readUnsigned(in);
+        int newEntries = (int) readUnsigned(in);
+        for (int i = 0; i < newEntries; i++) {
+            byte[] bytes = new byte[(int) readUnsigned(in)];
+            in.readFully(bytes);
+            dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        Cursor[] columns = new Cursor[columnCount];
+        int[] lengths = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            lengths[i] = (int) readUnsigned(in);
+        }
+        for (int i = 0; i < columns.length; i++) {
+            byte[] bytes = new byte[lengths[i]];
+            in.readFully(bytes);
+            columns[i] = new Cursor(bytes);
+        }
+
+        long id = 0;
+        long checkIn = 0;
+        long price = 0;
+        long scraped = 0;
+        for (int row = 0; row < rowCount; row++) {
+            id += columns[0].nextSigned();
+            String hotel = dictionary.get((int) columns[1].nextUnsigned());
+            String city = dictionary.get((int) columns[2].nextUnsigned());
+            checkIn += columns[3].nextSigned();
+            long nights = columns[4].nextSigned();
+            price += columns[5].nextSigned();
+            scraped += columns[6].nextSigned();
+            int rating = (int) columns[7].nextUnsigned();
+            int address = (int) columns[8].nextUnsigned();
+            int guests = columns.length > 9 ? (int) columns[9].nextUnsigned() : HotelPrice.DEFAULT_GUESTS;
+            int currency = columns.length > 10 ? (int) columns[10].nextUnsigned() : 0;
+            consumer.accept(new PriceRow(id, hotel, city, LocalDate.ofEpochDay(checkIn),
+                    LocalDate.ofEpochDay(checkIn + nights), price,
+                    rating == 0 ? null : dictionary.get(rating - 1),
+                    address == 0 ? null : dictionary.get(address - 1),
+                    LocalDate.ofEpochDay(scraped), guests,
+                    currency == 0 ? null : dictionary.get(currency - 1)));
+        }
+        return rowCount;
+    }
+
+    private static long readUnsigned(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private static final class Cursor {
+        private final byte[] bytes;
+        private int position;
+
+        Cursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long nextUnsigned() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        long nextSigned() {
+            long raw = nextUnsigned();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+    }
+}
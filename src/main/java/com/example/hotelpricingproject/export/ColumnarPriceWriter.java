@@ -0,0 +1,161 @@
+package com.example.hotelpricingproject.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams price rows into the HPX1 columnar format. Rows are buffered one row
+ * group at a time, so memory stays constant no matter how many rows are written.
+ *
+ * <pre>
+ * file      := "HPX1" version:u8 group* 'E' totalRows:uvarint "HPX1"
+ * group     := 'G' rowCount:uvarint newEntries:uvarint (len:uvarint utf8)*  column{11}
+ * column    := byteLength:uvarint values
+ * </pre>
+ *
+ * Columns, in order, each encoding one value per row of the group:
+ * <ol>
+ *   <li>id: zigzag delta from the previous row</li>
+ *   <li>hotel: dictionary id</li>
+ *   <li>city: dictionary id</li>
+ *   <li>check-in: epoch day, zigzag delta from the previous row</li>
+ *   <li>nights: check-out minus check-in, zigzag</li>
+ *   <li>price: cents, zigzag delta from the previous row</li>
+ *   <li>scraped: epoch day, zigzag delta from the previous row</li>
+ *   <li>rating: dictionary id + 1, 0 for null</li>
+ *   <li>address: dictionary id + 1, 0 for null</li>
+ *   <li>guests: unsigned</li>
+ *   <li>currency: dictionary id + 1, 0 for null</li>
+ * </ol>
+ * One string dictionary is shared by all string columns and grows across groups;
+ * each group lists only the entries it introduces. Delta columns restart from
+ * zero at every group. Varints are LEB128; zigzag maps n to (n &lt;&lt; 1) ^ (n &gt;&gt; 63).
+ * Version 1 files have no guests column and read back as two adults; version 1 and 2 files
+ * have no currency column and read back with a null currency.
+ */
+public class ColumnarPriceWriter implements Closeable {
+
+    static final byte[] MAGIC = "HPX1".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 3;
+    static final int GROUP_MARKER = 'G';
+    static final int END_MARKER = 'E';
+    static final int COLUMN_COUNT = 11;
+    public static final int DEFAULT_GROUP_SIZE = 65_536;
+
+    private final OutputStream out;
+    private final int groupSize;
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> newEntries = new ArrayList<>();
+    private final VarintBuffer[] columns = new VarintBuffer[COLUMN_COUNT];
+    private final VarintBuffer header = new VarintBuffer(256);
+
+    private int rowsInGroup;
+    private long totalRows;
+    private long prevId;
+    private long prevCheckIn;
+    private long prevPrice;
+    private long prevScraped;
+    private boolean closed;
+
+    public ColumnarPriceWriter(OutputStream out) throws IOException {
+        this(out, DEFAULT_GROUP_SIZE);
+    }
+
+    public ColumnarPriceWriter(OutputStream out, int groupSize) throws IOException {
+        this.out = out;
+        this.groupSize = groupSize;
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns[i] = new VarintBuffer(1024);
+        }
+        out.write(MAGIC);
+        out.write(VERSION);
+    }
+
+    public void write(PriceRow row) throws IOException {
+        long checkIn = row.checkInDate().toEpochDay();
+        long scraped = row.scrapedDate().toEpochDay();
+        columns[0].writeSigned(row.id() - prevId);
+        columns[1].writeUnsigned(dictionaryId(row.hotelName()));
+        columns[2].writeUnsigned(dictionaryId(row.city()));
+        columns[3].writeSigned(checkIn - prevCheckIn);
+        columns[4].writeSigned(row.checkOutDate().toEpochDay() - checkIn);
+        columns[5].writeSigned(row.priceCents() - prevPrice);
+        columns[6].writeSigned(scraped - prevScraped);
+        columns[7].writeUnsigned(row.rating() == null ? 0 : dictionaryId(row.rating()) + 1);
+        columns[8].writeUnsigned(row.address() == null ? 0 : dictionaryId(row.address()) + 1);
+        columns[9].writeUnsigned(row.guests());
+        columns[10].writeUnsigned(row.currency() == null ? 0 : dictionaryId(row.currency()) + 1);
+        prevId = row.id();
+        prevCheckIn = checkIn;
+        prevPrice = row.priceCents();
+        prevScraped = scraped;
+        totalRows++;
+        if (++rowsInGroup == groupSize) {
+            flushGroup();
+        }
+    }
+
+    public long getRowCount() {
+        return totalRows;
+    }
+
+    private int dictionaryId(String value) {
+        Integer id = dictionary.get(value);
+        if (id == null) {
+            id = dictionary.size();
+            dictionary.put(value, id);
+            newEntries.add(value);
+        }
+        return id;
+    }
+
+    private void flushGroup() throws IOException {
+        if (rowsInGroup == 0) {
+            return;
+        }
+        header.reset();
+        header.writeUnsigned(rowsInGroup);
+        header.writeUnsigned(newEntries.size());
+        for (String entry : newEntries) {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            header.writeUnsigned(bytes.length);
+            header.writeBytes(bytes);
+        }
+        for (VarintBuffer column : columns) {
+            header.writeUnsigned(column.size());
+        }
+        out.write(GROUP_MARKER);
+        header.writeTo(out);
+        for (VarintBuffer column : columns) {
+            column.writeTo(out);
+            column.reset();
+        }
+        newEntries.clear();
+        rowsInGroup = 0;
+        prevId = 0;
+        prevCheckIn = 0;
+        prevPrice = 0;
+        prevScraped = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flushGroup();
+        out.write(END_MARKER);
+        header.reset();
+        header.writeUnsigned(totalRows);
+        header.writeTo(out);
+        out.write(MAGIC);
+        out.flush();
+    }
+}
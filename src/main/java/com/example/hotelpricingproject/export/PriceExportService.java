@@ -0,0 +1,98 @@
+package com.example.hotelpricingproject.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.example.hotelpricingproject.archive.PriceArchive;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.repository.JdbcColumns;
+
+/**
+ * Streams every stored price, archived months first and then the {@code hotel_prices} table,
+ * into an HPX1 columnar file. Rows flow straight from the archive reader and a forward-only JDBC
+ * cursor into the writer's current row group, so exports of any size run in constant memory. A
+ * row still in the table after its month was archived is exported once, from the table.
+ */
+@Service
+public class PriceExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceExportService.class);
+
+    private static final int FETCH_SIZE = 5_000;
+    private static final String EXPORT_SQL = "SELECT id, hotel_name, city, check_in_date, check_out_date, price, "
+            + "rating, address, scraped_date, guests, currency FROM hotel_prices ORDER BY id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HotelPriceRepository repository;
+
+    @Autowired
+    private PriceArchive archive;
+
+    public long exportTo(OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(FETCH_SIZE);
+        try (ColumnarPriceWriter writer = new ColumnarPriceWriter(out)) {
+            for (YearMonth month : archive.monthsBetween(null, null)) {
+                exportArchived(month, writer);
+            }
+            try {
+                streaming.query(EXPORT_SQL, rs -> {
+                    try {
+                        writer.write(new PriceRow(
+                                rs.getLong("id"),
+                                rs.getString("hotel_name"),
+                                rs.getString("city"),
+                                JdbcColumns.localDate(rs, "check_in_date"),
+                                JdbcColumns.localDate(rs, "check_out_date"),
+                                JdbcColumns.priceCents(rs, "price"),
+                                rs.getString("rating"),
+                                rs.getString("address"),
+                                JdbcColumns.localDate(rs, "scraped_date"),
+                                rs.getInt("guests"),
+                                rs.getString("currency")));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.close();
+            log.info("Exported {} price rows in {} ms", writer.getRowCount(), (System.nanoTime() - started) / 1_000_000);
+            return writer.getRowCount();
+        }
+    }
+
+    private void exportArchived(YearMonth month, ColumnarPriceWriter writer) throws IOException {
+        // Normally empty: the archiver deletes a month's rows once its partition is written
+        Set<Long> hotIds = new HashSet<>(repository.findIdsByCheckInRange(month.atDay(1),
+                month.plusMonths(1).atDay(1)));
+        try {
+            archive.read(month, row -> {
+                if (!hotIds.contains(row.id())) {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.hotelpricingproject.export;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.repository.JdbcColumns;
+
+/**
+ * One {@code hotel_prices} row in export form, with the price held as fixed-point cents.
+ */
+public record PriceRow(long id, String hotelName, String city, LocalDate checkInDate, LocalDate checkOutDate,
+                       long priceCents, String rating, String address, LocalDate scrapedDate, int guests,
+                       String currency) {
+
+    /**
+     * A row whose currency was not recorded.
+     */
+    public PriceRow(long id, String hotelName, String city, LocalDate checkInDate, LocalDate checkOutDate,
+                    long priceCents, String rating, String address, LocalDate scrapedDate, int guests) {
+        this(id, hotelName, city, checkInDate, checkOutDate, priceCents, rating, address, scrapedDate, guests, null);
+    }
+
+    /**
+     * A row for the default two adults.
+     */
+    public PriceRow(long id, String hotelName, String city, LocalDate checkInDate, LocalDate checkOutDate,
+                    long priceCents, String rating, String address, LocalDate scrapedDate) {
+        this(id, hotelName, city, checkInDate, checkOutDate, priceCents, rating, address, scrapedDate,
+                HotelPrice.DEFAULT_GUESTS);
+    }
+
+    public static PriceRow of(HotelPrice price) {
+        return new PriceRow(price.getId(), price.getHotelName(), price.getCity(), price.getCheckInDate(),
+                price.getCheckOutDate(), JdbcColumns.toCents(price.getPrice()), price.getRating(), price.getAddress(),
+                price.getScrapedDate(), price.getGuests(), price.getCurrency());
+    }
+
+    /**
+     * A detached entity carrying this row's id, for answering queries from an export or archive.
+     */
+    public HotelPrice toHotelPrice() {
+        HotelPrice price = new HotelPrice(hotelName, city, checkInDate, checkOutDate, guests,
+                BigDecimal.valueOf(priceCents, 2), rating, address);
+        price.setId(id);
+        price.setScrapedDate(scrapedDate);
+        price.setCurrency(currency);
+        return price;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.hotelpricingproject.feed;
+
+/**
+ * What a live-feed subscription does when its buffer is full.
+ */
+public enum OverflowPolicy {
+    /** Discard the oldest buffered event and tell the client how many it lagged by. */
+    DROP_OLDEST,
+    /** Close the stream; the client reconnects with Last-Event-ID to resume. */
+    DISCONNECT
+}
@@ -0,0 +1,25 @@
+package com.example.hotelpricingproject.feed;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * A persisted price tagged with its position in the live feed.
+ */
+public class PriceFeedEvent {
+
+    private final long id;
+    private final HotelPrice price;
+
+    public PriceFeedEvent(long id, HotelPrice price) {
+        this.id = id;
+        this.price = price;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public HotelPrice getPrice() {
+        return price;
+    }
+}
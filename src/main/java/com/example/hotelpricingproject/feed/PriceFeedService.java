@@ -0,0 +1,139 @@
+package com.example.hotelpricingproject.feed;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Live feed of persisted prices. Every saved price gets a monotonically increasing
+ * id and is kept in a fixed-size replay ring, so clients that reconnect with
+ * Last-Event-ID resume without gaps as long as they are within the ring.
+ */
+@Service
+public class PriceFeedService {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final List<PriceFeedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Object lock = new Object();
+    private final PriceFeedEvent[] history;
+    private final int bufferSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor drainExecutor;
+    private long lastId;
+
+    @Autowired
+    public PriceFeedService(@Value("${hotel.feed.history-size:1024}") int historySize,
+                            @Value("${hotel.feed.buffer-size:256}") int bufferSize,
+                            @Value("${hotel.feed.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+                            @Value("${hotel.feed.drain-threads:2}") int drainThreads) {
+        this(historySize, bufferSize, overflowPolicy, newDrainExecutor(drainThreads));
+    }
+
+    PriceFeedService(int historySize, int bufferSize, OverflowPolicy overflowPolicy, Executor drainExecutor) {
+        this.history = new PriceFeedEvent[historySize];
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.drainExecutor = drainExecutor;
+    }
+
+    @EventListener
+    public void onPriceSaved(HotelPriceSavedEvent event) {
+        publish(event.getPrice());
+    }
+
+    /**
+     * Assigns the next feed id and hands the price to every matching subscriber.
+     * Cost per subscriber is a filter check and a buffer append.
+     */
+    long publish(HotelPrice price) {
+        synchronized (lock) {
+            PriceFeedEvent event = new PriceFeedEvent(++lastId, price);
+            history[(int) (event.getId() % history.length)] = event;
+            for (PriceFeedSubscription subscription : subscriptions) {
+                subscription.offer(event);
+            }
+            return event.getId();
+        }
+    }
+
+    /**
+     * Opens a stream filtered by hotel and/or city (null means any). When
+     * {@code lastEventId} is given, buffered events after it are replayed first.
+     */
+    public SseEmitter subscribe(String hotelName, String city, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        subscribe(hotelName, city, lastEventId, emitter);
+        return emitter;
+    }
+
+    PriceFeedSubscription subscribe(String hotelName, String city, Long lastEventId, SseEmitter emitter) {
+        PriceFeedSubscription subscription = new PriceFeedSubscription(blankToNull(hotelName), blankToNull(city),
+                bufferSize, overflowPolicy, emitter, drainExecutor, subscriptions::remove);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+
+        synchronized (lock) {
+            if (lastEventId != null && lastEventId < lastId) {
+                long oldestAvailable = Math.max(1, lastId - history.length + 1);
+                if (lastEventId + 1 < oldestAvailable) {
+                    sendGap(emitter, oldestAvailable - lastEventId - 1);
+                }
+                for (long id = Math.max(lastEventId + 1, oldestAvailable); id <= lastId; id++) {
+                    subscription.offer(history[(int) (id % history.length)]);
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        return subscription;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private static void sendGap(SseEmitter emitter, long missed) {
+        try {
+            emitter.send(SseEmitter.event().name("gap").data(missed));
+        } catch (IOException | IllegalStateException ignored) {
+            // The subscription closes itself on its first failed send
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static ExecutorService newDrainExecutor(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "price-feed-drain-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.forEach(PriceFeedSubscription::close);
+        if (drainExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.hotelpricingproject.feed;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * One SSE watcher: a filter, a bounded buffer and an emitter. {@link #offer} never
+ * blocks; buffered events are written to the client by a shared drain executor.
+ */
+class PriceFeedSubscription {
+
+    private final String hotelName;
+    private final String city;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final SseEmitter emitter;
+    private final Executor drainExecutor;
+    private final Consumer<PriceFeedSubscription> onClose;
+
+    private final ArrayDeque<PriceFeedEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private long dropped;
+
+    PriceFeedSubscription(String hotelName, String city, int capacity, OverflowPolicy overflowPolicy,
+                          SseEmitter emitter, Executor drainExecutor, Consumer<PriceFeedSubscription> onClose) {
+        this.hotelName = hotelName;
+        this.city = city;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.emitter = emitter;
+        this.drainExecutor = drainExecutor;
+        this.onClose = onClose;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 64));
+    }
+
+    boolean matches(HotelPrice price) {
+        return (hotelName == null || hotelName.equalsIgnoreCase(price.getHotelName()))
+                && (city == null || city.equalsIgnoreCase(price.getCity()));
+    }
+
+    /**
+     * Buffers the event if it passes the filter and schedules a drain.
+     */
+    void offer(PriceFeedEvent event) {
+        if (closed.get() || !matches(event.getPrice())) {
+            return;
+        }
+        synchronized (buffer) {
+            if (buffer.size() >= capacity) {
+                if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+                    buffer.clear();
+                    close();
+                    return;
+                }
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+        }
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            drainExecutor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!closed.get()) {
+                PriceFeedEvent next;
+                long lagged;
+                synchronized (buffer) {
+                    next = buffer.pollFirst();
+                    lagged = dropped;
+                    dropped = 0;
+                }
+                if (lagged > 0) {
+                    emitter.send(SseEmitter.event().name("lagged").data(lagged));
+                }
+                if (next == null) {
+                    break;
+                }
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(next.getId()))
+                        .name("price")
+                        .data(next.getPrice()));
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        } finally {
+            draining.set(false);
+        }
+        // An offer may have slipped in between the last poll and clearing the flag
+        boolean pending;
+        synchronized (buffer) {
+            pending = !buffer.isEmpty();
+        }
+        if (pending && !closed.get()) {
+            scheduleDrain();
+        }
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            onClose.accept(this);
+            emitter.complete();
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.hotelpricingproject.forecast;
+
+import java.time.LocalDate;
+
+/**
+ * Incremental model of one price series: log price = trend + day-of-week effect + month effect.
+ * The trend is a weighted least-squares line over the check-in date with exponential forgetting;
+ * the day-of-week and month effects are running averages of what the other components leave
+ * over, kept centred so the level stays in the trend. All state is a handful of primitive
+ * fields and two small arrays, and each {@link #update} costs the same no matter how many
+ * prices came before, so the model never needs a full refit.
+ * <p>
+ * Not thread-safe; callers synchronize on the model.
+ */
+public class PriceForecastModel {
+
+    private static final int DAYS_OF_WEEK = 7;
+    private static final int MONTHS = 12;
+
+    private final double forgetting;
+    private final double effectRate;
+
+    private final double[] dayOfWeek = new double[DAYS_OF_WEEK];
+    private final int[] dayOfWeekSamples = new int[DAYS_OF_WEEK];
+    private final double[] month = new double[MONTHS];
+    private final int[] monthSamples = new int[MONTHS];
+
+    // Weighted sums for the trend line, with t in days since the first check-in date seen
+    private long origin = Long.MIN_VALUE;
+    private double weight;
+    private double sumT;
+    private double sumY;
+    private double sumTT;
+    private double sumTY;
+
+    private long samples;
+    private double residualVariance;
+
+    /**
+     * @param forgetting per-price decay of older prices in the trend, in (0, 1]; 1 keeps them all
+     * @param effectRate floor of the learning rate for the day-of-week and month effects, in (0, 1]
+     */
+    public PriceForecastModel(double forgetting, double effectRate) {
+        if (forgetting <= 0 || forgetting > 1) {
+            throw new IllegalArgumentException("forgetting must be in (0, 1]: " + forgetting);
+        }
+        if (effectRate <= 0 || effectRate > 1) {
+            throw new IllegalArgumentException("effectRate must be in (0, 1]: " + effectRate);
+        }
+        this.forgetting = forgetting;
+        this.effectRate = effectRate;
+    }
+
+    /**
+     * Folds one scraped price into the model. Non-positive prices are ignored.
+     */
+    public void update(LocalDate checkInDate, double price) {
+        if (!(price > 0)) {
+            return;
+        }
+        if (origin == Long.MIN_VALUE) {
+            origin = checkInDate.toEpochDay();
+        }
+        double t = checkInDate.toEpochDay() - origin;
+        double y = Math.log(price);
+        int day = checkInDate.getDayOfWeek().getValue() - 1;
+        int m = checkInDate.getMonthValue() - 1;
+
+        // Score the price before learning from it, so the variance measures honest forecast errors
+        if (samples > 0) {
+            double error = y - (trend(t) + dayOfWeek[day] + month[m]);
+            double rate = Math.max(effectRate, 1.0 / samples);
+            residualVariance += rate * (error * error - residualVariance);
+        }
+        samples++;
+
+        weight *= forgetting;
+        sumT *= forgetting;
+        sumY *= forgetting;
+        sumTT *= forgetting;
+        sumTY *= forgetting;
+        double level = y - dayOfWeek[day] - month[m];
+        weight += 1;
+        sumT += t;
+        sumY += level;
+        sumTT += t * t;
+        sumTY += t * level;
+
+        dayOfWeekSamples[day]++;
+        dayOfWeek[day] += Math.max(effectRate, 1.0 / dayOfWeekSamples[day])
+                * (y - trend(t) - month[m] - dayOfWeek[day]);
+        shiftLevel(centre(dayOfWeek, dayOfWeekSamples));
+
+        monthSamples[m]++;
+        month[m] += Math.max(effectRate, 1.0 / monthSamples[m]) * (y - trend(t) - dayOfWeek[day] - month[m]);
+        shiftLevel(centre(month, monthSamples));
+    }
+
+    /**
+     * The median price expected for a check-in date, with a band that holds the price with
+     * probability {@code confidence} if the model's errors are roughly log-normal. The band
+     * widens with the distance from the dates the trend was fitted on.
+     *
+     * @return {@code {lower, median, upper}}, or null before the first price
+     */
+    public double[] predict(LocalDate checkInDate, double confidence) {
+        if (samples == 0) {
+            return null;
+        }
+        double t = checkInDate.toEpochDay() - origin;
+        double mean = trend(t) + dayOfWeek[checkInDate.getDayOfWeek().getValue() - 1]
+                + month[checkInDate.getMonthValue() - 1];
+
+        double spread = 1 + 1 / weight;
+        double sxx = sumTT - sumT * sumT / weight;
+        if (sxx > 1e-9) {
+            double offset = t - sumT / weight;
+            spread += offset * offset / sxx;
+        }
+        double halfWidth = NormalQuantile.twoSided(confidence) * Math.sqrt(residualVariance * spread);
+        return new double[]{Math.exp(mean - halfWidth), Math.exp(mean), Math.exp(mean + halfWidth)};
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * Effect of the check-in weekday on the log price, Monday first.
+     */
+    public double dayOfWeekEffect(int dayOfWeek) {
+        return this.dayOfWeek[dayOfWeek - 1];
+    }
+
+    private double trend(double t) {
+        if (weight == 0) {
+            return 0;
+        }
+        double sxx = sumTT - sumT * sumT / weight;
+        if (sxx <= 1e-9) {
+            return sumY / weight;
+        }
+        double slope = (sumTY - sumT * sumY / weight) / sxx;
+        return sumY / weight + slope * (t - sumT / weight);
+    }
+
+    /**
+     * Moves the effects' mean over the buckets seen so far to zero.
+     *
+     * @return the mean that was removed
+     */
+    private static double centre(double[] effects, int[] seen) {
+        double sum = 0;
+        int buckets = 0;
+        for (int i = 0; i < effects.length; i++) {
+            if (seen[i] > 0) {
+                sum += effects[i];
+                buckets++;
+            }
+        }
+        double mean = sum / buckets;
+        for (int i = 0; i < effects.length; i++) {
+            if (seen[i] > 0) {
+                effects[i] -= mean;
+            }
+        }
+        return mean;
+    }
+
+    /**
+     * Raises the fitted trend line by {@code delta} without refitting it.
+     */
+    private void shiftLevel(double delta) {
+        sumY += delta * weight;
+        sumTY += delta * sumT;
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.hotelpricingproject.forecast;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.hotelpricingproject.cache.PriceDataVersions;
+import com.example.hotelpricingproject.dto.PriceForecast;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+import com.example.hotelpricingproject.repository.PartitionedPriceRepository;
+import com.example.hotelpricingproject.repository.PriceObservationRepository;
+import com.example.hotelpricingproject.service.HotelCityKey;
+import com.example.hotelpricingproject.storage.PriceStoreMirror;
+
+/**
+ * Forecasts prices for check-in dates that were not scraped, one {@link PriceForecastModel} per
+ * (hotel, city, nights, guests). A series' model is fitted from its stored prices (hot and
+ * archived, the most recently scraped {@code hotel.forecast.seed-rows} of them) the first time it
+ * is asked for, scanned from the mapped price store when that is on (synced with SQLite first) and
+ * read from SQLite and the archive otherwise, and from then on every price the scraper saves is folded in as it arrives, so
+ * forecasts stay current without refitting. Writes this process did not make (a worker node's,
+ * seen from an API node) show up as a {@link PriceDataVersions} change beyond this process's own
+ * bumps, and the series is fitted again on its next use. Series nobody asked about cost nothing.
+ */
+@Component
+public class PriceForecaster {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceForecaster.class);
+
+    static final int MAX_DAYS = 731;
+
+    private final Map<SeriesKey, Series> series = new ConcurrentHashMap<>();
+    private final PartitionedPriceRepository priceRepository;
+    private final PriceDataVersions versions;
+    private final double forgetting;
+    private final double effectRate;
+    private final int minSamples;
+    private final int historyDays;
+    private final int seedRows;
+
+    // Present when hotel.storage.mmap.enabled=true
+    private PriceObservationRepository observations;
+    private PriceStoreMirror mirror;
+
+    public PriceForecaster(PartitionedPriceRepository priceRepository, PriceDataVersions versions,
+                           @Value("${hotel.forecast.forgetting:0.995}") double forgetting,
+                           @Value("${hotel.forecast.effect-rate:0.05}") double effectRate,
+                           @Value("${hotel.forecast.min-samples:14}") int minSamples,
+                           @Value("${hotel.forecast.history-days:730}") int historyDays,
+                           @Value("${hotel.forecast.seed-rows:5000}") int seedRows) {
+        this.priceRepository = priceRepository;
+        this.versions = versions;
+        this.forgetting = forgetting;
+        this.effectRate = effectRate;
+        this.minSamples = minSamples;
+        this.historyDays = historyDays;
+        this.seedRows = seedRows;
+        // Fail at startup rather than on the first forecast
+        new PriceForecastModel(forgetting, effectRate);
+    }
+
+    @Autowired(required = false)
+    void setObservations(PriceObservationRepository observations) {
+        this.observations = observations;
+    }
+
+    @Autowired(required = false)
+    void setMirror(PriceStoreMirror mirror) {
+        this.mirror = mirror;
+    }
+
+    /**
+     * Folds a saved price into its series' model, if that series has one yet.
+     */
+    @EventListener
+    public void onPriceSaved(HotelPriceSavedEvent event) {
+        HotelPrice price = event.getPrice();
+        if (price.getPrice() == null) {
+            return;
+        }
+        Series target = series.get(SeriesKey.of(price));
+        if (target != null) {
+            target.update(price.getCheckInDate(), price.getPrice().doubleValue());
+        }
+    }
+
+    /**
+     * One forecast per check-in date from {@code startDate} through {@code endDate} for a stay of
+     * {@code nights} nights and {@code guests} adults, with bands at {@code confidence}. Empty while
+     * the series has fewer than {@code hotel.forecast.min-samples} prices.
+     */
+    public List<PriceForecast> forecast(String hotelName, String city, LocalDate startDate, LocalDate endDate,
+                                        int nights, int guests, double confidence) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        if (startDate.plusDays(MAX_DAYS).isBefore(endDate)) {
+            throw new IllegalArgumentException("At most " + MAX_DAYS + " days per forecast");
+        }
+        NormalQuantile.twoSided(confidence);
+
+        Series target = seeded(new SeriesKey(new HotelCityKey(hotelName, city), nights, guests));
+        List<PriceForecast> forecasts = new ArrayList<>();
+        synchronized (target) {
+            if (target.model.getSamples() < minSamples) {
+                return forecasts;
+            }
+            for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+                double[] band = target.model.predict(day, confidence);
+                forecasts.add(new PriceForecast(day, money(band[1]), money(band[0]), money(band[2])));
+            }
+        }
+        return forecasts;
+    }
+
+    long samples(String hotelName, String city, int nights, int guests) {
+        Series target = series.get(new SeriesKey(new HotelCityKey(hotelName, city), nights, guests));
+        return target == null ? 0 : target.samples();
+    }
+
+    /**
+     * The series' model, fitted from the database on first use and again once the pair's data
+     * version moved by more than this process's own writes. Prices saved while the fit runs wait
+     * for it and are then folded in too; one of them counted twice does no harm.
+     */
+    private Series seeded(SeriesKey key) {
+        Series target = series.computeIfAbsent(key, k -> new Series(new PriceForecastModel(forgetting, effectRate)));
+        synchronized (target) {
+            // Local bumps first: a write landing in between then looks foreign and costs one extra fit
+            long localBumps = versions.localBumps(key.hotelCity());
+            long version = versions.get(key.hotelCity()).sequence();
+            boolean foreignWrites = version - target.version != localBumps - target.localBumps;
+            if (!target.seeded || foreignWrites) {
+                if (target.seeded) {
+                    target.model = new PriceForecastModel(forgetting, effectRate);
+                }
+                seed(key, target.model);
+                target.seeded = true;
+                target.version = version;
+                target.localBumps = localBumps;
+            }
+        }
+        return target;
+    }
+
+    private void seed(SeriesKey key, PriceForecastModel model) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(historyDays);
+        LocalDate to = today.plusDays(historyDays);
+        List<Sample> history = observations != null && mirrored() ? scanStore(key, from, to)
+                : readDatabase(key, from, to);
+        // Stable, so prices scraped the same day stay in id order
+        history.sort(Comparator.comparingLong(Sample::scrapedDay));
+        List<Sample> latest = history.subList(Math.max(0, history.size() - seedRows), history.size());
+        for (Sample sample : latest) {
+            model.update(LocalDate.ofEpochDay(sample.checkInDay()), sample.price());
+        }
+        log.debug("Fitted forecast for {} in {} ({} nights, {} guests) from {} prices",
+                key.hotelCity().hotelName(), key.hotelCity().city(), key.nights(), key.guests(), latest.size());
+    }
+
+    /**
+     * Brings the mapped store up to SQLite before a fit reads it: the scheduled sync trails by up
+     * to {@code hotel.storage.mmap.sync-interval}, and the version a fit records must cover every
+     * row the fit saw. False when the sync failed, so the fit reads SQLite instead.
+     */
+    private boolean mirrored() {
+        if (mirror == null) {
+            return true;
+        }
+        try {
+            mirror.sync();
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Price store sync before a forecast fit failed, reading the database: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private List<Sample> scanStore(SeriesKey key, LocalDate from, LocalDate to) {
+        List<Sample> history = new ArrayList<>();
+        observations.scan(key.hotelCity().hotelName(), key.hotelCity().city(), from, to,
+                (hotelId, cityId, checkInDay, nights, guests, currencyId, cents, scrapedDay) -> {
+                    if (nights == key.nights() && guests == key.guests()) {
+                        history.add(new Sample(scrapedDay, checkInDay, cents / 100.0));
+                    }
+                });
+        return history;
+    }
+
+    private List<Sample> readDatabase(SeriesKey key, LocalDate from, LocalDate to) {
+        return priceRepository.findByStayAndCheckInDateBetween(key.hotelCity().hotelName(), key.hotelCity().city(),
+                        key.nights(), key.guests(), from, to).stream()
+                .filter(price -> price.getPrice() != null)
+                .sorted(Comparator.comparing(HotelPrice::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .map(price -> new Sample(price.getScrapedDate() != null ? price.getScrapedDate().toEpochDay() : Long.MIN_VALUE,
+                        price.getCheckInDate().toEpochDay(), price.getPrice().doubleValue()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static final class Series {
+
+        private PriceForecastModel model;
+        private boolean seeded;
+        // The pair's data version and this process's bumps of it as of the last fit
+        private long version;
+        private long localBumps;
+
+        Series(PriceForecastModel model) {
+            this.model = model;
+        }
+
+        synchronized void update(LocalDate checkInDate, double price) {
+            model.update(checkInDate, price);
+        }
+
+        synchronized long samples() {
+            return model.getSamples();
+        }
+    }
+
+    private record Sample(long scrapedDay, long checkInDay, double price) {
+    }
+
+    private record SeriesKey(HotelCityKey hotelCity, int nights, int guests) {
+
+        static SeriesKey of(HotelPrice price) {
+            return new SeriesKey(HotelCityKey.of(price), price.getNights(), price.getGuests());
+        }
+    }
+}
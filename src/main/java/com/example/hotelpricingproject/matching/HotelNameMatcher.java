@@ -0,0 +1,234 @@
+package com.example.hotelpricingproject.matching;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Matches result-card titles to known hotels. Names are normalised once (accents and punctuation
+ * stripped, lower-cased, articles dropped) and cut into sorted character trigrams; a card's
+ * trigrams are merged with each known name's, which for the one or few names of a scrape is
+ * cheaper than looking them up in an index. The score favours how much of the known name the card
+ * covers, with a smaller weight on overall similarity so that "The Ritz-Carlton, South Beach"
+ * matches "Ritz Carlton" while the tighter of two covering titles still wins.
+ * <p>
+ * Instances are immutable and safe to share between threads.
+ */
+public final class HotelNameMatcher {
+
+    public static final double DEFAULT_MIN_SCORE = 0.7;
+
+    private static final double COVERAGE_WEIGHT = 0.8;
+    private static final Set<String> STOP_WORDS = Set.of("the", "a", "an", "and");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    // Trigram alphabet: space, a-z, 0-9 and one bucket for every other letter
+    private static final int ALPHABET = 38;
+    private static final int[] NO_TRIGRAMS = new int[0];
+
+    /**
+     * A card that resolved to a known hotel.
+     *
+     * @param card  the card's position in the list given to {@link #resolve}
+     * @param score between {@code minScore} and 1
+     */
+    public record Match(String hotelId, String hotelName, int card, double score) {
+    }
+
+    private final String[] ids;
+    private final String[] names;
+    private final int[][] trigrams;
+    private final double minScore;
+
+    public HotelNameMatcher(Collection<String> hotelNames) {
+        this(hotelNames, DEFAULT_MIN_SCORE);
+    }
+
+    /**
+     * @param hotelNames the known hotels; names with the same {@linkplain #canonicalId canonical id}
+     *                   are one hotel, under the first of those names
+     */
+    public HotelNameMatcher(Collection<String> hotelNames, double minScore) {
+        Map<String, String> byId = new LinkedHashMap<>();
+        for (String name : hotelNames) {
+            String id = canonicalId(name);
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("Hotel name '" + name + "' has nothing to match on");
+            }
+            byId.putIfAbsent(id, name);
+        }
+        this.ids = byId.keySet().toArray(String[]::new);
+        this.names = byId.values().toArray(String[]::new);
+        this.trigrams = new int[ids.length][];
+        this.minScore = minScore;
+        for (int hotel = 0; hotel < ids.length; hotel++) {
+            trigrams[hotel] = trigrams(normalize(names[hotel]));
+        }
+    }
+
+    /**
+     * Lower-cased words without accents, punctuation or articles, separated by single spaces:
+     * "The Ritz-Carlton, Café" becomes "ritz carlton cafe".
+     */
+    public static String normalize(String name) {
+        String plain = isAscii(name) ? name : MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        StringBuilder normalized = new StringBuilder(plain.length());
+        int wordStart = -1;
+        for (int i = 0; i <= plain.length(); i++) {
+            char c = i < plain.length() ? plain.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (wordStart < 0) {
+                    if (!normalized.isEmpty()) {
+                        normalized.append(' ');
+                    }
+                    wordStart = normalized.length();
+                }
+                normalized.append(Character.toLowerCase(c));
+            } else if (wordStart >= 0) {
+                // Every stop word is three letters at most, so longer words skip the lookup
+                if (normalized.length() - wordStart <= 3 && STOP_WORDS.contains(normalized.substring(wordStart))) {
+                    normalized.setLength(Math.max(0, wordStart - 1));
+                }
+                wordStart = -1;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The normalised name with dashes for spaces, e.g. {@code ritz-carlton-south-beach}.
+     */
+    public static String canonicalId(String name) {
+        return normalize(name).replace(' ', '-');
+    }
+
+    /**
+     * The best known hotel for one card title, or null when none scores {@code minScore}.
+     */
+    public Match match(String cardName) {
+        return best(cardName, 0);
+    }
+
+    /**
+     * Resolves every card on a page in one pass: the cards that matched a known hotel, best score
+     * first. Null titles are skipped.
+     */
+    public List<Match> resolve(List<String> cardNames) {
+        List<Match> matches = new ArrayList<>();
+        for (int card = 0; card < cardNames.size(); card++) {
+            String name = cardNames.get(card);
+            if (name == null) {
+                continue;
+            }
+            Match match = best(name, card);
+            if (match != null) {
+                matches.add(match);
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::score).reversed());
+        return matches;
+    }
+
+    private Match best(String cardName, int card) {
+        int[] cardTrigrams = trigrams(normalize(cardName));
+        if (cardTrigrams.length == 0) {
+            return null;
+        }
+        int bestHotel = -1;
+        double bestScore = 0;
+        for (int hotel = 0; hotel < ids.length; hotel++) {
+            int shared = shared(trigrams[hotel], cardTrigrams);
+            if (shared == 0) {
+                continue;
+            }
+            double coverage = shared / (double) trigrams[hotel].length;
+            double dice = 2.0 * shared / (trigrams[hotel].length + cardTrigrams.length);
+            double score = COVERAGE_WEIGHT * coverage + (1 - COVERAGE_WEIGHT) * dice;
+            if (score > bestScore) {
+                bestScore = score;
+                bestHotel = hotel;
+            }
+        }
+        if (bestHotel < 0 || bestScore < minScore) {
+            return null;
+        }
+        return new Match(ids[bestHotel], names[bestHotel], card, bestScore);
+    }
+
+    /**
+     * How many trigrams two ascending, distinct trigram lists have in common.
+     */
+    private static int shared(int[] a, int[] b) {
+        int shared = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                shared++;
+                i++;
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Distinct trigrams of the name padded with a space at each end, ascending.
+     */
+    private static int[] trigrams(String normalized) {
+        if (normalized.isEmpty()) {
+            return NO_TRIGRAMS;
+        }
+        int length = normalized.length() + 2;
+        int[] trigrams = new int[length - 2];
+        int previous = 0;
+        int current = code(normalized.charAt(0));
+        for (int i = 0; i < trigrams.length; i++) {
+            int next = i + 1 < normalized.length() ? code(normalized.charAt(i + 1)) : 0;
+            trigrams[i] = (previous * ALPHABET + current) * ALPHABET + next;
+            previous = current;
+            current = next;
+        }
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+        return distinct == trigrams.length ? trigrams : Arrays.copyOf(trigrams, distinct);
+    }
+
+    private static int code(char c) {
+        if (c == ' ') {
+            return 0;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return 1 + c - 'a';
+        }
+        if (c >= '0' && c <= '9') {
+            return 27 + c - '0';
+        }
+        return ALPHABET - 1;
+    }
+}
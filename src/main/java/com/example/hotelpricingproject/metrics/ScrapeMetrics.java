@@ -0,0 +1,107 @@
+package com.example.hotelpricingproject.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.hotelpricingproject.execution.BrowserSessionPool;
+
+/**
+ * Scrape pipeline meters:
+ * {@code hotel.scrape.phase} (timer, tag {@code phase}),
+ * {@code hotel.scrape.page} (timer for a whole page),
+ * {@code hotel.scrape.outcomes} (counter, tag {@code outcome}) and
+ * {@code hotel.scrape.sessions.active} (gauge of browser sessions in use) and, once a pool is
+ * {@linkplain #monitor monitored}, {@code hotel.browser.pool.open}/{@code .capacity}.
+ */
+@Component
+public class ScrapeMetrics {
+
+    private final MeterRegistry registry;
+    private final Map<ScrapePhase, Timer> phaseTimers = new EnumMap<>(ScrapePhase.class);
+    private final Map<ScrapeOutcome, Counter> outcomeCounters = new EnumMap<>(ScrapeOutcome.class);
+    private final Timer pageTimer;
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    public ScrapeMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (ScrapePhase phase : ScrapePhase.values()) {
+            phaseTimers.put(phase, Timer.builder("hotel.scrape.phase")
+                    .description("Time spent in one step of scraping a page")
+                    .tag("phase", phase.tag())
+                    .publishPercentiles(0.5, 0.99)
+                    .register(registry));
+        }
+        for (ScrapeOutcome outcome : ScrapeOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder("hotel.scrape.outcomes")
+                    .description("Scraped pages by result")
+                    .tag("outcome", outcome.tag())
+                    .register(registry));
+        }
+        pageTimer = Timer.builder("hotel.scrape.page")
+                .description("Time to scrape one (hotel, city, date) page end to end")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        Gauge.builder("hotel.scrape.sessions.active", activeSessions, AtomicInteger::get)
+                .description("Browser sessions currently scraping")
+                .register(registry);
+    }
+
+    /**
+     * Metrics backed by a private registry, for scrapers created outside Spring.
+     */
+    public static ScrapeMetrics unregistered() {
+        return new ScrapeMetrics(new SimpleMeterRegistry());
+    }
+
+    public <T> T time(ScrapePhase phase, Supplier<T> step) {
+        return phaseTimers.get(phase).record(step);
+    }
+
+    public void time(ScrapePhase phase, Runnable step) {
+        phaseTimers.get(phase).record(step);
+    }
+
+    public Timer.Sample startPage() {
+        return Timer.start(registry);
+    }
+
+    public void endPage(Timer.Sample sample, ScrapeOutcome outcome) {
+        sample.stop(pageTimer);
+        outcomeCounters.get(outcome).increment();
+    }
+
+    public void monitor(BrowserSessionPool pool) {
+        Gauge.builder("hotel.browser.pool.open", pool, BrowserSessionPool::getOpenSessions)
+                .description("Browser sessions open, busy or idle")
+                .register(registry);
+        Gauge.builder("hotel.browser.pool.capacity", pool, BrowserSessionPool::getCapacity)
+                .description("Maximum browser sessions")
+                .register(registry);
+    }
+
+    public void sessionOpened() {
+        activeSessions.incrementAndGet();
+    }
+
+    public void sessionClosed() {
+        activeSessions.decrementAndGet();
+    }
+
+    public Timer phaseTimer(ScrapePhase phase) {
+        return phaseTimers.get(phase);
+    }
+
+    public Counter outcomeCounter(ScrapeOutcome outcome) {
+        return outcomeCounters.get(outcome);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hotelpricingproject.metrics;
+
+/**
+ * How scraping one page ended, used as the {@code outcome} tag.
+ */
+public enum ScrapeOutcome {
+    /** A price was extracted and saved. */
+    FOUND,
+    /** The page loaded but no card matched the hotel. */
+    NOT_FOUND,
+    /** A card matched but its price could not be parsed. */
+    PARSE_FAILURE,
+    /** The result cards never appeared. */
+    TIMEOUT,
+    /** Anything else, e.g. a driver or database error. */
+    ERROR;
+
+    /**
+     * Timeouts and errors are usually transient (or the site pushing back), so they are worth
+     * another try; a page that loaded without the hotel is not.
+     */
+    public boolean isRetryable() {
+        return this == TIMEOUT || this == ERROR;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.hotelpricingproject.metrics;
+
+/**
+ * The steps of scraping one (hotel, city, date) page, used as the {@code phase} tag.
+ */
+public enum ScrapePhase {
+    SESSION_WAIT,
+    DRIVER_CREATE,
+    WARM_UP,
+    THROTTLE,
+    NAVIGATE,
+    WAIT,
+    POPUPS,
+    COOKIES,
+    SCROLL,
+    EXTRACT,
+    // Saving a batch of prices, so timed once per batch rather than per page
+    PERSIST;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
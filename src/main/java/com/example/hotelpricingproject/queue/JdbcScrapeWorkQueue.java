@@ -0,0 +1,230 @@
+package com.example.hotelpricingproject.queue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hotelpricingproject.execution.DatabaseGate;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * {@link ScrapeWorkQueue} on the application's own database, so nodes that share the SQLite file
+ * (or any JDBC database) share the queue. Units live in {@code scrape_work_units}, keyed by
+ * (hotel, city, check-in, nights, guests); the table is created on first use. A claim is a single
+ * {@code UPDATE ... RETURNING} that picks the oldest claimable units and leases them in one
+ * statement, so it takes SQLite's write lock before reading anything: a node that finds the lock
+ * held waits out the driver's busy timeout instead of failing with {@code SQLITE_BUSY}, as a read
+ * upgraded to a write inside a deferred transaction would. Enqueues run one transaction per call,
+ * which on SQLite also means one commit instead of one per unit. Writes go through the
+ * {@link DatabaseGate} like the scraper's own saves, so nodes in one process queue up rather than
+ * contend for the write lock at all.
+ * <p>
+ * Check-in dates are stored as ISO text and times as epoch millis, which every database compares
+ * the same way.
+ */
+public class JdbcScrapeWorkQueue implements ScrapeWorkQueue {
+
+    static final String QUEUED = "QUEUED";
+    static final String LEASED = "LEASED";
+    static final String DONE = "DONE";
+    static final String FAILED = "FAILED";
+
+    private static final String KEY = "hotel_name = ? AND city = ? AND check_in = ? AND nights = ? AND guests = ?";
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final String CLAIMABLE = "(state = ? OR (state = ? AND lease_expires_at < ? AND attempts < ?))";
+    private static final String CLAIM = "UPDATE scrape_work_units SET state = ?, lease_owner = ?, "
+            + "lease_token = lease_token + 1, lease_expires_at = ?, attempts = attempts + 1, updated_at = ? "
+            + "WHERE " + CLAIMABLE + " AND (hotel_name, city, check_in, nights, guests) IN "
+            + "(SELECT hotel_name, city, check_in, nights, guests FROM scrape_work_units WHERE " + CLAIMABLE
+            + " ORDER BY enqueued_at, hotel_name, city, nights, guests, check_in LIMIT ?)";
+    private static final String CLAIMED_COLUMNS = "hotel_name, city, check_in, nights, guests, lease_token, "
+            + "attempts, enqueued_at";
+    private static final Comparator<ClaimedUnit> CLAIM_ORDER = Comparator.comparingLong(ClaimedUnit::enqueuedAt)
+            .thenComparing(claimed -> claimed.unit().hotelName())
+            .thenComparing(claimed -> claimed.unit().city())
+            .thenComparingInt(claimed -> claimed.unit().nights())
+            .thenComparingInt(claimed -> claimed.unit().guests())
+            .thenComparing(claimed -> claimed.unit().checkIn());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseGate databaseGate;
+    private final Clock clock;
+    private final int maxAttempts;
+    private final String claimSql;
+
+    public JdbcScrapeWorkQueue(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                               DatabaseGate databaseGate, Clock clock, int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.databaseGate = databaseGate;
+        this.clock = clock;
+        this.maxAttempts = maxAttempts;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS scrape_work_units ("
+                + "hotel_name VARCHAR(255) NOT NULL, "
+                + "city VARCHAR(255) NOT NULL, "
+                + "check_in VARCHAR(10) NOT NULL, "
+                + "nights INTEGER NOT NULL, "
+                + "guests INTEGER NOT NULL, "
+                + "state VARCHAR(8) NOT NULL, "
+                + "lease_owner VARCHAR(255), "
+                + "lease_token BIGINT NOT NULL, "
+                + "lease_expires_at BIGINT, "
+                + "attempts INTEGER NOT NULL, "
+                + "enqueued_at BIGINT NOT NULL, "
+                + "updated_at BIGINT NOT NULL, "
+                + "last_error VARCHAR(" + MAX_ERROR_LENGTH + "), "
+                + "PRIMARY KEY (hotel_name, city, check_in, nights, guests))");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_scrape_work_units_claim "
+                + "ON scrape_work_units (state, enqueued_at)");
+        // H2 has no RETURNING clause; it reads the updated rows through a data change delta table
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        this.claimSql = "H2".equals(product)
+                ? "SELECT " + CLAIMED_COLUMNS + " FROM FINAL TABLE (" + CLAIM + ")"
+                : CLAIM + " RETURNING " + CLAIMED_COLUMNS;
+    }
+
+    @Override
+    public int enqueue(Collection<PageKey> units) {
+        long now = clock.millis();
+        Integer queued = databaseGate.call(() -> transactionTemplate.execute(status -> {
+            int count = 0;
+            for (PageKey unit : units) {
+                Object[] key = key(unit);
+                // Finished units go round again; queued and leased ones are left alone
+                int requeued = jdbcTemplate.update("UPDATE scrape_work_units SET state = ?, attempts = 0, "
+                                + "last_error = NULL, enqueued_at = ?, updated_at = ? WHERE " + KEY + " AND state IN (?, ?)",
+                        concat(new Object[]{QUEUED, now, now}, key, new Object[]{DONE, FAILED}));
+                if (requeued == 0) {
+                    try {
+                        requeued = jdbcTemplate.update("INSERT INTO scrape_work_units (hotel_name, city, check_in, "
+                                        + "nights, guests, state, lease_token, attempts, enqueued_at, updated_at) "
+                                        + "SELECT ?, ?, ?, ?, ?, ?, 0, 0, ?, ? WHERE NOT EXISTS "
+                                        + "(SELECT 1 FROM scrape_work_units WHERE " + KEY + ")",
+                                concat(key, new Object[]{QUEUED, now, now}, key));
+                    } catch (DataIntegrityViolationException e) {
+                        // Another node inserted it between the check and the insert
+                        requeued = 0;
+                    }
+                }
+                count += requeued;
+            }
+            return count;
+        }));
+        return queued == null ? 0 : queued;
+    }
+
+    @Override
+    public List<WorkLease> claim(String nodeId, int max, Duration leaseTime) {
+        long now = clock.millis();
+        long expiresAt = now + leaseTime.toMillis();
+        Object[] claimable = {QUEUED, LEASED, now, maxAttempts};
+        List<ClaimedUnit> claimed = databaseGate.call(() -> jdbcTemplate.query(claimSql,
+                (rs, row) -> new ClaimedUnit(new PageKey(rs.getString("hotel_name"), rs.getString("city"),
+                        LocalDate.parse(rs.getString("check_in")), rs.getInt("nights"), rs.getInt("guests")),
+                        rs.getLong("lease_token"), rs.getInt("attempts"), rs.getLong("enqueued_at")),
+                concat(new Object[]{LEASED, nodeId, expiresAt, now}, claimable, claimable, new Object[]{max})));
+        return claimed.stream()
+                .sorted(CLAIM_ORDER)
+                .map(unit -> new WorkLease(unit.unit(), nodeId, unit.token(), unit.attempts(),
+                        Instant.ofEpochMilli(expiresAt)))
+                .toList();
+    }
+
+    @Override
+    public boolean heartbeat(WorkLease lease, Duration leaseTime) {
+        long now = clock.millis();
+        return update("UPDATE scrape_work_units SET lease_expires_at = ?, updated_at = ? "
+                        + "WHERE " + KEY + " AND lease_token = ? AND state = ?",
+                concat(new Object[]{now + leaseTime.toMillis(), now}, key(lease.unit()),
+                        new Object[]{lease.token(), LEASED})) == 1;
+    }
+
+    @Override
+    public boolean complete(WorkLease lease) {
+        // A lease that ran out but was not claimed again still counts: nobody else did the work
+        return update("UPDATE scrape_work_units SET state = ?, lease_owner = NULL, "
+                        + "lease_expires_at = NULL, last_error = NULL, updated_at = ? "
+                        + "WHERE " + KEY + " AND lease_token = ? AND state = ?",
+                concat(new Object[]{DONE, clock.millis()}, key(lease.unit()),
+                        new Object[]{lease.token(), LEASED})) == 1;
+    }
+
+    @Override
+    public boolean fail(WorkLease lease, String error) {
+        return update("UPDATE scrape_work_units SET state = CASE WHEN attempts >= ? THEN ? ELSE ? END, "
+                        + "lease_owner = NULL, lease_expires_at = NULL, last_error = ?, updated_at = ? "
+                        + "WHERE " + KEY + " AND lease_token = ? AND state = ?",
+                concat(new Object[]{maxAttempts, FAILED, QUEUED, truncate(error), clock.millis()}, key(lease.unit()),
+                        new Object[]{lease.token(), LEASED})) == 1;
+    }
+
+    @Override
+    public int requeueExpired() {
+        long now = clock.millis();
+        return update("UPDATE scrape_work_units SET state = CASE WHEN attempts >= ? THEN ? ELSE ? END, "
+                        + "lease_owner = NULL, lease_expires_at = NULL, last_error = ?, updated_at = ? "
+                        + "WHERE state = ? AND lease_expires_at < ?",
+                maxAttempts, FAILED, QUEUED, "Lease expired", now, LEASED, now);
+    }
+
+    @Override
+    public QueueStats stats() {
+        long[] counts = new long[4];
+        jdbcTemplate.query("SELECT state, COUNT(*) AS units FROM scrape_work_units GROUP BY state", rs -> {
+            long units = rs.getLong("units");
+            switch (rs.getString("state")) {
+                case QUEUED -> counts[0] = units;
+                case LEASED -> counts[1] = units;
+                case DONE -> counts[2] = units;
+                case FAILED -> counts[3] = units;
+                default -> { }
+            }
+        });
+        return new QueueStats(counts[0], counts[1], counts[2], counts[3]);
+    }
+
+    private int update(String sql, Object... args) {
+        return databaseGate.call(() -> jdbcTemplate.update(sql, args));
+    }
+
+    private static Object[] key(PageKey unit) {
+        return new Object[]{unit.hotelName(), unit.city(), unit.checkIn().toString(), unit.nights(), unit.guests()};
+    }
+
+    private static Object[] concat(Object[]... parts) {
+        List<Object> all = new ArrayList<>();
+        for (Object[] part : parts) {
+            all.addAll(Arrays.asList(part));
+        }
+        return all.toArray();
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * A unit as the claim left it: its new lease token and attempt count.
+     */
+    private record ClaimedUnit(PageKey unit, long token, int attempts, long enqueuedAt) {
+    }
+}
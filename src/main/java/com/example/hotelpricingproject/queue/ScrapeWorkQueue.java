@@ -0,0 +1,98 @@
+package com.example.hotelpricingproject.queue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.sampling.SamplingStrategy;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * Shared queue of (hotel, city, date, stay) scrape units for several scraper nodes. A node
+ * {@linkplain #claim claims} units under a time-limited lease, {@linkplain #heartbeat extends}
+ * the lease while it works and then {@linkplain #complete completes} or {@linkplain #fail fails}
+ * each unit. A lease that runs out, because its node died or stalled, makes the unit claimable
+ * again; every claim bumps the unit's lease token, so a node that lost its lease can no longer
+ * settle the unit.
+ */
+public interface ScrapeWorkQueue {
+
+    /**
+     * Queues each unit unless it is already queued or leased; finished and failed units are
+     * queued again with their attempts reset.
+     *
+     * @return the number of units that became queued
+     */
+    int enqueue(Collection<PageKey> units);
+
+    /**
+     * Queues every (city, stay, date) unit a run over the same arguments would scrape. Adaptive
+     * strategies only contribute their initial dates, since refining needs the prices.
+     *
+     * @return the number of units that became queued
+     */
+    default int enqueue(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate,
+                        SamplingStrategy sampling, SearchMatrix matrix) {
+        List<LocalDate> dates = sampling.initialDates(startDate, endDate);
+        List<PageKey> units = new ArrayList<>();
+        for (SearchMatrix.Stay stay : matrix.stays()) {
+            for (String city : cities) {
+                for (LocalDate date : dates) {
+                    units.add(new PageKey(hotelName, city, date, stay.nights(), stay.guests()));
+                }
+            }
+        }
+        return enqueue(units);
+    }
+
+    /**
+     * Leases up to {@code max} queued or expired units to {@code nodeId}, oldest first and with each
+     * (hotel, city, stay) series kept together, so a node can scrape its dates in one run.
+     */
+    List<WorkLease> claim(String nodeId, int max, Duration leaseTime);
+
+    /**
+     * Extends a lease the node still holds.
+     *
+     * @return false when the lease has expired and the unit was claimed by someone else
+     */
+    boolean heartbeat(WorkLease lease, Duration leaseTime);
+
+    /**
+     * Marks the unit done.
+     *
+     * @return false when the lease was lost, in which case the unit is left to its new holder
+     */
+    boolean complete(WorkLease lease);
+
+    /**
+     * Puts the unit back in the queue, or marks it failed for good once it has used up its
+     * attempts.
+     *
+     * @return false when the lease was lost
+     */
+    boolean fail(WorkLease lease, String error);
+
+    /**
+     * Returns units whose leases ran out to the queue, or fails them when out of attempts.
+     * {@link #claim} takes expired units anyway; this keeps the counts in {@link #stats} honest.
+     *
+     * @return the number of expired leases released
+     */
+    int requeueExpired();
+
+    QueueStats stats();
+
+    /**
+     * Units per state.
+     */
+    record QueueStats(long queued, long leased, long done, long failed) {
+
+        public long pending() {
+            return queued + leased;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.hotelpricingproject.queue;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.sampling.ListedDates;
+import com.example.hotelpricingproject.service.HotelScraperService;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * One scraper node pulling from a shared {@link ScrapeWorkQueue}. Each pass claims a batch of
+ * units, scrapes them through the node's own {@link HotelScraperService} (one run per hotel, city
+ * and stay, so the run's dates share the browser pool), and settles each unit once the run has
+ * saved its prices: units with or without a price are done, timeouts and errors go back to the
+ * queue, and so does the whole series when the run itself fails. A heartbeat extends the batch's leases every third of the lease time while it runs, so
+ * only a node that dies or hangs loses its units to the others.
+ * <p>
+ * Nodes are independent: several can run in one JVM (as the tests do) or on separate machines
+ * sharing the database.
+ */
+public class ScrapeWorkerNode implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ScrapeWorkerNode.class);
+
+    private final String nodeId;
+    private final ScrapeWorkQueue queue;
+    private final HotelScraperService scraper;
+    private final int claimBatch;
+    private final Duration leaseTime;
+    private final Duration pollInterval;
+    private final ScheduledExecutorService heartbeats;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ScrapeWorkerNode(String nodeId, ScrapeWorkQueue queue, HotelScraperService scraper, int claimBatch,
+                            Duration leaseTime, Duration pollInterval) {
+        if (claimBatch < 1) {
+            throw new IllegalArgumentException("claimBatch must be at least 1");
+        }
+        this.nodeId = nodeId;
+        this.queue = queue;
+        this.scraper = scraper;
+        this.claimBatch = claimBatch;
+        this.leaseTime = leaseTime;
+        this.pollInterval = pollInterval;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "scrape-heartbeat-" + nodeId);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Claims and works one batch.
+     *
+     * @return the number of units claimed, 0 when nothing was claimable
+     */
+    public int runOnce() {
+        List<WorkLease> leases = queue.claim(nodeId, claimBatch, leaseTime);
+        if (leases.isEmpty()) {
+            return 0;
+        }
+        Map<PageKey, WorkLease> held = new ConcurrentHashMap<>();
+        leases.forEach(lease -> held.put(lease.unit(), lease));
+        long beatMillis = Math.max(1, leaseTime.toMillis() / 3);
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(() -> held.values().removeIf(lease -> {
+            try {
+                if (queue.heartbeat(lease, leaseTime)) {
+                    return false;
+                }
+                log.warn("Node {} lost its lease on {}", nodeId, lease.unit());
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Heartbeat for {} failed: {}", lease.unit(), e.getMessage());
+                return false;
+            }
+        }), beatMillis, beatMillis, TimeUnit.MILLISECONDS);
+        try {
+            for (List<WorkLease> series : bySeries(leases)) {
+                runSeries(series, held);
+            }
+        } finally {
+            heartbeat.cancel(false);
+        }
+        return leases.size();
+    }
+
+    /**
+     * Works the queue until nothing is left to claim.
+     *
+     * @return the number of units claimed
+     */
+    public int drain() {
+        int total = 0;
+        int claimed;
+        while ((claimed = runOnce()) > 0) {
+            total += claimed;
+        }
+        return total;
+    }
+
+    private void runSeries(List<WorkLease> series, Map<PageKey, WorkLease> held) {
+        PageKey first = series.get(0).unit();
+        List<LocalDate> dates = series.stream().map(lease -> lease.unit().checkIn()).sorted().toList();
+        Map<PageKey, ScrapeOutcome> outcomes = new ConcurrentHashMap<>();
+        String error = null;
+        try {
+            scraper.scrape(first.hotelName(), List.of(first.city()), dates.get(0), dates.get(dates.size() - 1),
+                    new ListedDates(dates), SearchMatrix.of(List.of(first.nights()), List.of(first.guests())),
+                    (key, outcome, price) -> outcomes.put(key, outcome));
+        } catch (RuntimeException e) {
+            error = String.valueOf(e.getMessage());
+            log.warn("Node {} failed scraping {} in {}: {}", nodeId, first.hotelName(), first.city(), error);
+        }
+        // Settled only now that the run has flushed its prices. A run that threw is failed whole:
+        // the units it reported before giving up go round again with the rest
+        for (WorkLease lease : series) {
+            if (held.remove(lease.unit()) == null) {
+                continue;
+            }
+            ScrapeOutcome outcome = outcomes.get(lease.unit());
+            if (error != null) {
+                queue.fail(lease, error);
+                failed.incrementAndGet();
+            } else if (outcome != null && !outcome.isRetryable()) {
+                if (queue.complete(lease)) {
+                    completed.incrementAndGet();
+                }
+            } else {
+                queue.fail(lease, outcome != null ? outcome.tag() : "Not scraped");
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Leases grouped by (hotel, city, stay), in claim order.
+     */
+    private static List<List<WorkLease>> bySeries(List<WorkLease> leases) {
+        Map<List<Object>, List<WorkLease>> series = new LinkedHashMap<>();
+        for (WorkLease lease : leases) {
+            PageKey unit = lease.unit();
+            series.computeIfAbsent(List.of(unit.hotelName(), unit.city(), unit.nights(), unit.guests()),
+                    k -> new ArrayList<>()).add(lease);
+        }
+        return new ArrayList<>(series.values());
+    }
+
+    /**
+     * Starts polling the queue on a background thread once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::pollLoop, "scrape-worker-" + nodeId);
+        worker.setDaemon(true);
+        worker.start();
+        log.info("Scrape worker {} started: {} units per claim, {}s leases", nodeId, claimBatch, leaseTime.toSeconds());
+    }
+
+    private void pollLoop() {
+        while (running) {
+            try {
+                if (runOnce() == 0) {
+                    queue.requeueExpired();
+                    Thread.sleep(pollInterval.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Scrape worker {} pass failed: {}", nodeId, e.getMessage(), e);
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Stops polling after the current batch; unsettled leases simply expire.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = worker;
+        }
+        if (current != null) {
+            current.interrupt();
+            current.join(leaseTime.toMillis());
+        }
+        heartbeats.shutdownNow();
+    }
+}
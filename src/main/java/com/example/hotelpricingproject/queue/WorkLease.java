@@ -0,0 +1,14 @@
+package com.example.hotelpricingproject.queue;
+
+import java.time.Instant;
+
+import com.example.hotelpricingproject.tracing.PageKey;
+
+/**
+ * A node's claim on one unit.
+ *
+ * @param token   bumped on every claim of the unit; heartbeats and completions must present it
+ * @param attempt how many times the unit has been claimed, this claim included
+ */
+public record WorkLease(PageKey unit, String nodeId, long token, int attempt, Instant expiresAt) {
+}
@@ -0,0 +1,59 @@
+package com.example.hotelpricingproject.queue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hotelpricingproject.execution.DatabaseGate;
+import com.example.hotelpricingproject.service.HotelScraperService;
+
+/**
+ * The shared scrape queue, built on first use, and this node's worker when
+ * {@code hotel.queue.worker.enabled=true}. Any instance with scraping enabled can enqueue; only
+ * worker nodes pull.
+ */
+@Configuration
+@Lazy
+public class WorkQueueConfig {
+
+    @Bean
+    public ScrapeWorkQueue scrapeWorkQueue(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                           DatabaseGate databaseGate,
+                                           @Value("${hotel.queue.max-attempts:3}") int maxAttempts) {
+        return new JdbcScrapeWorkQueue(jdbcTemplate, transactionTemplate, databaseGate, Clock.systemUTC(), maxAttempts);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Lazy(false)
+    @ConditionalOnProperty(name = "hotel.queue.worker.enabled", havingValue = "true")
+    public ScrapeWorkerNode scrapeWorkerNode(ScrapeWorkQueue queue, HotelScraperService scraperService,
+                                             @Value("${hotel.queue.node-id:}") String nodeId,
+                                             @Value("${hotel.queue.claim-batch:8}") int claimBatch,
+                                             @Value("${hotel.queue.lease-ms:120000}") long leaseMillis,
+                                             @Value("${hotel.queue.poll-ms:5000}") long pollMillis) {
+        return new ScrapeWorkerNode(nodeId.isBlank() ? defaultNodeId() : nodeId, queue, scraperService, claimBatch,
+                Duration.ofMillis(leaseMillis), Duration.ofMillis(pollMillis));
+    }
+
+    /**
+     * host-pid, unique per process on a machine.
+     */
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + ProcessHandle.current().pid();
+    }
+}
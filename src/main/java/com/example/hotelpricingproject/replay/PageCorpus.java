@@ -0,0 +1,75 @@
+package com.example.hotelpricingproject.replay;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Optional;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Saved search-result pages on disk, keyed by (search query, check-in date, nights, guests).
+ * Layout: {@code <root>/<query-slug>/<yyyy-MM-dd>.html} for the default one-night, two-adult search
+ * and {@code <yyyy-MM-dd>_<nights>n<guests>g.html} for any other stay.
+ */
+public class PageCorpus {
+
+    private final Path root;
+
+    public PageCorpus(Path root) throws IOException {
+        this.root = root;
+        Files.createDirectories(root);
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * Stores a page, replacing any earlier recording for the same key. The write goes through a
+     * temp file so a concurrent reader never sees a half-written page.
+     */
+    public void save(String query, LocalDate checkIn, String html) throws IOException {
+        save(query, checkIn, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS, html);
+    }
+
+    public void save(String query, LocalDate checkIn, int nights, int guests, String html) throws IOException {
+        Path target = pathFor(query, checkIn, nights, guests);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), checkIn.toString(), ".tmp");
+        Files.writeString(temp, html, StandardCharsets.UTF_8);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public Optional<byte[]> load(String query, LocalDate checkIn) throws IOException {
+        return load(query, checkIn, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
+    }
+
+    public Optional<byte[]> load(String query, LocalDate checkIn, int nights, int guests) throws IOException {
+        Path path = pathFor(query, checkIn, nights, guests);
+        return Files.exists(path) ? Optional.of(Files.readAllBytes(path)) : Optional.empty();
+    }
+
+    Path pathFor(String query, LocalDate checkIn) {
+        return pathFor(query, checkIn, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
+    }
+
+    Path pathFor(String query, LocalDate checkIn, int nights, int guests) {
+        boolean defaultStay = nights == HotelPrice.DEFAULT_NIGHTS && guests == HotelPrice.DEFAULT_GUESTS;
+        String name = defaultStay ? checkIn + ".html" : checkIn + "_" + nights + "n" + guests + "g.html";
+        return root.resolve(slug(query)).resolve(name);
+    }
+
+    /**
+     * Lower-cases the query and collapses anything but letters and digits into single dashes,
+     * so "Hotel Adlon  Berlin" and "hotel-adlon-berlin" share a directory.
+     */
+    static String slug(String query) {
+        String slug = query.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "-");
+        return slug.replaceAll("^-|-$", "");
+    }
+}
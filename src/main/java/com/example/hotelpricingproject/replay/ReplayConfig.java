@@ -0,0 +1,36 @@
+package com.example.hotelpricingproject.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Record mode ({@code hotel.scraper.record-dir}) and the offline replay server
+ * ({@code hotel.replay.enabled=true}). Both are off by default.
+ */
+@Configuration
+public class ReplayConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "hotel.scraper.record-dir")
+    public PageCorpus pageCorpus(@Value("${hotel.scraper.record-dir}") String directory) throws IOException {
+        return new PageCorpus(Path.of(directory));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "hotel.replay.enabled", havingValue = "true")
+    public ReplayHttpServer replayHttpServer(
+            @Value("${hotel.replay.corpus-dir:data/corpus}") String corpusDir,
+            @Value("${hotel.replay.port:8090}") int port,
+            @Value("${hotel.replay.latency-ms:0}") long latencyMillis,
+            @Value("${hotel.replay.jitter-ms:0}") long jitterMillis,
+            @Value("${hotel.replay.failure-rate:0}") double failureRate,
+            @Value("${hotel.replay.threads:16}") int threads) throws IOException {
+        return new ReplayHttpServer(new PageCorpus(Path.of(corpusDir)), port, latencyMillis, jitterMillis,
+                failureRate, threads);
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.hotelpricingproject.replay;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves a {@link PageCorpus} back to a browser as if it were the search results page, so the
+ * scraper can run offline. Point {@code hotel.scraper.base-url} at {@link #getBaseUrl()}.
+ * Each response can be delayed by {@code latencyMillis ± jitterMillis}, and a {@code failureRate}
+ * fraction of requests is answered with 503 to exercise the scraper's error path. With
+ * {@link #setRateLimit} set, requests beyond that many per second get 429, like a site throttling us.
+ */
+public class ReplayHttpServer implements AutoCloseable {
+
+    static final String SEARCH_PATH = "/searchresults.html";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayHttpServer.class);
+
+    private final PageCorpus corpus;
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+    private final AtomicLong injectedFailures = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final ArrayDeque<Long> recentRequests = new ArrayDeque<>();
+    private volatile double rateLimit;
+
+    public ReplayHttpServer(PageCorpus corpus, int port, long latencyMillis, long jitterMillis,
+                            double failureRate, int threads) throws IOException {
+        if (failureRate < 0 || failureRate > 1) {
+            throw new IllegalArgumentException("failureRate must be between 0 and 1");
+        }
+        this.corpus = corpus;
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext(SEARCH_PATH, this::handle);
+    }
+
+    public void start() {
+        server.start();
+        log.info("Replaying {} at {}", corpus.getRoot(), getBaseUrl());
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + SEARCH_PATH;
+    }
+
+    public long getServed() {
+        return served.get();
+    }
+
+    public long getMissing() {
+        return missing.get();
+    }
+
+    public long getInjectedFailures() {
+        return injectedFailures.get();
+    }
+
+    public long getRateLimited() {
+        return rateLimited.get();
+    }
+
+    /**
+     * Answers 429 to requests beyond {@code requestsPerSecond} in any one-second window; 0 turns it off.
+     */
+    public void setRateLimit(double requestsPerSecond) {
+        this.rateLimit = requestsPerSecond;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            delay();
+            if (overRateLimit()) {
+                rateLimited.incrementAndGet();
+                send(exchange, 429, "<html><body>Too Many Requests</body></html>".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                injectedFailures.incrementAndGet();
+                send(exchange, 503, "<html><body>Service Unavailable</body></html>".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+            if (params.get("ss") == null) {
+                // The search page without a search, where new sessions land to take the stored cookies
+                send(exchange, 200, "<html><body></body></html>".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            Optional<byte[]> page = lookup(params.get("ss"), params.get("checkin"), params.get("checkout"),
+                    params.get("group_adults"));
+            if (page.isEmpty()) {
+                missing.incrementAndGet();
+                send(exchange, 404, "<html><body>Not recorded</body></html>".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            served.incrementAndGet();
+            send(exchange, 200, page.get());
+        }
+    }
+
+    /**
+     * Without a check-out date or adult count the request is the default one-night, two-adult search.
+     */
+    private Optional<byte[]> lookup(String query, String checkIn, String checkOut, String adults) throws IOException {
+        if (query == null || checkIn == null) {
+            return Optional.empty();
+        }
+        try {
+            LocalDate from = LocalDate.parse(checkIn);
+            int nights = checkOut == null ? HotelPrice.DEFAULT_NIGHTS : (int) ChronoUnit.DAYS.between(from, LocalDate.parse(checkOut));
+            int guests = adults == null ? HotelPrice.DEFAULT_GUESTS : Integer.parseInt(adults);
+            return corpus.load(query, from, nights, guests);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean overRateLimit() {
+        if (rateLimit <= 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        synchronized (recentRequests) {
+            while (!recentRequests.isEmpty() && recentRequests.peekFirst() <= now - 1_000_000_000L) {
+                recentRequests.pollFirst();
+            }
+            recentRequests.addLast(now);
+            return recentRequests.size() > rateLimit;
+        }
+    }
+
+    private void delay() {
+        long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : 0;
+        long millis = Math.max(0, latencyMillis + jitter);
+        if (millis == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+}
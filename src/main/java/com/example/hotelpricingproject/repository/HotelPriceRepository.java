@@ -12,25 +12,57 @@ import org.springframework.stereotype.Repository;
 import com.example.hotelpricingproject.entity.HotelPrice;
 
 @Repository
-public interface HotelPriceRepository extends JpaRepository<HotelPrice, Long> {
+public interface HotelPriceRepository extends JpaRepository<HotelPrice, Long>, HotelPriceRepositoryCustom {
 
     List<HotelPrice> findByHotelNameAndCity(String hotelName, String city);
 
+    List<HotelPrice> findByHotelNameAndCityAndNightsAndGuests(String hotelName, String city, int nights, int guests);
+
     List<HotelPrice> findByHotelNameAndCityAndCheckInDateBetween(
             String hotelName, String city, LocalDate startDate, LocalDate endDate);
 
+    List<HotelPrice> findByHotelNameAndCityAndNightsAndGuestsAndCheckInDateBetween(
+            String hotelName, String city, int nights, int guests, LocalDate startDate, LocalDate endDate);
+
     // Use Pageable instead of JPQL LIMIT (LIMIT is invalid in JPQL)
-    @Query("SELECT h FROM HotelPrice h WHERE h.hotelName = :hotelName AND h.city = :city ORDER BY h.price ASC")
+    // Prices of different stays are not comparable, so lowest-price lookups are always for one stay
+    @Query("SELECT h FROM HotelPrice h WHERE h.hotelName = :hotelName AND h.city = :city " +
+            "AND h.nights = :nights AND h.guests = :guests ORDER BY h.price ASC")
     List<HotelPrice> findLowestPricesByHotelAndCity(@Param("hotelName") String hotelName,
                                                            @Param("city") String city,
+                                                           @Param("nights") int nights,
+                                                           @Param("guests") int guests,
                                                            Pageable pageable);
 
     @Query("SELECT h FROM HotelPrice h WHERE h.hotelName = :hotelName AND h.city = :city " +
+            "AND h.nights = :nights AND h.guests = :guests " +
             "AND h.checkInDate BETWEEN :startDate AND :endDate ORDER BY h.price ASC")
     List<HotelPrice> findLowestPricesByHotelCityAndDateRange(@Param("hotelName") String hotelName,
                                                                      @Param("city") String city,
+                                                                     @Param("nights") int nights,
+                                                                     @Param("guests") int guests,
                                                                      @Param("startDate") LocalDate startDate,
                                                                      @Param("endDate") LocalDate endDate,
                                                                      Pageable pageable);
 
+    @Query("SELECT MIN(h.checkInDate) FROM HotelPrice h WHERE h.checkInDate < :before")
+    LocalDate findEarliestCheckInDateBefore(@Param("before") LocalDate before);
+
+    /**
+     * One page of the rows checking in from {@code from} up to but excluding {@code to}, in id
+     * order after {@code afterId}, for walking a month without holding it all in memory.
+     */
+    @Query("SELECT h FROM HotelPrice h WHERE h.checkInDate >= :from AND h.checkInDate < :to " +
+            "AND h.id > :afterId ORDER BY h.id")
+    List<HotelPrice> findCheckInRangeAfterId(@Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             @Param("afterId") long afterId,
+                                             Pageable pageable);
+
+    /**
+     * Ids of the rows checking in from {@code from} up to but excluding {@code to}.
+     */
+    @Query("SELECT h.id FROM HotelPrice h WHERE h.checkInDate >= :from AND h.checkInDate < :to")
+    List<Long> findIdsByCheckInRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
 }
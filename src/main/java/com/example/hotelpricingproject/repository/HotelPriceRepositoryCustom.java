@@ -0,0 +1,18 @@
+package com.example.hotelpricingproject.repository;
+
+import java.util.List;
+
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Hand-written queries mixed into {@link HotelPriceRepository}.
+ */
+public interface HotelPriceRepositoryCustom {
+
+    /**
+     * Runs many lowest-price lookups as one set-based query. The result has one
+     * list per query, in query order, each sorted by ascending price.
+     */
+    List<List<HotelPrice>> findLowestPricesBatch(List<LowestPriceQuery> queries);
+}
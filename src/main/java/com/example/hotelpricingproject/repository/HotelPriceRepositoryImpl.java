@@ -0,0 +1,101 @@
+package com.example.hotelpricingproject.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+public class HotelPriceRepositoryImpl implements HotelPriceRepositoryCustom {
+
+    // Open range bounds. They are bound as LocalDate like the entity's own column, so sqlite-jdbc
+    // stores and compares them as epoch millis and H2 as DATE
+    private static final LocalDate MIN_DATE = LocalDate.of(1, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<List<HotelPrice>> findLowestPricesBatch(List<LowestPriceQuery> queries) {
+        List<List<HotelPrice>> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            results.add(new ArrayList<>());
+        }
+        if (queries.isEmpty()) {
+            return results;
+        }
+
+        // Pass 1: rank every matching row per query with one window-function query
+        Query ranked = entityManager.createNativeQuery(buildRankingSql(queries.size()));
+        int param = 1;
+        for (int i = 0; i < queries.size(); i++) {
+            LowestPriceQuery query = queries.get(i);
+            ranked.setParameter(param++, i);
+            ranked.setParameter(param++, query.getHotelName());
+            ranked.setParameter(param++, query.getCity());
+            ranked.setParameter(param++, query.effectiveNights());
+            ranked.setParameter(param++, query.effectiveGuests());
+            ranked.setParameter(param++, query.getStartDate() != null ? query.getStartDate() : MIN_DATE);
+            ranked.setParameter(param++, query.getEndDate() != null ? query.getEndDate() : MAX_DATE);
+            ranked.setParameter(param++, query.effectiveLimit());
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = ranked.getResultList();
+        if (rows.isEmpty()) {
+            return results;
+        }
+
+        // Pass 2: load the winning rows as entities in a single IN query
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            ids.add(((Number) row[1]).longValue());
+        }
+        Map<Long, HotelPrice> byId = new HashMap<>();
+        entityManager.createQuery("SELECT h FROM HotelPrice h WHERE h.id IN :ids", HotelPrice.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(price -> byId.put(price.getId(), price));
+
+        for (Object[] row : rows) {
+            HotelPrice price = byId.get(((Number) row[1]).longValue());
+            if (price != null) {
+                results.get(((Number) row[0]).intValue()).add(price);
+            }
+        }
+        return results;
+    }
+
+    private static String buildRankingSql(int queryCount) {
+        StringBuilder values = new StringBuilder();
+        int param = 1;
+        for (int i = 0; i < queryCount; i++) {
+            if (i > 0) {
+                values.append(", ");
+            }
+            values.append("(CAST(?").append(param++).append(" AS INTEGER), ")
+                    .append("CAST(?").append(param++).append(" AS VARCHAR(255)), ")
+                    .append("CAST(?").append(param++).append(" AS VARCHAR(255)), ")
+                    .append("CAST(?").append(param++).append(" AS INTEGER), ")
+                    .append("CAST(?").append(param++).append(" AS INTEGER), ")
+                    .append("CAST(?").append(param++).append(" AS DATE), ")
+                    .append("CAST(?").append(param++).append(" AS DATE), ")
+                    .append("CAST(?").append(param++).append(" AS INTEGER))");
+        }
+        return "WITH q(qid, hotel_name, city, nights, guests, start_date, end_date, k) AS (VALUES " + values + ") " +
+                "SELECT ranked.qid, ranked.id FROM (" +
+                "  SELECT q.qid AS qid, h.id AS id, q.k AS k, " +
+                "         ROW_NUMBER() OVER (PARTITION BY q.qid ORDER BY h.price ASC, h.id ASC) AS rn " +
+                "  FROM q JOIN hotel_prices h ON h.hotel_name = q.hotel_name AND h.city = q.city " +
+                "   AND h.nights = q.nights AND h.guests = q.guests" +
+                "   AND h.check_in_date BETWEEN q.start_date AND q.end_date" +
+                ") ranked WHERE ranked.rn <= ranked.k ORDER BY ranked.qid, ranked.rn";
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.hotelpricingproject.repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Reads {@code hotel_prices} columns over plain JDBC. SQLite rows hold dates as
+ * ISO text (Python tools) or epoch millis (sqlite-jdbc defaults), H2 as DATE.
+ */
+public final class JdbcColumns {
+    private JdbcColumns() {}
+
+    public static LocalDate localDate(ResultSet rs, String column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof LocalDate date) {
+            return date;
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof Number millis) {
+            return Instant.ofEpochMilli(millis.longValue()).atZone(ZoneId.systemDefault()).toLocalDate();
+        }
+        String text = value.toString();
+        return LocalDate.parse(text.length() > 10 ? text.substring(0, 10) : text);
+    }
+
+    public static long priceCents(ResultSet rs, String column) throws SQLException {
+        BigDecimal price = rs.getBigDecimal(column);
+        return price == null ? 0 : toCents(price);
+    }
+
+    public static long toCents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
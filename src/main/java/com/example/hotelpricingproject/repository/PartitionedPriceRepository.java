@@ -0,0 +1,191 @@
+package com.example.hotelpricingproject.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import com.example.hotelpricingproject.archive.MonthSummary;
+import com.example.hotelpricingproject.archive.PriceArchive;
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.export.PriceRow;
+
+/**
+ * Answers price queries across the hot {@code hotel_prices} table and the monthly
+ * {@link PriceArchive}. SQLite is always asked, through its own date index; archive months are
+ * opened only when the query's check-in range overlaps them and their {@link MonthSummary} holds
+ * the query's stay, so queries about upcoming dates never touch the cold store. Lowest-price
+ * queries open the months cheapest first and stop at the first one whose lowest price cannot
+ * beat the results so far. A row present in both stores (an archival cut short before its
+ * delete) is returned once, from SQLite.
+ */
+@Repository
+public class PartitionedPriceRepository {
+
+    private static final Comparator<HotelPrice> BY_PRICE = Comparator.comparing(HotelPrice::getPrice);
+
+    private final HotelPriceRepository hot;
+    private final PriceArchive archive;
+
+    public PartitionedPriceRepository(HotelPriceRepository hot, PriceArchive archive) {
+        this.hot = hot;
+        this.archive = archive;
+    }
+
+    public List<HotelPrice> findByStay(String hotelName, String city, int nights, int guests) {
+        return withCold(hot.findByHotelNameAndCityAndNightsAndGuests(hotelName, city, nights, guests),
+                new Stay(hotelName, city, nights, guests), null, null);
+    }
+
+    public List<HotelPrice> findByStayAndCheckInDateBetween(String hotelName, String city, int nights, int guests,
+                                                            LocalDate startDate, LocalDate endDate) {
+        List<HotelPrice> hotRows = hot.findByHotelNameAndCityAndNightsAndGuestsAndCheckInDateBetween(
+                hotelName, city, nights, guests, startDate, endDate);
+        return withCold(hotRows, new Stay(hotelName, city, nights, guests), startDate, endDate);
+    }
+
+    /**
+     * The {@code limit} lowest prices for one stay, cheapest first.
+     */
+    public List<HotelPrice> findLowestPrices(String hotelName, String city, int nights, int guests, int limit) {
+        return lowest(hot.findLowestPricesByHotelAndCity(hotelName, city, nights, guests, PageRequest.of(0, limit)),
+                new Stay(hotelName, city, nights, guests), null, null, limit);
+    }
+
+    /**
+     * The {@code limit} lowest prices for one stay checking in from {@code startDate} through
+     * {@code endDate}, cheapest first.
+     */
+    public List<HotelPrice> findLowestPrices(String hotelName, String city, int nights, int guests,
+                                             LocalDate startDate, LocalDate endDate, int limit) {
+        return lowest(hot.findLowestPricesByHotelCityAndDateRange(hotelName, city, nights, guests, startDate, endDate,
+                PageRequest.of(0, limit)), new Stay(hotelName, city, nights, guests), startDate, endDate, limit);
+    }
+
+    /**
+     * {@link HotelPriceRepository#findLowestPricesBatch} with archived months merged into the
+     * queries whose range reaches them.
+     */
+    public List<List<HotelPrice>> findLowestPricesBatch(List<LowestPriceQuery> queries) {
+        List<List<HotelPrice>> results = hot.findLowestPricesBatch(queries);
+        for (int i = 0; i < queries.size(); i++) {
+            LowestPriceQuery query = queries.get(i);
+            Stay stay = new Stay(query.getHotelName(), query.getCity(), query.effectiveNights(), query.effectiveGuests());
+            results.set(i, lowest(results.get(i), stay, query.getStartDate(), query.getEndDate(),
+                    query.effectiveLimit()));
+        }
+        return results;
+    }
+
+    /**
+     * Merges the hot rows, cheapest first, with the archived ones. Months are read in order of
+     * their lowest price for the stay, and only while that could still make the first
+     * {@code limit}.
+     */
+    private List<HotelPrice> lowest(List<HotelPrice> hotRows, Stay stay, LocalDate startDate, LocalDate endDate,
+                                    int limit) {
+        List<ColdMonth> months = new ArrayList<>();
+        for (YearMonth month : archive.monthsBetween(startDate, endDate)) {
+            long minCents = summary(month).minCents(stay.hotelName(), stay.city(), stay.nights(), stay.guests());
+            if (minCents != MonthSummary.NONE) {
+                months.add(new ColdMonth(month, minCents));
+            }
+        }
+        if (months.isEmpty()) {
+            return hotRows;
+        }
+        months.sort(Comparator.comparingLong(ColdMonth::minCents));
+        Set<Long> hotIds = ids(hotRows);
+        List<HotelPrice> merged = new ArrayList<>(hotRows);
+        for (ColdMonth month : months) {
+            if (merged.size() >= limit
+                    && month.minCents() >= JdbcColumns.toCents(merged.get(limit - 1).getPrice())) {
+                break;
+            }
+            readMonth(month.month(), stay, startDate, endDate, hotIds, merged);
+            merged.sort(BY_PRICE);
+            if (merged.size() > limit) {
+                merged.subList(limit, merged.size()).clear();
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * The hot rows plus every archived row of the stay in range; the hot list itself when no
+     * archived month holds the stay.
+     */
+    private List<HotelPrice> withCold(List<HotelPrice> hotRows, Stay stay, LocalDate startDate, LocalDate endDate) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month : archive.monthsBetween(startDate, endDate)) {
+            if (summary(month).contains(stay.hotelName(), stay.city(), stay.nights(), stay.guests())) {
+                months.add(month);
+            }
+        }
+        if (months.isEmpty()) {
+            return hotRows;
+        }
+        Set<Long> hotIds = ids(hotRows);
+        List<HotelPrice> merged = new ArrayList<>(hotRows);
+        for (YearMonth month : months) {
+            readMonth(month, stay, startDate, endDate, hotIds, merged);
+        }
+        return merged;
+    }
+
+    private void readMonth(YearMonth month, Stay stay, LocalDate startDate, LocalDate endDate, Set<Long> hotIds,
+                           List<HotelPrice> into) {
+        try {
+            archive.read(month, row -> {
+                if (inRange(row.checkInDate(), startDate, endDate) && stay.test(row) && !hotIds.contains(row.id())) {
+                    into.add(row.toHotelPrice());
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read archived prices for " + month, e);
+        }
+    }
+
+    private MonthSummary summary(YearMonth month) {
+        try {
+            return archive.summary(month);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read archived prices for " + month, e);
+        }
+    }
+
+    private static Set<Long> ids(List<HotelPrice> prices) {
+        Set<Long> ids = new HashSet<>();
+        prices.forEach(price -> ids.add(price.getId()));
+        return ids;
+    }
+
+    private static boolean inRange(LocalDate date, LocalDate startDate, LocalDate endDate) {
+        return (startDate == null || !date.isBefore(startDate)) && (endDate == null || !date.isAfter(endDate));
+    }
+
+    private record ColdMonth(YearMonth month, long minCents) {
+    }
+
+    /**
+     * One (hotel, city, nights, guests) series, matched against archived rows.
+     */
+    private record Stay(String hotelName, String city, int nights, int guests) implements Predicate<PriceRow> {
+
+        @Override
+        public boolean test(PriceRow row) {
+            return row.hotelName().equals(hotelName) && row.city().equals(city) && row.guests() == guests
+                    && row.checkOutDate().toEpochDay() - row.checkInDate().toEpochDay() == nights;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.hotelpricingproject.repository;
+
+import java.time.LocalDate;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Append-only store of price observations for analytics scans. Unlike
+ * {@link HotelPriceRepository} it keeps only the numeric facts (no ids,
+ * ratings or addresses) and is derived from SQLite, which stays the
+ * system of record.
+ */
+public interface PriceObservationRepository {
+
+    void append(HotelPrice price);
+
+    /**
+     * Visits every observation matching the filters, where null means "any"
+     * and the check-in range is inclusive. Returns the number visited.
+     */
+    long scan(String hotelName, String city, LocalDate from, LocalDate to, PriceObservationVisitor visitor);
+
+    long count();
+
+    /**
+     * The highest {@code hotel_prices} id copied into the store, 0 while it is
+     * empty. Copying resumes after it.
+     */
+    long lastSourceId();
+
+    String dimensionName(int id);
+}
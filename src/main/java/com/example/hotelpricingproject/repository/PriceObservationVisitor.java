@@ -0,0 +1,14 @@
+package com.example.hotelpricingproject.repository;
+
+/**
+ * Receives observations from a {@link PriceObservationRepository} scan as primitives,
+ * so a scan allocates nothing per row. Dimension ids resolve through
+ * {@link PriceObservationRepository#dimensionName(int)}; the currency id is negative
+ * when the price's currency was not recorded.
+ */
+@FunctionalInterface
+public interface PriceObservationVisitor {
+
+    void visit(int hotelId, int cityId, int checkInEpochDay, int nights, int guests, int currencyId, long priceCents,
+               int scrapedEpochDay);
+}
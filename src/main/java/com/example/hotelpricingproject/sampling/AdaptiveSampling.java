@@ -0,0 +1,95 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+
+/**
+ * Scrapes every {@code coarseStrideDays}-th date first, then keeps bisecting the gaps between
+ * neighbouring prices that differ by more than {@code thresholdPercent}. Flat stretches stay coarse
+ * and get interpolated; a price step is found in about log2(stride) extra page loads.
+ */
+public class AdaptiveSampling implements SamplingStrategy {
+
+    private final int coarseStrideDays;
+    private final BigDecimal thresholdPercent;
+
+    public AdaptiveSampling(int coarseStrideDays, double thresholdPercent) {
+        if (coarseStrideDays < 1) {
+            throw new IllegalArgumentException("coarseStrideDays must be at least 1");
+        }
+        if (thresholdPercent < 0) {
+            throw new IllegalArgumentException("thresholdPercent must not be negative");
+        }
+        this.coarseStrideDays = coarseStrideDays;
+        this.thresholdPercent = BigDecimal.valueOf(thresholdPercent);
+    }
+
+    @Override
+    public List<LocalDate> initialDates(LocalDate start, LocalDate end) {
+        List<LocalDate> dates = new FixedStrideSampling(coarseStrideDays).initialDates(start, end);
+        // An empty range (start after end) has nothing to bound
+        if (!dates.isEmpty() && !dates.get(dates.size() - 1).equals(end)) {
+            dates.add(end);
+        }
+        return dates;
+    }
+
+    @Override
+    public boolean isAdaptive() {
+        return true;
+    }
+
+    @Override
+    public List<LocalDate> refine(LocalDate start, LocalDate end, Set<LocalDate> attempted,
+                                  NavigableMap<LocalDate, BigDecimal> prices) {
+        List<LocalDate> next = new ArrayList<>();
+        Map.Entry<LocalDate, BigDecimal> previous = null;
+        for (Map.Entry<LocalDate, BigDecimal> current : prices.subMap(start, true, end, true).entrySet()) {
+            if (previous != null && differs(previous.getValue(), current.getValue())) {
+                LocalDate pick = closestUnattempted(previous.getKey(), current.getKey(), attempted);
+                if (pick != null) {
+                    next.add(pick);
+                }
+            }
+            previous = current;
+        }
+        return next;
+    }
+
+    private boolean differs(BigDecimal a, BigDecimal b) {
+        BigDecimal lower = a.min(b);
+        if (lower.signum() <= 0) {
+            return a.compareTo(b) != 0;
+        }
+        BigDecimal percent = a.subtract(b).abs().multiply(BigDecimal.valueOf(100)).divide(lower, 4, RoundingMode.HALF_UP);
+        return percent.compareTo(thresholdPercent) > 0;
+    }
+
+    /**
+     * The not yet scraped date strictly between {@code from} and {@code to} nearest their midpoint.
+     */
+    private static LocalDate closestUnattempted(LocalDate from, LocalDate to, Set<LocalDate> attempted) {
+        long gap = ChronoUnit.DAYS.between(from, to);
+        LocalDate middle = from.plusDays(gap / 2);
+        for (long offset = 0; offset < gap; offset++) {
+            for (LocalDate candidate : new LocalDate[]{middle.minusDays(offset), middle.plusDays(offset)}) {
+                if (candidate.isAfter(from) && candidate.isBefore(to) && !attempted.contains(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "adaptive:" + coarseStrideDays + ":" + thresholdPercent.stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every {@code strideDays}-th date from the start; a stride of 1 scrapes every day.
+ */
+public class FixedStrideSampling implements SamplingStrategy {
+
+    private final int strideDays;
+
+    public FixedStrideSampling(int strideDays) {
+        if (strideDays < 1) {
+            throw new IllegalArgumentException("strideDays must be at least 1");
+        }
+        this.strideDays = strideDays;
+    }
+
+    @Override
+    public List<LocalDate> initialDates(LocalDate start, LocalDate end) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(strideDays)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    @Override
+    public String toString() {
+        return "fixed:" + strideDays;
+    }
+}
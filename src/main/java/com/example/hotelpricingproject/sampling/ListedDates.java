@@ -0,0 +1,30 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Exactly the given dates, for callers that already know which ones to scrape, such as a node
+ * working through units it claimed from a queue.
+ */
+public class ListedDates implements SamplingStrategy {
+
+    private final NavigableSet<LocalDate> dates;
+
+    public ListedDates(Collection<LocalDate> dates) {
+        this.dates = new TreeSet<>(dates);
+    }
+
+    @Override
+    public List<LocalDate> initialDates(LocalDate start, LocalDate end) {
+        return List.copyOf(dates.subSet(start, true, end, true));
+    }
+
+    @Override
+    public String toString() {
+        return "listed:" + dates.size();
+    }
+}
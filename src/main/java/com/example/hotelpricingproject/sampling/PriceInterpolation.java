@@ -0,0 +1,40 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Estimates prices for days that were not scraped from their nearest sampled neighbours.
+ */
+public final class PriceInterpolation {
+
+    private PriceInterpolation() {
+    }
+
+    /**
+     * The sampled price on a sampled day, otherwise the straight line between the closest samples on
+     * either side, to the cent. Null before the first or after the last sample: there is nothing to
+     * anchor an estimate there.
+     */
+    public static BigDecimal estimate(NavigableMap<LocalDate, BigDecimal> samples, LocalDate day) {
+        BigDecimal exact = samples.get(day);
+        if (exact != null) {
+            return exact;
+        }
+        Map.Entry<LocalDate, BigDecimal> before = samples.lowerEntry(day);
+        Map.Entry<LocalDate, BigDecimal> after = samples.higherEntry(day);
+        if (before == null || after == null) {
+            return null;
+        }
+        long span = ChronoUnit.DAYS.between(before.getKey(), after.getKey());
+        long offset = ChronoUnit.DAYS.between(before.getKey(), day);
+        BigDecimal step = after.getValue().subtract(before.getValue())
+                .multiply(BigDecimal.valueOf(offset))
+                .divide(BigDecimal.valueOf(span), 10, RoundingMode.HALF_UP);
+        return before.getValue().add(step).setScale(2, RoundingMode.HALF_UP);
+    }
+}
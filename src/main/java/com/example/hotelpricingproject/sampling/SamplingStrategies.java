@@ -0,0 +1,51 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the compact strategy specs used by the scrape endpoint and batch job files:
+ * <ul>
+ *   <li>{@code daily} or {@code fixed:3} - every day, or every third day</li>
+ *   <li>{@code tiered:30:1,90:3,*:7} - stride per horizon in days from today, {@code *} beyond the last</li>
+ *   <li>{@code adaptive:7:10} - every 7th day, then bisect gaps whose prices differ by more than 10%</li>
+ * </ul>
+ */
+public final class SamplingStrategies {
+
+    private SamplingStrategies() {
+    }
+
+    public static SamplingStrategy parse(String spec, LocalDate today) {
+        if (spec == null || spec.isBlank() || spec.equals("daily")) {
+            return new FixedStrideSampling(1);
+        }
+        int colon = spec.indexOf(':');
+        String type = colon < 0 ? spec : spec.substring(0, colon);
+        String args = colon < 0 ? "" : spec.substring(colon + 1);
+        try {
+            return switch (type) {
+                case "fixed" -> new FixedStrideSampling(Integer.parseInt(args));
+                case "tiered" -> new TieredSampling(today, parseTiers(args.isEmpty() ? "30:1,90:3,*:7" : args));
+                case "adaptive" -> {
+                    String[] parts = args.split(":");
+                    yield new AdaptiveSampling(Integer.parseInt(parts[0]), Double.parseDouble(parts[1]));
+                }
+                default -> throw new IllegalArgumentException("Unknown sampling strategy '" + type + "'");
+            };
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Malformed sampling spec '" + spec + "'", e);
+        }
+    }
+
+    private static List<TieredSampling.Tier> parseTiers(String args) {
+        List<TieredSampling.Tier> tiers = new ArrayList<>();
+        for (String tier : args.split(",")) {
+            String[] parts = tier.trim().split(":");
+            int horizon = parts[0].equals("*") ? Integer.MAX_VALUE : Integer.parseInt(parts[0]);
+            tiers.add(new TieredSampling.Tier(horizon, Integer.parseInt(parts[1])));
+        }
+        return tiers;
+    }
+}
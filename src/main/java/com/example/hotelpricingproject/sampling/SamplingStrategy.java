@@ -0,0 +1,39 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+
+/**
+ * Decides which check-in dates of a range get scraped. The scraper asks for the
+ * {@linkplain #initialDates initial dates}, scrapes them, then calls {@link #refine} with what it
+ * has so far until no new dates come back. Missing days are filled in by {@link PriceInterpolation}.
+ */
+public interface SamplingStrategy {
+
+    /**
+     * Dates to scrape first, ascending, all within {@code [start, end]}.
+     */
+    List<LocalDate> initialDates(LocalDate start, LocalDate end);
+
+    /**
+     * Further dates to scrape after a round, none of them in {@code attempted}. Empty when done,
+     * which is always the case for strategies that do not adapt.
+     *
+     * @param attempted every date scraped so far, with or without a price
+     * @param prices    the prices found so far by check-in date
+     */
+    default List<LocalDate> refine(LocalDate start, LocalDate end, Set<LocalDate> attempted,
+                                   NavigableMap<LocalDate, BigDecimal> prices) {
+        return List.of();
+    }
+
+    /**
+     * Whether {@link #refine} can return dates, so the scraper has to keep the dates and prices of a run.
+     */
+    default boolean isAdaptive() {
+        return false;
+    }
+}
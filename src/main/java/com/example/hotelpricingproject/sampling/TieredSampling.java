@@ -0,0 +1,80 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Dense near today and sparse further out: each tier has a stride that applies up to its horizon
+ * (days from today), the last tier applying beyond. Near-term prices move most and matter most,
+ * so the default {@code 30:1,90:3,*:7} scrapes daily for a month, every third day to three months,
+ * then weekly.
+ */
+public class TieredSampling implements SamplingStrategy {
+
+    /**
+     * Stride for dates up to {@code horizonDays} from today.
+     */
+    public record Tier(int horizonDays, int strideDays) {
+
+        public Tier {
+            if (strideDays < 1) {
+                throw new IllegalArgumentException("strideDays must be at least 1");
+            }
+        }
+    }
+
+    private final LocalDate today;
+    private final List<Tier> tiers;
+
+    /**
+     * @param tiers ascending by horizon; the last one should use {@link Integer#MAX_VALUE} to cover
+     *              every later date
+     */
+    public TieredSampling(LocalDate today, List<Tier> tiers) {
+        if (tiers.isEmpty()) {
+            throw new IllegalArgumentException("At least one tier is required");
+        }
+        for (int i = 1; i < tiers.size(); i++) {
+            if (tiers.get(i).horizonDays() <= tiers.get(i - 1).horizonDays()) {
+                throw new IllegalArgumentException("Tier horizons must be ascending");
+            }
+        }
+        this.today = today;
+        this.tiers = List.copyOf(tiers);
+    }
+
+    @Override
+    public List<LocalDate> initialDates(LocalDate start, LocalDate end) {
+        List<LocalDate> dates = new ArrayList<>();
+        LocalDate date = start;
+        while (!date.isAfter(end)) {
+            dates.add(date);
+            date = date.plusDays(strideAt(date));
+        }
+        // Always bound a non-empty range so the last stretch can be interpolated
+        if (!dates.isEmpty() && !dates.get(dates.size() - 1).equals(end)) {
+            dates.add(end);
+        }
+        return dates;
+    }
+
+    private int strideAt(LocalDate date) {
+        long daysOut = ChronoUnit.DAYS.between(today, date);
+        for (Tier tier : tiers) {
+            if (daysOut <= tier.horizonDays()) {
+                return tier.strideDays();
+            }
+        }
+        return tiers.get(tiers.size() - 1).strideDays();
+    }
+
+    @Override
+    public String toString() {
+        return "tiered:" + tiers.stream()
+                .map(tier -> (tier.horizonDays() == Integer.MAX_VALUE ? "*" : tier.horizonDays()) + ":" + tier.strideDays())
+                .collect(Collectors.joining(","));
+    }
+}
@@ -13,12 +13,19 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 public final class PageInteractionHelper {
     private PageInteractionHelper() {}
 
-    public static void handleCookies(WebDriver driver, WebDriverWait wait) {
+    /**
+     * Dismisses the consent banner if it shows up before {@code wait} runs out.
+     *
+     * @return whether the banner was there and dismissed
+     */
+    public static boolean handleCookies(WebDriver driver, WebDriverWait wait) {
         try {
             WebElement cookieButton = wait.until(ExpectedConditions.elementToBeClickable(
                     By.cssSelector("[aria-label='Dismiss']")));
             cookieButton.click();
-        } catch (TimeoutException ignored) {
+            return true;
+        } catch (TimeoutException e) {
+            return false;
         }
     }
 
@@ -1,56 +1,168 @@
 package com.example.hotelpricingproject.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import com.example.hotelpricingproject.currency.FxRates;
+import com.example.hotelpricingproject.dto.DailyPrice;
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.dto.LowestPriceResult;
 import com.example.hotelpricingproject.entity.HotelPrice;
-import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.repository.PartitionedPriceRepository;
+import com.example.hotelpricingproject.sampling.PriceInterpolation;
 
 @Service
 public class HotelAnalysisService {
 
+    static final int MAX_BATCH_QUERIES = 100;
+    static final int MAX_BATCH_LIMIT = 100;
+
+    private static final int TOP_TEN = 10;
+
+    @Autowired
+    private PartitionedPriceRepository priceRepository;
+
     @Autowired
-    private HotelPriceRepository hotelPriceRepository;
+    private FxRates fxRates;
 
     /**
-     * Finds the 10 lowest prices for a given hotel in a specific city.
+     * Finds the 10 lowest prices for a given hotel in a specific city, for the default one-night,
+     * two-adult stay.
      */
     public List<HotelPrice> findLowestPrices(String hotelName, String city) {
-        Pageable topTen = PageRequest.of(0, 10);
-        return hotelPriceRepository.findLowestPricesByHotelAndCity(hotelName, city, topTen);
+        return findLowestPrices(hotelName, city, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
     }
 
     /**
-     * Finds the 10 lowest prices for a given hotel in a specific city within a date range.
+     * Finds the 10 lowest prices for a given hotel in a specific city for a stay of {@code nights}
+     * nights and {@code guests} adults.
+     */
+    public List<HotelPrice> findLowestPrices(String hotelName, String city, int nights, int guests) {
+        return priceRepository.findLowestPrices(hotelName, city, nights, guests, TOP_TEN);
+    }
+
+    /**
+     * Finds the 10 lowest prices for a given hotel in a specific city within a date range, for the
+     * default stay.
      */
     public List<HotelPrice> findLowestPrices(String hotelName, String city, LocalDate startDate, LocalDate endDate) {
-        Pageable topTen = PageRequest.of(0, 10);
-        return hotelPriceRepository.findLowestPricesByHotelCityAndDateRange(hotelName, city, startDate, endDate, topTen);
+        return findLowestPrices(hotelName, city, startDate, endDate, HotelPrice.DEFAULT_NIGHTS,
+                HotelPrice.DEFAULT_GUESTS);
     }
 
     /**
-     * Gets all prices for a hotel in a city.
+     * Finds the 10 lowest prices for one stay of a given hotel in a specific city within a date range.
+     */
+    public List<HotelPrice> findLowestPrices(String hotelName, String city, LocalDate startDate, LocalDate endDate,
+                                             int nights, int guests) {
+        return priceRepository.findLowestPrices(hotelName, city, nights, guests, startDate, endDate, TOP_TEN);
+    }
+
+    /**
+     * Answers many lowest-price lookups at once with a single ranked query.
+     * Each query behaves like {@link #findLowestPrices}: the range is inclusive,
+     * the stay defaults to one night for two adults and the limit to 10.
+     */
+    public List<LowestPriceResult> findLowestPrices(List<LowestPriceQuery> queries) {
+        validateBatch(queries);
+        List<List<HotelPrice>> prices = priceRepository.findLowestPricesBatch(queries);
+        List<LowestPriceResult> results = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            results.add(new LowestPriceResult(queries.get(i), prices.get(i)));
+        }
+        return results;
+    }
+
+    private static void validateBatch(List<LowestPriceQuery> queries) {
+        if (queries == null || queries.isEmpty()) {
+            throw new IllegalArgumentException("At least one query is required");
+        }
+        if (queries.size() > MAX_BATCH_QUERIES) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_QUERIES + " queries per batch");
+        }
+        for (LowestPriceQuery query : queries) {
+            if (query.getHotelName() == null || query.getCity() == null) {
+                throw new IllegalArgumentException("hotelName and city are required for every query");
+            }
+            if (query.effectiveNights() < 1 || query.effectiveGuests() < 1) {
+                throw new IllegalArgumentException("nights and guests must be at least 1");
+            }
+            if (query.effectiveLimit() < 1 || query.effectiveLimit() > MAX_BATCH_LIMIT) {
+                throw new IllegalArgumentException("limit must be between 1 and " + MAX_BATCH_LIMIT);
+            }
+            if (query.getStartDate() != null && query.getEndDate() != null
+                    && query.getStartDate().isAfter(query.getEndDate())) {
+                throw new IllegalArgumentException("startDate must not be after endDate");
+            }
+        }
+    }
+
+    /**
+     * Gets all prices for a hotel in a city for the default one-night, two-adult stay.
      */
     public List<HotelPrice> getPricesForHotelInCity(String hotelName, String city) {
-        return hotelPriceRepository.findByHotelNameAndCity(hotelName, city);
+        return getPricesForHotelInCity(hotelName, city, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
+    }
+
+    /**
+     * Gets all prices for a hotel in a city for a stay of {@code nights} nights and {@code guests} adults.
+     */
+    public List<HotelPrice> getPricesForHotelInCity(String hotelName, String city, int nights, int guests) {
+        return priceRepository.findByStay(hotelName, city, nights, guests);
+    }
+
+    /**
+     * One price per check-in date from {@code startDate} through {@code endDate} for a stay of
+     * {@code nights} nights and {@code guests} adults. Sampled dates use their latest scrape; dates
+     * in between are interpolated from the nearest sampled dates, so sparse sampling still gives a
+     * continuous curve. Dates before the first or after the last sample are left out.
+     */
+    public List<DailyPrice> getDailyPrices(String hotelName, String city, LocalDate startDate, LocalDate endDate,
+                                           int nights, int guests) {
+        NavigableMap<LocalDate, BigDecimal> samples = new TreeMap<>();
+        priceRepository.findByStayAndCheckInDateBetween(
+                        hotelName, city, nights, guests, startDate, endDate).stream()
+                .sorted(Comparator.comparing(HotelPrice::getScrapedDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(HotelPrice::getId, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(price -> samples.put(price.getCheckInDate(), price.getPrice()));
+
+        List<DailyPrice> daily = new ArrayList<>();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            BigDecimal price = PriceInterpolation.estimate(samples, day);
+            if (price != null) {
+                daily.add(new DailyPrice(day, price, !samples.containsKey(day)));
+            }
+        }
+        return daily;
     }
 
     /**
-     * Generates a summary report for analysis.
+     * Generates a summary report for analysis of the default one-night, two-adult stay.
      */
     public String generateAnalysisReport(String hotelName, List<String> cities) {
+        return generateAnalysisReport(hotelName, cities, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
+    }
+
+    /**
+     * Generates a summary report for analysis of a stay of {@code nights} nights and {@code guests} adults.
+     */
+    public String generateAnalysisReport(String hotelName, List<String> cities, int nights, int guests) {
         StringBuilder report = new StringBuilder();
         report.append("=== Hotel Price Analysis Report ===\n");
-        report.append("Hotel: ").append(hotelName).append("\n\n");
+        report.append("Hotel: ").append(hotelName).append("\n");
+        report.append("Stay: ").append(nights).append(" night(s), ").append(guests).append(" guest(s)\n\n");
 
         for (String city : cities) {
             report.append("City: ").append(city).append("\n");
-            List<HotelPrice> lowestPrices = findLowestPrices(hotelName, city);
+            List<HotelPrice> lowestPrices = findLowestPrices(hotelName, city, nights, guests);
 
             if (lowestPrices.isEmpty()) {
                 report.append("  No data available\n\n");
@@ -60,8 +172,9 @@ public class HotelAnalysisService {
             report.append("  Top 10 Lowest Prices:\n");
             for (int i = 0; i < lowestPrices.size(); i++) {
                 HotelPrice price = lowestPrices.get(i);
-                report.append(String.format("  %d. Check-in: %s, Price: $%s, Rating: %s\n",
-                        i + 1, price.getCheckInDate(), price.getPrice(), price.getRating()));
+                report.append(String.format("  %d. Check-in: %s, Price: %s %s, Rating: %s\n",
+                        i + 1, price.getCheckInDate(), price.getPrice(),
+                        price.getCurrency() != null ? price.getCurrency() : fxRates.getDefaultCurrency(), price.getRating()));
             }
             report.append("\n");
         }
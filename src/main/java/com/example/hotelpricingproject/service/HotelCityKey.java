@@ -0,0 +1,13 @@
+package com.example.hotelpricingproject.service;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * Identifies the (hotel, city) series a price belongs to.
+ */
+public record HotelCityKey(String hotelName, String city) {
+
+    public static HotelCityKey of(HotelPrice price) {
+        return new HotelCityKey(price.getHotelName(), price.getCity());
+    }
+}
@@ -1,14 +1,35 @@
 package com.example.hotelpricingproject.service;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -16,24 +37,134 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+import com.example.hotelpricingproject.currency.CurrencyDetector;
+import com.example.hotelpricingproject.currency.PriceTokenizer;
 import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.execution.BrowserProfileStore;
+import com.example.hotelpricingproject.execution.BrowserSessionPool;
+import com.example.hotelpricingproject.execution.DatabaseGate;
+import com.example.hotelpricingproject.execution.PriceBatchWriter;
+import com.example.hotelpricingproject.execution.ScrapeListener;
+import com.example.hotelpricingproject.execution.ScrapeSummary;
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.execution.ScrapeUnitExecutor;
+import com.example.hotelpricingproject.execution.WarmBrowserSessionPool;
+import com.example.hotelpricingproject.matching.HotelNameMatcher;
+import com.example.hotelpricingproject.metrics.ScrapeMetrics;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.metrics.ScrapePhase;
+import com.example.hotelpricingproject.replay.PageCorpus;
 import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.sampling.FixedStrideSampling;
+import com.example.hotelpricingproject.sampling.SamplingStrategy;
 import com.example.hotelpricingproject.selenium.PageInteractionHelper;
 import com.example.hotelpricingproject.selenium.WebDriverFactory;
+import com.example.hotelpricingproject.throttle.AdaptiveRateLimiter;
+import com.example.hotelpricingproject.throttle.HostRateLimiters;
+import com.example.hotelpricingproject.throttle.RetryPolicy;
+import com.example.hotelpricingproject.throttle.RetryQueue;
+import com.example.hotelpricingproject.tracing.PageKey;
+import com.example.hotelpricingproject.tracing.SlowPageCapture;
 
+// Created on the first scrape, so analysis-only nodes never build the scraping graph
 @Service
+@Lazy
 public class HotelScraperService {
 
     @Autowired
     private HotelPriceRepository hotelPriceRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Present only in record mode (hotel.scraper.record-dir)
+    @Autowired(required = false)
+    private PageCorpus pageCorpus;
+
+    @Autowired
+    private ScrapeMetrics scrapeMetrics = ScrapeMetrics.unregistered();
+
+    @Autowired
+    private Tracer tracer = TracerProvider.noop().get("hotel-scraper");
+
+    @Autowired
+    private HostRateLimiters rateLimiters = HostRateLimiters.unthrottled();
+
+    @Autowired
+    private RetryPolicy retryPolicy = RetryPolicy.noRetries();
+
+    @Autowired
+    private ScrapeUnitExecutor scrapeUnitExecutor = ScrapeUnitExecutor.callerThread();
+
+    @Autowired
+    private BrowserSessionPool browserPool = new BrowserSessionPool(1);
+
+    @Autowired
+    private DatabaseGate databaseGate = new DatabaseGate(1);
+
+    @Autowired
+    private BrowserProfileStore profileStore = new BrowserProfileStore(null);
+
+    // Prices per saveAll transaction, and how long a scraped price may wait for its batch
+    @Value("${hotel.scrape.persist-batch-size:25}")
+    private int persistBatchSize = 25;
+
+    @Value("${hotel.scrape.persist-max-delay-ms:5000}")
+    private long persistMaxDelayMillis = 5000;
+
+    // How long a page is given to show the consent banner before it counts as not answered
+    @Value("${hotel.scrape.consent-wait-ms:5000}")
+    private long consentWaitMillis = 5000;
+
+    // Writes a batch whose delay ran out while no unit was adding to it
+    private final ScheduledExecutorService persistTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "price-batch-flush");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Value("${hotel.scraper.name-match-min-score:0.7}")
+    private double nameMatchMinScore = HotelNameMatcher.DEFAULT_MIN_SCORE;
+
+    // Built once per hotel and shared by every page of every run
+    private final Map<String, HotelNameMatcher> nameMatchers = new ConcurrentHashMap<>();
+
+    // Absent when hotel.diagnostics.enabled=false
+    @Autowired(required = false)
+    private SlowPageCapture slowPageCapture;
+
     private static final Logger log = LoggerFactory.getLogger(HotelScraperService.class);
 
+    private static final AttributeKey<String> HOTEL = AttributeKey.stringKey("hotel.name");
+    private static final AttributeKey<String> CITY = AttributeKey.stringKey("hotel.city");
+    private static final AttributeKey<String> CHECK_IN = AttributeKey.stringKey("hotel.check_in");
+    private static final AttributeKey<Long> NIGHTS = AttributeKey.longKey("hotel.nights");
+    private static final AttributeKey<Long> GUESTS = AttributeKey.longKey("hotel.guests");
+    private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("scrape.outcome");
+    private static final AttributeKey<Double> THROTTLE_RATE = AttributeKey.doubleKey("throttle.rate");
+
     private static final String BOOKING_URL = "https://www.booking.com/searchresults.html";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    @Value("${hotel.scraper.base-url:" + BOOKING_URL + "}")
+    private String baseUrl = BOOKING_URL;
+
+    private Supplier<WebDriver> webDriverSupplier = WebDriverFactory::createDefault;
+
     // Centralized fallback selectors for resilient price extraction
     private static final String[] PRICE_SELECTORS = new String[]{
         "[data-testid='price-and-discounted-price']",
@@ -41,56 +172,432 @@ public class HotelScraperService {
         "[class*='price']"
     };
 
-    public List<HotelPrice> scrapeHotelPrices(String hotelName, String city, LocalDate startDate, LocalDate endDate) {
-        List<HotelPrice> scrapedPrices = new ArrayList<>();
-        WebDriver driver = null;
-        try {
-            driver = createWebDriver();
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-            JavascriptExecutor js = (JavascriptExecutor) driver;
-            js.executeScript("Object.defineProperty(navigator, 'webdriver', {get: () => undefined})");
-
-            LocalDate currentDate = startDate;
-            while (!currentDate.isAfter(endDate)) {
-                LocalDate checkOut = currentDate.plusDays(1);
-                try {
-                    String url = buildBookingUrl(hotelName, city, currentDate, checkOut);
-                    driver.get(url);
-                    wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(By.cssSelector("[data-testid='property-card']")));
-                    PageInteractionHelper.handlePopups(driver);
-                    PageInteractionHelper.handleCookies(driver, wait);
-                    PageInteractionHelper.scrollPage(driver, js);
-                    HotelPrice price = extractHotelData(driver, hotelName, city, currentDate, checkOut);
-                    if (price != null) {
-                        scrapedPrices.add(price);
-                        hotelPriceRepository.save(price);
-                        log.info("Scraped {} in {} for {} - ${}", hotelName, city, currentDate, price.getPrice());
+    public ScrapeSummary scrapeHotelPrices(String hotelName, String city, LocalDate startDate, LocalDate endDate) {
+        return scrapeHotelPrices(hotelName, List.of(city), startDate, endDate);
+    }
+
+    public ScrapeSummary scrapeHotelPrices(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate) {
+        return scrapeHotelPrices(hotelName, cities, startDate, endDate, new FixedStrideSampling(1));
+    }
+
+    public ScrapeSummary scrapeHotelPrices(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate,
+                                           SamplingStrategy sampling) {
+        return scrapeHotelPrices(hotelName, cities, startDate, endDate, sampling, SearchMatrix.DEFAULT);
+    }
+
+    /**
+     * Scrapes every stay in {@code matrix} for the dates {@code sampling} picks in each city and returns
+     * counts, minimum, mean and the cheapest prices per city. The prices themselves are saved as they
+     * arrive and not kept; pass a listener to {@link #scrape} to see each one.
+     */
+    public ScrapeSummary scrapeHotelPrices(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate,
+                                           SamplingStrategy sampling, SearchMatrix matrix) {
+        ScrapeSummary summary = new ScrapeSummary();
+        scrape(hotelName, cities, startDate, endDate, sampling, matrix, summary);
+        return summary;
+    }
+
+    /**
+     * Scrapes every {@code strideDays}-th date from {@code startDate} for each city.
+     *
+     * @return the number of prices found
+     * @see #scrape(String, List, LocalDate, LocalDate, SamplingStrategy, SearchMatrix, ScrapeListener)
+     */
+    public int scrape(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate, int strideDays,
+                      ScrapeListener listener) {
+        return scrape(hotelName, cities, startDate, endDate, new FixedStrideSampling(strideDays), listener);
+    }
+
+    /**
+     * Scrapes the dates {@code sampling} picks for each city with the default one-night, two-adult search.
+     *
+     * @return the number of prices found
+     */
+    public int scrape(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate,
+                      SamplingStrategy sampling, ScrapeListener listener) {
+        return scrape(hotelName, cities, startDate, endDate, sampling, SearchMatrix.DEFAULT, listener);
+    }
+
+    /**
+     * Scrapes every stay in {@code matrix} for the dates {@code sampling} picks in each city, each
+     * (city, stay, date) as its own work unit on the scrape executor. Units are submitted stay by stay in
+     * {@linkplain SearchMatrix#stays() priority order} and all share the browser pool, so sessions that
+     * accepted cookies for one stay are reused for the next. Prices are saved in batches as they arrive and
+     * every settled unit is reported to {@code listener}, so the caller need not hold results. Failed units
+     * are retried with backoff at the end of each round, and rounds continue while the strategy asks for
+     * more dates in any (city, stay) series.
+     *
+     * @return the number of prices found
+     */
+    public int scrape(String hotelName, List<String> cities, LocalDate startDate, LocalDate endDate,
+                      SamplingStrategy sampling, SearchMatrix matrix, ScrapeListener listener) {
+        List<Series> series = new ArrayList<>();
+        for (SearchMatrix.Stay stay : matrix.stays()) {
+            for (String city : cities) {
+                series.add(new Series(city, stay.nights(), stay.guests()));
+            }
+        }
+        // Only an adaptive strategy looks back at the dates and prices of the run, so only then are they kept
+        boolean adaptive = sampling.isAdaptive();
+        Map<Series, Set<LocalDate>> attempted = new LinkedHashMap<>();
+        Map<Series, NavigableMap<LocalDate, BigDecimal>> sampled = new HashMap<>();
+        if (adaptive) {
+            for (Series each : series) {
+                attempted.put(each, new HashSet<>());
+                sampled.put(each, new ConcurrentSkipListMap<>());
+            }
+        }
+        AtomicInteger found = new AtomicInteger();
+        ScrapeListener recording = (key, outcome, price) -> {
+            if (price != null) {
+                found.incrementAndGet();
+                if (adaptive) {
+                    sampled.get(Series.of(key)).put(key.checkIn(), price.getPrice());
+                }
+            }
+            listener.onUnit(key, outcome, price);
+        };
+        // Reports each found price once its batch has committed
+        PriceBatchWriter writer = new PriceBatchWriter(hotelPriceRepository, eventPublisher, databaseGate,
+                scrapeMetrics, persistTimer, persistBatchSize, TimeUnit.MILLISECONDS.toNanos(persistMaxDelayMillis),
+                recording);
+        Span runSpan = tracer.spanBuilder("hotel.scrape")
+                .setAttribute(HOTEL, hotelName)
+                .setAttribute(CITY, String.join(",", cities))
+                .setAttribute("scrape.start_date", startDate.toString())
+                .setAttribute("scrape.end_date", endDate.toString())
+                .setAttribute("scrape.sampling", sampling.toString())
+                .setAttribute("scrape.matrix", matrix.toString())
+                .startSpan();
+        try (Scope ignored = runSpan.makeCurrent()) {
+            Map<Series, List<LocalDate>> round = new LinkedHashMap<>();
+            for (Series each : series) {
+                round.put(each, sampling.initialDates(startDate, endDate));
+            }
+            int rounds = 0;
+            int pages = 0;
+            while (!round.isEmpty()) {
+                pages += runRound(hotelName, round, attempted, writer, recording);
+                rounds++;
+                round = new LinkedHashMap<>();
+                for (Map.Entry<Series, Set<LocalDate>> entry : attempted.entrySet()) {
+                    Series each = entry.getKey();
+                    Set<LocalDate> done = entry.getValue();
+                    List<LocalDate> more = sampling.refine(startDate, endDate, done, sampled.get(each))
+                            .stream()
+                            .filter(date -> !date.isBefore(startDate) && !date.isAfter(endDate))
+                            .filter(date -> !done.contains(date))
+                            .distinct()
+                            .toList();
+                    if (!more.isEmpty()) {
+                        round.put(each, more);
                     }
-                } catch (Exception e) {
-                    log.warn("Error scraping {} in {} for date {}: {}", hotelName, city, currentDate, e.getMessage());
                 }
-                currentDate = currentDate.plusDays(1);
             }
+            writer.flush();
+            runSpan.setAttribute("scrape.rounds", rounds);
+            runSpan.setAttribute("scrape.pages", pages);
+            runSpan.setAttribute("scrape.prices_found", found.get());
+            return found.get();
+        } catch (RuntimeException e) {
+            runSpan.recordException(e);
+            runSpan.setStatus(StatusCode.ERROR, String.valueOf(e.getMessage()));
+            // Keep what was already scraped
+            try {
+                writer.flush();
+            } catch (RuntimeException flushError) {
+                e.addSuppressed(flushError);
+            }
+            throw e;
         } finally {
-            if (driver != null) {
-                driver.quit();
+            browserPool.closeIdle();
+            warmUp();
+            runSpan.end();
+        }
+    }
+
+    /**
+     * Runs one unit per (city, stay, date), waits for all of them and then retries the failures.
+     * At most two units per browser session are submitted ahead of the ones running, so neither the
+     * executor's queue nor the number of threads grows with the length of the range.
+     *
+     * @return the number of units run, not counting retries
+     */
+    private int runRound(String hotelName, Map<Series, List<LocalDate>> round, Map<Series, Set<LocalDate>> attempted,
+                         PriceBatchWriter writer, ScrapeListener listener) {
+        Queue<Failure> failed = new ConcurrentLinkedQueue<>();
+        int window = browserPool.getCapacity() * 2;
+        Semaphore inFlight = new Semaphore(window);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        int submitted = 0;
+        for (Map.Entry<Series, List<LocalDate>> entry : round.entrySet()) {
+            Series series = entry.getKey();
+            Set<LocalDate> tried = attempted.get(series);
+            for (LocalDate date : entry.getValue()) {
+                if (tried != null) {
+                    tried.add(date);
+                }
+                PageKey key = new PageKey(hotelName, series.city(), date, series.nights(), series.guests());
+                inFlight.acquireUninterruptibly();
+                submitted++;
+                scrapeUnitExecutor.submit(Context.current().wrap(() -> {
+                    ScrapeOutcome outcome = runUnit(key, writer, listener);
+                    if (outcome.isRetryable()) {
+                        failed.add(new Failure(key, outcome));
+                    }
+                })).whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        error.compareAndSet(null, e);
+                    }
+                    inFlight.release();
+                });
             }
         }
-        return scrapedPrices;
+        inFlight.acquireUninterruptibly(window);
+        if (error.get() != null) {
+            throw new CompletionException(error.get());
+        }
+        retryFailed(failed, writer, listener);
+        return submitted;
+    }
+
+    private record Failure(PageKey key, ScrapeOutcome outcome) {
     }
 
-    private HotelPrice extractHotelData(WebDriver driver, String hotelName, String city, LocalDate checkIn, LocalDate checkOut) {
+    /**
+     * The dates of one city and stay, which a sampling strategy refines on their own.
+     */
+    private record Series(String city, int nights, int guests) {
+
+        static Series of(PageKey key) {
+            return new Series(key.city(), key.nights(), key.guests());
+        }
+    }
+
+    /**
+     * Failed units are parked with a backoff and retried one at a time once the healthy ones are done.
+     */
+    private void retryFailed(Queue<Failure> failed, PriceBatchWriter writer, ScrapeListener listener) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        RetryQueue<PageKey> retries = retryPolicy.newQueue();
+        Map<PageKey, ScrapeOutcome> lastOutcome = new HashMap<>();
+        for (Failure failure : failed) {
+            lastOutcome.put(failure.key(), failure.outcome());
+            if (!retries.schedule(failure.key(), 1)) {
+                giveUp(failure.key(), failure.outcome(), listener);
+            }
+        }
+        if (retries.isEmpty()) {
+            return;
+        }
+        log.info("Retrying {} failed dates", retries.size());
+        retries.drain(key -> {
+            ScrapeOutcome outcome = runUnit(key, writer, listener);
+            lastOutcome.put(key, outcome);
+            return !outcome.isRetryable();
+        }, key -> giveUp(key, lastOutcome.get(key), listener));
+    }
+
+    private void giveUp(PageKey key, ScrapeOutcome outcome, ScrapeListener listener) {
+        log.warn("Giving up on {} in {} for date {} after {} attempts ({})",
+                key.hotelName(), key.city(), key.checkIn(), retryPolicy.maxAttempts(), outcome.tag());
+        listener.onUnit(key, outcome, null);
+    }
+
+    /**
+     * One (city, date) unit: borrows a browser session, scrapes the page and hands the session back.
+     */
+    private ScrapeOutcome runUnit(PageKey key, PriceBatchWriter writer, ScrapeListener listener) {
+        WebDriver driver = scrapeMetrics.time(ScrapePhase.SESSION_WAIT, () -> browserPool.borrow(this::createSession));
+        ScrapeOutcome outcome = ScrapeOutcome.ERROR;
+        scrapeMetrics.sessionOpened();
+        try {
+            outcome = scrapeDate(driver, key, writer, listener);
+            return outcome;
+        } finally {
+            scrapeMetrics.sessionClosed();
+            // An unexpected error may have left the browser unusable, so that session is not reused
+            browserPool.release(driver, outcome != ScrapeOutcome.ERROR);
+        }
+    }
+
+    /**
+     * Scrapes one check-in date inside its own span and queues its price for saving, timing each
+     * step and counting how the page ended. Misses are reported to the listener here, found prices
+     * by the writer once saved. The fetch is paced by the host's rate limiter, which is told how it
+     * went.
+     */
+    private ScrapeOutcome scrapeDate(WebDriver driver, PageKey key, PriceBatchWriter writer, ScrapeListener listener) {
+        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        String hotelName = key.hotelName();
+        String city = key.city();
+        LocalDate checkIn = key.checkIn();
+        LocalDate checkOut = key.checkOut();
+        Span pageSpan = tracer.spanBuilder("hotel.scrape.page")
+                .setAttribute(HOTEL, hotelName)
+                .setAttribute(CITY, city)
+                .setAttribute(CHECK_IN, checkIn.toString())
+                .setAttribute(NIGHTS, (long) key.nights())
+                .setAttribute(GUESTS, (long) key.guests())
+                .startSpan();
+        Timer.Sample page = scrapeMetrics.startPage();
+        ScrapeOutcome outcome = ScrapeOutcome.ERROR;
+        String url = buildBookingUrl(hotelName, city, checkIn, checkOut, key.guests());
+        AdaptiveRateLimiter limiter = rateLimiters.forUrl(url);
+        long fetchNanos = 0;
+        try (Scope ignored = pageSpan.makeCurrent()) {
+            phase(ScrapePhase.THROTTLE, driver, null, limiter::acquire);
+            pageSpan.setAttribute(THROTTLE_RATE, limiter.getRate());
+            long fetchStarted = System.nanoTime();
+            phase(ScrapePhase.NAVIGATE, driver, key, () -> driver.get(url));
+            phase(ScrapePhase.WAIT, driver, key, () -> wait.until(
+                    ExpectedConditions.presenceOfAllElementsLocatedBy(By.cssSelector("[data-testid='property-card']"))));
+            fetchNanos = System.nanoTime() - fetchStarted;
+            phase(ScrapePhase.POPUPS, driver, key, () -> PageInteractionHelper.handlePopups(driver));
+            phase(ScrapePhase.COOKIES, driver, key, () -> answerConsent(driver));
+            phase(ScrapePhase.SCROLL, driver, key, () -> PageInteractionHelper.scrollPage(driver, js));
+            recordPage(driver, key);
+            HotelPrice price = phase(ScrapePhase.EXTRACT, driver, key,
+                    () -> extractHotelData(driver, hotelName, city, checkIn, checkOut, key.guests()));
+            if (price == null) {
+                outcome = classifyMiss(driver, hotelName);
+                log.info("No price for {} in {} on {} for {} night(s), {} guest(s) ({})", hotelName, city, checkIn,
+                        key.nights(), key.guests(), outcome.tag());
+                listener.onUnit(key, outcome, null);
+                return outcome;
+            }
+            writer.add(key, price);
+            outcome = ScrapeOutcome.FOUND;
+            log.info("Scraped {} in {} for {} ({} night(s), {} guest(s)) - {} {}", hotelName, city, checkIn,
+                    key.nights(), key.guests(), price.getPrice(), price.getCurrency());
+            return outcome;
+        } catch (TimeoutException e) {
+            outcome = ScrapeOutcome.TIMEOUT;
+            log.warn("Timed out scraping {} in {} for date {} (trace {}): {}", hotelName, city, checkIn,
+                    pageSpan.getSpanContext().getTraceId(), e.getMessage());
+            return outcome;
+        } catch (Exception e) {
+            log.warn("Error scraping {} in {} for date {} (trace {}): {}", hotelName, city, checkIn,
+                    pageSpan.getSpanContext().getTraceId(), e.getMessage(), e);
+            return outcome;
+        } finally {
+            if (outcome.isRetryable()) {
+                limiter.onFailure();
+            } else {
+                limiter.onSuccess(fetchNanos);
+            }
+            pageSpan.setAttribute(OUTCOME, outcome.tag());
+            if (outcome == ScrapeOutcome.TIMEOUT || outcome == ScrapeOutcome.ERROR) {
+                pageSpan.setStatus(StatusCode.ERROR, outcome.tag());
+            }
+            pageSpan.end();
+            scrapeMetrics.endPage(page, outcome);
+        }
+    }
+
+    /**
+     * Runs one step in a child span, records its timer and captures the page if it was slow.
+     * Failures are recorded on the span and rethrown.
+     */
+    private <T> T phase(ScrapePhase phase, WebDriver driver, PageKey key, Supplier<T> step) {
+        Span span = tracer.spanBuilder("hotel.scrape." + phase.tag()).startSpan();
+        long started = System.nanoTime();
+        try (Scope ignored = span.makeCurrent()) {
+            return scrapeMetrics.time(phase, step);
+        } catch (RuntimeException e) {
+            span.recordException(e);
+            span.setStatus(StatusCode.ERROR, String.valueOf(e.getMessage()));
+            throw e;
+        } finally {
+            if (slowPageCapture != null && key != null) {
+                slowPageCapture.captureIfSlow(driver, key, phase, Duration.ofNanos(System.nanoTime() - started), span);
+            }
+            span.end();
+        }
+    }
+
+    private void phase(ScrapePhase phase, WebDriver driver, PageKey key, Runnable step) {
+        phase(phase, driver, key, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Tells apart a page without the hotel from one where its card had no usable price.
+     */
+    private ScrapeOutcome classifyMiss(WebDriver driver, String hotelName) {
         try {
             List<WebElement> hotelCards = driver.findElements(By.cssSelector("[data-testid='property-card']"));
-            for (WebElement card : hotelCards) {
-                String cardName = extractText(card, "[data-testid='title']");
-                if (cardName != null && cardName.toLowerCase().contains(hotelName.toLowerCase())) {
-                    BigDecimal price = extractPrice(card);
-                    String rating = extractText(card, "[data-testid='review-score']");
-                    String address = extractText(card, "[data-testid='address']");
-                    if (price != null) {
-                        return new HotelPrice(hotelName, city, checkIn, checkOut, price, rating, address);
-                    }
+            return matcherFor(hotelName).resolve(cardTitles(hotelCards)).isEmpty()
+                    ? ScrapeOutcome.NOT_FOUND
+                    : ScrapeOutcome.PARSE_FAILURE;
+        } catch (Exception e) {
+            return ScrapeOutcome.ERROR;
+        }
+    }
+
+    private HotelNameMatcher matcherFor(String hotelName) {
+        return nameMatchers.computeIfAbsent(hotelName, name -> new HotelNameMatcher(List.of(name), nameMatchMinScore));
+    }
+
+    private List<String> cardTitles(List<WebElement> hotelCards) {
+        List<String> titles = new ArrayList<>(hotelCards.size());
+        for (WebElement card : hotelCards) {
+            titles.add(extractText(card, "[data-testid='title']"));
+        }
+        return titles;
+    }
+
+    /**
+     * Points the scraper at another copy of the search page, e.g. a {@code ReplayHttpServer}.
+     */
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Replaces the Chrome driver, e.g. with a headless driver for offline load tests.
+     */
+    public void setWebDriverSupplier(Supplier<WebDriver> webDriverSupplier) {
+        this.webDriverSupplier = webDriverSupplier;
+    }
+
+    private void recordPage(WebDriver driver, PageKey key) {
+        if (pageCorpus == null) {
+            return;
+        }
+        try {
+            pageCorpus.save(searchQuery(key.hotelName(), key.city()), key.checkIn(), key.nights(), key.guests(),
+                    driver.getPageSource());
+        } catch (IOException e) {
+            log.warn("Could not record page for {} in {} on {}: {}", key.hotelName(), key.city(), key.checkIn(),
+                    e.getMessage());
+        }
+    }
+
+    HotelPrice extractHotelData(WebDriver driver, String hotelName, String city, LocalDate checkIn, LocalDate checkOut) {
+        return extractHotelData(driver, hotelName, city, checkIn, checkOut, HotelPrice.DEFAULT_GUESTS);
+    }
+
+    HotelPrice extractHotelData(WebDriver driver, String hotelName, String city, LocalDate checkIn, LocalDate checkOut,
+                                int guests) {
+        try {
+            List<WebElement> hotelCards = driver.findElements(By.cssSelector("[data-testid='property-card']"));
+            // Best-scoring card first, so a close variant of the name beats an earlier loose match
+            for (HotelNameMatcher.Match match : matcherFor(hotelName).resolve(cardTitles(hotelCards))) {
+                WebElement card = hotelCards.get(match.card());
+                CardPrice price = extractPrice(card);
+                String rating = extractText(card, "[data-testid='review-score']");
+                String address = extractText(card, "[data-testid='address']");
+                if (price != null) {
+                    HotelPrice hotelPrice = new HotelPrice(hotelName, city, checkIn, checkOut, guests, price.amount(),
+                            rating, address);
+                    hotelPrice.setCurrency(price.currency());
+                    return hotelPrice;
                 }
             }
         } catch (Exception e) {
@@ -99,13 +606,13 @@ public class HotelScraperService {
         return null;
     }
 
-    private BigDecimal extractPrice(WebElement card) {
+    private CardPrice extractPrice(WebElement card) {
         for (String selector : PRICE_SELECTORS) {
             try {
-                WebElement priceElement = card.findElement(By.cssSelector(selector));
-                String priceText = priceElement.getText().replaceAll("[^\\d.,]", "").replace(",", "");
-                if (!priceText.isEmpty()) {
-                    return new BigDecimal(priceText);
+                String text = card.findElement(By.cssSelector(selector)).getText();
+                long cents = PriceTokenizer.parseCents(text);
+                if (cents != PriceTokenizer.NONE) {
+                    return new CardPrice(BigDecimal.valueOf(cents, 2), CurrencyDetector.detect(text));
                 }
             } catch (org.openqa.selenium.NoSuchElementException e) {
                 // try next
@@ -122,12 +629,89 @@ public class HotelScraperService {
         }
     }
 
-    private String buildBookingUrl(String hotelName, String city, LocalDate checkIn, LocalDate checkOut) {
-        String query = hotelName.replace(" ", "%20") + "%20" + city.replace(" ", "%20");
-        return BOOKING_URL + "?ss=" + query + "&checkin=" + checkIn.format(DATE_FORMATTER) + "&checkout=" + checkOut.format(DATE_FORMATTER);
+    /**
+     * The amount on a card's price label and the currency it was shown in, null if unrecognised.
+     */
+    private record CardPrice(BigDecimal amount, String currency) {
+    }
+
+    private String buildBookingUrl(String hotelName, String city, LocalDate checkIn, LocalDate checkOut, int guests) {
+        String query = searchQuery(hotelName, city).replace(" ", "%20");
+        return baseUrl + "?ss=" + query + "&checkin=" + checkIn.format(DATE_FORMATTER) + "&checkout=" + checkOut.format(DATE_FORMATTER)
+                + "&group_adults=" + guests + "&no_rooms=1&group_children=0";
+    }
+
+    private static String searchQuery(String hotelName, String city) {
+        return hotelName + " " + city;
+    }
+
+    /**
+     * Waits for the consent banner only until one session has answered it; every other session
+     * gets the stored cookies instead. A session that never saw the banner leaves nothing behind,
+     * so the jar only ever holds the cookies of an accepted banner.
+     */
+    private void answerConsent(WebDriver driver) {
+        if (!profileStore.restore(driver) && PageInteractionHelper.handleCookies(driver,
+                new WebDriverWait(driver, Duration.ofMillis(consentWaitMillis)))) {
+            profileStore.capture(driver);
+        }
+    }
+
+    /**
+     * Tops the pool up to its warm sessions in the background, each one started, on the site and
+     * past the consent banner. Does nothing unless the pool keeps warm sessions.
+     */
+    public CompletableFuture<Void> warmUp() {
+        if (browserPool instanceof WarmBrowserSessionPool warmPool) {
+            return warmPool.warmUp(this::createWarmWebDriver);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private WebDriver createWarmWebDriver() {
+        WebDriver driver = createWebDriver();
+        try {
+            phase(ScrapePhase.WARM_UP, driver, null, () -> {
+                driver.get(baseUrl);
+                if (!profileStore.restore(driver)) {
+                    PageInteractionHelper.handlePopups(driver);
+                    answerConsent(driver);
+                }
+            });
+            return driver;
+        } catch (RuntimeException e) {
+            driver.quit();
+            throw e;
+        }
+    }
+
+    /**
+     * A session for the pool. Once the banner has been answered, a new session lands on the site
+     * and takes the stored cookies before its first search, so none of its search pages shows
+     * the banner.
+     */
+    private WebDriver createSession() {
+        WebDriver driver = createWebDriver();
+        if (!profileStore.hasConsent()) {
+            return driver;
+        }
+        try {
+            phase(ScrapePhase.COOKIES, driver, null, () -> {
+                driver.get(baseUrl);
+                profileStore.restore(driver);
+            });
+            return driver;
+        } catch (RuntimeException e) {
+            driver.quit();
+            throw e;
+        }
     }
 
     private WebDriver createWebDriver() {
-        return WebDriverFactory.createDefault();
+        return phase(ScrapePhase.DRIVER_CREATE, null, null, () -> {
+            WebDriver driver = webDriverSupplier.get();
+            ((JavascriptExecutor) driver).executeScript("Object.defineProperty(navigator, 'webdriver', {get: () => undefined})");
+            return driver;
+        });
     }
 }
@@ -0,0 +1,104 @@
+package com.example.hotelpricingproject.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log mapping hotel and city names to dense int ids. Each entry is
+ * {@code length:int utf8 crc:int} and is flushed before any record uses its id,
+ * so after a crash the log is read up to the first torn entry.
+ */
+class DimensionDictionary implements AutoCloseable {
+
+    private final Path path;
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final DataOutputStream out;
+
+    DimensionDictionary(Path path) throws IOException {
+        this.path = path;
+        long validBytes = load();
+        if (Files.exists(path) && Files.size(path) > validBytes) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(validBytes);
+            }
+        }
+        OutputStream file = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.out = new DataOutputStream(new BufferedOutputStream(file));
+    }
+
+    private long load() throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(path));
+        while (data.remaining() >= 8) {
+            int start = data.position();
+            int length = data.getInt();
+            if (length < 0 || data.remaining() < length + 4) {
+                data.position(start);
+                break;
+            }
+            byte[] bytes = new byte[length];
+            data.get(bytes);
+            if (data.getInt() != crc(bytes)) {
+                data.position(start);
+                break;
+            }
+            register(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return data.position();
+    }
+
+    synchronized int idOf(String name) throws IOException {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+        out.writeInt(crc(bytes));
+        out.flush();
+        return register(name);
+    }
+
+    synchronized Integer find(String name) {
+        return ids.get(name);
+    }
+
+    synchronized String name(int id) {
+        return id >= 0 && id < names.size() ? names.get(id) : null;
+    }
+
+    private int register(String name) {
+        int id = names.size();
+        names.add(name);
+        ids.put(name, id);
+        return id;
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hotelpricingproject.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Optional memory-mapped observation store, off unless {@code hotel.storage.mmap.enabled=true}.
+ * When on, price forecasts are fitted from it instead of SQLite and the archive.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "hotel.storage.mmap.enabled", havingValue = "true")
+public class MappedPriceStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public MappedSegmentPriceStore mappedSegmentPriceStore(
+            @Value("${hotel.storage.mmap.directory:data/price-store}") String directory,
+            @Value("${hotel.storage.mmap.segment-records:1048576}") int segmentRecords) throws IOException {
+        return new MappedSegmentPriceStore(Path.of(directory), segmentRecords);
+    }
+
+    @Bean
+    public PriceStoreMirror priceStoreMirror(MappedSegmentPriceStore store, JdbcTemplate jdbcTemplate,
+                                             @Value("${hotel.storage.mmap.sync-window-ids:10000}") long windowIds) {
+        return new PriceStoreMirror(store, jdbcTemplate, windowIds);
+    }
+}
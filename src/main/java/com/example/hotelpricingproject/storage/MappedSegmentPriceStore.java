@@ -0,0 +1,333 @@
+package com.example.hotelpricingproject.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32C;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.repository.JdbcColumns;
+import com.example.hotelpricingproject.repository.PriceObservationRepository;
+import com.example.hotelpricingproject.repository.PriceObservationVisitor;
+
+/**
+ * Append-only log of fixed-width price records in memory-mapped segment files.
+ *
+ * <pre>
+ * offset  0  int   hotel id        (DimensionDictionary)
+ * offset  4  int   city id         (DimensionDictionary)
+ * offset  8  int   check-in epoch day
+ * offset 12  short nights
+ * offset 14  short guests
+ * offset 16  long  price in cents
+ * offset 24  int   scraped epoch day
+ * offset 28  int   currency id     (DimensionDictionary, -1 when not recorded)
+ * offset 32  long  id of the hotel_prices row the record was copied from
+ * offset 40  int   reserved
+ * offset 44  int   CRC32C of bytes 0..43
+ * </pre>
+ *
+ * The highest source id present is the store's watermark: whatever copies rows in
+ * resumes after it, so a copy cut short by a crash picks up where its last intact
+ * record left off.
+ *
+ * Segments are preallocated and rolled over when full. On open, each segment is
+ * read up to the first record whose checksum fails, and the rest of the last
+ * segment is zeroed, which discards a torn tail after a crash. A sparse index
+ * keeps, per block of records, the (hotel, city) pairs present and the check-in
+ * range, so filtered scans skip whole blocks and read the rest straight from the
+ * mapping without copying.
+ */
+public class MappedSegmentPriceStore implements PriceObservationRepository, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedSegmentPriceStore.class);
+
+    static final int RECORD_SIZE = 48;
+    static final int BLOCK_RECORDS = 4096;
+    static final int NO_CURRENCY = -1;
+    private static final int CHECKSUMMED_BYTES = 44;
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final DimensionDictionary dimensions;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<Long, Integer> pairIds = new HashMap<>();
+    private final CRC32C crc = new CRC32C();
+    private volatile long lastSourceId;
+
+    public MappedSegmentPriceStore(Path directory, int segmentRecords) throws IOException {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        Files.createDirectories(directory);
+        this.dimensions = new DimensionDictionary(directory.resolve("dimensions.log"));
+        recover();
+    }
+
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (var listing = Files.list(directory)) {
+            listing.filter(p -> p.getFileName().toString().matches("segment-\\d{6}\\.dat"))
+                    .sorted()
+                    .forEach(files::add);
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Segment segment = openSegment(files.get(i));
+            int valid = 0;
+            while (valid < segment.capacity && isValid(segment.buffer, valid)) {
+                indexRecord(segment, valid);
+                valid++;
+            }
+            segment.count = valid;
+            boolean last = i == files.size() - 1;
+            if (last && valid < segment.capacity) {
+                for (int pos = valid * RECORD_SIZE; pos < segment.capacity * RECORD_SIZE; pos += 8) {
+                    segment.buffer.putLong(pos, 0L);
+                }
+            } else if (!last && valid < segment.capacity) {
+                log.warn("Price store segment {} ends early at record {}", files.get(i).getFileName(), valid);
+            }
+            segments.add(segment);
+        }
+        if (segments.isEmpty()) {
+            segments.add(openSegment(segmentPath(0)));
+        }
+        log.info("Opened price store at {} with {} observations in {} segment(s)", directory, count(), segments.size());
+    }
+
+    @Override
+    public void append(HotelPrice price) {
+        if (price.getId() == null) {
+            throw new IllegalArgumentException("Only persisted prices can be appended");
+        }
+        try {
+            append(price.getId(), price.getHotelName(), price.getCity(), price.getCheckInDate(), price.getNights(),
+                    price.getGuests(), JdbcColumns.toCents(price.getPrice()), price.getCurrency(), price.getScrapedDate());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void append(long sourceId, String hotelName, String city, LocalDate checkIn, int nights,
+                                    int guests, long priceCents, String currency, LocalDate scraped) throws IOException {
+        int hotelId = dimensions.idOf(hotelName);
+        int cityId = dimensions.idOf(city);
+        int currencyId = currency == null ? NO_CURRENCY : dimensions.idOf(currency);
+        Segment segment = segments.get(segments.size() - 1);
+        if (segment.count == segment.capacity) {
+            segment.buffer.force();
+            segment = openSegment(segmentPath(segments.size()));
+            segments.add(segment);
+        }
+        int index = segment.count;
+        int pos = index * RECORD_SIZE;
+        MappedByteBuffer buffer = segment.buffer;
+        buffer.putInt(pos, hotelId);
+        buffer.putInt(pos + 4, cityId);
+        buffer.putInt(pos + 8, (int) checkIn.toEpochDay());
+        buffer.putShort(pos + 12, (short) nights);
+        buffer.putShort(pos + 14, (short) guests);
+        buffer.putLong(pos + 16, priceCents);
+        buffer.putInt(pos + 24, (int) scraped.toEpochDay());
+        buffer.putInt(pos + 28, currencyId);
+        buffer.putLong(pos + 32, sourceId);
+        buffer.putInt(pos + 40, 0);
+        buffer.putInt(pos + CHECKSUMMED_BYTES, checksum(buffer, pos));
+        indexRecord(segment, index);
+        segment.count = index + 1;
+    }
+
+    @Override
+    public long scan(String hotelName, String city, LocalDate from, LocalDate to, PriceObservationVisitor visitor) {
+        Integer hotelId = hotelName == null ? null : dimensions.find(hotelName);
+        Integer cityId = city == null ? null : dimensions.find(city);
+        if ((hotelName != null && hotelId == null) || (city != null && cityId == null)) {
+            return 0;
+        }
+        BitSet wantedPairs = hotelId == null && cityId == null ? null : matchingPairs(hotelId, cityId);
+        int fromDay = from == null ? Integer.MIN_VALUE : (int) from.toEpochDay();
+        int toDay = to == null ? Integer.MAX_VALUE : (int) to.toEpochDay();
+
+        long visited = 0;
+        for (Segment segment : segments) {
+            int count = segment.count;
+            MappedByteBuffer buffer = segment.buffer;
+            for (int block = 0; block * BLOCK_RECORDS < count; block++) {
+                BlockSummary summary = segment.blocks.get(block);
+                if (!summary.mayContain(wantedPairs, fromDay, toDay)) {
+                    continue;
+                }
+                int end = Math.min(count, (block + 1) * BLOCK_RECORDS);
+                for (int index = block * BLOCK_RECORDS; index < end; index++) {
+                    int pos = index * RECORD_SIZE;
+                    int recordHotel = buffer.getInt(pos);
+                    int recordCity = buffer.getInt(pos + 4);
+                    int checkIn = buffer.getInt(pos + 8);
+                    if ((hotelId != null && recordHotel != hotelId) || (cityId != null && recordCity != cityId)
+                            || checkIn < fromDay || checkIn > toDay) {
+                        continue;
+                    }
+                    visitor.visit(recordHotel, recordCity, checkIn, buffer.getShort(pos + 12), buffer.getShort(pos + 14),
+                            buffer.getInt(pos + 28), buffer.getLong(pos + 16), buffer.getInt(pos + 24));
+                    visited++;
+                }
+            }
+        }
+        return visited;
+    }
+
+    @Override
+    public long count() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.count;
+        }
+        return total;
+    }
+
+    @Override
+    public long lastSourceId() {
+        return lastSourceId;
+    }
+
+    /**
+     * Passes the source id of every record copied from a row above {@code sourceId}.
+     */
+    public void forEachSourceIdAbove(long sourceId, LongConsumer consumer) {
+        for (Segment segment : segments) {
+            int count = segment.count;
+            for (int index = 0; index < count; index++) {
+                long id = segment.buffer.getLong(index * RECORD_SIZE + 32);
+                if (id > sourceId) {
+                    consumer.accept(id);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String dimensionName(int id) {
+        return dimensions.name(id);
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private synchronized BitSet matchingPairs(Integer hotelId, Integer cityId) {
+        BitSet matches = new BitSet();
+        for (Map.Entry<Long, Integer> entry : pairIds.entrySet()) {
+            int pairHotel = (int) (entry.getKey() >>> 32);
+            int pairCity = (int) (long) entry.getKey();
+            if ((hotelId == null || pairHotel == hotelId) && (cityId == null || pairCity == cityId)) {
+                matches.set(entry.getValue());
+            }
+        }
+        return matches;
+    }
+
+    private synchronized void indexRecord(Segment segment, int index) {
+        MappedByteBuffer buffer = segment.buffer;
+        int pos = index * RECORD_SIZE;
+        long pairKey = ((long) buffer.getInt(pos) << 32) | (buffer.getInt(pos + 4) & 0xFFFFFFFFL);
+        int pairId = pairIds.computeIfAbsent(pairKey, k -> pairIds.size());
+        int block = index / BLOCK_RECORDS;
+        if (block == segment.blocks.size()) {
+            segment.blocks.add(new BlockSummary());
+        }
+        segment.blocks.get(block).add(pairId, buffer.getInt(pos + 8));
+        lastSourceId = Math.max(lastSourceId, buffer.getLong(pos + 32));
+    }
+
+    private boolean isValid(MappedByteBuffer buffer, int index) {
+        int pos = index * RECORD_SIZE;
+        return buffer.getInt(pos + CHECKSUMMED_BYTES) == checksum(buffer, pos);
+    }
+
+    private int checksum(MappedByteBuffer buffer, int pos) {
+        crc.reset();
+        crc.update(buffer.slice(pos, CHECKSUMMED_BYTES));
+        return (int) crc.getValue();
+    }
+
+    private Segment openSegment(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = (long) segmentRecords * RECORD_SIZE;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+            return new Segment(buffer, (int) (buffer.capacity() / RECORD_SIZE));
+        }
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("segment-%06d.dat", number));
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (Segment segment : segments) {
+            segment.buffer.force();
+        }
+        dimensions.close();
+    }
+
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final List<BlockSummary> blocks = new CopyOnWriteArrayList<>();
+        private volatile int count;
+
+        Segment(MappedByteBuffer buffer, int capacity) {
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * Sparse index entry: which (hotel, city) pairs and which check-in days a block holds.
+     */
+    private static final class BlockSummary {
+        private final BitSet pairs = new BitSet();
+        private volatile int minDay = Integer.MAX_VALUE;
+        private volatile int maxDay = Integer.MIN_VALUE;
+
+        void add(int pairId, int day) {
+            synchronized (pairs) {
+                pairs.set(pairId);
+            }
+            if (day < minDay) {
+                minDay = day;
+            }
+            if (day > maxDay) {
+                maxDay = day;
+            }
+        }
+
+        boolean mayContain(BitSet wantedPairs, int fromDay, int toDay) {
+            if (maxDay < fromDay || minDay > toDay) {
+                return false;
+            }
+            if (wantedPairs == null) {
+                return true;
+            }
+            synchronized (pairs) {
+                return pairs.intersects(wantedPairs);
+            }
+        }
+    }
+}
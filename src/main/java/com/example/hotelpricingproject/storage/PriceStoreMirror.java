@@ -0,0 +1,91 @@
+package com.example.hotelpricingproject.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.hotelpricingproject.repository.JdbcColumns;
+
+/**
+ * Keeps the mapped store in step with SQLite by copying the {@code hotel_prices} rows above the
+ * store's watermark, in id order. The first run after startup is the backfill; a backfill cut
+ * short resumes after the last record that reached the store, and later runs copy only what was
+ * saved since. The archiver syncs before deleting a month, so archived rows reach the store first.
+ *
+ * <p>Ids do not commit in id order: every writer (each worker node, and each thread of one) takes
+ * ids from its own pooled block, so a lower id can become visible after a higher one was copied.
+ * Each run therefore reads again the last {@code windowIds} ids below the watermark and copies
+ * the rows among them it has not seen. A row that commits after more than {@code windowIds}
+ * higher ids is still missed, so the window should stay well above the id block size times the
+ * number of writers.
+ */
+public class PriceStoreMirror {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceStoreMirror.class);
+
+    private final MappedSegmentPriceStore store;
+    private final JdbcTemplate streaming;
+    private final long windowIds;
+    // Source ids in the store within the window below the watermark; loaded by the first run
+    private NavigableSet<Long> recentIds;
+
+    public PriceStoreMirror(MappedSegmentPriceStore store, JdbcTemplate jdbcTemplate, long windowIds) {
+        this.store = store;
+        this.streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streaming.setFetchSize(5_000);
+        this.windowIds = windowIds;
+    }
+
+    @Scheduled(fixedDelayString = "${hotel.storage.mmap.sync-interval:PT1M}")
+    public void scheduledSync() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.error("Price store sync failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Copies every row above the watermark, and the rows within the window below it that the store
+     * does not have yet.
+     *
+     * @return the number of rows copied
+     */
+    public synchronized long sync() {
+        long watermark = store.lastSourceId();
+        long from = Math.max(0, watermark - windowIds);
+        if (recentIds == null) {
+            recentIds = new TreeSet<>();
+            store.forEachSourceIdAbove(from, recentIds::add);
+        }
+        long before = store.count();
+        streaming.query("SELECT id, hotel_name, city, check_in_date, nights, guests, price, currency, scraped_date "
+                + "FROM hotel_prices WHERE id > ? ORDER BY id", rs -> {
+                    long id = rs.getLong("id");
+                    if (recentIds.contains(id)) {
+                        return;
+                    }
+                    try {
+                        store.append(id, rs.getString("hotel_name"),
+                                rs.getString("city"), JdbcColumns.localDate(rs, "check_in_date"), rs.getInt("nights"),
+                                rs.getInt("guests"), JdbcColumns.priceCents(rs, "price"), rs.getString("currency"),
+                                JdbcColumns.localDate(rs, "scraped_date"));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    recentIds.add(id);
+                }, from);
+        recentIds.headSet(store.lastSourceId() - windowIds, true).clear();
+        long copied = store.count() - before;
+        if (copied > 0) {
+            log.info("Copied {} prices above id {} into the price store", copied, from);
+        }
+        return copied;
+    }
+}
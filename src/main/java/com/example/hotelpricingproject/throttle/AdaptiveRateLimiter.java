@@ -0,0 +1,86 @@
+package com.example.hotelpricingproject.throttle;
+
+/**
+ * Token bucket whose refill rate follows AIMD: every healthy page adds {@code additiveIncrease}
+ * to the rate, and an error or a fetch slower than the latency target multiplies it by
+ * {@code decreaseFactor}. The rate therefore saws up to just under the point where the site starts
+ * pushing back and stays there.
+ */
+public class AdaptiveRateLimiter {
+
+    private final ThrottleSettings settings;
+    private final ThrottleClock clock;
+
+    private double rate;
+    private double tokens;
+    private long lastRefill;
+    private long lastDecrease;
+    private boolean decreased;
+
+    public AdaptiveRateLimiter(ThrottleSettings settings, ThrottleClock clock) {
+        this.settings = settings;
+        this.clock = clock;
+        this.rate = settings.initialRate();
+        this.tokens = 1;
+        this.lastRefill = clock.nanoTime();
+    }
+
+    /**
+     * Blocks until a permit is available.
+     *
+     * @return nanoseconds spent waiting
+     */
+    public long acquire() {
+        long waited = 0;
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return waited;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / rate * 1e9);
+            }
+            clock.sleepNanos(waitNanos);
+            waited += waitNanos;
+        }
+    }
+
+    /**
+     * Feeds back a completed fetch; a slow one counts as congestion.
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        if (latencyNanos > settings.latencyTarget().toNanos()) {
+            decrease();
+            return;
+        }
+        refill();
+        rate = Math.min(settings.maxRate(), rate + settings.additiveIncrease());
+    }
+
+    public synchronized void onFailure() {
+        decrease();
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    private void decrease() {
+        long now = clock.nanoTime();
+        if (decreased && now - lastDecrease < settings.decreaseCooldown().toNanos()) {
+            return;
+        }
+        refill();
+        rate = Math.max(settings.minRate(), rate * settings.decreaseFactor());
+        lastDecrease = now;
+        decreased = true;
+    }
+
+    private void refill() {
+        long now = clock.nanoTime();
+        tokens = Math.min(settings.burst(), tokens + (now - lastRefill) / 1e9 * rate);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.hotelpricingproject.throttle;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * One {@link AdaptiveRateLimiter} per target host, shared by every scrape running in this JVM.
+ */
+public class HostRateLimiters {
+
+    private final ThrottleSettings settings;
+    private final ThrottleClock clock;
+    private final ConcurrentMap<String, AdaptiveRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public HostRateLimiters(ThrottleSettings settings, ThrottleClock clock) {
+        this.settings = settings;
+        this.clock = clock;
+    }
+
+    public static HostRateLimiters unthrottled() {
+        return new HostRateLimiters(ThrottleSettings.unthrottled(), ThrottleClock.SYSTEM);
+    }
+
+    public AdaptiveRateLimiter forHost(String host) {
+        return limiters.computeIfAbsent(host.toLowerCase(Locale.ROOT), h -> new AdaptiveRateLimiter(settings, clock));
+    }
+
+    public AdaptiveRateLimiter forUrl(String url) {
+        String host = URI.create(url).getHost();
+        return forHost(host != null ? host : url);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hotelpricingproject.throttle;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * Exponential backoff with jitter: attempt {@code n} waits between half and all of
+ * {@code min(maxDelay, baseDelay * 2^(n-1))}, so retries of many dates spread out instead of
+ * arriving together.
+ *
+ * @param maxAttempts total attempts per item, including the first one
+ */
+public record RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay,
+                          ThrottleClock clock, RandomGenerator random) {
+
+    public RetryPolicy {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+    }
+
+    public static RetryPolicy noRetries() {
+        return new RetryPolicy(1, Duration.ZERO, Duration.ZERO, ThrottleClock.SYSTEM, RandomGenerator.getDefault());
+    }
+
+    /**
+     * Delay before the retry that follows {@code failedAttempts} failures.
+     */
+    public long backoffNanos(int failedAttempts) {
+        long base = baseDelay.toNanos();
+        long cap = maxDelay.toNanos();
+        int shift = Math.min(failedAttempts - 1, 30);
+        long exponential = base > (cap >> shift) ? cap : Math.min(cap, base << shift);
+        long half = exponential / 2;
+        return half + (half > 0 ? random.nextLong(half + 1) : 0);
+    }
+
+    public <T> RetryQueue<T> newQueue() {
+        return new RetryQueue<>(this);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.hotelpricingproject.throttle;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Failed items parked until their backoff expires. Work is not blocked while items wait:
+ * the caller keeps going and calls {@link #drain} once the healthy work is done.
+ * Not thread-safe; each scrape run owns its queue.
+ */
+public class RetryQueue<T> {
+
+    private record Entry<T>(T item, int failedAttempts, long dueNanos) {
+    }
+
+    private final RetryPolicy policy;
+    private final PriorityQueue<Entry<T>> entries = new PriorityQueue<>(Comparator.comparingLong(Entry::dueNanos));
+
+    RetryQueue(RetryPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Parks an item after its {@code failedAttempts}-th failure.
+     *
+     * @return false when the item has used up its attempts and was dropped
+     */
+    public boolean schedule(T item, int failedAttempts) {
+        if (failedAttempts >= policy.maxAttempts()) {
+            return false;
+        }
+        long due = policy.clock().nanoTime() + policy.backoffNanos(failedAttempts);
+        entries.add(new Entry<>(item, failedAttempts, due));
+        return true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Retries items in due order, waiting for each backoff to expire. {@code attempt} returns
+     * whether the retry succeeded; failures are rescheduled until they run out of attempts.
+     *
+     * @param exhausted called with items that failed their last attempt
+     */
+    public void drain(Predicate<T> attempt, Consumer<T> exhausted) {
+        while (!entries.isEmpty()) {
+            Entry<T> next = entries.poll();
+            long waitNanos = next.dueNanos() - policy.clock().nanoTime();
+            if (waitNanos > 0) {
+                policy.clock().sleepNanos(waitNanos);
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                entries.clear();
+                return;
+            }
+            if (!attempt.test(next.item()) && !schedule(next.item(), next.failedAttempts() + 1)) {
+                exhausted.accept(next.item());
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.hotelpricingproject.throttle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time source for the limiter and retry queue, replaceable in tests.
+ */
+public interface ThrottleClock {
+
+    ThrottleClock SYSTEM = new ThrottleClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void sleepNanos(long nanos) {
+            long deadline = System.nanoTime() + nanos;
+            boolean interrupted = false;
+            long remaining = nanos;
+            while (remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    };
+
+    long nanoTime();
+
+    /**
+     * Sleeps without giving up early on interrupt; the interrupt flag is restored afterwards.
+     */
+    void sleepNanos(long nanos);
+}
@@ -0,0 +1,42 @@
+package com.example.hotelpricingproject.throttle;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * Per-host adaptive throttle ({@code hotel.throttle.*}) and retry backoff ({@code hotel.retry.*}),
+ * created with the scraper on first use.
+ */
+@Configuration
+@Lazy
+public class ThrottleConfig {
+
+    @Bean
+    public HostRateLimiters hostRateLimiters(
+            @Value("${hotel.throttle.initial-rate:0.5}") double initialRate,
+            @Value("${hotel.throttle.min-rate:0.05}") double minRate,
+            @Value("${hotel.throttle.max-rate:5}") double maxRate,
+            @Value("${hotel.throttle.burst:2}") double burst,
+            @Value("${hotel.throttle.additive-increase:0.05}") double additiveIncrease,
+            @Value("${hotel.throttle.decrease-factor:0.5}") double decreaseFactor,
+            @Value("${hotel.throttle.latency-target-ms:8000}") long latencyTargetMillis,
+            @Value("${hotel.throttle.decrease-cooldown-ms:10000}") long decreaseCooldownMillis) {
+        ThrottleSettings settings = new ThrottleSettings(initialRate, minRate, maxRate, burst, additiveIncrease,
+                decreaseFactor, Duration.ofMillis(latencyTargetMillis), Duration.ofMillis(decreaseCooldownMillis));
+        return new HostRateLimiters(settings, ThrottleClock.SYSTEM);
+    }
+
+    @Bean
+    public RetryPolicy retryPolicy(
+            @Value("${hotel.retry.max-attempts:3}") int maxAttempts,
+            @Value("${hotel.retry.base-delay-ms:5000}") long baseDelayMillis,
+            @Value("${hotel.retry.max-delay-ms:60000}") long maxDelayMillis) {
+        return new RetryPolicy(maxAttempts, Duration.ofMillis(baseDelayMillis), Duration.ofMillis(maxDelayMillis),
+                ThrottleClock.SYSTEM, RandomGenerator.getDefault());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.hotelpricingproject.throttle;
+
+import java.time.Duration;
+
+/**
+ * AIMD token-bucket parameters. Rates are in pages per second.
+ *
+ * @param initialRate        rate a new host starts at
+ * @param minRate            floor the rate never drops below
+ * @param maxRate            ceiling for additive increases
+ * @param burst              bucket size, i.e. how many pages may go back to back
+ * @param additiveIncrease   added to the rate after each healthy page
+ * @param decreaseFactor     multiplied into the rate after an error or slow page
+ * @param latencyTarget      fetches slower than this count as a congestion signal
+ * @param decreaseCooldown   minimum time between two decreases, so one bad burst halves the rate once
+ */
+public record ThrottleSettings(double initialRate, double minRate, double maxRate, double burst,
+                               double additiveIncrease, double decreaseFactor,
+                               Duration latencyTarget, Duration decreaseCooldown) {
+
+    public ThrottleSettings {
+        if (minRate <= 0 || minRate > maxRate || initialRate < minRate || initialRate > maxRate) {
+            throw new IllegalArgumentException("Rates must satisfy 0 < minRate <= initialRate <= maxRate");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1");
+        }
+        if (additiveIncrease < 0 || decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("additiveIncrease must be >= 0 and decreaseFactor in (0, 1)");
+        }
+    }
+
+    /**
+     * Effectively no limit, for scrapers created outside Spring.
+     */
+    public static ThrottleSettings unthrottled() {
+        return new ThrottleSettings(1e9, 1e9, 1e9, 1e9, 0, 0.5, Duration.ofDays(1), Duration.ZERO);
+    }
+}
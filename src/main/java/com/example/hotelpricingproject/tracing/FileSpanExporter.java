@@ -0,0 +1,175 @@
+package com.example.hotelpricingproject.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+/**
+ * Appends spans to a local file as OTLP/JSON, one {@code ExportTraceServiceRequest} per line.
+ * This is the format the OpenTelemetry Collector's {@code otlpjsonfile} receiver reads, so the
+ * file can be replayed into any tracing backend later.
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final BufferedWriter writer;
+
+    public FileSpanExporter(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            writer.write(mapper.writeValueAsString(toRequest(spans)));
+            writer.newLine();
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Could not write {} spans: {}", spans.size(), e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    ObjectNode toRequest(Collection<SpanData> spans) {
+        // resource -> scope -> spans, as in the protobuf message
+        Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> grouped = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            grouped.computeIfAbsent(span.getResource(), r -> new LinkedHashMap<>())
+                    .computeIfAbsent(span.getInstrumentationScopeInfo(), s -> new ArrayList<>())
+                    .add(span);
+        }
+        ObjectNode request = mapper.createObjectNode();
+        ArrayNode resourceSpans = request.putArray("resourceSpans");
+        for (Map.Entry<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> byResource : grouped.entrySet()) {
+            ObjectNode resourceNode = resourceSpans.addObject();
+            resourceNode.putObject("resource").set("attributes", attributes(byResource.getKey().getAttributes()));
+            ArrayNode scopeSpans = resourceNode.putArray("scopeSpans");
+            for (Map.Entry<InstrumentationScopeInfo, List<SpanData>> byScope : byResource.getValue().entrySet()) {
+                ObjectNode scopeNode = scopeSpans.addObject();
+                ObjectNode scope = scopeNode.putObject("scope");
+                scope.put("name", byScope.getKey().getName());
+                if (byScope.getKey().getVersion() != null) {
+                    scope.put("version", byScope.getKey().getVersion());
+                }
+                ArrayNode spanNodes = scopeNode.putArray("spans");
+                for (SpanData span : byScope.getValue()) {
+                    spanNodes.add(span(span));
+                }
+            }
+        }
+        return request;
+    }
+
+    private ObjectNode span(SpanData span) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("traceId", span.getTraceId());
+        node.put("spanId", span.getSpanId());
+        if (SpanId.isValid(span.getParentSpanId())) {
+            node.put("parentSpanId", span.getParentSpanId());
+        }
+        node.put("name", span.getName());
+        // OTLP numbers kinds from 1 in the same order as the SDK enum
+        node.put("kind", span.getKind().ordinal() + 1);
+        node.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        node.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        node.set("attributes", attributes(span.getAttributes()));
+        ArrayNode events = node.putArray("events");
+        for (EventData event : span.getEvents()) {
+            ObjectNode eventNode = events.addObject();
+            eventNode.put("timeUnixNano", Long.toString(event.getEpochNanos()));
+            eventNode.put("name", event.getName());
+            eventNode.set("attributes", attributes(event.getAttributes()));
+        }
+        ObjectNode status = node.putObject("status");
+        switch (span.getStatus().getStatusCode()) {
+            case OK -> status.put("code", 1);
+            case ERROR -> status.put("code", 2);
+            default -> status.put("code", 0);
+        }
+        if (!span.getStatus().getDescription().isEmpty()) {
+            status.put("message", span.getStatus().getDescription());
+        }
+        return node;
+    }
+
+    private ArrayNode attributes(Attributes attributes) {
+        ArrayNode array = mapper.createArrayNode();
+        attributes.forEach((key, value) -> {
+            ObjectNode attribute = array.addObject();
+            attribute.put("key", key.getKey());
+            attribute.set("value", anyValue(value));
+        });
+        return array;
+    }
+
+    private ObjectNode anyValue(Object value) {
+        ObjectNode node = mapper.createObjectNode();
+        if (value instanceof List<?> list) {
+            ArrayNode values = node.putObject("arrayValue").putArray("values");
+            for (Object element : list) {
+                values.add(anyValue(element));
+            }
+        } else if (value instanceof Boolean bool) {
+            node.put("boolValue", bool);
+        } else if (value instanceof Long number) {
+            // int64 travels as a string in OTLP/JSON
+            node.put("intValue", number.toString());
+        } else if (value instanceof Double number) {
+            node.put("doubleValue", number);
+        } else {
+            node.put("stringValue", String.valueOf(value));
+        }
+        return node;
+    }
+}
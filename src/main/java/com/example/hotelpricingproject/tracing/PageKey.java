@@ -0,0 +1,22 @@
+package com.example.hotelpricingproject.tracing;
+
+import java.time.LocalDate;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+/**
+ * The (hotel, city, check-in date, stay length, guests) a scraped page belongs to.
+ */
+public record PageKey(String hotelName, String city, LocalDate checkIn, int nights, int guests) {
+
+    /**
+     * A one-night stay for two adults, the site's default search.
+     */
+    public PageKey(String hotelName, String city, LocalDate checkIn) {
+        this(hotelName, city, checkIn, HotelPrice.DEFAULT_NIGHTS, HotelPrice.DEFAULT_GUESTS);
+    }
+
+    public LocalDate checkOut() {
+        return checkIn.plusDays(nights);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.hotelpricingproject.tracing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.hotelpricingproject.metrics.ScrapePhase;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+
+/**
+ * Saves what the browser was showing when a scrape phase ran past the threshold:
+ * {@code page.html}, {@code screenshot.png} (when the driver can take one), {@code timings.json}
+ * (Navigation and Resource Timing entries) and {@code info.txt} with the trace and span ids.
+ * Each capture gets its own directory and is noted on the phase span as a {@code slow_page.captured} event.
+ */
+public class SlowPageCapture {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowPageCapture.class);
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final AttributeKey<String> CAPTURE_PATH = AttributeKey.stringKey("capture.path");
+    // Navigation Timing fields are copied one by one because not every browser's timing object serializes
+    private static final String TIMINGS_SCRIPT = "var p = window.performance;"
+            + "if (!p) { return '{}'; }"
+            + "var fields = ['navigationStart', 'fetchStart', 'domainLookupStart', 'domainLookupEnd', 'connectStart',"
+            + " 'connectEnd', 'requestStart', 'responseStart', 'responseEnd', 'domLoading', 'domInteractive',"
+            + " 'domContentLoadedEventStart', 'domContentLoadedEventEnd', 'domComplete', 'loadEventStart', 'loadEventEnd'];"
+            + "var timing = {};"
+            + "for (var i = 0; i < fields.length; i++) { timing[fields[i]] = p.timing ? p.timing[fields[i]] : null; }"
+            + "var list = function(type) { return p.getEntriesByType ? p.getEntriesByType(type) : []; };"
+            + "return JSON.stringify({timing: timing, navigation: list('navigation'), resources: list('resource')});";
+
+    private final Path directory;
+    private final Duration threshold;
+    private final int maxCaptures;
+    private final AtomicInteger captures = new AtomicInteger();
+
+    public SlowPageCapture(Path directory, Duration threshold, int maxCaptures) {
+        this.directory = directory;
+        this.threshold = threshold;
+        this.maxCaptures = maxCaptures;
+    }
+
+    /**
+     * Captures the page if {@code elapsed} is over the threshold. Never throws: a failed capture
+     * must not turn a slow page into a failed one.
+     *
+     * @return the capture directory, or null when nothing was captured
+     */
+    public Path captureIfSlow(WebDriver driver, PageKey page, ScrapePhase phase, Duration elapsed, Span span) {
+        if (driver == null || elapsed.compareTo(threshold) < 0) {
+            return null;
+        }
+        if (captures.incrementAndGet() > maxCaptures) {
+            log.debug("Slow {} for {} not captured, limit of {} reached", phase.tag(), page, maxCaptures);
+            return null;
+        }
+        try {
+            Path target = directory.resolve(String.format("%s-%s-%s-%s", LocalDateTime.now().format(STAMP),
+                    slug(page.hotelName() + " " + page.city()), page.checkIn(), phase.tag()));
+            Files.createDirectories(target);
+            writeInfo(target, page, phase, elapsed, span);
+            writePageSource(target, driver);
+            writeScreenshot(target, driver);
+            writeTimings(target, driver);
+            span.addEvent("slow_page.captured", Attributes.of(CAPTURE_PATH, target.toString()));
+            log.warn("Slow {} ({} ms) for {} in {} on {}, captured to {}", phase.tag(), elapsed.toMillis(),
+                    page.hotelName(), page.city(), page.checkIn(), target);
+            return target;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not capture slow page for {}: {}", page, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeInfo(Path target, PageKey page, ScrapePhase phase, Duration elapsed, Span span)
+            throws IOException {
+        String info = "hotel=" + page.hotelName() + "\n"
+                + "city=" + page.city() + "\n"
+                + "checkIn=" + page.checkIn() + "\n"
+                + "nights=" + page.nights() + "\n"
+                + "guests=" + page.guests() + "\n"
+                + "phase=" + phase.tag() + "\n"
+                + "elapsedMs=" + elapsed.toMillis() + "\n"
+                + "traceId=" + span.getSpanContext().getTraceId() + "\n"
+                + "spanId=" + span.getSpanContext().getSpanId() + "\n";
+        Files.writeString(target.resolve("info.txt"), info, StandardCharsets.UTF_8);
+    }
+
+    private static void writePageSource(Path target, WebDriver driver) {
+        try {
+            Files.writeString(target.resolve("page.html"), driver.getPageSource(), StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            log.debug("No page source: {}", e.getMessage());
+        }
+    }
+
+    private static void writeScreenshot(Path target, WebDriver driver) {
+        if (!(driver instanceof TakesScreenshot screenshots)) {
+            return;
+        }
+        try {
+            Files.write(target.resolve("screenshot.png"), screenshots.getScreenshotAs(OutputType.BYTES));
+        } catch (IOException | RuntimeException e) {
+            log.debug("No screenshot: {}", e.getMessage());
+        }
+    }
+
+    private static void writeTimings(Path target, WebDriver driver) {
+        if (!(driver instanceof JavascriptExecutor js)) {
+            return;
+        }
+        try {
+            Object timings = js.executeScript(TIMINGS_SCRIPT);
+            Files.writeString(target.resolve("timings.json"), String.valueOf(timings), StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            log.debug("No performance timings: {}", e.getMessage());
+        }
+    }
+
+    private static String slug(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", "-").replaceAll("^-|-$", "");
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.hotelpricingproject.tracing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.api.trace.TracerProvider;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+
+/**
+ * Scrape tracing ({@code hotel.tracing.enabled}) and slow-page capture ({@code hotel.diagnostics.enabled}).
+ * With tracing off the scraper gets a no-op tracer. Lazy like the scraper that uses them.
+ */
+@Configuration
+@Lazy
+public class TracingConfig {
+
+    static final String INSTRUMENTATION_NAME = "hotel-scraper";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "hotel.tracing.enabled", havingValue = "true")
+    public SdkTracerProvider sdkTracerProvider(@Value("${hotel.tracing.file:data/traces/spans.jsonl}") String file,
+                                               @Value("${spring.application.name}") String serviceName) throws IOException {
+        Resource resource = Resource.getDefault().merge(Resource.create(
+                Attributes.of(AttributeKey.stringKey("service.name"), serviceName)));
+        return SdkTracerProvider.builder()
+                .setResource(resource)
+                .addSpanProcessor(BatchSpanProcessor.builder(new FileSpanExporter(Path.of(file))).build())
+                .build();
+    }
+
+    @Bean
+    public Tracer scrapeTracer(ObjectProvider<SdkTracerProvider> sdkTracerProvider) {
+        SdkTracerProvider provider = sdkTracerProvider.getIfAvailable();
+        return (provider != null ? provider : TracerProvider.noop()).get(INSTRUMENTATION_NAME);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "hotel.diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+    public SlowPageCapture slowPageCapture(
+            @Value("${hotel.diagnostics.directory:data/slow-pages}") String directory,
+            @Value("${hotel.diagnostics.slow-phase-ms:10000}") long slowPhaseMillis,
+            @Value("${hotel.diagnostics.max-captures:100}") int maxCaptures) {
+        return new SlowPageCapture(Path.of(directory), Duration.ofMillis(slowPhaseMillis), maxCaptures);
+    }
+}
@@ -0,0 +1,11 @@
+-- Tables outside the JPA model, created by spring.sql.init on writing nodes.
+-- The readonly profile skips this script and only checks that they exist.
+
+-- Data version per (hotel, city), bumped in the transaction of every price write
+CREATE TABLE IF NOT EXISTS price_data_versions (
+    hotel_name VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL,
+    modified_at BIGINT NOT NULL,
+    PRIMARY KEY (hotel_name, city)
+);
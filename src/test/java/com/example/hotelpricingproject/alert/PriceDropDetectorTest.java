@@ -0,0 +1,100 @@
+package com.example.hotelpricingproject.alert;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+
+@DisplayName("Price Drop Detector Tests")
+class PriceDropDetectorTest {
+
+    private List<PriceAlert> received;
+    private PriceDropDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Detector with a capturing sink and a short warm-up
+        received = new ArrayList<>();
+        PriceAlertSink capturingSink = received::add;
+        detector = new PriceDropDetector(List.of(capturingSink), 0.2, 5, 20, 2.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        received = null;
+        detector = null;
+    }
+
+    @Test
+    @DisplayName("Should not alert before the baseline is warmed up")
+    void testNoAlertDuringWarmUp() {
+        // Arrange
+        feed("Las Vegas", 300, 305, 295);
+
+        // Act
+        PriceAlert alert = detector.evaluate(price("Las Vegas", 1, "100.00"));
+
+        // Assert
+        assertNull(alert);
+    }
+
+    @Test
+    @DisplayName("Should alert subscribers on a sharp drop below the baseline")
+    void testAlertOnSharpDrop() {
+        // Arrange
+        feed("Las Vegas", 300, 310, 290, 305, 295, 300);
+
+        // Act
+        detector.onPriceSaved(new HotelPriceSavedEvent(price("Las Vegas", 10, "180.00")));
+
+        // Assert
+        assertEquals(1, received.size());
+        PriceAlert alert = received.get(0);
+        assertEquals("Las Vegas", alert.getCity());
+        assertEquals(new BigDecimal("180.00"), alert.getPrice());
+        assertTrue(alert.getDropPercent() > 35);
+        assertTrue(alert.getZScore() >= 2.0);
+    }
+
+    @Test
+    @DisplayName("Should ignore normal fluctuations and keep baselines per city")
+    void testBaselinesArePerCity() {
+        // Arrange
+        feed("Las Vegas", 300, 310, 290, 305, 295, 300);
+        feed("Miami", 150, 155, 145, 150, 152, 148);
+
+        // Act
+        PriceAlert vegas = detector.evaluate(price("Las Vegas", 10, "285.00"));
+        PriceAlert miami = detector.evaluate(price("Miami", 10, "150.00"));
+
+        // Assert
+        assertNull(vegas);
+        assertNull(miami);
+        assertNotNull(detector.getBaseline("Ritz-Carlton", "Miami"));
+        assertTrue(detector.getBaseline("Ritz-Carlton", "Miami").getMean() < 200);
+    }
+
+    private void feed(String city, int... prices) {
+        for (int i = 0; i < prices.length; i++) {
+            detector.onPriceSaved(new HotelPriceSavedEvent(price(city, i, prices[i] + ".00")));
+        }
+    }
+
+    private static HotelPrice price(String city, int dayOffset, String amount) {
+        LocalDate checkIn = LocalDate.of(2025, 12, 1).plusDays(dayOffset);
+        return new HotelPrice("Ritz-Carlton", city, checkIn, checkIn.plusDays(1),
+                new BigDecimal(amount), "4.5", "Address");
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.hotelpricingproject.alert;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.feed.OverflowPolicy;
+
+@DisplayName("SSE Alert Sink Tests")
+class SseAlertSinkTest {
+
+    private final ExecutorService drainExecutor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        drainExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should keep alerting other subscribers while one is stalled, and bound the stalled one's backlog")
+    void testStalledSubscriber() throws Exception {
+        // Arrange - One client stops reading after its first alert
+        SseAlertSink sink = new SseAlertSink(2, OverflowPolicy.DROP_OLDEST, drainExecutor);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingEmitter stalled = new CountingEmitter(release);
+        CountingEmitter healthy = new CountingEmitter(null);
+        sink.subscribe(stalled);
+        sink.subscribe(healthy);
+
+        // Act - The healthy client keeps up with every alert while the other is still blocked
+        for (int i = 0; i < 10; i++) {
+            sink.publish(alert());
+            assertTrue(healthy.awaitEvents(i + 1), "healthy subscriber got " + healthy.events);
+        }
+
+        // Assert
+        assertEquals(1, stalled.events.size());
+
+        // Act - The stalled client catches up on what its buffer kept
+        release.countDown();
+
+        // Assert - The first alert, the lag notice and the two newest alerts
+        assertTrue(stalled.awaitEvents(4), "stalled subscriber got " + stalled.events);
+        assertEquals("lagged", stalled.events.get(1));
+        assertEquals(2, sink.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should disconnect a stalled subscriber under the disconnect policy")
+    void testStalledSubscriberDisconnected() {
+        // Arrange - Drains never run, so the buffer only fills
+        SseAlertSink sink = new SseAlertSink(2, OverflowPolicy.DISCONNECT, task -> { });
+        AlertSubscription subscription = sink.subscribe(new CountingEmitter(null));
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            sink.publish(alert());
+        }
+
+        // Assert
+        assertTrue(subscription.isClosed());
+        assertEquals(0, sink.getSubscriberCount());
+    }
+
+    private static PriceAlert alert() {
+        return new PriceAlert("Ritz-Carlton", "Paris", LocalDate.of(2025, 12, 1), new BigDecimal("180.00"),
+                300.0, 40.0, 3.1, Instant.EPOCH);
+    }
+
+    /**
+     * Records event names; blocks after the first event until released, when given a latch.
+     */
+    private static class CountingEmitter extends SseEmitter {
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        CountingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String raw = builder.build().iterator().next().getData().toString();
+            events.add(raw.replaceAll("(?s).*event:([^\\n]+)\\n.*", "$1"));
+            if (release != null && events.size() == 1) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        boolean awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (events.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return events.size() == count;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.hotelpricingproject.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import com.example.hotelpricingproject.dto.DailyPrice;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.export.ColumnarPriceReader;
+import com.example.hotelpricingproject.export.PriceExportService;
+import com.example.hotelpricingproject.export.PriceRow;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.service.HotelAnalysisService;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archivedb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "hotel.archive.enabled=true"
+})
+@DisplayName("Price Archiver Tests")
+class PriceArchiverTest {
+
+    @TempDir
+    static Path archiveDirectory;
+
+    @DynamicPropertySource
+    static void archiveProperties(DynamicPropertyRegistry registry) {
+        registry.add("hotel.archive.directory", () -> archiveDirectory.toString());
+    }
+
+    @Autowired
+    private PriceArchiver archiver;
+
+    @Autowired
+    private PriceArchive archive;
+
+    @Autowired
+    private HotelPriceRepository repository;
+
+    @Autowired
+    private HotelAnalysisService analysisService;
+
+    @Autowired
+    private PriceExportService exportService;
+
+    @Test
+    @DisplayName("Should move past months to the archive and still answer range queries across both stores")
+    void testArchivesPastMonthsAndRoutesQueries() throws Exception {
+        // Arrange - October and November are over, December is the first hot month
+        repository.saveAll(List.of(
+                price(LocalDate.of(2025, 10, 30), "240.00"),
+                price(LocalDate.of(2025, 11, 10), "180.00"),
+                price(LocalDate.of(2025, 11, 12), "220.00"),
+                price(LocalDate.of(2025, 12, 5), "310.00")));
+
+        // Act
+        List<YearMonth> archived = archiver.archiveBefore(YearMonth.of(2025, 12));
+
+        // Assert - Two partitions on disk, one row left in SQLite
+        assertEquals(List.of(YearMonth.of(2025, 10), YearMonth.of(2025, 11)), archived);
+        assertTrue(Files.exists(archive.pathFor(YearMonth.of(2025, 11))));
+        assertEquals(1, repository.count());
+
+        // Assert - Range queries merge the partitions they touch, and only those
+        List<HotelPrice> lowest = analysisService.findLowestPrices("Ritz-Carlton", "Paris",
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 12, 31));
+        assertEquals(List.of("180.00", "220.00", "310.00"), lowest.stream().map(p -> p.getPrice().toString()).toList());
+        assertEquals(List.of(), archive.monthsBetween(LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 31)));
+        List<DailyPrice> daily = analysisService.getDailyPrices("Ritz-Carlton", "Paris",
+                LocalDate.of(2025, 11, 10), LocalDate.of(2025, 11, 12), 1, 2);
+        assertEquals(new BigDecimal("200.00"), daily.get(1).getPrice());
+        assertEquals(4, analysisService.getPricesForHotelInCity("Ritz-Carlton", "Paris").size());
+
+        // Act - A late price for November joins its existing partition on the next run
+        repository.save(price(LocalDate.of(2025, 11, 20), "150.00"));
+        archiver.archiveBefore(YearMonth.of(2025, 12));
+
+        // Assert
+        assertEquals(3, archive.read(YearMonth.of(2025, 11), row -> { }));
+        assertEquals(1, repository.count());
+        assertEquals(new BigDecimal("150.00"), analysisService.findLowestPrices("Ritz-Carlton", "Paris").get(0).getPrice());
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should summarise each archived month's stays and export archived rows with the hot ones")
+    void testSummariesAndExport() throws Exception {
+        // Arrange - A one-night and a three-night stay in September, one night in October
+        HotelPrice longStay = new HotelPrice("Hotel Adlon", "Berlin", LocalDate.of(2025, 9, 10),
+                LocalDate.of(2025, 9, 13), new BigDecimal("900.00"), "9.1", "Unter den Linden 77");
+        repository.saveAll(List.of(
+                adlon(LocalDate.of(2025, 9, 1), "320.00"),
+                adlon(LocalDate.of(2025, 9, 2), "280.00"),
+                longStay,
+                adlon(LocalDate.of(2025, 10, 4), "410.00")));
+
+        // Act
+        archiver.archiveBefore(YearMonth.of(2025, 10));
+
+        // Assert - The summary is on disk and names each stay with its lowest price
+        MonthSummary september = archive.summary(YearMonth.of(2025, 9));
+        assertTrue(Files.exists(archiveDirectory.resolve("hotel_prices-2025-09.summary")));
+        assertEquals(28_000, september.minCents("Hotel Adlon", "Berlin", 1, 2));
+        assertEquals(90_000, september.minCents("Hotel Adlon", "Berlin", 3, 2));
+        assertFalse(september.contains("Hotel Adlon", "Berlin", 2, 2));
+        assertEquals(MonthSummary.NONE, september.minCents("Hotel Adlon", "Berlin", 1, 4));
+
+        // Assert - Lowest prices stop at the hot row that no archived month can beat
+        List<HotelPrice> lowest = analysisService.findLowestPrices("Hotel Adlon", "Berlin");
+        assertEquals(List.of("280.00", "320.00", "410.00"), lowest.stream().map(p -> p.getPrice().toString()).toList());
+        assertEquals(1, analysisService.getPricesForHotelInCity("Hotel Adlon", "Berlin", 3, 2).size());
+
+        // Act - Export every stored price
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportTo(out);
+        List<PriceRow> exported = new ArrayList<>();
+        try (ColumnarPriceReader reader = new ColumnarPriceReader(new ByteArrayInputStream(out.toByteArray()))) {
+            reader.read(row -> {
+                if (row.hotelName().equals("Hotel Adlon")) {
+                    exported.add(row);
+                }
+            });
+        }
+
+        // Assert - Archived rows come first, then the one still in SQLite
+        assertEquals(List.of(LocalDate.of(2025, 9, 1), LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 10),
+                LocalDate.of(2025, 10, 4)), exported.stream().map(PriceRow::checkInDate).toList());
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should pick up months and summaries another process archives into the shared directory")
+    void testSeesMonthsArchivedElsewhere(@TempDir Path shared) throws Exception {
+        // Arrange - Two processes open the same, still empty, archive
+        PriceArchive reader = new PriceArchive(shared.toString());
+        PriceArchive writer = new PriceArchive(shared.toString());
+        YearMonth august = YearMonth.of(2025, 8);
+        assertEquals(List.of(), reader.monthsBetween(null, null));
+
+        // Act - The other process archives August, then adds a two-night stay to it
+        writer.replace(august, out -> out.write(row(1, LocalDate.of(2025, 8, 3), 1, 21_000)));
+        List<YearMonth> afterFirst = reader.monthsBetween(null, null);
+        boolean twoNightsBefore = reader.summary(august).contains("Hotel Adlon", "Berlin", 2, 2);
+        writer.replace(august, out -> {
+            out.write(row(1, LocalDate.of(2025, 8, 3), 1, 21_000));
+            out.write(row(2, LocalDate.of(2025, 8, 9), 2, 39_000));
+        });
+
+        // Assert
+        assertEquals(List.of(august), afterFirst);
+        assertFalse(twoNightsBefore);
+        assertEquals(List.of(august), reader.monthsBetween(LocalDate.of(2025, 8, 1), LocalDate.of(2025, 8, 31)));
+        assertEquals(39_000, reader.summary(august).minCents("Hotel Adlon", "Berlin", 2, 2));
+    }
+
+    private static PriceRow row(long id, LocalDate checkIn, int nights, long cents) {
+        return new PriceRow(id, "Hotel Adlon", "Berlin", checkIn, checkIn.plusDays(nights), cents, "9.1",
+                "Unter den Linden 77", checkIn.minusDays(30), 2, "EUR");
+    }
+
+    private static HotelPrice adlon(LocalDate checkIn, String price) {
+        return new HotelPrice("Hotel Adlon", "Berlin", checkIn, checkIn.plusDays(1), new BigDecimal(price),
+                "9.1", "Unter den Linden 77");
+    }
+
+    private static HotelPrice price(LocalDate checkIn, String price) {
+        return new HotelPrice("Ritz-Carlton", "Paris", checkIn, checkIn.plusDays(1), new BigDecimal(price),
+                "9.0", "15 Place Vendome");
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.hotelpricingproject.batch;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+import com.example.hotelpricingproject.replay.PageCorpus;
+import com.example.hotelpricingproject.replay.ReplayHttpServer;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.service.HotelScraperService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("Batch Scrape Runner Tests")
+class BatchScrapeRunnerTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 11, 15);
+
+    @TempDir
+    Path directory;
+
+    private ReplayHttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should scrape every stride-th date and save prices in batches")
+    void testRunsJobFile() throws Exception {
+        // Arrange - Only the 15th and 17th are recorded, so a request for the 16th would miss
+        PageCorpus corpus = new PageCorpus(directory.resolve("corpus"));
+        corpus.save("Hotel Adlon Berlin", CHECK_IN, page("US$312"));
+        corpus.save("Hotel Adlon Berlin", CHECK_IN.plusDays(2), page("US$298"));
+        server = new ReplayHttpServer(corpus, 0, 0, 0, 0.0, 2);
+        server.start();
+        Path jobFile = directory.resolve("job.json");
+        Files.writeString(jobFile, """
+                {"hotels": ["Hotel Adlon"], "cities": ["Berlin"],
+                 "startDate": "2025-11-15", "endDate": "2025-11-17", "strideDays": 2}
+                """);
+        HotelPriceRepository repository = mock(HotelPriceRepository.class);
+        ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+        HotelScraperService scraper = new HotelScraperService();
+        ReflectionTestUtils.setField(scraper, "hotelPriceRepository", repository);
+        ReflectionTestUtils.setField(scraper, "eventPublisher", events);
+        ReflectionTestUtils.setField(scraper, "persistBatchSize", 1);
+        scraper.setBaseUrl(server.getBaseUrl());
+        scraper.setWebDriverSupplier(() -> new HtmlUnitDriver(true));
+        BatchScrapeRunner runner = new BatchScrapeRunner(scraper, new ObjectMapper().findAndRegisterModules(),
+                jobFile.toString(), 60_000);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertEquals(2, server.getServed());
+        assertEquals(0, server.getMissing());
+        verify(repository, times(2)).saveAll(anyIterable());
+        verify(events, times(2)).publishEvent(any(HotelPriceSavedEvent.class));
+        assertEquals(0, runner.getExitCode());
+    }
+
+    @Test
+    @DisplayName("Should scrape every stay of a search matrix, saving stay length and guests with each price")
+    void testRunsSearchMatrixJob() throws Exception {
+        // Arrange - Four stays for one date, each recorded with its own price
+        PageCorpus corpus = new PageCorpus(directory.resolve("corpus"));
+        corpus.save("Hotel Adlon Berlin", CHECK_IN, 1, 2, page("US$312"));
+        corpus.save("Hotel Adlon Berlin", CHECK_IN, 1, 4, page("US$398"));
+        corpus.save("Hotel Adlon Berlin", CHECK_IN, 3, 2, page("US$905"));
+        corpus.save("Hotel Adlon Berlin", CHECK_IN, 3, 4, page("US$1,160"));
+        server = new ReplayHttpServer(corpus, 0, 0, 0, 0.0, 2);
+        server.start();
+        Path jobFile = directory.resolve("matrix.json");
+        Files.writeString(jobFile, """
+                {"hotels": ["Hotel Adlon"], "cities": ["Berlin"],
+                 "startDate": "2025-11-15", "endDate": "2025-11-15", "nights": [3, 1], "guests": [2, 4]}
+                """);
+        HotelPriceRepository repository = mock(HotelPriceRepository.class);
+        HotelScraperService scraper = new HotelScraperService();
+        ReflectionTestUtils.setField(scraper, "hotelPriceRepository", repository);
+        ReflectionTestUtils.setField(scraper, "eventPublisher", mock(ApplicationEventPublisher.class));
+        scraper.setBaseUrl(server.getBaseUrl());
+        scraper.setWebDriverSupplier(() -> new HtmlUnitDriver(true));
+        BatchScrapeRunner runner = new BatchScrapeRunner(scraper, new ObjectMapper().findAndRegisterModules(),
+                jobFile.toString(), 60_000);
+
+        // Act
+        runner.run(new DefaultApplicationArguments());
+
+        // Assert - Default stay first, then the opposite corner, all through one browser session
+        ArgumentCaptor<List<HotelPrice>> saved = ArgumentCaptor.captor();
+        // A slow run may have saved them in more than one batch once the delay ran out
+        verify(repository, atLeastOnce()).saveAll(saved.capture());
+        List<String> stays = saved.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(price -> price.getNights() + "n" + price.getGuests() + "g " + price.getPrice()
+                        + " " + price.getCheckOutDate())
+                .toList();
+        assertEquals(List.of("1n2g 312.00 2025-11-16", "3n4g 1160.00 2025-11-18", "1n4g 398.00 2025-11-16",
+                "3n2g 905.00 2025-11-18"), stays);
+        assertEquals(4, server.getServed());
+        assertEquals(0, runner.getExitCode());
+    }
+
+    @Test
+    @DisplayName("Should validate the job and count its planned dates")
+    void testRejectsInvalidJob() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new BatchJob(List.of("Ritz-Carlton"),
+                List.of("Miami"), CHECK_IN, CHECK_IN.minusDays(1), 3));
+        assertEquals(18, new BatchJob(List.of("Ritz-Carlton"), List.of("Miami"),
+                CHECK_IN, CHECK_IN.plusDays(51), 3).datesPerCity());
+        assertThrows(IllegalArgumentException.class, () -> new BatchJob(List.of("Ritz-Carlton"),
+                List.of("Miami"), CHECK_IN, CHECK_IN.plusDays(51), null, "adaptive:7", null, null));
+        assertEquals(9, new BatchJob(List.of("Ritz-Carlton"), List.of("Miami"),
+                CHECK_IN, CHECK_IN.plusDays(51), null, "adaptive:7:10", null, null).datesPerCity());
+    }
+
+    private static String page(String price) {
+        return "<html><body><button aria-label=\"Dismiss\">Dismiss</button>"
+                + "<div data-testid=\"property-card\"><div data-testid=\"title\">Hotel Adlon Kempinski</div>"
+                + "<div data-testid=\"review-score\">9.1</div>"
+                + "<span data-testid=\"price-and-discounted-price\">" + price + "</span></div>"
+                + "</body></html>";
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.hotelpricingproject.comparison;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.hotelpricingproject.currency.CurrencyDetector;
+import com.example.hotelpricingproject.currency.FxRates;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.repository.PartitionedPriceRepository;
+
+@DisplayName("Price Comparison Engine Tests")
+class PriceComparisonEngineTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 15);
+
+    private PartitionedPriceRepository repository;
+    private PriceComparisonEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PartitionedPriceRepository.class);
+        engine = new PriceComparisonEngine(repository, new FxRates("USD", "EUR:1.10,AED:0.25", "USD"));
+    }
+
+    @Test
+    @DisplayName("Should read the currency off Booking.com price labels")
+    void testCurrencyDetection() {
+        assertEquals("USD", CurrencyDetector.detect("US$1,234"));
+        assertEquals("USD", CurrencyDetector.detect("$ 250"));
+        assertEquals("EUR", CurrencyDetector.detect("€ 310"));
+        assertEquals("AED", CurrencyDetector.detect("AED 1,150"));
+        assertEquals("CAD", CurrencyDetector.detect("CA$ 420"));
+        assertEquals("CHF", CurrencyDetector.detect("Price CHF 540"));
+        assertNull(CurrencyDetector.detect("1,234"));
+    }
+
+    @Test
+    @DisplayName("Should build a ranked matrix in one currency with the latest scrape per cell")
+    void testMatrixAcrossCurrencies() {
+        // Arrange - Las Vegas in dollars, Paris in euros, Dubai in dirhams, one date missing in Dubai
+        HotelPrice stale = price("Paris", 0, "500.00", "EUR", LocalDate.of(2025, 10, 1));
+        when(repository.findByStayAndCheckInDateBetween(eq("Ritz-Carlton"), eq("Las Vegas"), eq(1), eq(2), eq(START),
+                eq(START.plusDays(1)))).thenReturn(List.of(
+                price("Las Vegas", 0, "300.00", null, START), price("Las Vegas", 1, "352.00", "USD", START)));
+        when(repository.findByStayAndCheckInDateBetween(eq("Ritz-Carlton"), eq("Paris"), eq(1), eq(2), eq(START),
+                eq(START.plusDays(1)))).thenReturn(List.of(
+                price("Paris", 0, "200.00", "EUR", START), stale, price("Paris", 1, "300.00", "EUR", START)));
+        when(repository.findByStayAndCheckInDateBetween(eq("Ritz-Carlton"), eq("Dubai"), eq(1), eq(2), eq(START),
+                eq(START.plusDays(1)))).thenReturn(List.of(
+                price("Dubai", 0, "1320.00", "AED", START), price("Dubai", 1, "999.00", "XYZ", START)));
+
+        // Act
+        PriceComparisonMatrix matrix = engine.compare("Ritz-Carlton", List.of("Las Vegas", "Paris", "Dubai"),
+                START, START.plusDays(1), 1, 2, "EUR");
+
+        // Assert
+        assertEquals("EUR", matrix.getCurrency());
+        assertEquals(List.of(START, START.plusDays(1)), matrix.getDates());
+        BigDecimal[][] prices = matrix.getPrices();
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("272.73"), new BigDecimal("320.00")}, prices[0]);
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("200.00"), new BigDecimal("300.00")}, prices[1]);
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("300.00"), null}, prices[2]);
+        assertArrayEquals(new Integer[][]{{2, 2}, {1, 1}, {3, null}}, matrix.getRanks());
+        assertEquals(new BigDecimal("36.4"), matrix.getPremiums()[0][0]);
+        assertEquals(1, matrix.getSkippedRows());
+
+        StringWriter csv = new StringWriter();
+        matrix.writeCsv(csv);
+        String[] lines = csv.toString().split("\n");
+        assertEquals(7, lines.length);
+        assertEquals("Las Vegas,2025-11-15,272.73,EUR,2,36.4", lines[1]);
+        assertEquals("Dubai,2025-11-16,,,,", lines[6]);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown currencies and oversized requests")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.compare("Ritz-Carlton", List.of("Paris"), START, START, 1, 2, "GBP"));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.compare("Ritz-Carlton", List.of("Paris"), START, START.plusYears(2), 1, 2, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.compare("Ritz-Carlton", List.of(), START, START, 1, 2, null));
+        assertTrue(engine.compare("Ritz-Carlton", List.of("Paris"), START, START, 1, 2, null)
+                .getCurrency().equals("USD"));
+    }
+
+    private static HotelPrice price(String city, int day, String amount, String currency, LocalDate scraped) {
+        HotelPrice price = new HotelPrice("Ritz-Carlton", city, START.plusDays(day), START.plusDays(day + 1),
+                new BigDecimal(amount), "9.0", null);
+        price.setCurrency(currency);
+        price.setScrapedDate(scraped);
+        return price;
+    }
+}
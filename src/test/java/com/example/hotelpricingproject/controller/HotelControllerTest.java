@@ -0,0 +1,164 @@
+package com.example.hotelpricingproject.controller;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "hotel.http.gzip.min-response-size=0"
+})
+@DisplayName("Hotel Controller Tests")
+class HotelControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HotelPriceRepository hotelPriceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - One committed row for Las Vegas
+        hotelPriceRepository.save(price("Las Vegas", LocalDate.of(2025, 11, 27), "250.00"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotelPriceRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the client's ETag is still current")
+    void testConditionalGetNotModified() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/hotels/lowest-prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels/lowest-prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should serve a new ETag once a write lands for that hotel and city")
+    void testWriteInvalidatesETag() throws Exception {
+        // Arrange
+        String before = mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas"))
+                .andReturn().getResponse().getHeader("ETag");
+        String otherCityBefore = mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Miami"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act
+        hotelPriceRepository.save(price("Las Vegas", LocalDate.of(2025, 11, 28), "200.00"));
+
+        // Assert
+        String after = mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas")
+                        .header("If-None-Match", before))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(before, after);
+        mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Miami")
+                        .header("If-None-Match", otherCityBefore))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should serve a new ETag after another node writes the hotel and city")
+    void testForeignWriteInvalidatesETag() throws Exception {
+        // Arrange
+        String before = mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act - A worker process bumps the shared version table, bypassing this node's listener
+        jdbcTemplate.update("UPDATE price_data_versions SET version = version + 1 "
+                + "WHERE hotel_name = 'Ritz-Carlton' AND city = 'Las Vegas'");
+
+        // Assert
+        mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas")
+                        .header("If-None-Match", before))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should gzip versioned responses under a coding-specific strong ETag")
+    void testGzipKeepsStrongETag() throws Exception {
+        // Arrange
+        String plainEtag = mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act
+        String gzipEtag = mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Assert
+        assertEquals(plainEtag.replace("\"", "") + "-gzip", gzipEtag.replace("\"", ""));
+        mockMvc.perform(get("/api/hotels/prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas")
+                        .header("Accept-Encoding", "gzip")
+                        .header("If-None-Match", gzipEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", gzipEtag));
+    }
+
+    @Test
+    @DisplayName("Should gzip the daily price curve like the other versioned endpoints")
+    void testGzipDailyPrices() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/hotels/daily-prices")
+                        .param("hotelName", "Ritz-Carlton").param("city", "Las Vegas")
+                        .param("startDate", "2025-11-27").param("endDate", "2025-11-27")
+                        .header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    private static HotelPrice price(String city, LocalDate checkIn, String amount) {
+        return new HotelPrice("Ritz-Carlton", city, checkIn, checkIn.plusDays(1),
+                new BigDecimal(amount), "4.5", "Address");
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.hotelpricingproject.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("readonly")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:readonlydb",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    // The in-memory database starts empty, so there is no schema to validate
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=always"
+})
+@DisplayName("Read-only Profile Tests")
+class ReadOnlyProfileTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    @DisplayName("Should start without building the scraper or its browser and throttle beans")
+    void testScrapingBeansStayUnbuilt() throws Exception {
+        // Act
+        mockMvc.perform(get("/api/hotels/lowest-prices").param("hotelName", "Ritz-Carlton").param("city", "Paris"))
+                .andExpect(status().isOk());
+
+        // Assert
+        assertFalse(beanFactory.containsSingleton("hotelScraperService"));
+        assertFalse(beanFactory.containsSingleton("browserSessionPool"));
+        assertFalse(beanFactory.containsSingleton("hostRateLimiters"));
+        assertFalse(beanFactory.containsSingleton("scrapeTracer"));
+    }
+
+    @Test
+    @DisplayName("Should refuse scrape requests with 503")
+    void testScrapeRejected() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api/hotels/scrape").param("hotelName", "Ritz-Carlton").param("city", "Paris")
+                        .param("startDate", "2026-01-01").param("endDate", "2026-01-02"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(post("/api/hotels/scrape-multi-city"))
+                .andExpect(status().isServiceUnavailable());
+        assertFalse(beanFactory.containsSingleton("hotelScraperService"));
+    }
+}
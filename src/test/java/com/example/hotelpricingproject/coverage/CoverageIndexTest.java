@@ -0,0 +1,209 @@
+package com.example.hotelpricingproject.coverage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.example.hotelpricingproject.archive.PriceArchive;
+import com.example.hotelpricingproject.cache.PriceDataVersions;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+import com.example.hotelpricingproject.queue.ScrapeWorkQueue;
+import com.example.hotelpricingproject.service.HotelCityKey;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+@DisplayName("Coverage Index Tests")
+class CoverageIndexTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+
+    private static int databases;
+
+    private JdbcTemplate jdbcTemplate;
+    private PriceDataVersions versions;
+    private CoverageIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:coverage" + databases++ + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE hotel_prices (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "hotel_name VARCHAR(255), city VARCHAR(255), check_in_date DATE, check_out_date DATE, "
+                + "nights INTEGER, guests INTEGER, scraped_date DATE)");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(jdbcTemplate.getDataSource());
+        versions = new PriceDataVersions(jdbcTemplate);
+        index = new CoverageIndex(jdbcTemplate, mock(PriceArchive.class), versions);
+    }
+
+    @Test
+    @DisplayName("Should agree with a plain set on sparse and dense chunks")
+    void testBitmapMatchesReference() {
+        // Arrange - A sparse year, a densely scraped quarter that turns into a bitmap, and a far chunk
+        Random random = new Random(7);
+        TreeSet<Integer> reference = new TreeSet<>();
+        DayBitmap bitmap = new DayBitmap();
+        int base = (int) START.toEpochDay();
+        for (int i = 0; i < 40; i++) {
+            int day = base + random.nextInt(365);
+            assertEquals(reference.add(day), bitmap.add(day));
+        }
+        for (int day = base + 400; day < base + 490; day++) {
+            if (random.nextInt(10) > 0) {
+                assertEquals(reference.add(day), bitmap.add(day));
+            }
+        }
+        assertEquals(reference.add(base + 5000), bitmap.add(base + 5000));
+        DayBitmap other = new DayBitmap();
+        for (int day = base + 480; day < base + 520; day += 2) {
+            other.add(day);
+            reference.add(day);
+        }
+
+        // Act
+        bitmap.or(other);
+
+        // Assert
+        assertEquals(reference.size(), bitmap.cardinality());
+        int from = base - 3;
+        int to = base + 5003;
+        for (int day = from; day <= to; day++) {
+            assertEquals(reference.contains(day), bitmap.contains(day), "day " + day);
+        }
+        assertEquals(reference.subSet(base + 100, true, base + 450, true).size(), bitmap.cardinality(base + 100, base + 450));
+        assertRuns(runs(reference, from, to, true), bitmap.runs(from, to, true));
+        assertRuns(runs(reference, from, to, false), bitmap.runs(from, to, false));
+        assertTrue(bitmap.sizeInBytes() < 512, "bitmap takes " + bitmap.sizeInBytes() + " bytes");
+    }
+
+    @Test
+    @DisplayName("Should report gaps from saved prices and ignore scrapes older than asked")
+    void testGapsFromSavedPrices() {
+        // Arrange - Nov 1-10 scraped a month ago, Nov 1-3 and 8-10 again this week, 2 nights on Nov 5
+        for (int day = 0; day < 10; day++) {
+            save(day, 1, LocalDate.of(2025, 10, 1));
+        }
+        for (int day : new int[]{0, 1, 2, 7, 8, 9}) {
+            save(day, 1, LocalDate.of(2025, 10, 28));
+        }
+        save(4, 2, LocalDate.of(2025, 10, 28));
+        LocalDate end = START.plusDays(11);
+
+        // Act
+        CoverageIndex.Coverage all = index.coverage("Ritz-Carlton", "Paris", 1, 2, START, end, null);
+        List<CoverageIndex.DateRange> recentGaps = index.gaps("Ritz-Carlton", "Paris", 1, 2, START, end,
+                LocalDate.of(2025, 10, 25));
+
+        // Assert
+        assertEquals(10, all.coveredDays());
+        assertEquals(12, all.totalDays());
+        assertEquals(List.of(new CoverageIndex.DateRange(START, START.plusDays(9))), all.covered());
+        assertEquals(List.of(new CoverageIndex.DateRange(START.plusDays(3), START.plusDays(6)),
+                new CoverageIndex.DateRange(START.plusDays(10), end)), recentGaps);
+        assertEquals(6, index.gapUnits("Ritz-Carlton", "Paris", 1, 2, START, end, LocalDate.of(2025, 10, 25), 1).size());
+        assertEquals(4, index.gapUnits("Ritz-Carlton", "Paris", 1, 2, START, end, LocalDate.of(2025, 10, 25), 3).size());
+        assertEquals(1, index.coverage("Ritz-Carlton", "Paris", 2, 2, START, end, null).coveredDays());
+    }
+
+    @Test
+    @DisplayName("Should queue only the missing dates of every series")
+    @SuppressWarnings("unchecked")
+    void testRescheduleGaps() {
+        // Arrange
+        for (int day = 0; day < 5; day += 2) {
+            save(day, 1, START);
+        }
+        ScrapeWorkQueue queue = mock(ScrapeWorkQueue.class);
+        when(queue.enqueue(any(Collection.class))).thenAnswer(invocation -> invocation.getArgument(0, Collection.class).size());
+        GapRescheduler rescheduler = new GapRescheduler(index, queue, 4, 7, 1);
+
+        // Act
+        int queued = rescheduler.rescrapeGaps(START);
+
+        // Assert
+        ArgumentCaptor<Collection<PageKey>> units = ArgumentCaptor.forClass(Collection.class);
+        verify(queue).enqueue(units.capture());
+        assertEquals(2, queued);
+        assertEquals(List.of(new PageKey("Ritz-Carlton", "Paris", START.plusDays(1), 1, 2),
+                new PageKey("Ritz-Carlton", "Paris", START.plusDays(3), 1, 2)), new ArrayList<>(units.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should load a series on first use, add this node's saves and reload after other nodes' writes")
+    void testLoadsAndRefreshesSeries() {
+        // Arrange - Two dates on disk before anyone asks
+        save(0, 1, START);
+        save(1, 1, START);
+        assertEquals(2, index.coverage("Ritz-Carlton", "Paris", 1, 2, START, START.plusDays(9), null).coveredDays());
+
+        // Act - This node saves a price, then another node writes one to the shared database
+        HotelPrice local = new HotelPrice("Ritz-Carlton", "Paris", START.plusDays(2), START.plusDays(3),
+                new BigDecimal("300.00"), "9.0", null);
+        local.setScrapedDate(START);
+        index.onPriceSaved(new HotelPriceSavedEvent(local));
+        int afterLocal = index.coverage("Ritz-Carlton", "Paris", 1, 2, START, START.plusDays(9), null).coveredDays();
+        save(5, 1, START);
+
+        // Assert - The local save shows at once; the foreign one is picked up by a reload
+        assertEquals(3, afterLocal);
+        assertEquals(List.of(new CoverageIndex.DateRange(START, START.plusDays(1)),
+                        new CoverageIndex.DateRange(START.plusDays(5), START.plusDays(5))),
+                index.coverage("Ritz-Carlton", "Paris", 1, 2, START, START.plusDays(9), null).covered());
+        assertEquals(List.of(new CoverageIndex.SeriesKey("Ritz-Carlton", "Paris", 1, 2)), index.series());
+    }
+
+    /**
+     * Writes a price the way another node would: the row and its data version bump, no event here.
+     */
+    private void save(int day, int nights, LocalDate scraped) {
+        jdbcTemplate.update("INSERT INTO hotel_prices (hotel_name, city, check_in_date, check_out_date, nights, "
+                        + "guests, scraped_date) VALUES (?, ?, ?, ?, ?, ?, ?)", "Ritz-Carlton", "Paris",
+                START.plusDays(day), START.plusDays(day + nights), nights, 2, scraped);
+        versions.bump(new HotelCityKey("Ritz-Carlton", "Paris"));
+    }
+
+    private static List<int[]> runs(TreeSet<Integer> days, int from, int to, boolean present) {
+        List<int[]> runs = new ArrayList<>();
+        int start = Integer.MIN_VALUE;
+        for (int day = from; day <= to; day++) {
+            if (days.contains(day) == present) {
+                if (start == Integer.MIN_VALUE) {
+                    start = day;
+                }
+            } else if (start != Integer.MIN_VALUE) {
+                runs.add(new int[]{start, day - 1});
+                start = Integer.MIN_VALUE;
+            }
+        }
+        if (start != Integer.MIN_VALUE) {
+            runs.add(new int[]{start, to});
+        }
+        return runs;
+    }
+
+    private static void assertRuns(List<int[]> expected, List<int[]> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i)[0], actual.get(i)[0], "run " + i + " start");
+            assertEquals(expected.get(i)[1], actual.get(i)[1], "run " + i + " end");
+        }
+    }
+}
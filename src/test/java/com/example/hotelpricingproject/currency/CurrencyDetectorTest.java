@@ -0,0 +1,54 @@
+package com.example.hotelpricingproject.currency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Currency Detector Tests")
+class CurrencyDetectorTest {
+
+    @Test
+    @DisplayName("Should read an ISO code on either side of the amount")
+    void testCodeNextToAmount() {
+        // Act & Assert
+        assertEquals("AED", CurrencyDetector.detect("AED 1,150"));
+        assertEquals("AED", CurrencyDetector.detect("1,150 AED"));
+        assertEquals("CHF", CurrencyDetector.detect("Price CHF 540"));
+        assertEquals("CHF", CurrencyDetector.detect("540CHF per night"));
+        assertEquals("EUR", CurrencyDetector.detect("1 234,50 EUR"));
+    }
+
+    @Test
+    @DisplayName("Should ignore capitals that are not next to the amount")
+    void testCodeAwayFromAmount() {
+        // Act & Assert
+        assertNull(CurrencyDetector.detect("ALL TAXES INCLUDED 120"));
+        assertNull(CurrencyDetector.detect("120 per night, ALL taxes"));
+        assertEquals("USD", CurrencyDetector.detect("ALL TAXES INCLUDED US$ 120"));
+        assertEquals("EUR", CurrencyDetector.detect("TAX INCLUDED € 95"));
+    }
+
+    @Test
+    @DisplayName("Should not read a code out of a longer word or an unknown one")
+    void testNotACode() {
+        // Act & Assert
+        assertNull(CurrencyDetector.detect("INCLUDED 120"));
+        assertNull(CurrencyDetector.detect("120 NIGHTS"));
+        assertNull(CurrencyDetector.detect("XYZ 120"));
+        assertNull(CurrencyDetector.detect("Aed 120"));
+        assertNull(CurrencyDetector.detect(""));
+        assertNull(CurrencyDetector.detect(null));
+    }
+
+    @Test
+    @DisplayName("Should read prefixed dollar signs before the bare one")
+    void testSymbols() {
+        // Act & Assert
+        assertEquals("USD", CurrencyDetector.detect("$ 250"));
+        assertEquals("CAD", CurrencyDetector.detect("CA$ 420"));
+        assertEquals("CNY", CurrencyDetector.detect("CN¥ 900"));
+        assertEquals("JPY", CurrencyDetector.detect("¥ 12,000"));
+        assertEquals("GBP", CurrencyDetector.detect("£99"));
+    }
+}
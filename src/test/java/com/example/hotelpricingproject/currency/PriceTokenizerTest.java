@@ -0,0 +1,94 @@
+package com.example.hotelpricingproject.currency;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Price Tokenizer Tests")
+class PriceTokenizerTest {
+
+    private static final String[] PREFIXES = {"", "US$", "US$ ", "€", "€ ", "£", "CHF ", "AED ", "Price ", "From "};
+    private static final String[] SUFFIXES = {"", " total", " per night", " per stay", " "};
+
+    @Test
+    @DisplayName("Should read the same amount as the regex parser on English-format labels")
+    void testMatchesRegexParser() {
+        // Arrange
+        Random random = new Random(48);
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder label = new StringBuilder(PREFIXES[random.nextInt(PREFIXES.length)]);
+            long whole = random.nextInt(4) == 0 ? random.nextInt(1000) : (long) (random.nextDouble() * 1e9);
+            label.append(random.nextBoolean() ? String.format(Locale.US, "%,d", whole) : Long.toString(whole));
+            int decimals = random.nextInt(3);
+            if (decimals > 0) {
+                label.append('.').append(String.format("%0" + decimals + "d", random.nextInt(decimals == 1 ? 10 : 100)));
+            }
+            label.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+            String text = label.toString();
+
+            // Act
+            long cents = PriceTokenizer.parseCents(text);
+
+            // Assert
+            assertEquals(regexParse(text).movePointRight(2).longValueExact(), cents, text);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read decimal commas, grouping spaces and ranges the regex parser got wrong")
+    void testLocaleFormats() {
+        // Arrange / Act / Assert
+        assertEquals(123_450, PriceTokenizer.parseCents("€ 1.234,50"));
+        assertEquals(8_950, PriceTokenizer.parseCents("89,50 €"));
+        assertEquals(123_400, PriceTokenizer.parseCents("1.234 €"));
+        assertEquals(1_248_000, PriceTokenizer.parseCents("CHF 12'480"));
+        assertEquals(123_456_700, PriceTokenizer.parseCents("1 234 567 Kč"));
+        assertEquals(123_450, PriceTokenizer.parseCents("1 234,5 zł"));
+        assertEquals(123_457, PriceTokenizer.parseCents("1,234.567"));
+        assertEquals(12_000, PriceTokenizer.parseCents("US$120 - US$150"));
+        assertEquals(12_000, PriceTokenizer.parseCents("120–150"));
+        assertEquals(4_500, PriceTokenizer.parseCents("US$45."));
+        assertEquals(4_500, PriceTokenizer.parseCents("45 12"));
+        assertEquals(PriceTokenizer.NONE, PriceTokenizer.parseCents("Sold out"));
+        assertEquals(PriceTokenizer.NONE, PriceTokenizer.parseCents(""));
+        assertEquals(PriceTokenizer.NONE, PriceTokenizer.parseCents(null));
+        assertEquals(PriceTokenizer.NONE, PriceTokenizer.parseCents("12345678901234567"));
+    }
+
+    @Test
+    @DisplayName("Should never fail on arbitrary text and find a price whenever there is a digit")
+    void testArbitraryText() {
+        // Arrange
+        Random random = new Random(480);
+        String alphabet = "0123456789,.' \u00A0\u202F-$€Ka";
+
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int length = random.nextInt(14);
+            for (int c = 0; c < length; c++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            boolean hasDigit = text.chars().anyMatch(Character::isDigit);
+
+            // Act
+            long cents = PriceTokenizer.parseCents(text);
+
+            // Assert
+            assertTrue(hasDigit ? cents >= 0 : cents == PriceTokenizer.NONE, text + " -> " + cents);
+        }
+    }
+
+    /**
+     * The scraper's previous parser: strip everything but digits and separators, drop commas.
+     */
+    private static BigDecimal regexParse(String text) {
+        String priceText = text.replaceAll("[^\\d.,]", "").replace(",", "");
+        return priceText.isEmpty() ? null : new BigDecimal(priceText);
+    }
+}
@@ -76,6 +76,22 @@ class HotelPriceTest {
         assertEquals("456 Ocean Blvd, Miami", hotelPrice.getAddress());
     }
 
+    @Test
+    @DisplayName("Should take the stay length from the dates when they are changed")
+    void testSettersRecomputeNights() {
+        // Arrange
+        hotelPrice = new HotelPrice("Ritz-Carlton", "Miami", LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 2),
+                new BigDecimal("300.00"), "4.7", "456 Ocean Blvd, Miami");
+
+        // Act
+        hotelPrice.setCheckOutDate(LocalDate.of(2025, 12, 4));
+
+        // Assert
+        assertEquals(3, hotelPrice.getNights());
+        hotelPrice.setCheckInDate(LocalDate.of(2025, 12, 3));
+        assertEquals(1, hotelPrice.getNights());
+    }
+
     @Test
     @DisplayName("Should set scraped date automatically on creation")
     void testScrapedDateAutomaticSet() {
@@ -0,0 +1,163 @@
+package com.example.hotelpricingproject.execution;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+@DisplayName("Browser Session Pool Tests")
+class BrowserSessionPoolTest {
+
+    @Test
+    @DisplayName("Should reuse a healthy session instead of opening a new one")
+    void testReusesHealthySession() {
+        // Arrange
+        BrowserSessionPool pool = new BrowserSessionPool(2);
+        AtomicInteger created = new AtomicInteger();
+
+        // Act
+        WebDriver first = pool.borrow(() -> newDriver(created));
+        pool.release(first, true);
+        WebDriver second = pool.borrow(() -> newDriver(created));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        verify(first, never()).quit();
+    }
+
+    @Test
+    @DisplayName("Should quit an unhealthy session and open a fresh one next time")
+    void testQuitsUnhealthySession() {
+        // Arrange
+        BrowserSessionPool pool = new BrowserSessionPool(1);
+        AtomicInteger created = new AtomicInteger();
+
+        // Act
+        WebDriver broken = pool.borrow(() -> newDriver(created));
+        pool.release(broken, false);
+        WebDriver next = pool.borrow(() -> newDriver(created));
+
+        // Assert
+        verify(broken).quit();
+        assertEquals(2, created.get());
+        assertEquals(1, pool.getOpenSessions());
+        assertTrue(next != broken);
+    }
+
+    @Test
+    @DisplayName("Should never have more sessions in use than its capacity")
+    void testCapacityUnderContention() {
+        // Arrange
+        BrowserSessionPool pool = new BrowserSessionPool(3);
+        ScrapeUnitExecutor executor = ScrapeUnitExecutor.platformThreads(16);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<CompletableFuture<Void>> units = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 200; i++) {
+            units.add(executor.submit(() -> {
+                WebDriver session = pool.borrow(() -> newDriver(created));
+                peak.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                Thread.onSpinWait();
+                inUse.decrementAndGet();
+                pool.release(session, true);
+            }));
+        }
+        CompletableFuture.allOf(units.toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+        pool.closeIdle();
+
+        // Assert
+        assertTrue(peak.get() <= 3, "peak sessions in use was " + peak.get());
+        assertTrue(created.get() <= 3, "opened " + created.get() + " sessions");
+        assertEquals(0, pool.getOpenSessions());
+        assertEquals(0, pool.getInUse());
+    }
+
+    @Test
+    @DisplayName("Should open the warm sessions ahead of time and keep them after a run")
+    void testWarmSessionsOutliveRuns() {
+        // Arrange
+        WarmBrowserSessionPool pool = new WarmBrowserSessionPool(4, 2);
+        AtomicInteger created = new AtomicInteger();
+
+        // Act - Warm up, then a run that needs three sessions at once
+        pool.warmUp(() -> newDriver(created)).join();
+        int createdBeforeRun = created.get();
+        WebDriver first = pool.borrow(() -> newDriver(created));
+        WebDriver second = pool.borrow(() -> newDriver(created));
+        WebDriver third = pool.borrow(() -> newDriver(created));
+        pool.release(first, true);
+        pool.release(second, true);
+        pool.release(third, true);
+        pool.closeIdle();
+        pool.warmUp(() -> newDriver(created)).join();
+
+        // Assert
+        assertEquals(2, createdBeforeRun);
+        assertEquals(3, created.get());
+        assertEquals(2, pool.getOpenSessions());
+        assertEquals(2, pool.getIdle());
+        pool.shutdown();
+        assertEquals(0, pool.getOpenSessions());
+    }
+
+    @Test
+    @DisplayName("Should hand the consent cookies of one session to the next, across restarts")
+    void testProfileStoreSharesConsent(@TempDir Path directory) {
+        // Arrange
+        String jar = directory.resolve("browser/cookies.json").toString();
+        BrowserProfileStore store = new BrowserProfileStore(jar);
+        WebDriver first = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        when(first.manage().getCookies()).thenReturn(Set.of(
+                new Cookie.Builder("OptanonAlertBoxClosed", "2025-11-01").domain(".booking.com").path("/").build()));
+        WebDriver second = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+
+        // Act
+        boolean answeredBefore = store.restore(first);
+        store.capture(first);
+        boolean restored = store.restore(second);
+        store.restore(second);
+        BrowserProfileStore afterRestart = new BrowserProfileStore(jar);
+        WebDriver third = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        boolean restoredAfterRestart = afterRestart.restore(third);
+
+        // Assert
+        assertFalse(answeredBefore);
+        assertTrue(restored);
+        assertTrue(store.restore(first));
+        verify(second.manage(), times(1)).addCookie(any());
+        assertTrue(afterRestart.hasConsent());
+        assertTrue(restoredAfterRestart);
+        verify(third.manage()).addCookie(argThat(cookie -> cookie.getName().equals("OptanonAlertBoxClosed")
+                && cookie.getDomain().equals(".booking.com")));
+    }
+
+    private static WebDriver newDriver(AtomicInteger created) {
+        created.incrementAndGet();
+        return mock(WebDriver.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.hotelpricingproject.execution;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.metrics.ScrapeMetrics;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+@DisplayName("Price Batch Writer Tests")
+class PriceBatchWriterTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 11, 15);
+
+    private final HotelPriceRepository repository = mock(HotelPriceRepository.class);
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final ScrapeSummary summary = new ScrapeSummary();
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should save a batch once its delay runs out, without another price arriving")
+    void testTimedFlush() {
+        // Arrange
+        PriceBatchWriter writer = writer(25, TimeUnit.MILLISECONDS.toNanos(50));
+        HotelPrice price = price(0);
+
+        // Act
+        writer.add(key(0), price);
+
+        // Assert
+        verify(repository, timeout(2_000)).saveAll(List.of(price));
+        writer.flush();
+        assertEquals(1, writer.getWritten());
+        assertEquals(1, summary.getFound());
+    }
+
+    @Test
+    @DisplayName("Should report every unit of a batch that failed to save as failed, none as found")
+    void testFailedBatch() {
+        // Arrange
+        when(repository.saveAll(anyList())).thenThrow(new IllegalStateException("database is locked"));
+        PriceBatchWriter writer = writer(2, TimeUnit.MINUTES.toNanos(1));
+
+        // Act
+        writer.add(key(0), price(0));
+        writer.add(key(1), price(1));
+        writer.flush();
+
+        // Assert
+        assertEquals(0, writer.getWritten());
+        assertEquals(0, summary.getFound());
+        assertEquals(2, summary.getFailed());
+    }
+
+    private PriceBatchWriter writer(int batchSize, long maxDelayNanos) {
+        return new PriceBatchWriter(repository, mock(ApplicationEventPublisher.class), new DatabaseGate(1),
+                ScrapeMetrics.unregistered(), timer, batchSize, maxDelayNanos, summary);
+    }
+
+    private static PageKey key(int day) {
+        return new PageKey("Hotel Adlon", "Berlin", CHECK_IN.plusDays(day), 1, 2);
+    }
+
+    private static HotelPrice price(int day) {
+        return new HotelPrice("Hotel Adlon", "Berlin", CHECK_IN.plusDays(day), CHECK_IN.plusDays(day + 1),
+                new BigDecimal("312.00"), "9.1", "Unter den Linden 77");
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.hotelpricingproject.execution;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+@DisplayName("Scrape Summary Tests")
+class ScrapeSummaryTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 15);
+
+    @Test
+    @DisplayName("Should keep count, minimum, mean and the three cheapest prices of a long run")
+    void testRunningStatsMatchFullList() {
+        // Arrange
+        Random random = new Random(50);
+        RunningPriceStats stats = new RunningPriceStats();
+        List<HotelPrice> all = new ArrayList<>();
+
+        // Act - Three years of daily prices
+        for (int day = 0; day < 3 * 365; day++) {
+            HotelPrice price = price("Paris", day, BigDecimal.valueOf(150 + random.nextInt(600), 0).setScale(2));
+            all.add(price);
+            stats.add(price);
+        }
+
+        // Assert
+        BigDecimal sum = all.stream().map(HotelPrice::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<HotelPrice> cheapest = all.stream()
+                .sorted(Comparator.comparing(HotelPrice::getPrice).thenComparing(HotelPrice::getCheckInDate))
+                .limit(3)
+                .toList();
+        assertEquals(all.size(), stats.getCount());
+        assertEquals(cheapest.get(0).getPrice(), stats.getMin());
+        assertEquals(sum.divide(BigDecimal.valueOf(all.size()), 2, RoundingMode.HALF_UP), stats.getMean());
+        assertEquals(cheapest, stats.getLowest());
+    }
+
+    @Test
+    @DisplayName("Should count outcomes and split prices by city")
+    void testSummaryByCity() {
+        // Arrange
+        ScrapeSummary summary = new ScrapeSummary();
+        List<String> seen = new ArrayList<>();
+        ScrapeListener sink = summary.andThen((key, outcome, price) -> seen.add(key.city() + " " + outcome.tag()));
+
+        // Act
+        sink.onUnit(key("Paris", 0), ScrapeOutcome.FOUND, price("Paris", 0, new BigDecimal("420.00")));
+        sink.onUnit(key("Paris", 1), ScrapeOutcome.FOUND, price("Paris", 1, new BigDecimal("380.00")));
+        sink.onUnit(key("Miami", 0), ScrapeOutcome.FOUND, price("Miami", 0, new BigDecimal("510.00")));
+        sink.onUnit(key("Miami", 1), ScrapeOutcome.NOT_FOUND, null);
+        sink.onUnit(key("Miami", 2), ScrapeOutcome.TIMEOUT, null);
+
+        // Assert
+        assertEquals(3, summary.getFound());
+        assertEquals(1, summary.getMissed());
+        assertEquals(1, summary.getFailed());
+        assertEquals(new BigDecimal("380.00"), summary.getOverall().getMin());
+        assertEquals(new BigDecimal("436.67"), summary.getOverall().getMean());
+        assertEquals(List.of("Miami", "Paris"), List.copyOf(summary.getByCity().keySet()));
+        assertEquals(new BigDecimal("400.00"), summary.getByCity().get("Paris").getMean());
+        assertEquals(5, seen.size());
+        assertNull(new RunningPriceStats().getMean());
+    }
+
+    private static PageKey key(String city, int day) {
+        return new PageKey("Ritz-Carlton", city, START.plusDays(day), 1, 2);
+    }
+
+    private static HotelPrice price(String city, int day, BigDecimal amount) {
+        return new HotelPrice("Ritz-Carlton", city, START.plusDays(day), START.plusDays(day + 1L), amount, "9.1", null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.hotelpricingproject.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Columnar Price Export Tests")
+class ColumnarPriceWriterTest {
+
+    @Test
+    @DisplayName("Should round-trip rows across several row groups")
+    void testRoundTripAcrossGroups() throws IOException {
+        // Arrange
+        List<PriceRow> rows = new ArrayList<>();
+        LocalDate start = LocalDate.of(2025, 11, 15);
+        for (int i = 0; i < 25; i++) {
+            String city = i % 2 == 0 ? "Las Vegas" : "Paris";
+            rows.add(new PriceRow(i + 1, "Ritz-Carlton", city, start.plusDays(i), start.plusDays(i + 1 + i % 3),
+                    25_000 + (i * 137 % 900) - 450, i % 5 == 0 ? null : "Scored 8.1", "Address " + city,
+                    LocalDate.of(2025, 11, 27), 2, i % 7 == 0 ? null : i % 2 == 0 ? "USD" : "EUR"));
+        }
+
+        // Act
+        byte[] file = write(rows, 10);
+        List<PriceRow> decoded = new ArrayList<>();
+        long count;
+        try (ColumnarPriceReader reader = new ColumnarPriceReader(new ByteArrayInputStream(file))) {
+            count = reader.read(decoded::add);
+        }
+
+        // Assert
+        assertEquals(25, count);
+        assertEquals(rows, decoded);
+    }
+
+    @Test
+    @DisplayName("Should encode repetitive rows far smaller than their text form")
+    void testCompactEncoding() throws IOException {
+        // Arrange
+        List<PriceRow> rows = new ArrayList<>();
+        LocalDate start = LocalDate.of(2025, 11, 15);
+        for (int i = 0; i < 1_000; i++) {
+            rows.add(new PriceRow(i + 1, "Ritz-Carlton", "Las Vegas", start.plusDays(i), start.plusDays(i + 1),
+                    30_000 + i % 50, "Scored 8.1", "3570 Las Vegas Blvd S", LocalDate.of(2025, 11, 27)));
+        }
+
+        // Act
+        byte[] file = write(rows, ColumnarPriceWriter.DEFAULT_GROUP_SIZE);
+
+        // Assert - under 12 bytes per row versus ~120 as text
+        assertTrue(file.length < 12_000, "export was " + file.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("Should reject a truncated export")
+    void testTruncatedExportRejected() throws IOException {
+        // Arrange
+        LocalDate day = LocalDate.of(2025, 11, 15);
+        byte[] file = write(List.of(new PriceRow(1, "Ritz-Carlton", "Miami", day, day.plusDays(1), 19_900,
+                null, null, day)), 10);
+        byte[] truncated = Arrays.copyOf(file, file.length - 3);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> {
+            try (ColumnarPriceReader reader = new ColumnarPriceReader(new ByteArrayInputStream(truncated))) {
+                reader.read(row -> { });
+            }
+        });
+    }
+
+    private static byte[] write(List<PriceRow> rows, int groupSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ColumnarPriceWriter writer = new ColumnarPriceWriter(out, groupSize)) {
+            for (PriceRow row : rows) {
+                writer.write(row);
+            }
+        }
+        return out.toByteArray();
+    }
+}
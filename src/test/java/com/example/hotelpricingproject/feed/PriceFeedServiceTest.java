@@ -0,0 +1,149 @@
+package com.example.hotelpricingproject.feed;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+
+@DisplayName("Price Feed Service Tests")
+class PriceFeedServiceTest {
+
+    private PriceFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Small ring and buffers, drained inline on the publishing thread
+        feedService = new PriceFeedService(4, 2, OverflowPolicy.DROP_OLDEST, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        feedService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should push only prices that match the subscriber's filter")
+    void testFilteredDelivery() {
+        // Arrange
+        CapturingEmitter miami = new CapturingEmitter();
+        feedService.subscribe("Ritz-Carlton", "Miami", null, miami);
+
+        // Act
+        feedService.publish(price("Miami", "250.00"));
+        feedService.publish(price("Las Vegas", "300.00"));
+        feedService.publish(price("miami", "260.00"));
+
+        // Assert
+        assertEquals(List.of("price:1", "price:3"), miami.events);
+    }
+
+    @Test
+    @DisplayName("Should replay events after the last event id on reconnect")
+    void testResumeFromLastEventId() {
+        // Arrange
+        feedService.publish(price("Miami", "250.00"));
+        feedService.publish(price("Miami", "251.00"));
+        feedService.publish(price("Miami", "252.00"));
+
+        // Act
+        CapturingEmitter resumed = new CapturingEmitter();
+        feedService.subscribe(null, null, 1L, resumed);
+        feedService.publish(price("Miami", "253.00"));
+
+        // Assert
+        assertEquals(List.of("price:2", "price:3", "price:4"), resumed.events);
+    }
+
+    @Test
+    @DisplayName("Should report a gap when the last event id fell out of the replay ring")
+    void testResumeBeyondHistoryReportsGap() {
+        // Arrange
+        for (int i = 0; i < 6; i++) {
+            feedService.publish(price("Miami", "250.00"));
+        }
+
+        // Act
+        CapturingEmitter resumed = new CapturingEmitter();
+        feedService.subscribe(null, null, 0L, resumed);
+
+        // Assert
+        assertEquals("gap", resumed.events.get(0));
+        assertTrue(resumed.events.contains("price:6"));
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest events for a slow subscriber and report the lag")
+    void testSlowSubscriberDropsOldest() {
+        // Arrange - Drain tasks queue up until the test runs them
+        List<Runnable> pendingDrains = new ArrayList<>();
+        PriceFeedService slowFeed = new PriceFeedService(4, 2, OverflowPolicy.DROP_OLDEST, pendingDrains::add);
+        CapturingEmitter slow = new CapturingEmitter();
+        slowFeed.subscribe(null, null, null, slow);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            slowFeed.publish(price("Miami", "250.00"));
+        }
+        pendingDrains.forEach(Runnable::run);
+
+        // Assert
+        assertEquals(List.of("lagged", "price:4", "price:5"), slow.events);
+        assertEquals(1, slowFeed.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should disconnect a slow subscriber under the disconnect policy")
+    void testSlowSubscriberDisconnected() {
+        // Arrange
+        List<Runnable> pendingDrains = new ArrayList<>();
+        PriceFeedService strictFeed = new PriceFeedService(4, 2, OverflowPolicy.DISCONNECT, pendingDrains::add);
+        PriceFeedSubscription subscription = strictFeed.subscribe(null, null, null, new CapturingEmitter());
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            strictFeed.publish(price("Miami", "250.00"));
+        }
+
+        // Assert
+        assertTrue(subscription.isClosed());
+        assertEquals(0, strictFeed.getSubscriberCount());
+    }
+
+    private static HotelPrice price(String city, String amount) {
+        LocalDate checkIn = LocalDate.of(2025, 12, 1);
+        return new HotelPrice("Ritz-Carlton", city, checkIn, checkIn.plusDays(1),
+                new BigDecimal(amount), "4.5", "Address");
+    }
+
+    /**
+     * Records event names (and ids) instead of writing to a response.
+     */
+    private static class CapturingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder text = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                if (part.getMediaType() == null || !MediaType.APPLICATION_JSON.equals(part.getMediaType())) {
+                    text.append(part.getData());
+                }
+            }
+            String raw = text.toString();
+            String name = raw.replaceAll("(?s).*event:([^\\n]+)\\n.*", "$1");
+            String id = raw.contains("id:") ? raw.replaceAll("(?s).*id:([^\\n]+)\\n.*", "$1") : null;
+            events.add(id != null ? name + ":" + id : name);
+        }
+    }
+}
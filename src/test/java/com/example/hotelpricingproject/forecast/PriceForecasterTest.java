@@ -0,0 +1,234 @@
+package com.example.hotelpricingproject.forecast;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.example.hotelpricingproject.cache.PriceDataVersions;
+import com.example.hotelpricingproject.dto.PriceForecast;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.event.HotelPriceSavedEvent;
+import com.example.hotelpricingproject.repository.PartitionedPriceRepository;
+import com.example.hotelpricingproject.repository.PriceObservationRepository;
+import com.example.hotelpricingproject.repository.PriceObservationVisitor;
+import com.example.hotelpricingproject.storage.MappedSegmentPriceStore;
+import com.example.hotelpricingproject.storage.PriceStoreMirror;
+
+@DisplayName("Price Forecaster Tests")
+class PriceForecasterTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2025, 1, 6);
+
+    private PartitionedPriceRepository repository;
+    private PriceDataVersions versions;
+    private PriceForecaster forecaster;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(PartitionedPriceRepository.class);
+        versions = mock(PriceDataVersions.class);
+        when(versions.get(any())).thenReturn(new PriceDataVersions.Version(0, Instant.EPOCH));
+        forecaster = new PriceForecaster(repository, versions, 0.995, 0.05, 14, 730, 5000);
+    }
+
+    @Test
+    @DisplayName("Should forecast unscraped dates with their weekday pattern, trend and a widening band")
+    void testForecastFollowsPattern() {
+        // Arrange - 120 scraped days: weekends 30% dearer, prices creeping up, a little noise
+        List<HotelPrice> history = new ArrayList<>();
+        Random noise = new Random(42);
+        for (int day = 0; day < 120; day++) {
+            LocalDate date = FIRST.plusDays(day);
+            history.add(price(date, expected(date) * (1 + (noise.nextDouble() - 0.5) * 0.04)));
+        }
+        when(repository.findByStayAndCheckInDateBetween(eq("Ritz-Carlton"), eq("Paris"), eq(1), eq(2), any(), any()))
+                .thenReturn(history);
+
+        // Act - The week after the last scrape, and the same weekdays three months further out
+        LocalDate friday = LocalDate.of(2025, 5, 9);
+        LocalDate tuesday = LocalDate.of(2025, 5, 6);
+        List<PriceForecast> nextWeek = forecaster.forecast("Ritz-Carlton", "Paris", tuesday, friday, 1, 2, 0.9);
+        List<PriceForecast> later = forecaster.forecast("Ritz-Carlton", "Paris", tuesday.plusWeeks(13),
+                friday.plusWeeks(13), 1, 2, 0.9);
+
+        // Assert
+        assertEquals(4, nextWeek.size());
+        PriceForecast tuesdayForecast = nextWeek.get(0);
+        PriceForecast fridayForecast = nextWeek.get(3);
+        assertEquals(DayOfWeek.FRIDAY, fridayForecast.getCheckInDate().getDayOfWeek());
+        assertTrue(fridayForecast.getPrice().doubleValue() > tuesdayForecast.getPrice().doubleValue() * 1.2,
+                "weekend premium lost: " + fridayForecast.getPrice() + " vs " + tuesdayForecast.getPrice());
+        for (PriceForecast forecast : nextWeek) {
+            double truth = expected(forecast.getCheckInDate());
+            assertTrue(forecast.getLower().doubleValue() < truth && truth < forecast.getUpper().doubleValue(),
+                    forecast.getCheckInDate() + ": " + truth + " outside " + forecast.getLower() + ".." + forecast.getUpper());
+            assertTrue(Math.abs(forecast.getPrice().doubleValue() - truth) / truth < 0.05);
+        }
+        assertTrue(width(later.get(0)) > width(tuesdayForecast));
+        assertTrue(later.get(0).getPrice().doubleValue() > tuesdayForecast.getPrice().doubleValue());
+    }
+
+    @Test
+    @DisplayName("Should fit from the database once and then learn from saved prices")
+    void testIncrementalUpdates() {
+        // Arrange - Too little history for a forecast
+        List<HotelPrice> history = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            history.add(price(FIRST.plusDays(day), 200));
+        }
+        when(repository.findByStayAndCheckInDateBetween(any(), any(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(history);
+        LocalDate target = FIRST.plusDays(30);
+        assertTrue(forecaster.forecast("Ritz-Carlton", "Paris", target, target, 1, 2, 0.9).isEmpty());
+
+        // Act - The scraper saves more prices, some for another stay
+        for (int day = 5; day < 20; day++) {
+            forecaster.onPriceSaved(new HotelPriceSavedEvent(price(FIRST.plusDays(day), 200)));
+        }
+        HotelPrice twoNights = new HotelPrice("Ritz-Carlton", "Paris", FIRST, FIRST.plusDays(2),
+                new BigDecimal("900.00"), "9.0", null);
+        forecaster.onPriceSaved(new HotelPriceSavedEvent(twoNights));
+        List<PriceForecast> forecast = forecaster.forecast("Ritz-Carlton", "Paris", target, target, 1, 2, 0.9);
+
+        // Assert
+        assertEquals(20, forecaster.samples("Ritz-Carlton", "Paris", 1, 2));
+        assertEquals(0, forecaster.samples("Ritz-Carlton", "Paris", 2, 2));
+        assertEquals(1, forecast.size());
+        assertEquals(200.0, forecast.get(0).getPrice().doubleValue(), 1.0);
+        verify(repository, times(1)).findByStayAndCheckInDateBetween(any(), any(), anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fit again once another node wrote to the hotel and city, but not for local writes")
+    void testRefitAfterForeignWrites() {
+        // Arrange
+        List<HotelPrice> history = new ArrayList<>();
+        for (int day = 0; day < 20; day++) {
+            history.add(price(FIRST.plusDays(day), 200));
+        }
+        when(repository.findByStayAndCheckInDateBetween(any(), any(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(history);
+        LocalDate target = FIRST.plusDays(30);
+        forecaster.forecast("Ritz-Carlton", "Paris", target, target, 1, 2, 0.9);
+
+        // Act - One write of this process, then one of another node
+        when(versions.localBumps(any())).thenReturn(1L);
+        when(versions.get(any())).thenReturn(new PriceDataVersions.Version(1, Instant.EPOCH));
+        forecaster.forecast("Ritz-Carlton", "Paris", target, target, 1, 2, 0.9);
+        when(versions.get(any())).thenReturn(new PriceDataVersions.Version(2, Instant.EPOCH));
+        forecaster.forecast("Ritz-Carlton", "Paris", target, target, 1, 2, 0.9);
+
+        // Assert - Fitted at first use and after the foreign write, from scratch each time
+        verify(repository, times(2)).findByStayAndCheckInDateBetween(any(), any(), anyInt(), anyInt(), any(), any());
+        assertEquals(20, forecaster.samples("Ritz-Carlton", "Paris", 1, 2));
+    }
+
+    @Test
+    @DisplayName("Should fit from the mapped price store when it is on, skipping other stays")
+    void testSeedFromStore() {
+        // Arrange - 20 days at 200 for one night and at 900 for two
+        PriceObservationRepository store = mock(PriceObservationRepository.class);
+        when(store.scan(eq("Ritz-Carlton"), eq("Paris"), any(), any(), any())).thenAnswer(invocation -> {
+            PriceObservationVisitor visitor = invocation.getArgument(4);
+            for (int day = 0; day < 20; day++) {
+                int checkIn = (int) FIRST.plusDays(day).toEpochDay();
+                visitor.visit(0, 1, checkIn, 1, 2, -1, 20_000, checkIn - 7);
+                visitor.visit(0, 1, checkIn, 2, 2, -1, 90_000, checkIn - 7);
+            }
+            return 40L;
+        });
+        forecaster.setObservations(store);
+
+        // Act
+        LocalDate target = FIRST.plusDays(30);
+        List<PriceForecast> forecast = forecaster.forecast("Ritz-Carlton", "Paris", target, target, 1, 2, 0.9);
+
+        // Assert
+        assertEquals(20, forecaster.samples("Ritz-Carlton", "Paris", 1, 2));
+        assertEquals(200.0, forecast.get(0).getPrice().doubleValue(), 1.0);
+        verify(repository, never()).findByStayAndCheckInDateBetween(any(), any(), anyInt(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should count prices saved before the mapped store's next scheduled sync")
+    void testSeedSyncsStoreFirst(@TempDir Path directory) throws Exception {
+        // Arrange - 20 prices in SQLite, none mirrored yet
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:forecast-mirror;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE hotel_prices (id BIGINT PRIMARY KEY, hotel_name VARCHAR(255), "
+                + "city VARCHAR(255), check_in_date DATE, nights INTEGER, guests INTEGER, price DECIMAL(10, 2), "
+                + "currency VARCHAR(3), scraped_date DATE)");
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day < 20; day++) {
+            jdbcTemplate.update("INSERT INTO hotel_prices VALUES (?, 'Ritz-Carlton', 'Paris', ?, 1, 2, 200.00, "
+                    + "'USD', ?)", day + 1, today.minusDays(day), today.minusDays(day));
+        }
+        try (MappedSegmentPriceStore store = new MappedSegmentPriceStore(directory, 100)) {
+            forecaster.setObservations(store);
+            forecaster.setMirror(new PriceStoreMirror(store, jdbcTemplate, 1_000));
+
+            // Act
+            List<PriceForecast> forecast = forecaster.forecast("Ritz-Carlton", "Paris", today.plusDays(7),
+                    today.plusDays(7), 1, 2, 0.9);
+
+            // Assert
+            assertEquals(20, store.count());
+            assertEquals(20, forecaster.samples("Ritz-Carlton", "Paris", 1, 2));
+            assertEquals(200.0, forecast.get(0).getPrice().doubleValue(), 1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject reversed ranges and impossible confidence levels")
+    void testValidation() {
+        LocalDate date = FIRST;
+        assertThrows(IllegalArgumentException.class,
+                () -> forecaster.forecast("Ritz-Carlton", "Paris", date.plusDays(1), date, 1, 2, 0.9));
+        assertThrows(IllegalArgumentException.class,
+                () -> forecaster.forecast("Ritz-Carlton", "Paris", date, date, 1, 2, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> forecaster.forecast("Ritz-Carlton", "Paris", date, date.plusYears(3), 1, 2, 0.9));
+    }
+
+    /**
+     * 300 a night midweek, 30% more on Friday and Saturday, up 0.1% a day.
+     */
+    private static double expected(LocalDate date) {
+        DayOfWeek day = date.getDayOfWeek();
+        double weekend = day == DayOfWeek.FRIDAY || day == DayOfWeek.SATURDAY ? 1.3 : 1.0;
+        return 300 * weekend * Math.exp(0.001 * (date.toEpochDay() - FIRST.toEpochDay()));
+    }
+
+    private static double width(PriceForecast forecast) {
+        return (forecast.getUpper().doubleValue() - forecast.getLower().doubleValue()) / forecast.getPrice().doubleValue();
+    }
+
+    private static HotelPrice price(LocalDate checkIn, double price) {
+        return new HotelPrice("Ritz-Carlton", "Paris", checkIn, checkIn.plusDays(1),
+                BigDecimal.valueOf(price).setScale(2, RoundingMode.HALF_UP), "9.0", null);
+    }
+}
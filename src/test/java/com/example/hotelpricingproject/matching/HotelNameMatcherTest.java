@@ -0,0 +1,56 @@
+package com.example.hotelpricingproject.matching;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Hotel Name Matcher Tests")
+class HotelNameMatcherTest {
+
+    @Test
+    @DisplayName("Should match spelling and punctuation variants and reject other hotels")
+    void testMatchesVariants() {
+        // Arrange
+        HotelNameMatcher matcher = new HotelNameMatcher(List.of("Ritz Carlton"));
+
+        // Act & Assert
+        assertNotNull(matcher.match("The Ritz-Carlton, South Beach"));
+        assertNotNull(matcher.match("RITZ–CARLTON Berlin"));
+        assertNotNull(matcher.match("Ritz Carleton"));
+        assertNull(matcher.match("Carlton Hotel Nice"));
+        assertNull(matcher.match("Four Seasons Miami"));
+        assertEquals("ritz-carlton-cafe", HotelNameMatcher.canonicalId("The Ritz-Carlton, Café"));
+    }
+
+    @Test
+    @DisplayName("Should resolve a page in one pass, best card first and each to its canonical id")
+    void testResolvesPage() {
+        // Arrange
+        HotelNameMatcher matcher = new HotelNameMatcher(List.of("Hotel Adlon Kempinski", "Ritz-Carlton",
+                "The Ritz Carlton Key Biscayne", "Adlon"));
+        List<String> cards = Arrays.asList("Hotel Berlin Mitte", "Ritz-Carlton Residences Key Biscayne", null,
+                "Hotel Adlon Kempinski Berlin", "The Ritz-Carlton Key Biscayne, Miami");
+
+        // Act
+        List<HotelNameMatcher.Match> matches = matcher.resolve(cards);
+
+        // Assert - The exact-ish Key Biscayne title outranks the looser one seen earlier on the page
+        assertEquals(3, matches.size());
+        assertTrue(matches.stream().allMatch(match -> match.score() >= HotelNameMatcher.DEFAULT_MIN_SCORE));
+        HotelNameMatcher.Match keyBiscayne = matches.stream()
+                .filter(match -> match.hotelId().equals("ritz-carlton-key-biscayne")).findFirst().orElseThrow();
+        assertEquals(4, keyBiscayne.card());
+        assertEquals("hotel-adlon-kempinski", matches.stream()
+                .filter(match -> match.card() == 3).findFirst().orElseThrow().hotelId());
+        assertEquals("ritz-carlton-key-biscayne", matches.stream()
+                .filter(match -> match.card() == 1).findFirst().orElseThrow().hotelId());
+        assertThrows(IllegalArgumentException.class, () -> new HotelNameMatcher(List.of("The")));
+    }
+}
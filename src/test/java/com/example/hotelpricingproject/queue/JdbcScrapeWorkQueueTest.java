@@ -0,0 +1,280 @@
+package com.example.hotelpricingproject.queue;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.hotelpricingproject.execution.DatabaseGate;
+import com.example.hotelpricingproject.execution.ScrapeListener;
+import com.example.hotelpricingproject.execution.SearchMatrix;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.replay.PageCorpus;
+import com.example.hotelpricingproject.replay.ReplayHttpServer;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.sampling.FixedStrideSampling;
+import com.example.hotelpricingproject.service.HotelScraperService;
+import com.example.hotelpricingproject.tracing.PageKey;
+
+@DisplayName("Scrape Work Queue Tests")
+class JdbcScrapeWorkQueueTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 11, 15);
+    private static final Duration LEASE = Duration.ofMinutes(2);
+
+    @TempDir
+    Path directory;
+
+    private ReplayHttpServer server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should lease each unit to one node and hand expired leases to another")
+    void testLeaseProtocol() {
+        // Arrange
+        TestClock clock = new TestClock();
+        ScrapeWorkQueue queue = queue("lease", clock, 2);
+        List<PageKey> units = List.of(unit("Paris", 0), unit("Paris", 1), unit("Paris", 2));
+        assertEquals(3, queue.enqueue(units));
+        assertEquals(0, queue.enqueue(units));
+
+        // Act - Two nodes split the queue between them
+        List<WorkLease> first = queue.claim("node-a", 2, LEASE);
+        List<WorkLease> second = queue.claim("node-b", 2, LEASE);
+
+        // Assert
+        assertEquals(List.of(units.get(0), units.get(1)), first.stream().map(WorkLease::unit).toList());
+        assertEquals(List.of(units.get(2)), second.stream().map(WorkLease::unit).toList());
+        assertTrue(queue.complete(first.get(0)));
+
+        // Act - node-a goes quiet while node-b keeps its lease alive, then takes node-a's unit
+        clock.advance(LEASE.dividedBy(2));
+        assertTrue(queue.heartbeat(second.get(0), LEASE));
+        clock.advance(LEASE.dividedBy(2).plusSeconds(1));
+        List<WorkLease> taken = queue.claim("node-b", 5, LEASE);
+
+        // Assert - The stale holder can neither extend nor settle it any more
+        assertEquals(List.of(units.get(1)), taken.stream().map(WorkLease::unit).toList());
+        assertEquals(2, taken.get(0).attempt());
+        assertFalse(queue.heartbeat(first.get(1), LEASE));
+        assertFalse(queue.complete(first.get(1)));
+
+        // Act - A second failure uses up the unit's attempts
+        assertTrue(queue.fail(taken.get(0), "timeout"));
+        assertTrue(queue.complete(second.get(0)));
+
+        // Assert
+        assertEquals(new ScrapeWorkQueue.QueueStats(0, 0, 2, 1), queue.stats());
+        assertEquals(1, queue.enqueue(List.of(units.get(1))));
+    }
+
+    @Test
+    @DisplayName("Should let several nodes in one JVM drain a shared queue without scraping a unit twice")
+    void testNodesShareQueue() throws Exception {
+        // Arrange - Two cities of six recorded dates, served with some latency so the nodes overlap
+        PageCorpus corpus = new PageCorpus(directory.resolve("corpus"));
+        for (String city : List.of("Paris", "Berlin")) {
+            for (int day = 0; day < 6; day++) {
+                corpus.save("Ritz-Carlton " + city, CHECK_IN.plusDays(day), page("US$" + (300 + day)));
+            }
+        }
+        server = new ReplayHttpServer(corpus, 0, 40, 0, 0.0, 8);
+        server.start();
+        ScrapeWorkQueue queue = queue("nodes", Clock.systemUTC(), 3);
+        assertEquals(12, queue.enqueue("Ritz-Carlton", List.of("Paris", "Berlin"), CHECK_IN, CHECK_IN.plusDays(5),
+                new FixedStrideSampling(1), SearchMatrix.DEFAULT));
+        List<ScrapeWorkerNode> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            nodes.add(new ScrapeWorkerNode("node-" + i, queue, scraper(), 2, LEASE, Duration.ofMillis(50)));
+        }
+
+        // Act
+        CountDownLatch go = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> runs = nodes.stream()
+                .map(node -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        go.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return node.drain();
+                }))
+                .toList();
+        go.countDown();
+        int claimed = runs.stream().mapToInt(CompletableFuture::join).sum();
+        for (ScrapeWorkerNode node : nodes) {
+            node.close();
+        }
+
+        // Assert - Every unit done exactly once, and every node did a share
+        assertEquals(12, claimed);
+        assertEquals(new ScrapeWorkQueue.QueueStats(0, 0, 12, 0), queue.stats());
+        assertEquals(12, server.getServed());
+        for (ScrapeWorkerNode node : nodes) {
+            assertTrue(node.getCompleted() > 0, node.getNodeId() + " completed nothing");
+        }
+    }
+
+    @Test
+    @DisplayName("Should put a whole series back on the queue when its scrape run throws")
+    void testFailedRunFailsSeries() throws Exception {
+        // Arrange - The run reports one price, then dies
+        ScrapeWorkQueue queue = queue("failed-run", Clock.systemUTC(), 3);
+        List<PageKey> units = List.of(unit("Paris", 0), unit("Paris", 1));
+        queue.enqueue(units);
+        HotelScraperService scraper = mock(HotelScraperService.class);
+        when(scraper.scrape(any(), any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            ScrapeListener listener = invocation.getArgument(6);
+            listener.onUnit(units.get(0), ScrapeOutcome.FOUND, null);
+            throw new IllegalStateException("browser pool closed");
+        });
+        ScrapeWorkerNode node = new ScrapeWorkerNode("node-a", queue, scraper, 2, LEASE, Duration.ofMillis(50));
+
+        // Act
+        int claimed = node.runOnce();
+        node.close();
+
+        // Assert - Neither unit counts as done
+        assertEquals(2, claimed);
+        assertEquals(0, node.getCompleted());
+        assertEquals(2, node.getFailed());
+        assertEquals(new ScrapeWorkQueue.QueueStats(2, 0, 0, 0), queue.stats());
+    }
+
+    @Test
+    @DisplayName("Should lease each unit once when nodes in separate processes claim from one SQLite file")
+    void testSqliteClaimsAcrossProcesses() {
+        // Arrange - Each node has its own connections and gate, as separate processes would
+        String url = "jdbc:sqlite:" + directory.resolve("queue.db");
+        List<ScrapeWorkQueue> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(url);
+            nodes.add(new JdbcScrapeWorkQueue(new JdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource)), new DatabaseGate(1),
+                    Clock.systemUTC(), 3));
+        }
+        List<PageKey> units = new ArrayList<>();
+        for (int day = 0; day < 40; day++) {
+            units.add(unit("Paris", day));
+        }
+        assertEquals(40, nodes.get(0).enqueue(units));
+
+        // Act
+        CountDownLatch go = new CountDownLatch(1);
+        List<CompletableFuture<List<PageKey>>> runs = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            ScrapeWorkQueue node = nodes.get(i);
+            String nodeId = "node-" + i;
+            runs.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                List<PageKey> leased = new ArrayList<>();
+                List<WorkLease> claimed;
+                while (!(claimed = node.claim(nodeId, 3, LEASE)).isEmpty()) {
+                    claimed.forEach(lease -> leased.add(lease.unit()));
+                }
+                return leased;
+            }));
+        }
+        go.countDown();
+        List<PageKey> leased = runs.stream().flatMap(run -> run.join().stream()).toList();
+
+        // Assert - No claim failed on a busy database, and no unit went to two nodes
+        assertEquals(40, leased.size());
+        assertEquals(40, leased.stream().distinct().count());
+        assertEquals(new ScrapeWorkQueue.QueueStats(0, 40, 0, 0), nodes.get(1).stats());
+    }
+
+    private static ScrapeWorkQueue queue(String name, Clock clock, int maxAttempts) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        return new JdbcScrapeWorkQueue(new JdbcTemplate(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), new DatabaseGate(1), clock,
+                maxAttempts);
+    }
+
+    private HotelScraperService scraper() {
+        HotelScraperService scraper = new HotelScraperService();
+        ReflectionTestUtils.setField(scraper, "hotelPriceRepository", mock(HotelPriceRepository.class));
+        ReflectionTestUtils.setField(scraper, "eventPublisher", mock(ApplicationEventPublisher.class));
+        scraper.setBaseUrl(server.getBaseUrl());
+        scraper.setWebDriverSupplier(() -> new HtmlUnitDriver(true));
+        return scraper;
+    }
+
+    private static PageKey unit(String city, int day) {
+        return new PageKey("Ritz-Carlton", city, CHECK_IN.plusDays(day));
+    }
+
+    private static String page(String price) {
+        return "<html><body><button aria-label=\"Dismiss\">Dismiss</button>"
+                + "<div data-testid=\"property-card\"><div data-testid=\"title\">The Ritz-Carlton</div>"
+                + "<div data-testid=\"review-score\">9.0</div>"
+                + "<span data-testid=\"price-and-discounted-price\">" + price + "</span></div>"
+                + "</body></html>";
+    }
+
+    private static final class TestClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(Instant.parse("2025-11-01T00:00:00Z").toEpochMilli());
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
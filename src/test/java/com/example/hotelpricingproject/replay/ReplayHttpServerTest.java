@@ -0,0 +1,200 @@
+package com.example.hotelpricingproject.replay;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.execution.BrowserProfileStore;
+import com.example.hotelpricingproject.execution.ScrapeSummary;
+import com.example.hotelpricingproject.metrics.ScrapeMetrics;
+import com.example.hotelpricingproject.metrics.ScrapeOutcome;
+import com.example.hotelpricingproject.metrics.ScrapePhase;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.service.HotelScraperService;
+
+@DisplayName("Replay HTTP Server Tests")
+class ReplayHttpServerTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 11, 15);
+    private static final String QUERY = "Hotel Adlon Berlin";
+
+    @TempDir
+    Path directory;
+
+    private PageCorpus corpus;
+    private ReplayHttpServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Arrange - Two recorded days for one search
+        corpus = new PageCorpus(directory);
+        corpus.save(QUERY, CHECK_IN, page("US$312"));
+        corpus.save(QUERY, CHECK_IN.plusDays(1), page("US$1,045"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve recorded pages by query and check-in date")
+    void testServesRecordedPage() throws Exception {
+        // Arrange
+        startServer(0.0);
+
+        // Act
+        HttpResponse<String> hit = get("?ss=Hotel%20Adlon%20Berlin&checkin=2025-11-16&checkout=2025-11-17");
+        HttpResponse<String> miss = get("?ss=Hotel%20Adlon%20Berlin&checkin=2025-12-01&checkout=2025-12-02");
+
+        // Assert
+        assertEquals(200, hit.statusCode());
+        assertTrue(hit.body().contains("US$1,045"));
+        assertEquals(404, miss.statusCode());
+        assertEquals(1, server.getServed());
+        assertEquals(1, server.getMissing());
+    }
+
+    @Test
+    @DisplayName("Should answer 503 for injected failures")
+    void testFailureInjection() throws Exception {
+        // Arrange
+        startServer(1.0);
+
+        // Act
+        HttpResponse<String> response = get("?ss=Hotel%20Adlon%20Berlin&checkin=2025-11-15");
+
+        // Assert
+        assertEquals(503, response.statusCode());
+        assertEquals(1, server.getInjectedFailures());
+    }
+
+    @Test
+    @DisplayName("Should scrape replayed pages end to end without network access")
+    void testScraperAgainstReplay() throws Exception {
+        // Arrange
+        startServer(0.0);
+        HotelPriceRepository repository = mock(HotelPriceRepository.class);
+        HotelScraperService scraper = replayScraper(repository);
+
+        // Act
+        ScrapeSummary summary = scraper.scrapeHotelPrices("Hotel Adlon", "Berlin", CHECK_IN, CHECK_IN.plusDays(1));
+
+        // Assert
+        assertEquals(2, summary.getFound());
+        assertEquals(new BigDecimal("312.00"), summary.getOverall().getMin());
+        assertEquals(new BigDecimal("678.50"), summary.getOverall().getMean());
+        List<HotelPrice> lowest = summary.getByCity().get("Berlin").getLowest();
+        assertEquals(List.of(CHECK_IN, CHECK_IN.plusDays(1)), lowest.stream().map(HotelPrice::getCheckInDate).toList());
+        // Both dates fit in one batch, saved in a single transaction
+        verify(repository).saveAll(lowest);
+    }
+
+    @Test
+    @DisplayName("Should keep no cookies from a page whose consent banner never shows")
+    void testConsentBannerTimeout() throws Exception {
+        // Arrange - The first day is served without the banner
+        corpus.save(QUERY, CHECK_IN, page("US$312").replace("<button aria-label=\"Dismiss\">Dismiss</button>", ""));
+        startServer(0.0);
+        HotelScraperService scraper = replayScraper(mock(HotelPriceRepository.class));
+        BrowserProfileStore profileStore = new BrowserProfileStore(null);
+        ReflectionTestUtils.setField(scraper, "profileStore", profileStore);
+        ReflectionTestUtils.setField(scraper, "consentWaitMillis", 0L);
+
+        // Act
+        ScrapeSummary withoutBanner = scraper.scrapeHotelPrices("Hotel Adlon", "Berlin", CHECK_IN, CHECK_IN);
+        boolean consentAfterTimeout = profileStore.hasConsent();
+        scraper.scrapeHotelPrices("Hotel Adlon", "Berlin", CHECK_IN.plusDays(1), CHECK_IN.plusDays(1));
+
+        // Assert
+        assertEquals(1, withoutBanner.getFound());
+        assertFalse(consentAfterTimeout);
+        assertTrue(profileStore.hasConsent());
+    }
+
+    @Test
+    @DisplayName("Should time each phase and count page outcomes")
+    void testScrapeMetrics() throws Exception {
+        // Arrange - Third day lists other hotels only
+        corpus.save(QUERY, CHECK_IN.plusDays(2), page("US$200").replace("Hotel Adlon Kempinski", "Hotel Bristol"));
+        startServer(0.0);
+        ScrapeMetrics metrics = new ScrapeMetrics(new SimpleMeterRegistry());
+        HotelScraperService scraper = replayScraper(mock(HotelPriceRepository.class));
+        ReflectionTestUtils.setField(scraper, "scrapeMetrics", metrics);
+
+        // Act
+        scraper.scrapeHotelPrices("Hotel Adlon", "Berlin", CHECK_IN, CHECK_IN.plusDays(2));
+
+        // Assert
+        assertEquals(2.0, metrics.outcomeCounter(ScrapeOutcome.FOUND).count());
+        assertEquals(1.0, metrics.outcomeCounter(ScrapeOutcome.NOT_FOUND).count());
+        assertEquals(1, metrics.phaseTimer(ScrapePhase.DRIVER_CREATE).count());
+        assertEquals(3, metrics.phaseTimer(ScrapePhase.NAVIGATE).count());
+        assertEquals(3, metrics.phaseTimer(ScrapePhase.EXTRACT).count());
+        // Both prices are saved in one batch, timed once
+        assertEquals(1, metrics.phaseTimer(ScrapePhase.PERSIST).count());
+    }
+
+    @Test
+    @DisplayName("Should map equivalent queries to the same corpus entry")
+    void testSlug() {
+        // Act & Assert
+        assertEquals("hotel-adlon-berlin", PageCorpus.slug("Hotel Adlon  Berlin"));
+        assertEquals(PageCorpus.slug("hotel-adlon-berlin"), PageCorpus.slug(" Hotel Adlon Berlin "));
+    }
+
+    private void startServer(double failureRate) throws IOException {
+        server = new ReplayHttpServer(corpus, 0, 0, 0, failureRate, 2);
+        server.start();
+    }
+
+    private HotelScraperService replayScraper(HotelPriceRepository repository) {
+        HotelScraperService scraper = new HotelScraperService();
+        ReflectionTestUtils.setField(scraper, "hotelPriceRepository", repository);
+        ReflectionTestUtils.setField(scraper, "eventPublisher", mock(ApplicationEventPublisher.class));
+        // Long enough that a slow browser start cannot split the run's prices across batches
+        ReflectionTestUtils.setField(scraper, "persistMaxDelayMillis", 60_000L);
+        scraper.setBaseUrl(server.getBaseUrl());
+        scraper.setWebDriverSupplier(() -> new HtmlUnitDriver(true));
+        return scraper;
+    }
+
+    private HttpResponse<String> get(String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(server.getBaseUrl() + query)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static String page(String price) {
+        return "<html><body><button aria-label=\"Dismiss\">Dismiss</button>"
+                + "<div data-testid=\"property-card\"><div data-testid=\"title\">Hotel Adlon Kempinski</div>"
+                + "<div data-testid=\"review-score\">9.1</div>"
+                + "<span data-testid=\"price-and-discounted-price\">" + price + "</span></div>"
+                + "</body></html>";
+    }
+}
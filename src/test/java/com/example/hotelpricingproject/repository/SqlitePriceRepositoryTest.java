@@ -0,0 +1,142 @@
+package com.example.hotelpricingproject.repository;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.entity.HotelPrice;
+import com.example.hotelpricingproject.storage.MappedSegmentPriceStore;
+import com.example.hotelpricingproject.storage.PriceStoreMirror;
+
+/**
+ * Queries against a real SQLite file, where sqlite-jdbc stores {@code LocalDate} columns as epoch
+ * millis; H2 keeps them as DATE and would hide a mismatch in how dates are bound.
+ */
+@SpringBootTest
+@DisplayName("SQLite Price Repository Tests")
+class SqlitePriceRepositoryTest {
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void sqliteProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:sqlite:" + directory.resolve("prices.db"));
+        registry.add("hotel.archive.directory", () -> directory.resolve("archive").toString());
+        registry.add("hotel.storage.mmap.enabled", () -> "true");
+        registry.add("hotel.storage.mmap.directory", () -> directory.resolve("segments").toString());
+        registry.add("hotel.storage.mmap.sync-interval", () -> "PT1H");
+    }
+
+    @Autowired
+    private HotelPriceRepository repository;
+
+    @Autowired
+    private PriceStoreMirror storeMirror;
+
+    @Autowired
+    private MappedSegmentPriceStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should rank batch lowest prices within date bounds and with open bounds")
+    void testLowestPricesBatch() {
+        // Arrange
+        repository.saveAll(List.of(
+                price("Paris", LocalDate.of(2025, 11, 10), "240.00"),
+                price("Paris", LocalDate.of(2025, 11, 20), "180.00"),
+                price("Paris", LocalDate.of(2025, 12, 5), "150.00"),
+                price("Miami", LocalDate.of(2025, 11, 12), "410.00")));
+
+        // Act
+        List<List<HotelPrice>> results = repository.findLowestPricesBatch(List.of(
+                new LowestPriceQuery("Ritz-Carlton", "Paris", LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30), 5),
+                new LowestPriceQuery("Ritz-Carlton", "Paris", null, null, 2),
+                new LowestPriceQuery("Ritz-Carlton", "Miami", LocalDate.of(2025, 11, 12), LocalDate.of(2025, 11, 12), null)));
+
+        // Assert
+        assertEquals(List.of("180.00", "240.00"), prices(results.get(0)));
+        assertEquals(List.of("150.00", "180.00"), prices(results.get(1)));
+        assertEquals(List.of("410.00"), prices(results.get(2)));
+    }
+
+    @Test
+    @DisplayName("Should copy rows into the mapped price store once, resuming after its watermark")
+    void testStoreSync() {
+        // Arrange
+        HotelPrice euros = price("Paris", LocalDate.of(2025, 11, 10), "240.00");
+        euros.setCurrency("EUR");
+        euros.setGuests(3);
+        repository.save(euros);
+        storeMirror.sync();
+        repository.save(price("Miami", LocalDate.of(2025, 11, 12), "410.00"));
+
+        // Act
+        long copied = storeMirror.sync();
+        long copiedAgain = storeMirror.sync();
+
+        // Assert
+        List<String> paris = new ArrayList<>();
+        store.scan("Ritz-Carlton", "Paris", null, null, (hotelId, cityId, day, nights, guests, currency, cents, scraped) ->
+                paris.add(LocalDate.ofEpochDay(day) + " " + guests + " " + store.dimensionName(currency) + " " + cents));
+        assertEquals(1, copied);
+        assertEquals(0, copiedAgain);
+        assertEquals(List.of("2025-11-10 3 EUR 24000"), paris);
+        assertEquals(repository.findAll().stream().mapToLong(HotelPrice::getId).max().orElseThrow(), store.lastSourceId());
+    }
+
+    @Test
+    @DisplayName("Should copy a row whose lower id commits after a higher one was copied")
+    void testStoreSyncOutOfOrderIds() {
+        // Arrange - Another writer's id block: id + 100 commits and is copied before id + 50
+        long id = repository.save(price("Paris", LocalDate.of(2025, 11, 10), "240.00")).getId();
+        copyRow(id, id + 100);
+        storeMirror.sync();
+        copyRow(id, id + 50);
+
+        // Act
+        long copied = storeMirror.sync();
+        long copiedAgain = storeMirror.sync();
+
+        // Assert
+        assertEquals(1, copied);
+        assertEquals(0, copiedAgain);
+        assertEquals(id + 100, store.lastSourceId());
+    }
+
+    private void copyRow(long id, long newId) {
+        jdbcTemplate.update("INSERT INTO hotel_prices (id, hotel_name, city, check_in_date, check_out_date, nights, "
+                + "guests, price, currency, rating, address, scraped_date) SELECT ?, hotel_name, city, check_in_date, "
+                + "check_out_date, nights, guests, price, currency, rating, address, scraped_date "
+                + "FROM hotel_prices WHERE id = ?", newId, id);
+    }
+
+    private static List<String> prices(List<HotelPrice> prices) {
+        return prices.stream().map(price -> price.getPrice().setScale(2).toString()).toList();
+    }
+
+    private static HotelPrice price(String city, LocalDate checkIn, String price) {
+        return new HotelPrice("Ritz-Carlton", city, checkIn, checkIn.plusDays(1), new BigDecimal(price), "9.0", null);
+    }
+}
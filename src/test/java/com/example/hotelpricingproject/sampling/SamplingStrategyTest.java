@@ -0,0 +1,122 @@
+package com.example.hotelpricingproject.sampling;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Sampling Strategy Tests")
+class SamplingStrategyTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 15);
+    private static final LocalDate END = START.plusDays(179);
+
+    @Test
+    @DisplayName("Should cover a stepped price curve from a fraction of the daily page loads")
+    void testAdaptiveSamplingFindsPriceSteps() {
+        // Arrange
+        SamplingStrategy adaptive = SamplingStrategies.parse("adaptive:14:5", START);
+
+        // Act
+        NavigableMap<LocalDate, BigDecimal> samples = run(adaptive);
+
+        // Assert - Well under a third of the 180 daily loads, and every day within 2% of the truth
+        assertTrue(samples.size() < 60, "pages loaded: " + samples.size());
+        for (LocalDate day = START; !day.isAfter(END); day = day.plusDays(1)) {
+            BigDecimal estimate = PriceInterpolation.estimate(samples, day);
+            double error = estimate.subtract(truePrice(day)).abs().doubleValue() / truePrice(day).doubleValue();
+            assertTrue(error < 0.02, day + " estimated " + estimate + ", actual " + truePrice(day));
+        }
+    }
+
+    @Test
+    @DisplayName("Should scrape daily near today and sparser further out, always including the end date")
+    void testTieredSampling() {
+        // Arrange
+        SamplingStrategy tiered = SamplingStrategies.parse("tiered", START);
+
+        // Act
+        List<LocalDate> dates = tiered.initialDates(START, END);
+
+        // Assert - 31 daily, then every third day to day 90, then weekly
+        assertEquals(START.plusDays(30), dates.get(30));
+        assertEquals(START.plusDays(34), dates.get(32));
+        assertEquals(END, dates.get(dates.size() - 1));
+        assertTrue(dates.size() < 70, "dates: " + dates.size());
+        assertEquals(List.of(), tiered.refine(START, END, Set.copyOf(dates), new TreeMap<>()));
+    }
+
+    @Test
+    @DisplayName("Should pick no dates when the start is after the end")
+    void testEmptyRange() {
+        // Act & Assert
+        for (String spec : List.of("fixed:1", "adaptive:7:10", "tiered")) {
+            assertEquals(List.of(), SamplingStrategies.parse(spec, START).initialDates(END, START), spec);
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse strategy specs and reject malformed ones")
+    void testParse() {
+        // Act & Assert
+        assertEquals(180, SamplingStrategies.parse(null, START).initialDates(START, END).size());
+        assertEquals("fixed:3", SamplingStrategies.parse("fixed:3", START).toString());
+        assertEquals("adaptive:7:10", SamplingStrategies.parse("adaptive:7:10", START).toString());
+        assertEquals("tiered:30:1,90:3,*:7", SamplingStrategies.parse("tiered", START).toString());
+        assertThrows(IllegalArgumentException.class, () -> SamplingStrategies.parse("fixed:x", START));
+        assertThrows(IllegalArgumentException.class, () -> SamplingStrategies.parse("adaptive:7", START));
+        assertThrows(IllegalArgumentException.class, () -> SamplingStrategies.parse("random", START));
+    }
+
+    @Test
+    @DisplayName("Should only interpolate between samples")
+    void testInterpolation() {
+        // Arrange
+        NavigableMap<LocalDate, BigDecimal> samples = new TreeMap<>();
+        samples.put(START, new BigDecimal("100.00"));
+        samples.put(START.plusDays(3), new BigDecimal("130.00"));
+
+        // Act & Assert
+        assertEquals(new BigDecimal("110.00"), PriceInterpolation.estimate(samples, START.plusDays(1)));
+        assertEquals(new BigDecimal("130.00"), PriceInterpolation.estimate(samples, START.plusDays(3)));
+        assertNull(PriceInterpolation.estimate(samples, START.minusDays(1)));
+        assertNull(PriceInterpolation.estimate(samples, START.plusDays(4)));
+    }
+
+    /**
+     * Drives a strategy the way the scraper does: initial dates, then refinement rounds until done.
+     */
+    private static NavigableMap<LocalDate, BigDecimal> run(SamplingStrategy strategy) {
+        Set<LocalDate> attempted = new HashSet<>();
+        NavigableMap<LocalDate, BigDecimal> prices = new TreeMap<>();
+        List<LocalDate> round = strategy.initialDates(START, END);
+        while (!round.isEmpty()) {
+            for (LocalDate date : round) {
+                attempted.add(date);
+                prices.put(date, truePrice(date));
+            }
+            round = strategy.refine(START, END, attempted, prices);
+        }
+        return prices;
+    }
+
+    /**
+     * Flat low season with a slow drift, a holiday peak and a spring shoulder.
+     */
+    private static BigDecimal truePrice(LocalDate day) {
+        long offset = ChronoUnit.DAYS.between(START, day);
+        int base = offset >= 35 && offset < 50 ? 420 : offset >= 120 ? 280 : 240;
+        return BigDecimal.valueOf(base * 100 + offset * 5, 2);
+    }
+}
@@ -6,7 +6,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.AfterEach;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +18,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.hotelpricingproject.dto.DailyPrice;
+import com.example.hotelpricingproject.dto.LowestPriceQuery;
+import com.example.hotelpricingproject.dto.LowestPriceResult;
 import com.example.hotelpricingproject.entity.HotelPrice;
 import com.example.hotelpricingproject.repository.HotelPriceRepository;
 
@@ -165,4 +170,89 @@ class HotelAnalysisServiceTest {
                 !p.getCheckInDate().isAfter(endDate)
         ));
     }
+
+    @Test
+    @DisplayName("Should answer a batch of lowest-price queries like the single-query methods")
+    void testFindLowestPricesBatch() {
+        // Arrange
+        List<LowestPriceQuery> queries = List.of(
+                new LowestPriceQuery("Ritz-Carlton", "Las Vegas", null, null, null),
+                new LowestPriceQuery("Ritz-Carlton", "Las Vegas", LocalDate.of(2025, 11, 27), LocalDate.of(2025, 11, 27), null),
+                new LowestPriceQuery("Ritz-Carlton", "New York City", null, null, 1),
+                new LowestPriceQuery("Ritz-Carlton", "Las Vegas", null, null, 1),
+                new LowestPriceQuery("Non-Existent Hotel", "Tokyo", null, null, null)
+        );
+
+        // Act
+        List<LowestPriceResult> results = hotelAnalysisService.findLowestPrices(queries);
+
+        // Assert
+        assertEquals(5, results.size());
+        assertEquals(hotelAnalysisService.findLowestPrices("Ritz-Carlton", "Las Vegas"), results.get(0).getPrices());
+        assertEquals(1, results.get(1).getPrices().size());
+        assertEquals(new BigDecimal("250.00"), results.get(1).getPrices().get(0).getPrice());
+        assertEquals(new BigDecimal("350.00"), results.get(2).getPrices().get(0).getPrice());
+        assertEquals(1, results.get(3).getPrices().size());
+        assertEquals(new BigDecimal("200.00"), results.get(3).getPrices().get(0).getPrice());
+        assertTrue(results.get(4).getPrices().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep other stays out of lowest prices, price lists and batches unless asked for")
+    void testLowestPricesOfOneStay() {
+        // Arrange - A cheaper four-adult price for the 27th, which is not comparable with the default stay
+        hotelPriceRepository.save(new HotelPrice("Ritz-Carlton", "Las Vegas", LocalDate.of(2025, 11, 27),
+                LocalDate.of(2025, 11, 28), 4, new BigDecimal("150.00"), "4.5", "123 Main St, Las Vegas"));
+        LowestPriceQuery fourGuests = new LowestPriceQuery("Ritz-Carlton", "Las Vegas", null, null, null);
+        fourGuests.setGuests(4);
+
+        // Act
+        List<HotelPrice> lowest = hotelAnalysisService.findLowestPrices("Ritz-Carlton", "Las Vegas");
+        List<HotelPrice> lowestForFour = hotelAnalysisService.findLowestPrices("Ritz-Carlton", "Las Vegas", 1, 4);
+        List<LowestPriceResult> batch = hotelAnalysisService.findLowestPrices(List.of(
+                new LowestPriceQuery("Ritz-Carlton", "Las Vegas", null, null, null), fourGuests));
+
+        // Assert
+        assertEquals(new BigDecimal("200.00"), lowest.get(0).getPrice());
+        assertEquals(1, lowestForFour.size());
+        assertEquals(new BigDecimal("150.00"), lowestForFour.get(0).getPrice());
+        assertEquals(lowest, batch.get(0).getPrices());
+        assertEquals(lowestForFour, batch.get(1).getPrices());
+        assertEquals(2, hotelAnalysisService.getPricesForHotelInCity("Ritz-Carlton", "Las Vegas").size());
+        assertFalse(hotelAnalysisService.generateAnalysisReport("Ritz-Carlton", List.of("Las Vegas")).contains("150.00"));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty or invalid batch")
+    void testFindLowestPricesBatchValidation() {
+        // Arrange
+        LowestPriceQuery missingCity = new LowestPriceQuery("Ritz-Carlton", null, null, null, null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> hotelAnalysisService.findLowestPrices(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> hotelAnalysisService.findLowestPrices(List.of(missingCity)));
+    }
+
+    @Test
+    @DisplayName("Should interpolate the daily prices between sampled check-in dates of one stay")
+    void testGetDailyPrices() {
+        // Arrange - Las Vegas has the 27th and 28th; add the 30th so the 29th is a gap, and a
+        // three-night stay on the 29th that must not be mixed in
+        hotelPriceRepository.save(new HotelPrice("Ritz-Carlton", "Las Vegas", LocalDate.of(2025, 11, 30),
+                LocalDate.of(2025, 12, 1), new BigDecimal("260.00"), "4.5", "123 Main St, Las Vegas"));
+        hotelPriceRepository.save(new HotelPrice("Ritz-Carlton", "Las Vegas", LocalDate.of(2025, 11, 29),
+                LocalDate.of(2025, 12, 2), 2, new BigDecimal("690.00"), "4.5", "123 Main St, Las Vegas"));
+
+        // Act
+        List<DailyPrice> daily = hotelAnalysisService.getDailyPrices("Ritz-Carlton", "Las Vegas",
+                LocalDate.of(2025, 11, 25), LocalDate.of(2025, 12, 2), 1, 2);
+
+        // Assert - Nothing outside the sampled span, the 29th halfway between its neighbours
+        assertEquals(4, daily.size());
+        assertEquals(LocalDate.of(2025, 11, 27), daily.get(0).getCheckInDate());
+        assertFalse(daily.get(1).isInterpolated());
+        assertTrue(daily.get(2).isInterpolated());
+        assertEquals(new BigDecimal("230.00"), daily.get(2).getPrice());
+        assertEquals(new BigDecimal("260.00"), daily.get(3).getPrice());
+    }
 }
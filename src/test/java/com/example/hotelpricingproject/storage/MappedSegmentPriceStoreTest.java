@@ -0,0 +1,127 @@
+package com.example.hotelpricingproject.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("Mapped Segment Price Store Tests")
+class MappedSegmentPriceStoreTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 11, 15);
+    private static final LocalDate SCRAPED = LocalDate.of(2025, 11, 10);
+
+    @TempDir
+    Path directory;
+
+    private MappedSegmentPriceStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Arrange - Tiny segments so rollover happens quickly
+        store = new MappedSegmentPriceStore(directory, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Should scan by hotel, city and check-in range across segments")
+    void testFilteredScanAcrossSegments() throws IOException {
+        // Arrange
+        appendDays("Las Vegas", 150, 30_000);
+        appendDays("Miami", 150, 20_000);
+
+        // Act
+        List<Long> prices = new ArrayList<>();
+        long visited = store.scan("Ritz-Carlton", "Miami", START.plusDays(10), START.plusDays(19),
+                (hotelId, cityId, day, nights, guests, currency, cents, scraped) -> prices.add(cents));
+
+        // Assert
+        assertEquals(300, store.count());
+        assertEquals(3, store.segmentCount());
+        assertEquals(10, visited);
+        assertEquals(20_010L, prices.get(0));
+        assertEquals(20_019L, prices.get(9));
+    }
+
+    @Test
+    @DisplayName("Should reopen with every record and dimension intact")
+    void testReopen() throws IOException {
+        // Arrange
+        appendDays("Paris", 120, 40_000);
+        store.close();
+
+        // Act
+        store = new MappedSegmentPriceStore(directory, 100);
+        List<String> cities = new ArrayList<>();
+        store.scan(null, null, null, null,
+                (hotelId, cityId, day, nights, guests, currency, cents, scraped) -> cities.add(store.dimensionName(cityId)));
+
+        // Assert
+        assertEquals(120, store.count());
+        assertEquals(120, store.lastSourceId());
+        assertTrue(cities.stream().allMatch("Paris"::equals));
+    }
+
+    @Test
+    @DisplayName("Should keep stay, currency and source id of each record")
+    void testStayAndCurrency() throws IOException {
+        // Arrange
+        store.append(7, "Ritz-Carlton", "Paris", START, 3, 4, 125_000, "EUR", SCRAPED);
+        store.append(9, "Ritz-Carlton", "Paris", START, 1, 2, 41_000, null, SCRAPED);
+
+        // Act
+        List<String> records = new ArrayList<>();
+        store.scan("Ritz-Carlton", "Paris", null, null, (hotelId, cityId, day, nights, guests, currency, cents, scraped) ->
+                records.add(nights + "/" + guests + " " + store.dimensionName(currency) + " " + cents));
+
+        // Assert
+        assertEquals(List.of("3/4 EUR 125000", "1/2 null 41000"), records);
+        assertEquals(9, store.lastSourceId());
+    }
+
+    @Test
+    @DisplayName("Should discard a torn tail record when recovering")
+    void testTornTailRecovery() throws IOException {
+        // Arrange - Corrupt the price of record 5 as if a crash interrupted its write
+        appendDays("Dallas", 6, 10_000);
+        store.close();
+        try (FileChannel channel = FileChannel.open(directory.resolve("segment-000000.dat"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), 5L * MappedSegmentPriceStore.RECORD_SIZE + 16);
+        }
+
+        // Act
+        store = new MappedSegmentPriceStore(directory, 100);
+        long resumeAfter = store.lastSourceId();
+        store.append(resumeAfter + 1, "Ritz-Carlton", "Dallas", START, 1, 2, 99_900, "USD", SCRAPED);
+
+        // Assert - The torn record's row is copied in again after the watermark
+        assertEquals(5, resumeAfter);
+        assertEquals(6, store.count());
+        List<Long> prices = new ArrayList<>();
+        store.scan("Ritz-Carlton", "Dallas", null, null, (h, c, day, nights, guests, currency, cents, scraped) -> prices.add(cents));
+        assertEquals(99_900L, prices.get(5));
+    }
+
+    private void appendDays(String city, int days, long baseCents) throws IOException {
+        for (int i = 0; i < days; i++) {
+            store.append(store.lastSourceId() + 1, "Ritz-Carlton", city, START.plusDays(i), 1, 2, baseCents + i, "USD",
+                    SCRAPED);
+        }
+    }
+}
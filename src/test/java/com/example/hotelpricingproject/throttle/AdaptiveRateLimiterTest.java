@@ -0,0 +1,158 @@
+package com.example.hotelpricingproject.throttle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Adaptive Rate Limiter and Retry Queue Tests")
+class AdaptiveRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private FakeClock clock;
+
+    @BeforeEach
+    void setUp() {
+        // Arrange - Time only moves when the code under test sleeps
+        clock = new FakeClock();
+    }
+
+    @Test
+    @DisplayName("Should pace permits at the configured rate after the burst")
+    void testPacing() {
+        // Arrange
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(settings(2.0, 0.5, 0, Duration.ofSeconds(10)), clock);
+
+        // Act
+        for (int i = 0; i < 11; i++) {
+            limiter.acquire();
+        }
+
+        // Assert - First permit is free, the other ten arrive every 500 ms
+        assertEquals(5 * SECOND, clock.nanos, SECOND / 100);
+    }
+
+    @Test
+    @DisplayName("Should halve the rate once per cooldown on errors and slow fetches")
+    void testMultiplicativeDecrease() {
+        // Arrange
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(settings(4.0, 0.5, 0.1, Duration.ofSeconds(10)), clock);
+
+        // Act
+        limiter.onFailure();
+        limiter.onFailure();
+        double afterBurstOfErrors = limiter.getRate();
+        clock.nanos += 11 * SECOND;
+        limiter.onSuccess(9 * SECOND);
+        double afterSlowFetch = limiter.getRate();
+        limiter.onSuccess(SECOND);
+
+        // Assert
+        assertEquals(2.0, afterBurstOfErrors, 1e-9);
+        assertEquals(1.0, afterSlowFetch, 1e-9);
+        assertEquals(1.1, limiter.getRate(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should settle just under the rate at which the site starts failing")
+    void testConvergesUnderSiteLimit() {
+        // Arrange - The site fails every request while we exceed 3 pages/sec
+        double siteLimit = 3.0;
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(settings(0.5, 0.8, 0.02, Duration.ofSeconds(2)), clock);
+        List<Long> completions = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            limiter.acquire();
+            long now = clock.nanos;
+            completions.add(now);
+            long inLastSecond = completions.stream().filter(t -> t > now - SECOND).count();
+            if (inLastSecond > siteLimit) {
+                limiter.onFailure();
+            } else {
+                limiter.onSuccess(SECOND / 2);
+            }
+        }
+
+        // Assert - Throughput over the second half sits between the decrease point and the limit
+        long midpoint = completions.get(2500);
+        double throughput = 2500.0 * SECOND / (clock.nanos - midpoint);
+        assertTrue(throughput > siteLimit * 0.8, "throughput " + throughput);
+        assertTrue(throughput <= siteLimit + 0.5, "throughput " + throughput);
+    }
+
+    @Test
+    @DisplayName("Should back off exponentially with jitter up to the cap")
+    void testBackoff() {
+        // Arrange
+        RetryPolicy policy = new RetryPolicy(5, Duration.ofSeconds(2), Duration.ofSeconds(10), clock, new Random(7));
+
+        // Act & Assert
+        for (int i = 0; i < 100; i++) {
+            long first = policy.backoffNanos(1);
+            long third = policy.backoffNanos(3);
+            long capped = policy.backoffNanos(40);
+            assertTrue(first >= SECOND && first <= 2 * SECOND);
+            assertTrue(third >= 4 * SECOND && third <= 8 * SECOND);
+            assertTrue(capped >= 5 * SECOND && capped <= 10 * SECOND);
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry failed items after healthy work and give up after max attempts")
+    void testRetryQueueDrain() {
+        // Arrange - "b" fails once, "c" always fails
+        RetryPolicy policy = new RetryPolicy(3, Duration.ofSeconds(2), Duration.ofSeconds(30), clock, new Random(1));
+        RetryQueue<String> queue = policy.newQueue();
+        List<String> attempts = new ArrayList<>();
+        List<String> exhausted = new ArrayList<>();
+        boolean[] bFailedOnce = {false};
+
+        // Act
+        assertTrue(queue.schedule("b", 1));
+        assertTrue(queue.schedule("c", 1));
+        assertFalse(queue.schedule("d", 3));
+        queue.drain(item -> {
+            attempts.add(item);
+            if (item.equals("b") && !bFailedOnce[0]) {
+                bFailedOnce[0] = true;
+                return false;
+            }
+            return item.equals("b");
+        }, exhausted::add);
+
+        // Assert
+        assertEquals(4, attempts.stream().filter(a -> a.equals("b") || a.equals("c")).count());
+        assertEquals(List.of("c"), exhausted);
+        assertTrue(queue.isEmpty());
+        assertTrue(clock.nanos >= 3 * SECOND, "waited for the backoffs");
+    }
+
+    private static ThrottleSettings settings(double initialRate, double decreaseFactor, double increase,
+                                             Duration cooldown) {
+        return new ThrottleSettings(initialRate, 0.1, 10, 1, increase, decreaseFactor, Duration.ofSeconds(8), cooldown);
+    }
+
+    private static final class FakeClock implements ThrottleClock {
+
+        long nanos;
+
+        @Override
+        public long nanoTime() {
+            return nanos;
+        }
+
+        @Override
+        public void sleepNanos(long sleep) {
+            nanos += sleep;
+        }
+    }
+}
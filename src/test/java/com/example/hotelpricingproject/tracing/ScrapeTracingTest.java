@@ -0,0 +1,155 @@
+package com.example.hotelpricingproject.tracing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.mockito.Mockito.mock;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.hotelpricingproject.replay.PageCorpus;
+import com.example.hotelpricingproject.replay.ReplayHttpServer;
+import com.example.hotelpricingproject.repository.HotelPriceRepository;
+import com.example.hotelpricingproject.service.HotelScraperService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+@DisplayName("Scrape Tracing Tests")
+class ScrapeTracingTest {
+
+    private static final LocalDate CHECK_IN = LocalDate.of(2025, 11, 15);
+
+    @TempDir
+    Path directory;
+
+    private Path spansFile;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Arrange - Export every span as soon as it ends
+        spansFile = directory.resolve("spans.jsonl");
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new FileSpanExporter(spansFile)))
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("Should write spans as OTLP JSON lines with parents, attributes and errors")
+    void testOtlpJsonExport() throws IOException {
+        // Arrange
+        Span parent = tracer.spanBuilder("parent").setAttribute("hotel.name", "Hotel Adlon").startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            Span child = tracer.spanBuilder("child").setAttribute("attempt", 2L).startSpan();
+            child.recordException(new IllegalStateException("boom"));
+            child.setStatus(StatusCode.ERROR, "boom");
+            child.end();
+        }
+
+        // Act
+        parent.end();
+
+        // Assert
+        Map<String, JsonNode> spans = readSpans();
+        JsonNode child = spans.get("child");
+        JsonNode parentNode = spans.get("parent");
+        assertEquals(parentNode.get("spanId").asText(), child.get("parentSpanId").asText());
+        assertEquals(parentNode.get("traceId").asText(), child.get("traceId").asText());
+        assertFalse(parentNode.has("parentSpanId"));
+        assertEquals(2, child.get("status").get("code").asInt());
+        assertEquals("exception", child.get("events").get(0).get("name").asText());
+        assertEquals("2", child.get("attributes").get(0).get("value").get("intValue").asText());
+        assertEquals("Hotel Adlon", parentNode.get("attributes").get(0).get("value").get("stringValue").asText());
+    }
+
+    @Test
+    @DisplayName("Should trace each date with phase children and capture slow pages")
+    void testScrapeSpansAndSlowPageCapture() throws Exception {
+        // Arrange - Threshold 0 so the first phases count as slow
+        PageCorpus corpus = new PageCorpus(directory.resolve("corpus"));
+        corpus.save("Hotel Adlon Berlin", CHECK_IN, "<html><body><button aria-label=\"Dismiss\">Dismiss</button>"
+                + "<div data-testid=\"property-card\">"
+                + "<div data-testid=\"title\">Hotel Adlon</div><span class=\"price_price\">US$250</span>"
+                + "</div></body></html>");
+        Path captures = directory.resolve("captures");
+        HotelScraperService scraper = new HotelScraperService();
+        ReflectionTestUtils.setField(scraper, "hotelPriceRepository", mock(HotelPriceRepository.class));
+        ReflectionTestUtils.setField(scraper, "eventPublisher", mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(scraper, "tracer", tracer);
+        ReflectionTestUtils.setField(scraper, "slowPageCapture", new SlowPageCapture(captures, Duration.ZERO, 2));
+        scraper.setWebDriverSupplier(() -> new HtmlUnitDriver(true));
+
+        try (ReplayHttpServer server = new ReplayHttpServer(corpus, 0, 0, 0, 0.0, 1)) {
+            server.start();
+            scraper.setBaseUrl(server.getBaseUrl());
+
+            // Act
+            scraper.scrapeHotelPrices("Hotel Adlon", "Berlin", CHECK_IN, CHECK_IN);
+        }
+
+        // Assert
+        Map<String, JsonNode> spans = readSpans();
+        JsonNode page = spans.get("hotel.scrape.page");
+        assertEquals(spans.get("hotel.scrape").get("spanId").asText(), page.get("parentSpanId").asText());
+        for (String phase : List.of("navigate", "wait", "popups", "cookies", "scroll", "extract")) {
+            assertEquals(page.get("spanId").asText(),
+                    spans.get("hotel.scrape." + phase).get("parentSpanId").asText(), phase);
+        }
+        assertEquals("slow_page.captured", spans.get("hotel.scrape.navigate").get("events").get(0).get("name").asText());
+        List<Path> captured;
+        try (Stream<Path> dirs = Files.list(captures)) {
+            captured = dirs.toList();
+        }
+        assertEquals(2, captured.size());
+        Path navigate = captured.stream().filter(p -> p.toString().endsWith("navigate")).findFirst().orElseThrow();
+        assertTrue(Files.readString(navigate.resolve("page.html")).contains("US$250"));
+        assertTrue(Files.readString(navigate.resolve("timings.json")).contains("navigationStart"));
+        assertTrue(Files.readString(navigate.resolve("info.txt")).contains("traceId="));
+    }
+
+    private Map<String, JsonNode> readSpans() throws IOException {
+        List<JsonNode> all = new ArrayList<>();
+        for (String line : Files.readAllLines(spansFile)) {
+            for (JsonNode resource : mapper.readTree(line).get("resourceSpans")) {
+                for (JsonNode scope : resource.get("scopeSpans")) {
+                    scope.get("spans").forEach(all::add);
+                }
+            }
+        }
+        Map<String, JsonNode> byName = new HashMap<>();
+        all.forEach(span -> byName.put(span.get("name").asText(), span));
+        return byName;
+    }
+}